@@ -109,6 +109,28 @@ public class CachedChannelProvider implements SeekableChannelsProvider {
         return wrappedProvider.getInputStream(channel, sizeHint);
     }
 
+    @Override
+    @Nullable
+    public ByteBuffer mapReadOnly(
+            @NotNull final SeekableChannelContext channelContext,
+            @NotNull final URI uri,
+            final long position,
+            final int size) throws IOException {
+        return wrappedProvider.mapReadOnly(channelContext, uri, position, size);
+    }
+
+    @Override
+    public void prefetch(@NotNull final URI uri, @NotNull final long[] positions, @NotNull final int[] lengths)
+            throws IOException {
+        wrappedProvider.prefetch(uri, positions, lengths);
+    }
+
+    @Override
+    @Nullable
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        return wrappedProvider.getVersion(uri);
+    }
+
     @Override
     public final CompletableOutputStream getOutputStream(@NotNull final URI uri, final int bufferSizeHint)
             throws IOException {
@@ -5,10 +5,12 @@ package io.deephaven.util.channel;
 
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.stream.Stream;
 
@@ -90,6 +92,61 @@ public interface SeekableChannelsProvider extends SafeCloseable {
      */
     InputStream getInputStream(SeekableByteChannel channel, int sizeHint) throws IOException;
 
+    /**
+     * Get a read-only view of {@code size} bytes of the file at {@code uri}, starting at {@code position}, backed
+     * directly by memory-mapped file contents so that callers can decode from it without copying. Providers that do
+     * not support (or are not configured for) memory-mapped reads return {@code null}, and callers must fall back to
+     * {@link #getReadChannel(SeekableChannelContext, URI) reading through a channel}.
+     * <p>
+     * The result's position is zero and its limit is {@code size}. Its contents are undefined if the file is modified
+     * in place while it is mapped. Providers may use {@code channelContext} to avoid re-checking whether the file has
+     * been replaced on every call made with the same context.
+     *
+     * @param channelContext the context to use
+     * @param uri the URI of the file
+     * @param position the offset of the first byte to map
+     * @param size the number of bytes to map
+     * @return the mapped bytes, or {@code null} if they cannot be mapped
+     * @throws IOException if an IO exception occurs
+     */
+    @Nullable
+    default ByteBuffer mapReadOnly(
+            @NotNull SeekableChannelContext channelContext,
+            @NotNull URI uri,
+            long position,
+            int size) throws IOException {
+        return null;
+    }
+
+    /**
+     * Hint that the given byte ranges of the file at {@code uri} will be read soon. Providers for which many small,
+     * scattered reads are expensive (such as object stores) may begin fetching the ranges in the background, merging
+     * nearby ranges into fewer, larger requests, so that subsequent reads through
+     * {@link #getReadChannel(SeekableChannelContext, URI) channels} are served without further requests. The default
+     * implementation does nothing.
+     *
+     * @param uri the URI of the file
+     * @param positions the offsets of the first byte of each range
+     * @param lengths the number of bytes in each range, parallel to {@code positions}
+     * @throws IOException if an IO exception occurs
+     */
+    default void prefetch(@NotNull URI uri, @NotNull long[] positions, @NotNull int[] lengths) throws IOException {}
+
+    /**
+     * Get an opaque token identifying the current version of the file at {@code uri}, such as its modification time or
+     * an object store ETag. Two calls return equal tokens only if the file's contents have not changed in between, so
+     * callers may use the token to key caches of data derived from the file. Providers that cannot cheaply identify
+     * versions return {@code null}, and callers must not cache on their behalf.
+     *
+     * @param uri the URI of the file
+     * @return the version token, or {@code null} if unknown
+     * @throws IOException if an IO exception occurs
+     */
+    @Nullable
+    default String getVersion(@NotNull URI uri) throws IOException {
+        return null;
+    }
+
     /**
      * Creates a {@link CompletableOutputStream} to write to the given URI.
      *
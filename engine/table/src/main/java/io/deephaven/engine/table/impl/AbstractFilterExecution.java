@@ -9,14 +9,26 @@ import io.deephaven.engine.exceptions.CancellationException;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.engine.table.impl.select.WhereFilter;
+import io.deephaven.engine.table.impl.sources.NullValueColumnSource;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedColumnSource;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.SafeCloseable;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -38,6 +50,8 @@ import java.util.function.Consumer;
  * initialization case).
  */
 abstract class AbstractFilterExecution {
+    private static final Logger log = LoggerFactory.getLogger(AbstractFilterExecution.class);
+
     final BasePerformanceEntry basePerformanceEntry = new BasePerformanceEntry();
 
     final QueryTable sourceTable;
@@ -102,6 +116,8 @@ abstract class AbstractFilterExecution {
      * modifyResult. Allows specification of the start and end positions in the added and modified inputs.
      *
      * @param filter the filter to execute
+     * @param symbolTableMatches the result of evaluating the filter against a symbol table, or {@code null} to
+     *        evaluate the filter directly
      * @param addsToUse the added input to use for this filter
      * @param addStart the start position in the added input
      * @param addEnd the end position in the added input (exclusive)
@@ -113,6 +129,7 @@ abstract class AbstractFilterExecution {
      */
     private void doFilter(
             final WhereFilter filter,
+            @Nullable final SymbolTableMatches symbolTableMatches,
             final WritableRowSet addsToUse,
             final long addStart,
             final long addEnd,
@@ -129,14 +146,14 @@ abstract class AbstractFilterExecution {
             final WritableRowSet mods;
             if (addsToUse != null && addStart < addEnd) {
                 try (final RowSet processAdds = addsToUse.subSetByPositionRange(addStart, addEnd)) {
-                    adds = filter.filter(processAdds, sourceTable.getRowSet(), sourceTable, usePrev);
+                    adds = applyFilter(filter, symbolTableMatches, processAdds);
                 }
             } else {
                 adds = null;
             }
             if (modsToUse != null && modStart < modEnd) {
                 try (final RowSet processMods = modsToUse.subSetByPositionRange(modStart, modEnd)) {
-                    mods = filter.filter(processMods, sourceTable.getRowSet(), sourceTable, usePrev);
+                    mods = applyFilter(filter, symbolTableMatches, processMods);
                 }
             } else {
                 mods = null;
@@ -147,10 +164,21 @@ abstract class AbstractFilterExecution {
         }
     }
 
+    private WritableRowSet applyFilter(
+            final WhereFilter filter,
+            @Nullable final SymbolTableMatches symbolTableMatches,
+            final RowSet rows) {
+        return symbolTableMatches != null
+                ? symbolTableMatches.filter(rows)
+                : filter.filter(rows, sourceTable.getRowSet(), sourceTable, usePrev);
+    }
+
     /**
      * Run the filter specified by this AbstractFilterExecution in parallel
      *
      * @param filter the filter to execute
+     * @param symbolTableMatches the result of evaluating the filter against a symbol table, or {@code null} to
+     *        evaluate the filter directly
      * @param addedInputToUse the added input to use for this filter
      * @param modifiedInputToUse the modified input to use for this filter
      * @param onComplete the routine to call after the filter has been successfully executed
@@ -158,6 +186,7 @@ abstract class AbstractFilterExecution {
      */
     private void doFilterParallel(
             final WhereFilter filter,
+            @Nullable final SymbolTableMatches symbolTableMatches,
             final WritableRowSet addedInputToUse,
             final WritableRowSet modifiedInputToUse,
             final BiConsumer<WritableRowSet, WritableRowSet> onComplete,
@@ -206,19 +235,19 @@ abstract class AbstractFilterExecution {
 
                     if (endOffset < addSize) {
                         // Entirely within the added input
-                        doFilter(filter,
+                        doFilter(filter, symbolTableMatches,
                                 addedInputToUse, startOffSet, endOffset,
                                 null, 0, 0,
                                 onFilterComplete, nec);
                     } else if (startOffSet < addSize) {
                         // Partially within the added input (might include some modified input)
-                        doFilter(filter,
+                        doFilter(filter, symbolTableMatches,
                                 addedInputToUse, startOffSet, addSize,
                                 modifiedInputToUse, 0, endOffset - addSize,
                                 onFilterComplete, nec);
                     } else {
                         // Entirely within the modified input
-                        doFilter(filter,
+                        doFilter(filter, symbolTableMatches,
                                 null, 0, 0,
                                 modifiedInputToUse, startOffSet - addSize, endOffset - addSize,
                                 onFilterComplete, nec);
@@ -263,6 +292,10 @@ abstract class AbstractFilterExecution {
                 JobScheduler.DEFAULT_CONTEXT_FACTORY,
                 0, filters.length,
                 (context, idx, nec, resume) -> {
+                    // Skip rows that column statistics prove cannot match before evaluating the filter itself
+                    localAddInput.setValue(filterByStatistics(filters[idx], localAddInput.getValue()));
+                    localModInput.setValue(filterByStatistics(filters[idx], localModInput.getValue()));
+
                     // Use the restricted output for the next filter (if this is not the first invocation)
                     final WritableRowSet addsToUse = localAddInput.getValue();
                     final WritableRowSet modsToUse = localModInput.getValue();
@@ -270,10 +303,15 @@ abstract class AbstractFilterExecution {
                     final long updateSize = (addsToUse != null ? addsToUse.size() : 0)
                             + (modsToUse != null ? modsToUse.size() : 0);
 
+                    // Evaluate the filter once per symbol when its column is dictionary-encoded
+                    final SymbolTableMatches symbolTableMatches =
+                            evaluateOnSymbolTable(filters[idx], addsToUse, modsToUse);
+
                     final BiConsumer<WritableRowSet, WritableRowSet> onFilterComplete = (adds, mods) -> {
                         // Clean up the row sets created by the filter.
                         try (final RowSet ignored = localAddInput.getValue();
-                                final RowSet ignored2 = localModInput.getValue()) {
+                                final RowSet ignored2 = localModInput.getValue();
+                                final SafeCloseable ignored3 = symbolTableMatches) {
                             // Store the output as the next filter input.
                             localAddInput.setValue(adds);
                             localModInput.setValue(mods);
@@ -283,12 +321,13 @@ abstract class AbstractFilterExecution {
 
                     // Run serially or parallelized?
                     if (!shouldParallelizeFilter(filters[idx], updateSize)) {
-                        doFilter(filters[idx],
+                        doFilter(filters[idx], symbolTableMatches,
                                 addsToUse, 0, addsToUse == null ? 0 : addsToUse.size(),
                                 modsToUse, 0, modsToUse == null ? 0 : modsToUse.size(),
                                 onFilterComplete, nec);
                     } else {
-                        doFilterParallel(filters[idx], addsToUse, modsToUse, onFilterComplete, nec);
+                        doFilterParallel(filters[idx], symbolTableMatches, addsToUse, modsToUse, onFilterComplete,
+                                nec);
                     }
                 }, () -> {
                     // Return empty RowSets instead of null.
@@ -306,6 +345,154 @@ abstract class AbstractFilterExecution {
                 }, onError);
     }
 
+    /**
+     * Narrow {@code rows} to those that may match {@code filter}, using any summary statistics the filtered column's
+     * source can consult without reading values. Statistics describe current values only, so they are not used when
+     * filtering previous values.
+     *
+     * @param filter The filter about to be applied
+     * @param rows The rows the filter will be applied to, which are consumed by this method, or {@code null}
+     * @return The narrowed rows, or {@code null} if {@code rows} was {@code null}
+     */
+    private WritableRowSet filterByStatistics(final WhereFilter filter, final WritableRowSet rows) {
+        if (rows == null || rows.isEmpty() || usePrev || !QueryTable.USE_STATISTICS_FOR_WHERE) {
+            return rows;
+        }
+        final StatisticsPredicate predicate = filter.getStatisticsPredicate();
+        if (predicate == null) {
+            return rows;
+        }
+        final ColumnSource<?> columnSource = sourceTable.getColumnSourceMap().get(predicate.getColumnName());
+        if (!(columnSource instanceof RegionedColumnSource)) {
+            return rows;
+        }
+        try (final WritableRowSet ignored = rows) {
+            return ((RegionedColumnSource<?>) columnSource).filterByStatistics(predicate, rows);
+        }
+    }
+
+    /**
+     * Evaluate {@code filter} once per entry of the symbol table for its column, if that column is dictionary-encoded
+     * for all of the rows to be filtered and its symbol table is smaller than those rows. Symbol tables describe
+     * current values only, so they are not used when filtering previous values.
+     *
+     * @param filter The filter about to be applied
+     * @param adds The added rows the filter will be applied to, or {@code null}
+     * @param mods The modified rows the filter will be applied to, or {@code null}
+     * @return The matching symbols, or {@code null} if the filter must be evaluated directly
+     */
+    @Nullable
+    private SymbolTableMatches evaluateOnSymbolTable(
+            final WhereFilter filter,
+            @Nullable final RowSet adds,
+            @Nullable final RowSet mods) {
+        if (usePrev || !QueryTable.USE_DICTIONARY_FOR_WHERE
+                || filter.getColumns().size() != 1
+                || !filter.getColumnArrays().isEmpty()
+                || !filter.canFilterDistinctValues()) {
+            return null;
+        }
+        final String columnName = filter.getColumns().get(0);
+        final ColumnSource<?> columnSource = sourceTable.getColumnSourceMap().get(columnName);
+        if (!(columnSource instanceof SymbolTableSource)) {
+            return null;
+        }
+        final SymbolTableSource<?> symbolTableSource = (SymbolTableSource<?>) columnSource;
+        final WritableRowSet rows = adds == null ? RowSetFactory.empty() : adds.copy();
+        try (final RowSet ignored = rows) {
+            if (mods != null) {
+                rows.insert(mods);
+            }
+            if (rows.isEmpty() || !symbolTableSource.hasSymbolTable(rows)) {
+                return null;
+            }
+            final Table symbolTable = symbolTableSource.getStaticSymbolTable(rows, false);
+            if (symbolTable.size() >= rows.size()) {
+                return null;
+            }
+            final ColumnSource<Long> idSource =
+                    symbolTable.getColumnSource(SymbolTableSource.ID_COLUMN_NAME, long.class);
+            final Table symbols = new QueryTable(symbolTable.getRowSet(), Map.of(columnName,
+                    symbolTable.getColumnSource(SymbolTableSource.SYMBOL_COLUMN_NAME)));
+            final RowSetBuilderRandom matchedIdsBuilder = RowSetFactory.builderRandom();
+            try (final RowSet matchedSymbols =
+                    filter.filter(symbols.getRowSet(), symbols.getRowSet(), symbols, false)) {
+                matchedSymbols.forAllRowKeys(symbolRowKey -> matchedIdsBuilder.addKey(idSource.getLong(symbolRowKey)));
+            } catch (CancellationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // The symbol table may include values that none of the rows use; leave any failure to direct evaluation
+                log.info().append("Filter ").append(filter.toString()).append(" failed on the symbol table for column ")
+                        .append(columnName).append(", evaluating it directly instead: ").append(e).endl();
+                return null;
+            }
+            // Symbol tables never contain null, so evaluate it separately; filters that cannot evaluate null (for
+            // example, a formula that dereferences the value) are applied directly to any null rows
+            final Table nullSymbol = new QueryTable(RowSetFactory.flat(1).toTracking(), Map.of(columnName,
+                    NullValueColumnSource.getInstance(columnSource.getType(), columnSource.getComponentType())));
+            boolean matchNull = false;
+            boolean filterNullRows = false;
+            try (final RowSet matchedNull =
+                    filter.filter(nullSymbol.getRowSet(), nullSymbol.getRowSet(), nullSymbol, false)) {
+                matchNull = matchedNull.isNonempty();
+            } catch (RuntimeException e) {
+                filterNullRows = true;
+            }
+            return new SymbolTableMatches(symbolTableSource, matchedIdsBuilder.build(), matchNull,
+                    filterNullRows ? filter : null);
+        }
+    }
+
+    /**
+     * The symbols of a dictionary-encoded column that a filter accepts, identified by their symbol table ids.
+     */
+    private final class SymbolTableMatches implements SafeCloseable {
+
+        private final SymbolTableSource<?> source;
+        private final WritableRowSet matchedIds;
+        private final boolean matchNull;
+        /**
+         * The filter to apply directly to rows with null values, or {@code null} if {@link #matchNull} applies
+         */
+        private final WhereFilter nullRowFilter;
+
+        private SymbolTableMatches(
+                @NotNull final SymbolTableSource<?> source,
+                @NotNull final WritableRowSet matchedIds,
+                final boolean matchNull,
+                @Nullable final WhereFilter nullRowFilter) {
+            this.source = source;
+            this.matchedIds = matchedIds;
+            this.matchNull = matchNull;
+            this.nullRowFilter = nullRowFilter;
+        }
+
+        private WritableRowSet filter(@NotNull final RowSet rows) {
+            if (nullRowFilter == null) {
+                return source.filterBySymbolIds(rows, matchedIds, matchNull);
+            }
+            final WritableRowSet result = source.filterBySymbolIds(rows, matchedIds, false);
+            try (final RowSet noIds = RowSetFactory.empty();
+                    final RowSet nullRows = source.filterBySymbolIds(rows, noIds, true);
+                    final RowSet matchedNullRows = nullRows.isEmpty()
+                            ? null
+                            : nullRowFilter.filter(nullRows, sourceTable.getRowSet(), sourceTable, false)) {
+                if (matchedNullRows != null) {
+                    result.insert(matchedNullRows);
+                }
+            } catch (RuntimeException e) {
+                result.close();
+                throw e;
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            matchedIds.close();
+        }
+    }
+
     /**
      * @return how many ways should we spit execution
      */
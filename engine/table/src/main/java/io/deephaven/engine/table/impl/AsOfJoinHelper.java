@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl;
 
+import gnu.trove.list.array.TLongArrayList;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Any;
@@ -11,6 +12,8 @@ import io.deephaven.chunk.sized.SizedBooleanChunk;
 import io.deephaven.chunk.sized.SizedChunk;
 import io.deephaven.chunk.sized.SizedLongChunk;
 import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.TableInitializationException;
 import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
@@ -23,11 +26,15 @@ import io.deephaven.engine.table.impl.asofjoin.BucketedChunkedAjMergedListener;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.impl.join.JoinListenerRecorder;
 import io.deephaven.engine.table.impl.asofjoin.ZeroKeyChunkedAjMergedListener;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.engine.table.impl.sort.LongSortKernel;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.ssa.ChunkSsaStamp;
 import io.deephaven.engine.table.impl.ssa.SegmentedSortedArray;
 import io.deephaven.engine.table.impl.ssa.SsaSsaStamp;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.SingleValueRowRedirection;
 import io.deephaven.engine.table.impl.util.SizedSafeCloseable;
@@ -37,8 +44,13 @@ import io.deephaven.engine.table.impl.util.compact.LongCompactKernel;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -200,6 +212,16 @@ public class AsOfJoinHelper {
         final ColumnSource<RowSet> leftDataIndexRowSetColumn = leftDataIndexTable != null
                 ? leftDataIndex.rowSetColumn()
                 : null;
+        if (arrayValuesCache == null && slotCount > 1 && control.parallelizeStaticAsOfJoin(leftTable, rightTable)) {
+            stampStaticSlotsInParallel(
+                    makeListenerDescription(columnsToMatch, stampPair, columnsToAdd,
+                            order == SortingOrder.Descending, disallowExactMatch),
+                    asOfJoinStateManager, slots, slotCount, leftDataIndexRowSetColumn,
+                    () -> new AsOfStampContext(order, disallowExactMatch, leftStampSource, rightStampSource,
+                            originalRightStampSource),
+                    rowRedirection);
+            return makeResult(leftTable, rightTable, rowRedirection, columnsToAdd, false);
+        }
         try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch, leftStampSource,
                 rightStampSource, originalRightStampSource);
                 final ResettableWritableLongChunk<RowKeys> keyChunk =
@@ -311,6 +333,100 @@ public class AsOfJoinHelper {
         return result;
     }
 
+    /**
+     * Stamp each of the slots of a static as-of join as a separate job on the operation initializer. Each job thread
+     * has its own {@link AsOfStampContext} and records its matches, which are applied to the row redirection after all
+     * slots have been stamped.
+     */
+    private static void stampStaticSlotsInParallel(
+            @NotNull final String description,
+            @NotNull final StaticHashedAsOfJoinStateManager asOfJoinStateManager,
+            @NotNull final IntegerArraySource slots,
+            final int slotCount,
+            @Nullable final ColumnSource<RowSet> leftDataIndexRowSetColumn,
+            @NotNull final Supplier<AsOfStampContext> stampContextFactory,
+            @NotNull final WritableRowRedirection rowRedirection) {
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        final Queue<StaticStampJobContext> completedContexts = new ConcurrentLinkedQueue<>();
+        final CompletableFuture<Void> stampsComplete = new CompletableFuture<>();
+        try {
+            jobScheduler.iterateParallel(
+                    ExecutionContext.getContext(),
+                    logOutput -> logOutput.append(description).append("-stamp"),
+                    () -> new StaticStampJobContext(stampContextFactory.get(), completedContexts),
+                    0, slotCount,
+                    (context, slotIndex, nestedErrorConsumer) -> {
+                        final int slot = slots.getInt(slotIndex);
+                        RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
+                        if (leftRowSet == null || leftRowSet.isEmpty()) {
+                            return;
+                        }
+
+                        final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
+                        if (rightRowSet == null || rightRowSet.isEmpty()) {
+                            return;
+                        }
+
+                        if (leftDataIndexRowSetColumn != null) {
+                            Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
+                            leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
+                        }
+
+                        context.stampContext.processEntry(leftRowSet, rightRowSet, context.leftMatches,
+                                context.rightMatches);
+                    },
+                    () -> stampsComplete.complete(null),
+                    stampsComplete::completeExceptionally);
+        } catch (Exception e) {
+            stampsComplete.completeExceptionally(e);
+        }
+
+        try {
+            stampsComplete.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while computing " + description);
+        } catch (ExecutionException e) {
+            throw new TableInitializationException(description,
+                    "an exception occurred while stamping as-of join buckets", e.getCause());
+        } finally {
+            final BasePerformanceEntry baseEntry = jobScheduler.getAccumulatedPerformance();
+            if (baseEntry != null) {
+                QueryPerformanceRecorder.getInstance().getEnclosingNugget().accumulate(baseEntry);
+            }
+        }
+
+        for (final StaticStampJobContext context : completedContexts) {
+            final int matchCount = context.leftMatches.size();
+            for (int ii = 0; ii < matchCount; ++ii) {
+                rowRedirection.putVoid(context.leftMatches.getQuick(ii), context.rightMatches.getQuick(ii));
+            }
+        }
+    }
+
+    /**
+     * The per-thread state for {@link #stampStaticSlotsInParallel}. When closed, the context adds itself to the
+     * completed queue so that its matches can be applied.
+     */
+    private static class StaticStampJobContext implements JobScheduler.JobThreadContext {
+        private final AsOfStampContext stampContext;
+        private final Queue<StaticStampJobContext> completedContexts;
+        private final TLongArrayList leftMatches = new TLongArrayList();
+        private final TLongArrayList rightMatches = new TLongArrayList();
+
+        private StaticStampJobContext(
+                @NotNull final AsOfStampContext stampContext,
+                @NotNull final Queue<StaticStampJobContext> completedContexts) {
+            this.stampContext = stampContext;
+            this.completedContexts = completedContexts;
+        }
+
+        @Override
+        public void close() {
+            stampContext.close();
+            completedContexts.add(this);
+        }
+    }
+
     private static void checkColumnConflicts(QueryTable leftTable, MatchPair[] columnsToAdd) {
         final Set<String> rightColumnsToAdd = new HashSet<>(Arrays.asList(MatchPair.getLeftColumns(columnsToAdd)));
         rightColumnsToAdd.retainAll(leftTable.getDefinition().getColumnNames());
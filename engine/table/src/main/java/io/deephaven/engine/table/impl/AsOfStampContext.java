@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl;
 
+import gnu.trove.list.array.TLongArrayList;
 import io.deephaven.engine.table.Context;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.table.impl.join.dupcompact.DupCompactKernel;
@@ -171,9 +172,40 @@ class AsOfStampContext implements Context {
      * @param rowRedirection the row redirection to update
      */
     void processEntry(RowSet leftRowSet, RowSet rightRowSet, WritableRowRedirection rowRedirection) {
+        // the row redirection defaults to NULL_ROW_KEY, so we only need to put the matches in there
+        processEntry(leftRowSet, rightRowSet, rowRedirection::putVoid);
+    }
+
+    /**
+     * Process a single stamp state, reading the values from the right stamp column. Rather than updating a row
+     * redirection, the matches are appended to the supplied lists, so that states may be processed concurrently with
+     * separate contexts.
+     *
+     * @param leftRowSet the row keys of the left values to stamp
+     * @param rightRowSet the row keys of the right values in this state
+     * @param leftMatches the left row keys that matched a right row are appended to this list
+     * @param rightMatches the matched right row keys are appended to this list, parallel to leftMatches
+     */
+    void processEntry(RowSet leftRowSet, RowSet rightRowSet, TLongArrayList leftMatches,
+            TLongArrayList rightMatches) {
+        processEntry(leftRowSet, rightRowSet, (leftKey, rightKey) -> {
+            leftMatches.add(leftKey);
+            rightMatches.add(rightKey);
+        });
+    }
+
+    /**
+     * Receives each left row key that matched a right row, along with the matching right row key.
+     */
+    @FunctionalInterface
+    private interface MatchConsumer {
+        void accept(long leftKey, long rightKey);
+    }
+
+    private void processEntry(RowSet leftRowSet, RowSet rightRowSet, MatchConsumer matchConsumer) {
         ensureRightCapacity(rightRowSet.intSize());
         getAndCompactStamps(rightRowSet, rightKeyIndicesChunk, rightStampChunk);
-        processEntry(leftRowSet, rightStampChunk, rightKeyIndicesChunk, rowRedirection);
+        processEntry(leftRowSet, rightStampChunk, rightKeyIndicesChunk, matchConsumer);
     }
 
     /**
@@ -206,6 +238,26 @@ class AsOfStampContext implements Context {
      */
     void processEntry(RowSet leftRowSet, Chunk<Values> rightStampChunk, LongChunk<RowKeys> rightKeyIndicesChunk,
             WritableRowRedirection rowRedirection) {
+        // the row redirection defaults to NULL_ROW_KEY, so we only need to put the matches in there
+        processEntry(leftRowSet, rightStampChunk, rightKeyIndicesChunk, rowRedirection::putVoid);
+    }
+
+    private void processEntry(RowSet leftRowSet, Chunk<Values> rightStampChunk,
+            LongChunk<RowKeys> rightKeyIndicesChunk, MatchConsumer matchConsumer) {
+        computeRedirections(leftRowSet, rightStampChunk, rightKeyIndicesChunk);
+        for (int ii = 0; ii < leftKeyIndicesChunk.size(); ++ii) {
+            final long rightKey = leftRedirections.get(ii);
+            if (rightKey != RowSequence.NULL_ROW_KEY) {
+                matchConsumer.accept(leftKeyIndicesChunk.get(ii), rightKey);
+            }
+        }
+    }
+
+    /**
+     * Read and sort the left stamps, then compute the right row key for each left row key into leftRedirections.
+     */
+    private void computeRedirections(RowSet leftRowSet, Chunk<Values> rightStampChunk,
+            LongChunk<RowKeys> rightKeyIndicesChunk) {
         ensureLeftCapacity(leftRowSet.intSize());
 
         // read the left stamp column
@@ -217,18 +269,6 @@ class AsOfStampContext implements Context {
         sortKernel.sort(leftKeyIndicesChunk, leftStampChunk);
 
         // figure out our "merge"
-        computeRedirections(rowRedirection, rightStampChunk, rightKeyIndicesChunk);
-    }
-
-    private void computeRedirections(WritableRowRedirection rowRedirection, Chunk<Values> rightStampChunk,
-            LongChunk<RowKeys> rightKeyIndicesChunk) {
         stampKernel.computeRedirections(leftStampChunk, rightStampChunk, rightKeyIndicesChunk, leftRedirections);
-        for (int ii = 0; ii < leftKeyIndicesChunk.size(); ++ii) {
-            final long rightKey = leftRedirections.get(ii);
-            // the row redirection defaults to NULL_ROW_KEY, so we do not need to put it in there
-            if (rightKey != RowSequence.NULL_ROW_KEY) {
-                rowRedirection.putVoid(leftKeyIndicesChunk.get(ii), rightKey);
-            }
-        }
     }
 }
@@ -3,6 +3,8 @@
 //
 package io.deephaven.engine.table.impl;
 
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
@@ -10,6 +12,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.sources.sparse.SparseConstants;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -28,6 +31,17 @@ public class JoinControl {
     private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
     private static final double DEFAULT_TARGET_LOAD_FACTOR = 0.70;
 
+    private static final boolean DISABLE_PARALLEL_STATIC_NATURAL_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("JoinControl.disableParallelStaticNaturalJoin", false);
+    private static final long PARALLEL_STATIC_NATURAL_JOIN_MINIMUM_SIZE =
+            Configuration.getInstance().getLongWithDefault(
+                    "JoinControl.parallelStaticNaturalJoinMinimumSize", 1L << 22);
+    private static final boolean DISABLE_PARALLEL_STATIC_AS_OF_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("JoinControl.disableParallelStaticAsOfJoin", false);
+    private static final long PARALLEL_STATIC_AS_OF_JOIN_MINIMUM_SIZE =
+            Configuration.getInstance().getLongWithDefault(
+                    "JoinControl.parallelStaticAsOfJoinMinimumSize", 1L << 20);
+
     int initialBuildSize() {
         return MINIMUM_INITIAL_HASH_SIZE;
     }
@@ -243,6 +257,43 @@ public class JoinControl {
         return uniqueValues && (maximumUniqueValue - minimumUniqueValue) < (Integer.MAX_VALUE - 2);
     }
 
+    /**
+     * Determine how many hash partitions to use for the right-side build and left-side probe of a natural join between
+     * two static tables. Each partition has its own hash table, so partitions may be built and probed in parallel.
+     *
+     * @param leftTable The left table of the join
+     * @param rightTable The right table of the join
+     * @return The number of partitions to use, or 1 to use a single, serially built hash table
+     */
+    int staticNaturalJoinPartitionCount(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+        if (DISABLE_PARALLEL_STATIC_NATURAL_JOIN
+                || leftTable.isRefreshing() || rightTable.isRefreshing()
+                || Math.max(leftTable.size(), rightTable.size()) < PARALLEL_STATIC_NATURAL_JOIN_MINIMUM_SIZE) {
+            return 1;
+        }
+        final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+        return operationInitializer.canParallelize() ? operationInitializer.parallelismFactor() : 1;
+    }
+
+    /**
+     * Determine whether the per-bucket stamp matching of an as-of join between two static tables should be performed in
+     * parallel. Buckets are independent once both sides have been hashed, so each bucket may be stamped by a separate
+     * job on the {@link OperationInitializer}.
+     *
+     * @param leftTable The left table of the join
+     * @param rightTable The right table of the join
+     * @return Whether to stamp buckets in parallel
+     */
+    boolean parallelizeStaticAsOfJoin(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+        if (DISABLE_PARALLEL_STATIC_AS_OF_JOIN
+                || leftTable.isRefreshing() || rightTable.isRefreshing()
+                || leftTable.size() + rightTable.size() < PARALLEL_STATIC_AS_OF_JOIN_MINIMUM_SIZE) {
+            return false;
+        }
+        final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+        return operationInitializer.canParallelize() && operationInitializer.parallelismFactor() > 1;
+    }
+
     RedirectionType getRedirectionType(Table leftTable) {
         return getRedirectionType(leftTable, 4.0, true);
     }
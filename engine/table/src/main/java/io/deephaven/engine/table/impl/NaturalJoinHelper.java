@@ -247,10 +247,15 @@ class NaturalJoinHelper {
                         control.getRedirectionType(leftTable));
             } else {
                 final LongArraySource leftRedirections = new LongArraySource();
-                final StaticHashedNaturalJoinStateManager jsm = TypedHasherFactory.make(
-                        StaticNaturalJoinStateManagerTypedBase.class, bc.leftSources, bc.originalLeftSources,
-                        initialHashTableSize, control.getMaximumLoadFactor(),
-                        control.getTargetLoadFactor());
+                final int partitionCount = control.staticNaturalJoinPartitionCount(leftTable, rightTable);
+                final StaticRightBuildNaturalJoinStateManager jsm = partitionCount > 1
+                        ? new PartitionedStaticNaturalJoinStateManager(bc.leftSources, bc.originalLeftSources,
+                                control::tableSize, control.getMaximumLoadFactor(), control.getTargetLoadFactor(),
+                                partitionCount, bc.listenerDescription)
+                        : TypedHasherFactory.make(
+                                StaticNaturalJoinStateManagerTypedBase.class, bc.leftSources, bc.originalLeftSources,
+                                initialHashTableSize, control.getMaximumLoadFactor(),
+                                control.getTargetLoadFactor());
 
                 jsm.buildFromRightSide(rightTable, bc.rightSources);
                 jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections);
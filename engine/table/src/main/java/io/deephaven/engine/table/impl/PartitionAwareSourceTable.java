@@ -33,7 +33,10 @@ import java.util.stream.StreamSupport;
  */
 public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceTable> {
 
+    private static final StatisticsPredicate[] ZERO_LENGTH_STATISTICS_PREDICATE_ARRAY = new StatisticsPredicate[0];
+
     private final Map<String, ColumnDefinition<?>> partitioningColumnDefinitions;
+    private final StatisticsPredicate[] locationKeyPredicates;
     private final WhereFilter[] partitioningColumnFilters;
 
     /**
@@ -53,7 +56,8 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
                 componentFactory,
                 locationProvider,
                 updateSourceRegistrar,
-                extractPartitioningColumnDefinitions(tableDefinition));
+                extractPartitioningColumnDefinitions(tableDefinition),
+                ZERO_LENGTH_STATISTICS_PREDICATE_ARRAY);
     }
 
     PartitionAwareSourceTable(@NotNull final TableDefinition tableDefinition,
@@ -62,9 +66,11 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
             @NotNull final TableLocationProvider locationProvider,
             @Nullable final UpdateSourceRegistrar updateSourceRegistrar,
             @NotNull final Map<String, ColumnDefinition<?>> partitioningColumnDefinitions,
+            @NotNull final StatisticsPredicate[] locationKeyPredicates,
             @Nullable final WhereFilter... partitioningColumnFilters) {
         super(tableDefinition, description, componentFactory, locationProvider, updateSourceRegistrar);
         this.partitioningColumnDefinitions = partitioningColumnDefinitions;
+        this.locationKeyPredicates = locationKeyPredicates;
         this.partitioningColumnFilters = partitioningColumnFilters;
     }
 
@@ -74,25 +80,59 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
             @NotNull final TableLocationProvider locationProvider,
             @Nullable final UpdateSourceRegistrar updateSourceRegistrar,
             @NotNull final Map<String, ColumnDefinition<?>> partitioningColumnDefinitions,
+            @NotNull final StatisticsPredicate[] locationKeyPredicates,
             @Nullable final WhereFilter... partitioningColumnFilters) {
         return new PartitionAwareSourceTable(tableDefinition, description, componentFactory, locationProvider,
-                updateSourceRegistrar, partitioningColumnDefinitions, partitioningColumnFilters);
+                updateSourceRegistrar, partitioningColumnDefinitions, locationKeyPredicates, partitioningColumnFilters);
     }
 
     private PartitionAwareSourceTable getFilteredTable(
-            @NotNull final List<WhereFilter> additionalPartitioningColumnFilters) {
+            @NotNull final List<WhereFilter> additionalPartitioningColumnFilters,
+            @NotNull final List<StatisticsPredicate> additionalLocationKeyPredicates) {
         final WhereFilter[] resultPartitioningColumnFilters = Stream.concat(
                 Arrays.stream(partitioningColumnFilters),
                 additionalPartitioningColumnFilters.stream())
                 .toArray(WhereFilter[]::new);
-        final PartitionAwareSourceTable filtered = newInstance(definition,
-                description + ".where(" + additionalPartitioningColumnFilters + ')',
+        final StatisticsPredicate[] resultLocationKeyPredicates = Stream.concat(
+                Arrays.stream(locationKeyPredicates),
+                additionalLocationKeyPredicates.stream())
+                .toArray(StatisticsPredicate[]::new);
+        // Statistics predicates only skip locations, so they do not change the description
+        final String filteredDescription = additionalPartitioningColumnFilters.isEmpty()
+                ? description
+                : description + ".where(" + additionalPartitioningColumnFilters + ')';
+        final PartitionAwareSourceTable filtered = newInstance(definition, filteredDescription,
                 componentFactory, locationProvider, updateSourceRegistrar, partitioningColumnDefinitions,
-                resultPartitioningColumnFilters);
+                resultLocationKeyPredicates, resultPartitioningColumnFilters);
         copyAttributes(filtered, CopyAttributeOperation.Filter);
         return filtered;
     }
 
+    /**
+     * Get the {@link StatisticsPredicate statistics predicates} of {@code filters} that may be used to skip whole
+     * locations, via {@link TableLocationKey#mayMatch(StatisticsPredicate)}, before they are created. The filters
+     * must already be {@link WhereFilter#init initialized}, and must still be applied to the surviving locations.
+     *
+     * @param filters The filters on non-partitioning columns
+     * @return The predicates
+     */
+    private static List<StatisticsPredicate> extractLocationKeyPredicates(@NotNull final List<WhereFilter> filters) {
+        if (!QueryTable.USE_STATISTICS_FOR_WHERE) {
+            return Collections.emptyList();
+        }
+        final List<StatisticsPredicate> predicates = new ArrayList<>();
+        for (final WhereFilter filter : filters) {
+            if (filter instanceof ReindexingFilter || filter.isRefreshing()) {
+                continue;
+            }
+            final StatisticsPredicate predicate = filter.getStatisticsPredicate();
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+
     private static Map<String, ColumnDefinition<?>> extractPartitioningColumnDefinitions(
             @NotNull final TableDefinition tableDefinition) {
         return tableDefinition.getColumnStream()
@@ -121,9 +161,16 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
                 }
             }
 
-            final Table result = partitionFilters.isEmpty()
-                    ? table
-                    : table.where(Filter.and(partitionFilters));
+            final List<StatisticsPredicate> locationKeyPredicates = extractLocationKeyPredicates(otherFilters);
+            final Table result;
+            if (!locationKeyPredicates.isEmpty()) {
+                // The filters were initialized against our definition, so we can skip straight to the filtered table
+                result = ((PartitionAwareSourceTable) table).getFilteredTable(partitionFilters, locationKeyPredicates);
+            } else if (!partitionFilters.isEmpty()) {
+                result = table.where(Filter.and(partitionFilters));
+            } else {
+                result = table;
+            }
 
             return new TableAndRemainingFilters(result.coalesce(),
                     otherFilters.toArray(WhereFilter.ZERO_LENGTH_WHERE_FILTER_ARRAY));
@@ -155,7 +202,8 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
     protected PartitionAwareSourceTable copy() {
         final PartitionAwareSourceTable result =
                 newInstance(definition, description, componentFactory, locationProvider,
-                        updateSourceRegistrar, partitioningColumnDefinitions, partitioningColumnFilters);
+                        updateSourceRegistrar, partitioningColumnDefinitions, locationKeyPredicates,
+                        partitioningColumnFilters);
         LiveAttributeMap.copyAttributes(this, result, ak -> true);
         return result;
     }
@@ -172,7 +220,7 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
             return newInstance(newDefinition,
                     description + "-retainColumns",
                     componentFactory, locationProvider, updateSourceRegistrar, partitioningColumnDefinitions,
-                    partitioningColumnFilters);
+                    locationKeyPredicates, partitioningColumnFilters);
         }
         // Some partitioning columns are gone - defer dropping them.
         final List<ColumnDefinition<?>> newColumnDefinitions = new ArrayList<>(newDefinition.getColumns());
@@ -186,7 +234,7 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
         final PartitionAwareSourceTable redefined = newInstance(TableDefinition.of(newColumnDefinitions),
                 description + "-retainColumns",
                 componentFactory, locationProvider, updateSourceRegistrar, partitioningColumnDefinitions,
-                partitioningColumnFilters);
+                locationKeyPredicates, partitioningColumnFilters);
         return new DeferredViewTable(newDefinition, description + "-retainColumns",
                 new PartitionAwareTableReference(redefined),
                 droppedPartitioningColumnDefinitions.stream().map(ColumnDefinition::getName).toArray(String[]::new),
@@ -223,6 +271,19 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
     @Override
     protected final Collection<ImmutableTableLocationKey> filterLocationKeys(
             @NotNull final Collection<ImmutableTableLocationKey> foundLocationKeys) {
+        final Collection<ImmutableTableLocationKey> partitionFilteredKeys =
+                filterLocationKeysByPartition(foundLocationKeys);
+        if (locationKeyPredicates.length == 0) {
+            return partitionFilteredKeys;
+        }
+        final List<ImmutableTableLocationKey> filteredKeys = partitionFilteredKeys.stream()
+                .filter(lk -> Arrays.stream(locationKeyPredicates).allMatch(lk::mayMatch))
+                .collect(Collectors.toList());
+        return filteredKeys.size() == partitionFilteredKeys.size() ? partitionFilteredKeys : filteredKeys;
+    }
+
+    private Collection<ImmutableTableLocationKey> filterLocationKeysByPartition(
+            @NotNull final Collection<ImmutableTableLocationKey> foundLocationKeys) {
         if (partitioningColumnFilters.length == 0) {
             return foundLocationKeys;
         }
@@ -272,7 +333,8 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
         }
         compilationProcessor.compile();
 
-        // If we have no partition filters, we defer all filters.
+        // If we have no partition filters, we defer all filters; any that can skip locations by their statistics will
+        // do so when the deferred filters are applied.
         if (partitionFilters.isEmpty()) {
             return new DeferredViewTable(definition, getDescription() + "-withDeferredFilters",
                     new PartitionAwareTableReference(this), null, null,
@@ -280,9 +342,12 @@ public class PartitionAwareSourceTable extends SourceTable<PartitionAwareSourceT
         }
 
         // If we have any partition filters, we first create a new instance that filters the location keys accordingly,
-        // then coalesce, and then apply the remaining filters to the coalesced result.
+        // then coalesce, and then apply the remaining filters to the coalesced result. Remaining filters with
+        // statistics predicates also skip the locations that their keys prove cannot match.
+        final List<StatisticsPredicate> locationKeyPredicates = extractLocationKeyPredicates(otherFilters);
         final Table withPartitionsFiltered = QueryPerformanceRecorder.withNugget(
-                "getFilteredTable(" + partitionFilters + ")", () -> getFilteredTable(partitionFilters));
+                "getFilteredTable(" + partitionFilters + ")",
+                () -> getFilteredTable(partitionFilters, locationKeyPredicates));
         final Table coalesced = withPartitionsFiltered.coalesce();
         return otherFilters.isEmpty()
                 ? coalesced
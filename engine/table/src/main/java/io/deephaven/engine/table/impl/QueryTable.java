@@ -218,6 +218,18 @@ public class QueryTable extends BaseTable<QueryTable> {
      */
     static boolean DISABLE_PARALLEL_WHERE =
             Configuration.getInstance().getBooleanWithDefault("QueryTable.disableParallelWhere", false);
+    /**
+     * Whether where filters may consult column statistics (for example, Parquet row group and page statistics) to skip
+     * rows that cannot match before evaluating the filter.
+     */
+    static boolean USE_STATISTICS_FOR_WHERE =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.useStatisticsForWhere", true);
+    /**
+     * Whether where filters on a single dictionary-encoded column may be evaluated once per dictionary entry, selecting
+     * rows by comparing dictionary keys rather than evaluating the filter on every row's value.
+     */
+    static boolean USE_DICTIONARY_FOR_WHERE =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.useDictionaryForWhere", true);
 
 
     private static final ThreadLocal<Boolean> disableParallelWhereForThread = ThreadLocal.withInitial(() -> null);
@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl;
 
+import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.*;
@@ -11,15 +12,19 @@ import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.primitive.iterator.CloseableIterator;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.engine.table.impl.sort.LongMegaMergeKernel;
 import io.deephaven.engine.table.impl.sort.LongSortKernel;
 import io.deephaven.engine.table.impl.sort.findruns.FindRunsKernel;
@@ -29,9 +34,13 @@ import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ContiguousWritableRowRedirection;
 import io.deephaven.engine.table.impl.util.GroupedWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
+import io.deephaven.engine.table.impl.util.JobScheduler;
 import io.deephaven.engine.table.impl.util.LongColumnSourceWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.datastructures.LongSizedDataStructure;
@@ -40,6 +49,10 @@ import io.deephaven.util.type.ArrayTypeUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
 import java.util.function.LongPredicate;
 
 public class SortHelpers {
@@ -72,6 +85,22 @@ public class SortHelpers {
     @VisibleForTesting
     static int sortChunkSize = Configuration.getInstance().getIntegerWithDefault("QueryTable.sortChunkSize", 1 << 30);
 
+    /**
+     * When a single-column sort of at least this many rows (but fewer than {@link #megaSortSize}) is performed, the
+     * rows are split into runs that are sorted concurrently on the
+     * {@link io.deephaven.engine.updategraph.OperationInitializer}, and the sorted runs are then merged pairwise with
+     * the LongMegaMergeKernel. A value less than or equal to zero disables parallel sorting.
+     */
+    @VisibleForTesting
+    static long parallelSortMinimumSize =
+            Configuration.getInstance().getLongWithDefault("SortHelpers.parallelSortMinimumSize", 1L << 22);
+    /**
+     * The number of runs to split a parallel sort into, or zero to use the parallelism factor of the
+     * {@link io.deephaven.engine.updategraph.OperationInitializer}.
+     */
+    @VisibleForTesting
+    static int parallelSortRuns = Configuration.getInstance().getIntegerWithDefault("SortHelpers.parallelSortRuns", 0);
+
     interface SortMapping extends LongSizedDataStructure {
         long size();
 
@@ -470,8 +499,164 @@ public class SortHelpers {
 
         if (sortSize >= megaSortSize) {
             return doMegaSortOne(order, columnSource, rowSet, usePrev, sortSize);
-        } else {
-            return new ArraySortMapping(doChunkSortingOne(order, columnSource, rowSet, usePrev, (int) sortSize));
+        }
+        final int runCount = parallelSortRunCount(sortSize);
+        if (runCount > 1) {
+            return new ArraySortMapping(doParallelSortOne(order, columnSource, rowSet, usePrev, (int) sortSize,
+                    runCount));
+        }
+        return new ArraySortMapping(doChunkSortingOne(order, columnSource, rowSet, usePrev, (int) sortSize));
+    }
+
+    private static int parallelSortRunCount(final long sortSize) {
+        if (parallelSortMinimumSize <= 0 || sortSize < parallelSortMinimumSize) {
+            return 1;
+        }
+        final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+        if (parallelSortRuns > 0) {
+            return (int) Math.min(parallelSortRuns, sortSize);
+        }
+        if (!operationInitializer.canParallelize()) {
+            return 1;
+        }
+        return (int) Math.min(operationInitializer.parallelismFactor(), sortSize);
+    }
+
+    /**
+     * Sort {@code rowSet} by {@code columnSource} by splitting it into {@code runCount} runs that are sorted in
+     * parallel, and then merging adjacent runs pairwise, also in parallel, until a single sorted run remains. Runs are
+     * merged such that equal values from an earlier run always precede those from a later run, so the result is the
+     * same stable ordering as a serial sort.
+     */
+    @NotNull
+    private static long[] doParallelSortOne(SortingOrder order, ColumnSource<Comparable<?>> columnSource,
+            RowSet rowSet, boolean usePrev, int sortSize, int runCount) {
+        final LongArraySource resultKeys = new LongArraySource();
+        resultKeys.ensureCapacity(sortSize, false);
+        final WritableColumnSource<?> resultValues =
+                ArrayBackedColumnSource.getMemoryColumnSource(0, columnSource.getType());
+        resultValues.ensureCapacity(sortSize, false);
+
+        final long[] runStarts = new long[runCount + 1];
+        for (int ri = 0; ri <= runCount; ++ri) {
+            runStarts[ri] = (long) sortSize * ri / runCount;
+        }
+
+        final ChunkType chunkType = columnSource.getChunkType();
+        final LongMegaMergeKernel<Values, RowKeys> megaMergeKernel = LongMegaMergeKernel.makeContext(chunkType, order);
+
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        final JobScheduler jobScheduler = executionContext.getOperationInitializer().canParallelize()
+                ? new OperationInitializerJobScheduler()
+                : new ImmediateJobScheduler();
+
+        final CompletableFuture<Void> sortComplete = new CompletableFuture<>();
+        final IntConsumer mergeRound = new IntConsumer() {
+            @Override
+            public void accept(final int width) {
+                if (width >= runCount) {
+                    sortComplete.complete(null);
+                    return;
+                }
+                final int pairCount = (runCount + 2 * width - 1) / (2 * width);
+                jobScheduler.iterateParallel(
+                        executionContext,
+                        logOutput -> logOutput.append("sort merge runs of width ").append(width),
+                        JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                        0, pairCount,
+                        (context, pairIndex, nestedErrorConsumer) -> {
+                            final int firstRun = pairIndex * 2 * width;
+                            final int secondRun = firstRun + width;
+                            if (secondRun >= runCount) {
+                                // The last run at this width has no partner; it is merged at a later width
+                                return;
+                            }
+                            final long firstStart = runStarts[firstRun];
+                            final long secondStart = runStarts[secondRun];
+                            final long secondEnd = runStarts[Math.min(secondRun + width, runCount)];
+                            mergeIntoPrecedingRun(megaMergeKernel, chunkType, resultKeys, resultValues,
+                                    firstStart, secondStart, secondEnd);
+                        },
+                        () -> accept(width * 2),
+                        sortComplete::completeExceptionally);
+            }
+        };
+
+        try {
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("sort runs"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, runCount,
+                    (context, runIndex, nestedErrorConsumer) -> {
+                        final long runStart = runStarts[runIndex];
+                        final int runSize = (int) (runStarts[runIndex + 1] - runStart);
+                        if (runSize == 0) {
+                            return;
+                        }
+                        try (final RowSet runRowSet = rowSet.subSetByPositionRange(runStart, runStart + runSize);
+                                final WritableChunk<Values> runValues =
+                                        makeAndFillValues(usePrev, runRowSet, columnSource);
+                                final WritableLongChunk<RowKeys> runKeys = WritableLongChunk.makeWritableChunk(runSize);
+                                final LongSortKernel<Values, RowKeys> sortContext =
+                                        LongSortKernel.makeContext(chunkType, order, runSize, true)) {
+                            runRowSet.fillRowKeyChunk(runKeys);
+                            sortContext.sort(runKeys, runValues);
+                            // Merging into an empty destination copies the run into place
+                            megaMergeKernel.merge(resultKeys, resultValues, runStart, 0, runKeys, runValues);
+                        }
+                    },
+                    () -> mergeRound.accept(1),
+                    sortComplete::completeExceptionally);
+        } catch (Exception e) {
+            sortComplete.completeExceptionally(e);
+        }
+
+        try {
+            sortComplete.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while sorting");
+        } catch (ExecutionException e) {
+            throw new UncheckedDeephavenException("parallel sort failed", e.getCause());
+        } finally {
+            final BasePerformanceEntry baseEntry = jobScheduler.getAccumulatedPerformance();
+            if (baseEntry != null) {
+                QueryPerformanceRecorder.getInstance().getEnclosingNugget().accumulate(baseEntry);
+            }
+        }
+
+        final long[] rowKeysArray = new long[sortSize];
+        try (final RowSequence allPositions = RowSequenceFactory.forRange(0, sortSize - 1);
+                final ChunkSource.FillContext fillContext = resultKeys.makeFillContext(sortSize)) {
+            resultKeys.fillChunk(fillContext, WritableLongChunk.writableChunkWrap(rowKeysArray), allPositions);
+        }
+        return rowKeysArray;
+    }
+
+    /**
+     * Merge the sorted run at positions [{@code secondStart}, {@code secondEnd}) of the result sources into the
+     * immediately preceding sorted run at positions [{@code firstStart}, {@code secondStart}).
+     */
+    private static void mergeIntoPrecedingRun(
+            @NotNull final LongMegaMergeKernel<Values, RowKeys> megaMergeKernel,
+            @NotNull final ChunkType chunkType,
+            @NotNull final LongArraySource resultKeys,
+            @NotNull final WritableColumnSource<?> resultValues,
+            final long firstStart,
+            final long secondStart,
+            final long secondEnd) {
+        final int secondSize = (int) (secondEnd - secondStart);
+        try (final RowSequence secondPositions = RowSequenceFactory.forRange(secondStart, secondEnd - 1);
+                final WritableLongChunk<Values> secondKeys = WritableLongChunk.makeWritableChunk(secondSize);
+                final WritableChunk<Values> secondValues = chunkType.makeWritableChunk(secondSize);
+                final ChunkSource.FillContext keysFillContext = resultKeys.makeFillContext(secondSize);
+                final ChunkSource.FillContext valuesFillContext = resultValues.makeFillContext(secondSize)) {
+            // The second run must be copied out, since the merge writes the combined run over its positions
+            resultKeys.fillChunk(keysFillContext, secondKeys, secondPositions);
+            resultValues.fillChunk(valuesFillContext, secondValues, secondPositions);
+            // noinspection unchecked
+            megaMergeKernel.merge(resultKeys, resultValues, firstStart, secondStart - firstStart,
+                    (LongChunk<RowKeys>) (LongChunk) secondKeys, secondValues);
         }
     }
 
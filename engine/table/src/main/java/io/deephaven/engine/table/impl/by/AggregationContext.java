@@ -65,6 +65,12 @@ public class AggregationContext {
      */
     private final boolean unchunkedIndices;
 
+    /**
+     * Does any operator read the state of another operator? See
+     * {@link IterativeChunkedAggregationOperator#dependsOnOtherOperators()}.
+     */
+    private final boolean anyOperatorDependsOnOtherOperators;
+
     /**
      * Our overall result columns.
      */
@@ -95,6 +101,8 @@ public class AggregationContext {
                 Arrays.stream(this.operators).anyMatch(IterativeChunkedAggregationOperator::requiresRunFinds);
         requiresInputs = Arrays.stream(this.inputColumns).anyMatch(Objects::nonNull);
         unchunkedIndices = Arrays.stream(this.operators).allMatch(IterativeChunkedAggregationOperator::unchunkedRowSet);
+        anyOperatorDependsOnOtherOperators =
+                Arrays.stream(this.operators).anyMatch(IterativeChunkedAggregationOperator::dependsOnOtherOperators);
         // noinspection unchecked
         resultColumns = merge(Arrays.stream(this.operators).map(IterativeChunkedAggregationOperator::getResultColumns)
                 .toArray(Map[]::new));
@@ -119,6 +127,22 @@ public class AggregationContext {
         }
     }
 
+    /**
+     * Make a new context with the same operators, inputs, and transformers as this one, plus an additional operator
+     * that takes no input columns.
+     *
+     * @param operator The operator to append
+     * @return The new context
+     */
+    AggregationContext withAdditionalNoInputOperator(@NotNull final IterativeChunkedAggregationOperator operator) {
+        final IterativeChunkedAggregationOperator[] newOperators = Arrays.copyOf(operators, operators.length + 1);
+        newOperators[operators.length] = operator;
+        final String[][] newInputNames = Arrays.copyOf(inputNames, inputNames.length + 1);
+        newInputNames[inputNames.length] = new String[0];
+        final ChunkSource.WithPrev<Values>[] newInputColumns = Arrays.copyOf(inputColumns, inputColumns.length + 1);
+        return new AggregationContext(newOperators, newInputNames, newInputColumns, transformers);
+    }
+
     private static Map<String, ColumnSource<?>> merge(Map<String, ColumnSource<?>>[] operatorResultColumns) {
         final Map<String, ColumnSource<?>> mergedResult = new LinkedHashMap<>();
         for (final Map<String, ColumnSource<?>> operatorColumns : operatorResultColumns) {
@@ -151,6 +175,10 @@ public class AggregationContext {
         return requiresInputs;
     }
 
+    boolean anyOperatorDependsOnOtherOperators() {
+        return anyOperatorDependsOnOtherOperators;
+    }
+
     int inputSlot(int oi) {
         return inputSlots[oi];
     }
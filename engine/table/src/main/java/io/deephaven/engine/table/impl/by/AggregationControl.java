@@ -4,9 +4,12 @@
 package io.deephaven.engine.table.impl.by;
 
 import io.deephaven.base.verify.Assert;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,6 +26,11 @@ public class AggregationControl {
     private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
     private static final double DEFAULT_TARGET_LOAD_FACTOR = 0.70;
 
+    private static final boolean DISABLE_PARALLEL_STATIC_INITIALIZATION = Configuration.getInstance()
+            .getBooleanWithDefault("AggregationControl.disableParallelStaticInitialization", false);
+    private static final long PARALLEL_STATIC_INITIALIZATION_MINIMUM_SIZE = Configuration.getInstance()
+            .getLongWithDefault("AggregationControl.parallelStaticInitializationMinimumSize", 1L << 22);
+
     public static final AggregationControl DEFAULT = new AggregationControl();
 
     public static final AggregationControl IGNORE_INDEXING = new AggregationControl() {
@@ -77,6 +85,27 @@ public class AggregationControl {
         return transformedDataIndex;
     }
 
+    /**
+     * Get the number of hash partitions to use when initializing a static aggregation of {@code inputTable}. Each
+     * partition is aggregated independently on the {@link OperationInitializer}, and the partition results are merged
+     * in first-occurrence order. A result less than 2 means the aggregation should be initialized serially.
+     *
+     * @param inputTable The {@link Table} to aggregate
+     * @return The number of hash partitions to use
+     */
+    public int staticInitializationPartitionCount(@NotNull final Table inputTable) {
+        if (DISABLE_PARALLEL_STATIC_INITIALIZATION
+                || inputTable.isRefreshing()
+                || inputTable.size() < PARALLEL_STATIC_INITIALIZATION_MINIMUM_SIZE) {
+            return 1;
+        }
+        final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+        if (!operationInitializer.canParallelize()) {
+            return 1;
+        }
+        return operationInitializer.parallelismFactor();
+    }
+
     boolean considerSymbolTables(@NotNull final Table inputTable, final boolean indexed,
             @NotNull final ColumnSource<?>[] sources) {
         return !inputTable.isRefreshing() && !indexed && sources.length == 1
@@ -143,6 +143,12 @@ class BigDecimalChunkedReAvgOperator implements IterativeChunkedAggregationOpera
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Reads the results of the sum operators for each chunk
+        return true;
+    }
+
     @Override
     public Map<String, ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
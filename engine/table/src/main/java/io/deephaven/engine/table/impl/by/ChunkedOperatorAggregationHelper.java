@@ -4,6 +4,7 @@
 package io.deephaven.engine.table.impl.by;
 
 import io.deephaven.api.ColumnName;
+import io.deephaven.base.ArrayUtil;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.*;
@@ -22,6 +23,8 @@ import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.table.impl.NoSuchColumnException.Type;
 import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
 import io.deephaven.engine.table.impl.dataindex.DataIndexUtils;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.remote.ConstructSnapshot;
 import io.deephaven.engine.table.impl.sort.findruns.IntFindRunsKernel;
 import io.deephaven.engine.table.impl.sort.permute.LongPermuteKernel;
@@ -31,8 +34,11 @@ import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.UpdateGraphJobScheduler;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
+import io.deephaven.engine.updategraph.TerminalNotification;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableArray;
 import io.deephaven.util.SafeCloseableList;
@@ -44,6 +50,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
@@ -60,6 +69,24 @@ public class ChunkedOperatorAggregationHelper {
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.skipRunFind", false);
     static final boolean HASHED_RUN_FIND =
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.hashedRunFind", true);
+    /**
+     * Should large incremental updates be processed by updating independent groups of operators in parallel on the
+     * update graph's threads?
+     */
+    static final boolean ENABLE_PARALLEL_INCREMENTAL_UPDATES = Configuration.getInstance().getBooleanWithDefault(
+            "ChunkedOperatorAggregationHelper.enableParallelIncrementalUpdates", true);
+    /**
+     * The minimum number of added, removed, and modified rows in an incremental update before operators are updated in
+     * parallel.
+     */
+    static final long PARALLEL_INCREMENTAL_UPDATE_MINIMUM_SIZE = Configuration.getInstance().getLongWithDefault(
+            "ChunkedOperatorAggregationHelper.parallelIncrementalUpdateMinimumSize", 1L << 20);
+    /**
+     * Process every eligible incremental update in parallel, regardless of size or the update graph's parallelism.
+     */
+    @VisibleForTesting
+    public static boolean FORCE_PARALLEL_INCREMENTAL_UPDATES = Configuration.getInstance().getBooleanWithDefault(
+            "ChunkedOperatorAggregationHelper.forceParallelIncrementalUpdates", false);
 
     public static QueryTable aggregation(
             @NotNull final AggregationContextFactory aggregationContextFactory,
@@ -128,7 +155,7 @@ public class ChunkedOperatorAggregationHelper {
                     "by(" + aggregationContextFactory + ", " + groupByColumns + ")", snapshotControl,
                     (usePrev, beforeClockValue) -> {
                         resultHolder.setValue(aggregation(control, snapshotControl, aggregationContextFactory,
-                                input, dataIndex, preserveEmpty, initialKeys, keyNames, usePrev));
+                                input, dataIndex, preserveEmpty, initialKeys, keyNames, usePrev, true));
                         return true;
                     });
             return resultHolder.getValue();
@@ -144,7 +171,8 @@ public class ChunkedOperatorAggregationHelper {
             final boolean preserveEmpty,
             @Nullable final Table initialKeys,
             @NotNull final String[] keyNames,
-            final boolean usePrev) {
+            final boolean usePrev,
+            final boolean allowParallelInitialization) {
         if (keyNames.length == 0) {
             // This should be checked before this method is called, but let's verify here in case an additional
             // entry point is added incautiously.
@@ -179,6 +207,15 @@ public class ChunkedOperatorAggregationHelper {
             useSymbolTable = false;
         }
 
+        if (allowParallelInitialization && !input.isRefreshing() && dataIndex == null && initialKeys == null
+                && !useSymbolTable) {
+            final int partitionCount = control.staticInitializationPartitionCount(input);
+            if (partitionCount > 1) {
+                return PartitionedStaticAggregation.aggregation(control, aggregationContextFactory, input, ac,
+                        preserveEmpty, keyNames, reinterpretedKeySources, partitionCount);
+            }
+        }
+
         final MutableInt outputPosition = new MutableInt();
         final Supplier<OperatorAggregationStateManager> stateManagerSupplier =
                 () -> makeStateManager(control, input, keySources, reinterpretedKeySources, ac,
@@ -258,6 +295,10 @@ public class ChunkedOperatorAggregationHelper {
                 final StateChangeRecorder stateChangeRecorder =
                         preserveEmpty ? null : ac.getStateChangeRecorder();
 
+                final ExecutionContext executionContext = ExecutionContext.getContext();
+
+                private volatile boolean updateInProgress;
+
                 @Override
                 public void onUpdate(@NotNull final TableUpdate upstream) {
                     incrementalStateManager.beginUpdateCycle();
@@ -266,17 +307,25 @@ public class ChunkedOperatorAggregationHelper {
                     if (upstreamToUse.empty()) {
                         return;
                     }
-                    final TableUpdate downstream;
-                    try (final KeyedUpdateContext kuc = new KeyedUpdateContext(ac, incrementalStateManager,
+                    final KeyedUpdateContext kuc = new KeyedUpdateContext(ac, incrementalStateManager,
                             reinterpretedKeySources, permuteKernels, keysUpstreamModifiedColumnSet,
                             operatorInputModifiedColumnSets, stateChangeRecorder, upstreamToUse,
-                            outputPosition)) {
+                            outputPosition);
+                    if (kuc.permitsParallelProcessing(getUpdateGraph().parallelismFactor())) {
+                        onUpdateInParallel(upstream, kuc);
+                        return;
+                    }
+                    final TableUpdate downstream;
+                    try (final SafeCloseable ignored = kuc) {
                         downstream = kuc.computeDownstreamIndicesAndCopyKeys(input.getRowSet(),
                                 keyColumnsRaw,
                                 keyColumnsCopied,
                                 result.getModifiedColumnSetForUpdates(), resultModifiedColumnSetFactories);
                     }
+                    deliverDownstream(downstream);
+                }
 
+                private void deliverDownstream(@NotNull final TableUpdate downstream) {
                     if (downstream.empty()) {
                         downstream.release();
                         return;
@@ -286,6 +335,86 @@ public class ChunkedOperatorAggregationHelper {
                     result.notifyListeners(downstream);
                 }
 
+                /**
+                 * Update operators in parallel on the update graph's threads. Our dependents are not satisfied until
+                 * the downstream update has been delivered.
+                 */
+                private void onUpdateInParallel(
+                        @NotNull final TableUpdate upstream,
+                        @NotNull final KeyedUpdateContext kuc) {
+                    if (!tryIncrementReferenceCount()) {
+                        // If we're no longer live, there's no work to do here.
+                        kuc.close();
+                        return;
+                    }
+                    updateInProgress = true;
+                    final TableUpdate acquiredUpdate = upstream.acquire();
+                    final JobScheduler jobScheduler = new UpdateGraphJobScheduler(getUpdateGraph());
+
+                    // do not allow a double-notify
+                    final AtomicBoolean hasNotified = new AtomicBoolean();
+                    final Consumer<Exception> onError = error -> {
+                        if (hasNotified.getAndSet(true)) {
+                            return;
+                        }
+                        try {
+                            onFailure(error, getEntry());
+                        } finally {
+                            completeParallelUpdate(acquiredUpdate, kuc, jobScheduler);
+                        }
+                    };
+                    try {
+                        kuc.computeDownstreamIndicesAndCopyKeysInParallel(executionContext, jobScheduler,
+                                keyColumnsRaw, keyColumnsCopied,
+                                result.getModifiedColumnSetForUpdates(), resultModifiedColumnSetFactories,
+                                downstream -> {
+                                    if (hasNotified.getAndSet(true)) {
+                                        return;
+                                    }
+                                    try {
+                                        deliverDownstream(downstream);
+                                    } finally {
+                                        completeParallelUpdate(acquiredUpdate, kuc, jobScheduler);
+                                    }
+                                },
+                                onError);
+                    } catch (Exception ex) {
+                        onError.accept(ex);
+                    }
+                }
+
+                private void completeParallelUpdate(
+                        @NotNull final TableUpdate acquiredUpdate,
+                        @NotNull final KeyedUpdateContext kuc,
+                        @NotNull final JobScheduler jobScheduler) {
+                    try {
+                        kuc.close();
+                        acquiredUpdate.release();
+                        final BasePerformanceEntry accumulated = jobScheduler.getAccumulatedPerformance();
+                        // if the entry exists, then we install a terminal notification so that we don't lose the
+                        // performance from this execution
+                        if (accumulated != null) {
+                            getUpdateGraph().addNotification(new TerminalNotification() {
+                                @Override
+                                public void run() {
+                                    final PerformanceEntry entry = getEntry();
+                                    if (entry != null) {
+                                        entry.accumulate(accumulated);
+                                    }
+                                }
+                            });
+                        }
+                    } finally {
+                        updateInProgress = false;
+                        decrementReferenceCount();
+                    }
+                }
+
+                @Override
+                public boolean satisfied(final long step) {
+                    return super.satisfied(step) && !updateInProgress;
+                }
+
                 @Override
                 public void onFailureInternal(@NotNull final Throwable originalException, Entry sourceEntry) {
                     ac.propagateFailureToOperators(originalException, sourceEntry);
@@ -306,6 +435,21 @@ public class ChunkedOperatorAggregationHelper {
         return finalResult;
     }
 
+    /**
+     * Aggregate a static table by the specified keys on the current thread, without considering data indexes or
+     * parallel initialization. This is used to aggregate each partition of a {@link PartitionedStaticAggregation}.
+     */
+    static QueryTable serialStaticAggregation(
+            @NotNull final AggregationControl control,
+            @NotNull final AggregationContextFactory aggregationContextFactory,
+            @NotNull final QueryTable input,
+            final boolean preserveEmpty,
+            @NotNull final String[] keyNames) {
+        Assert.eqFalse(input.isRefreshing(), "input.isRefreshing()");
+        return aggregation(control, null, aggregationContextFactory, input, null, preserveEmpty, null, keyNames,
+                false, false);
+    }
+
     private static OperatorAggregationStateManager makeStateManager(
             @NotNull final AggregationControl control, @NotNull final QueryTable input,
             @NotNull final ColumnSource<?>[] keySources, @NotNull final ColumnSource<?>[] reinterpretedKeySources,
@@ -404,6 +548,9 @@ public class ChunkedOperatorAggregationHelper {
         private final SafeCloseable pc;
         private final int probeChunkSize;
 
+        // The operator groups for parallel processing, populated by permitsParallelProcessing
+        private int[][] operatorGroups;
+
         private KeyedUpdateContext(@NotNull final AggregationContext ac,
                 @NotNull final IncrementalOperatorAggregationStateManager incrementalStateManager,
                 @NotNull final ColumnSource[] reinterpretedKeySources,
@@ -622,6 +769,20 @@ public class ChunkedOperatorAggregationHelper {
                 doInserts(upstream.added(), true);
             }
 
+            return finishDownstream(firstStateToAdd, keyColumnsRaw, keyColumnsCopied, resultModifiedColumnSet,
+                    resultModifiedColumnSetFactories);
+        }
+
+        /**
+         * Build the downstream update from the state changes recorded while processing upstream, copy keys for new
+         * states, and propagate the changes to the operators.
+         */
+        private TableUpdate finishDownstream(
+                final int firstStateToAdd,
+                @NotNull final ColumnSource<?>[] keyColumnsRaw,
+                @NotNull final WritableColumnSource<?>[] keyColumnsCopied,
+                @NotNull final ModifiedColumnSet resultModifiedColumnSet,
+                @NotNull final UnaryOperator<ModifiedColumnSet>[] resultModifiedColumnSetFactories) {
             if (stateChangeRecorder != null) {
                 stateChangeRecorder.finishRecording();
             }
@@ -655,6 +816,383 @@ public class ChunkedOperatorAggregationHelper {
             return downstream;
         }
 
+        /**
+         * Determine whether this update may be processed by {@link #computeDownstreamIndicesAndCopyKeysInParallel}.
+         * Parallel processing is only attempted for large updates that neither modify keys nor require shift
+         * processing, and only when no operator reads the state of another operator.
+         *
+         * @param parallelismFactor The number of threads available to the update graph
+         * @return Whether this update may be processed in parallel
+         */
+        private boolean permitsParallelProcessing(final int parallelismFactor) {
+            if (keysModified || processShifts || ac.anyOperatorDependsOnOtherOperators()) {
+                return false;
+            }
+            final long maxSize = Math.max(upstream.added().size(),
+                    Math.max(upstream.removed().size(), upstream.modified().size()));
+            if (maxSize > ArrayUtil.MAX_ARRAY_SIZE) {
+                return false;
+            }
+            if (!FORCE_PARALLEL_INCREMENTAL_UPDATES) {
+                final long updateSize = upstream.added().size() + upstream.removed().size()
+                        + upstream.modified().size();
+                if (!ENABLE_PARALLEL_INCREMENTAL_UPDATES || parallelismFactor <= 1
+                        || updateSize < PARALLEL_INCREMENTAL_UPDATE_MINIMUM_SIZE) {
+                    return false;
+                }
+            }
+            operatorGroups = makeOperatorGroups(ac);
+            return operatorGroups.length > 1;
+        }
+
+        /**
+         * Group our operators by input column. Operators that share an input column share the chunks read from it, so
+         * they must be processed together; operators without an input column are each in their own group.
+         */
+        private static int[][] makeOperatorGroups(@NotNull final AggregationContext ac) {
+            final Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+            for (int oi = 0; oi < ac.size(); ++oi) {
+                final int inputSlot = ac.inputSlot(oi);
+                groups.computeIfAbsent(inputSlot >= 0 ? inputSlot : -1 - oi, ignored -> new ArrayList<>()).add(oi);
+            }
+            return groups.values().stream()
+                    .map(group -> group.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+        }
+
+        /**
+         * Equivalent to {@link #computeDownstreamIndicesAndCopyKeys}, but operators are updated in parallel on
+         * {@code jobScheduler}, one job per group of operators that share an input column. The state manager is
+         * probed and built serially on the calling thread before any job is scheduled, so each job only touches its
+         * own operators. May only be used if {@link #permitsParallelProcessing} returned {@code true}.
+         *
+         * @param executionContext The execution context for the jobs
+         * @param jobScheduler The scheduler for the jobs
+         * @param keyColumnsRaw The key columns from the input table
+         * @param keyColumnsCopied The key columns in the result table, to be populated for new states
+         * @param resultModifiedColumnSet The modified column set for the downstream update
+         * @param resultModifiedColumnSetFactories The per-operator factories for result modified column sets
+         * @param onComplete Invoked with the downstream update after all operators have been updated
+         * @param onError Invoked if an error occurs while updating the operators
+         */
+        private void computeDownstreamIndicesAndCopyKeysInParallel(
+                @NotNull final ExecutionContext executionContext,
+                @NotNull final JobScheduler jobScheduler,
+                @NotNull final ColumnSource<?>[] keyColumnsRaw,
+                @NotNull final WritableColumnSource<?>[] keyColumnsCopied,
+                @NotNull final ModifiedColumnSet resultModifiedColumnSet,
+                @NotNull final UnaryOperator<ModifiedColumnSet>[] resultModifiedColumnSetFactories,
+                @NotNull final Consumer<TableUpdate> onComplete,
+                @NotNull final Consumer<Exception> onError) {
+            Assert.neqNull(operatorGroups, "operatorGroups");
+            final int firstStateToAdd = outputPosition.get();
+            ac.resetOperatorsForStep(upstream, firstStateToAdd);
+
+            final int[] removedRowSlots = collectSlots(upstream.removed(), (rows, rowSlots) -> incrementalStateManager
+                    .remove(pc, rows, reinterpretedKeySources, rowSlots));
+            final boolean processModifies = upstream.modified().isNonempty()
+                    && (od.anyOperatorHasModifiedInputColumns
+                            || od.anyOperatorWithoutModifiedInputColumnsRequiresIndices);
+            final int[] modifiedRowSlots = processModifies
+                    ? collectSlots(upstream.modified(), (rows, rowSlots) -> incrementalStateManager
+                            .findModifications(pc, rows, reinterpretedKeySources, rowSlots))
+                    : null;
+            final RowSet modifiedPreShift = processModifies && od.anyOperatorHasModifiedInputColumns
+                    ? upstream.getModifiedPreShift()
+                    : upstream.modified();
+            final int[] addedRowSlots = collectSlots(upstream.added(), (rows, rowSlots) -> incrementalStateManager
+                    .add(bc, rows, reinterpretedKeySources, outputPosition, rowSlots));
+            ac.ensureCapacity(outputPosition.get());
+
+            final RowSet[] groupModifiedStates = new RowSet[operatorGroups.length];
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("aggregation operator groups"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, operatorGroups.length,
+                    (taskContext, groupIndex, nestedErrorConsumer) -> {
+                        try (final OperatorGroupWorker worker = new OperatorGroupWorker(operatorGroups[groupIndex])) {
+                            worker.processRows(ParallelStep.REMOVE, upstream.removed(), upstream.removed(),
+                                    removedRowSlots);
+                            if (processModifies) {
+                                worker.processRows(ParallelStep.MODIFY, modifiedPreShift, upstream.modified(),
+                                        modifiedRowSlots);
+                            }
+                            worker.processRows(ParallelStep.ADD, upstream.added(), upstream.added(), addedRowSlots);
+                            groupModifiedStates[groupIndex] = worker.groupModifiedStatesBuilder.build();
+                        }
+                    },
+                    () -> {
+                        final TableUpdate downstream;
+                        try {
+                            for (final RowSet groupStates : groupModifiedStates) {
+                                modifiedStatesBuilder.addRowSet(groupStates);
+                            }
+                            downstream = finishDownstream(firstStateToAdd, keyColumnsRaw, keyColumnsCopied,
+                                    resultModifiedColumnSet, resultModifiedColumnSetFactories);
+                        } catch (Exception ex) {
+                            onError.accept(ex);
+                            return;
+                        } finally {
+                            SafeCloseableArray.close(groupModifiedStates);
+                        }
+                        onComplete.accept(downstream);
+                    },
+                    error -> {
+                        SafeCloseableArray.close(groupModifiedStates);
+                        onError.accept(error);
+                    });
+        }
+
+        /**
+         * Look up the slot for every row in {@code rows}, one chunk at a time.
+         *
+         * @param rows The rows to look up
+         * @param slotFinder Fills the supplied slots chunk with the slots for a chunk of rows
+         * @return The slots for all of {@code rows}, in row order
+         */
+        private int[] collectSlots(@NotNull final RowSequence rows,
+                @NotNull final BiConsumer<RowSequence, WritableIntChunk<RowKeys>> slotFinder) {
+            final int[] rowSlots = new int[rows.intSize()];
+            int offset = 0;
+            try (final RowSequence.Iterator rowsIterator = rows.getRowSequenceIterator()) {
+                while (rowsIterator.hasMore()) {
+                    slotFinder.accept(rowsIterator.getNextRowSequenceWithLength(CHUNK_SIZE), slots);
+                    slots.copyToTypedArray(0, rowSlots, offset, slots.size());
+                    offset += slots.size();
+                }
+            }
+            return rowSlots;
+        }
+
+        private enum ParallelStep {
+            REMOVE("remove"), MODIFY("modify"), ADD("add");
+
+            private final String verb;
+
+            ParallelStep(@NotNull final String verb) {
+                this.verb = verb;
+            }
+        }
+
+        /**
+         * The state needed to apply an update to one group of operators during
+         * {@link #computeDownstreamIndicesAndCopyKeysInParallel}. Each worker owns its own contexts and working chunks,
+         * and only invokes the operators in its group.
+         */
+        private final class OperatorGroupWorker implements SafeCloseable {
+
+            private final int[] groupOperators;
+            private final int inputSlot;
+            private final boolean groupHasModifiedInputColumns;
+            private final RowSetBuilderRandom groupModifiedStatesBuilder;
+
+            private final SafeCloseableList toClose;
+
+            private final IntIntTimsortKernel.IntIntSortKernelContext<RowKeys, ChunkPositions> sortKernelContext;
+            private final HashedRunFinder.HashedRunContext hashedRunContext;
+
+            private final SharedContext sharedContext;
+            private final ChunkSource.GetContext getContext;
+            private final WritableChunk<Values> workingChunk;
+
+            private final SharedContext postSharedContext;
+            private final ChunkSource.GetContext postGetContext;
+            private final WritableChunk<Values> postWorkingChunk;
+
+            private final WritableLongChunk<RowKeys> permutedKeyIndices;
+            private final WritableIntChunk<ChunkPositions> runStarts;
+            private final WritableIntChunk<ChunkLengths> runLengths;
+            private final WritableIntChunk<ChunkPositions> chunkPositions;
+            private final WritableIntChunk<RowKeys> slots;
+            private final WritableBooleanChunk<Values> modifiedSlots;
+            private final WritableBooleanChunk<Values> slotsModifiedByOperator;
+
+            private OperatorGroupWorker(@NotNull final int[] groupOperators) {
+                this.groupOperators = groupOperators;
+                inputSlot = ac.inputSlot(groupOperators[0]);
+                groupHasModifiedInputColumns = Arrays.stream(groupOperators)
+                        .anyMatch(oi -> od.operatorsWithModifiedInputColumns[oi]);
+                groupModifiedStatesBuilder = new BitmapRandomBuilder(outputPosition.get());
+
+                toClose = new SafeCloseableList();
+
+                final int chunkSize = Math.max(buildChunkSize, probeChunkSize);
+                final boolean findRuns = ac.requiresRunFinds(SKIP_RUN_FIND);
+                sortKernelContext =
+                        !findRuns || HASHED_RUN_FIND ? null : toClose.add(IntIntTimsortKernel.createContext(chunkSize));
+                hashedRunContext =
+                        !HASHED_RUN_FIND ? null : toClose.add(new HashedRunFinder.HashedRunContext(chunkSize));
+
+                if (inputSlot >= 0) {
+                    final ChunkSource.WithPrev<Values> inputColumn = ac.inputColumns[inputSlot];
+                    sharedContext = toClose.add(SharedContext.makeSharedContext());
+                    getContext = toClose.add(inputColumn.makeGetContext(chunkSize, sharedContext));
+                    workingChunk = toClose.add(inputColumn.getChunkType().makeWritableChunk(chunkSize));
+                    if (groupHasModifiedInputColumns) {
+                        postSharedContext = toClose.add(SharedContext.makeSharedContext());
+                        postGetContext = toClose.add(inputColumn.makeGetContext(chunkSize, postSharedContext));
+                        postWorkingChunk = toClose.add(inputColumn.getChunkType().makeWritableChunk(chunkSize));
+                    } else {
+                        postSharedContext = null;
+                        postGetContext = null;
+                        postWorkingChunk = null;
+                    }
+                } else {
+                    sharedContext = null;
+                    getContext = null;
+                    workingChunk = null;
+                    postSharedContext = null;
+                    postGetContext = null;
+                    postWorkingChunk = null;
+                }
+
+                permutedKeyIndices =
+                        ac.requiresIndices() ? toClose.add(WritableLongChunk.makeWritableChunk(chunkSize)) : null;
+                runStarts = toClose.add(WritableIntChunk.makeWritableChunk(chunkSize));
+                runLengths = toClose.add(WritableIntChunk.makeWritableChunk(chunkSize));
+                chunkPositions = toClose.add(WritableIntChunk.makeWritableChunk(chunkSize));
+                slots = toClose.add(WritableIntChunk.makeWritableChunk(chunkSize));
+                modifiedSlots = toClose.add(WritableBooleanChunk.makeWritableChunk(chunkSize));
+                slotsModifiedByOperator = toClose.add(WritableBooleanChunk.makeWritableChunk(chunkSize));
+            }
+
+            @Override
+            public void close() {
+                toClose.close();
+            }
+
+            /**
+             * Apply {@code step} to this group's operators for all of {@code rows}.
+             *
+             * @param step The step to apply
+             * @param rows The rows to process; previous values are read for removes and modifies
+             * @param postRows The post-shift rows for modifies, else the same as {@code rows}
+             * @param rowSlots The slots for each row, as computed by {@link #collectSlots}
+             */
+            private void processRows(
+                    @NotNull final ParallelStep step,
+                    @NotNull final RowSequence rows,
+                    @NotNull final RowSequence postRows,
+                    @NotNull final int[] rowSlots) {
+                if (rows.isEmpty()) {
+                    return;
+                }
+                final boolean distinctPostRows = rows != postRows;
+                try (final RowSequence.Iterator rowsIterator = rows.getRowSequenceIterator();
+                        final RowSequence.Iterator postRowsIterator =
+                                distinctPostRows ? postRows.getRowSequenceIterator() : null) {
+                    int offset = 0;
+                    while (rowsIterator.hasMore()) {
+                        final RowSequence rowsChunk = rowsIterator.getNextRowSequenceWithLength(CHUNK_SIZE);
+                        final RowSequence postRowsChunk = distinctPostRows
+                                ? postRowsIterator.getNextRowSequenceWithLength(CHUNK_SIZE)
+                                : rowsChunk;
+                        final int chunkSize = rowsChunk.intSize();
+                        slots.setSize(chunkSize);
+                        slots.copyFromTypedArray(rowSlots, offset, 0, chunkSize);
+                        offset += chunkSize;
+                        processChunk(step, rowsChunk, postRowsChunk);
+                    }
+                }
+            }
+
+            private void processChunk(
+                    @NotNull final ParallelStep step,
+                    @NotNull final RowSequence rowsChunk,
+                    @NotNull final RowSequence postRowsChunk) {
+                final boolean permute = findSlotRuns(sortKernelContext, hashedRunContext, runStarts, runLengths,
+                        chunkPositions, slots, ac.requiresRunFinds(SKIP_RUN_FIND));
+
+                if (ac.requiresIndices()) {
+                    if (permute) {
+                        final LongChunk<OrderedRowKeys> keyIndices = postRowsChunk.asRowKeyChunk();
+                        permutedKeyIndices.setSize(keyIndices.size());
+                        LongPermuteKernel.permuteInput(keyIndices, chunkPositions, permutedKeyIndices);
+                    } else {
+                        postRowsChunk.fillRowKeyChunk(permutedKeyIndices);
+                    }
+                }
+
+                Chunk<? extends Values> values = null;
+                Chunk<? extends Values> postValues = null;
+                if (inputSlot >= 0 && (step != ParallelStep.MODIFY || groupHasModifiedInputColumns)) {
+                    final ChunkSource.WithPrev<Values> inputColumn = ac.inputColumns[inputSlot];
+                    final boolean usePrev = step != ParallelStep.ADD;
+                    sharedContext.reset();
+                    values = permute
+                            ? getAndPermuteChunk(inputColumn, getContext, rowsChunk, usePrev,
+                                    permuteKernels[inputSlot], chunkPositions, workingChunk)
+                            : getChunk(inputColumn, getContext, rowsChunk, usePrev);
+                    if (step == ParallelStep.MODIFY) {
+                        postSharedContext.reset();
+                        postValues = permute
+                                ? getAndPermuteChunk(inputColumn, postGetContext, postRowsChunk, false,
+                                        permuteKernels[inputSlot], chunkPositions, postWorkingChunk)
+                                : getChunk(inputColumn, postGetContext, postRowsChunk, false);
+                    }
+                }
+
+                boolean anyOperatorModified = false;
+                boolean firstOperator = true;
+                setFalse(modifiedSlots, runStarts.size());
+
+                for (final int oi : groupOperators) {
+                    final boolean modifyChunk = od.operatorsWithModifiedInputColumns[oi];
+                    if (step == ParallelStep.MODIFY && !modifyChunk
+                            && !od.operatorsWithoutModifiedInputColumnsThatRequireIndices[oi]) {
+                        continue;
+                    }
+
+                    if (!firstOperator) {
+                        setFalse(slotsModifiedByOperator, runStarts.size());
+                    }
+                    final WritableBooleanChunk<Values> operatorModifiedSlots =
+                            firstOperator ? modifiedSlots : slotsModifiedByOperator;
+
+                    try {
+                        switch (step) {
+                            case REMOVE:
+                                ac.operators[oi].removeChunk(bucketedContexts[oi], values, permutedKeyIndices,
+                                        slots, runStarts, runLengths, operatorModifiedSlots);
+                                break;
+                            case MODIFY:
+                                if (modifyChunk) {
+                                    ac.operators[oi].modifyChunk(bucketedContexts[oi], values, postValues,
+                                            permutedKeyIndices, slots, runStarts, runLengths, operatorModifiedSlots);
+                                } else {
+                                    ac.operators[oi].modifyRowKeys(bucketedContexts[oi], permutedKeyIndices, slots,
+                                            runStarts, runLengths, operatorModifiedSlots);
+                                }
+                                break;
+                            case ADD:
+                                ac.operators[oi].addChunk(bucketedContexts[oi], values, permutedKeyIndices, slots,
+                                        runStarts, runLengths, operatorModifiedSlots);
+                                break;
+                        }
+                    } catch (Exception ex) {
+                        throw new AggregationOperatorException(
+                                "Failed to " + step.verb + " data, inputcolumns=" + Arrays.toString(ac.inputNames[oi])
+                                        + ", outputs=" + ac.operators[oi].getResultColumns().keySet(),
+                                ex);
+                    } catch (Error err) {
+                        err.addSuppressed(new AggregationOperatorException(
+                                "Failed to " + step.verb + " data, inputcolumns=" + Arrays.toString(ac.inputNames[oi])
+                                        + ", outputs=" + ac.operators[oi].getResultColumns().keySet()));
+                        throw err;
+                    }
+
+                    anyOperatorModified = updateModificationState(modifiedOperators, modifiedSlots,
+                            slotsModifiedByOperator, anyOperatorModified, firstOperator, oi);
+                    firstOperator = false;
+                }
+
+                if (anyOperatorModified) {
+                    modifySlots(groupModifiedStatesBuilder, runStarts, slots, modifiedSlots);
+                }
+            }
+        }
+
         private void doRemoves(@NotNull final RowSequence keyIndicesToRemove) {
             if (keyIndicesToRemove.isEmpty()) {
                 return;
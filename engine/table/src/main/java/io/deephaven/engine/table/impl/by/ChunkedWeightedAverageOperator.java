@@ -422,6 +422,12 @@ class ChunkedWeightedAverageOperator implements IterativeChunkedAggregationOpera
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Weights are recorded for each chunk by a separate internal operator
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
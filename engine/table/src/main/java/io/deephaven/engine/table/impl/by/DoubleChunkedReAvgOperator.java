@@ -148,6 +148,12 @@ class DoubleChunkedReAvgOperator implements IterativeChunkedAggregationOperator
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Reads the results of the sum operators for each chunk
+        return true;
+    }
+
     @Override
     public Map<String, ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
@@ -380,6 +380,12 @@ class DoubleChunkedWeightedSumOperator implements IterativeChunkedAggregationOpe
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Weights are recorded for each chunk by a separate internal operator
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(resultName, resultColumn);
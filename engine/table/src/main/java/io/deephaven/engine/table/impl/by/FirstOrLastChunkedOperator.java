@@ -446,6 +446,12 @@ public class FirstOrLastChunkedOperator
         public void ensureCapacity(long tableSize) {
             // nothing to do, our enclosing class has ensured our capacity
         }
+
+        @Override
+        public boolean dependsOnOtherOperators() {
+            // Reads the redirections the primary operator updated for each chunk
+            return true;
+        }
     }
 
     private class ComplementaryOperator implements IterativeChunkedAggregationOperator {
@@ -611,6 +617,12 @@ public class FirstOrLastChunkedOperator
             redirections.ensureCapacity(tableSize);
         }
 
+        @Override
+        public boolean dependsOnOtherOperators() {
+            // Reads the row sets the primary operator updated for each chunk
+            return true;
+        }
+
         @Override
         public void startTrackingPrevValues() {
             rowRedirection.startTrackingPrevValues();
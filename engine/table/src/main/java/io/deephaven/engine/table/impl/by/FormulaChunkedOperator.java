@@ -241,6 +241,12 @@ class FormulaChunkedOperator implements IterativeChunkedAggregationOperator {
         }
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Formulas are evaluated against the state of the group by operator
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         final Map<String, WritableColumnSource<?>> resultColumnsMap = new LinkedHashMap<>();
@@ -243,6 +243,17 @@ public interface IterativeChunkedAggregationOperator {
         return false;
     }
 
+    /**
+     * Whether the operator's bucketed chunk methods read or write state owned by another operator in the same
+     * aggregation, so that operators must be invoked one after another, in order, for each chunk. When no operator in
+     * an aggregation depends on another, large incremental updates may process different operators concurrently.
+     *
+     * @return true if the operator depends on other operators' chunk processing, false otherwise
+     */
+    default boolean dependsOnOtherOperators() {
+        return false;
+    }
+
     /**
      * Whether the operator can deal with an unchunked RowSet more efficiently than a chunked RowSet.
      *
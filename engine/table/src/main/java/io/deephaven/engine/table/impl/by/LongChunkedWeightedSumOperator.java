@@ -275,6 +275,12 @@ class LongChunkedWeightedSumOperator implements IterativeChunkedAggregationOpera
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Weights are recorded for each chunk by a separate internal operator
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(resultName, resultColumn);
@@ -0,0 +1,386 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.TableInitializationException;
+import io.deephaven.engine.rowset.*;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
+import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.LongColumnSourceWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
+import io.deephaven.engine.table.impl.util.WritableRowRedirection;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseableArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static io.deephaven.engine.table.Table.AGGREGATION_ROW_LOOKUP_ATTRIBUTE;
+
+/**
+ * Parallel initialization for static, keyed aggregations.
+ * <p>
+ * The input {@link RowSet} is split into slices that are hashed concurrently to assign each row to a hash partition.
+ * Since all rows for a given key land in the same partition, each partition can then be aggregated independently, with
+ * its own {@link OperatorAggregationStateManager state manager} and its own {@link AggregationContext operator state}.
+ * The partition results are merged in the order of each group's first row key, which is exactly the order a serial
+ * initialization would have produced.
+ */
+final class PartitionedStaticAggregation {
+
+    /**
+     * Hidden result column used to carry each group's first row key from the partition results to the merge.
+     */
+    private static final String FIRST_ROW_KEY_COLUMN = "__PARTITION_FIRST_ROW_KEY__";
+
+    private final AggregationControl control;
+    private final AggregationContextFactory aggregationContextFactory;
+    private final QueryTable input;
+    private final boolean preserveEmpty;
+    private final String[] keyNames;
+    private final ColumnSource<?>[] reinterpretedKeySources;
+    private final ChunkHasher[] hashers;
+    private final int partitionCount;
+    private final String description;
+
+    private final JobScheduler jobScheduler;
+    private final ExecutionContext executionContext;
+
+    /**
+     * Row sets of each partition's rows, indexed by slice, then by partition.
+     */
+    private final RowSet[][] slicePartitionRowSets;
+    /**
+     * Aggregation results of each partition, including the {@link #FIRST_ROW_KEY_COLUMN hidden first row key column}.
+     */
+    private final QueryTable[] partitionResults;
+    /**
+     * First row keys for each partition's groups, in partition result order.
+     */
+    private final RowSet[] partitionFirstRowKeys;
+
+    private PartitionedStaticAggregation(
+            @NotNull final AggregationControl control,
+            @NotNull final AggregationContextFactory aggregationContextFactory,
+            @NotNull final QueryTable input,
+            final boolean preserveEmpty,
+            @NotNull final String[] keyNames,
+            @NotNull final ColumnSource<?>[] reinterpretedKeySources,
+            final int partitionCount) {
+        this.control = control;
+        this.aggregationContextFactory = aggregationContextFactory;
+        this.input = input;
+        this.preserveEmpty = preserveEmpty;
+        this.keyNames = keyNames;
+        this.reinterpretedKeySources = reinterpretedKeySources;
+        hashers = Arrays.stream(reinterpretedKeySources)
+                .map(cs -> ChunkHasher.makeHasher(cs.getChunkType()))
+                .toArray(ChunkHasher[]::new);
+        this.partitionCount = partitionCount;
+        description = "by(" + aggregationContextFactory + ", " + Arrays.toString(keyNames) + ")";
+
+        if (ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            jobScheduler = new OperationInitializerJobScheduler();
+        } else {
+            jobScheduler = new ImmediateJobScheduler();
+        }
+        executionContext = ExecutionContext.getContext();
+
+        final int sliceCount = (int) Math.max(1, Math.min(partitionCount,
+                input.size() / ChunkedOperatorAggregationHelper.CHUNK_SIZE));
+        slicePartitionRowSets = new RowSet[sliceCount][];
+        partitionResults = new QueryTable[partitionCount];
+        partitionFirstRowKeys = new RowSet[partitionCount];
+    }
+
+    /**
+     * Aggregate a static {@code input} table by hash partitioning its rows and aggregating each partition in parallel.
+     *
+     * @param control The {@link AggregationControl} to use for each partition
+     * @param aggregationContextFactory The factory for each partition's {@link AggregationContext}
+     * @param input The static table to aggregate
+     * @param ac An {@link AggregationContext} made for the entire {@code input} table, used only to transform the
+     *        merged result
+     * @param preserveEmpty Whether to preserve empty groups; passed through to each partition's aggregation
+     * @param keyNames The group-by column names
+     * @param reinterpretedKeySources The key column sources, reinterpreted to primitives as needed
+     * @param partitionCount The number of hash partitions to use
+     * @return The aggregation result
+     */
+    static QueryTable aggregation(
+            @NotNull final AggregationControl control,
+            @NotNull final AggregationContextFactory aggregationContextFactory,
+            @NotNull final QueryTable input,
+            @NotNull final AggregationContext ac,
+            final boolean preserveEmpty,
+            @NotNull final String[] keyNames,
+            @NotNull final ColumnSource<?>[] reinterpretedKeySources,
+            final int partitionCount) {
+        Assert.eqFalse(input.isRefreshing(), "input.isRefreshing()");
+        Assert.gt(partitionCount, "partitionCount", 1);
+        return new PartitionedStaticAggregation(control, aggregationContextFactory, input, preserveEmpty, keyNames,
+                reinterpretedKeySources, partitionCount).run(ac);
+    }
+
+    private QueryTable run(@NotNull final AggregationContext ac) {
+        final CompletableFuture<Void> partitionsComplete = new CompletableFuture<>();
+        try {
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append(description).append(" partition rows"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, slicePartitionRowSets.length,
+                    (context, sliceIndex, nestedErrorConsumer) -> partitionSlice(sliceIndex),
+                    () -> jobScheduler.iterateParallel(
+                            executionContext,
+                            logOutput -> logOutput.append(description).append(" aggregate partitions"),
+                            JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                            0, partitionCount,
+                            (context, partitionIndex, nestedErrorConsumer) -> aggregatePartition(partitionIndex),
+                            () -> partitionsComplete.complete(null),
+                            partitionsComplete::completeExceptionally),
+                    partitionsComplete::completeExceptionally);
+        } catch (Exception e) {
+            partitionsComplete.completeExceptionally(e);
+        }
+
+        try {
+            partitionsComplete.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while computing " + description);
+        } catch (ExecutionException e) {
+            throw new TableInitializationException(description,
+                    "an exception occurred while performing the parallel initial aggregation", e.getCause());
+        } finally {
+            final BasePerformanceEntry baseEntry = jobScheduler.getAccumulatedPerformance();
+            if (baseEntry != null) {
+                QueryPerformanceRecorder.getInstance().getEnclosingNugget().accumulate(baseEntry);
+            }
+            Arrays.stream(slicePartitionRowSets).filter(Objects::nonNull).forEach(SafeCloseableArray::close);
+        }
+
+        try (final SafeCloseableArray<RowSet> ignored = new SafeCloseableArray<>(partitionFirstRowKeys)) {
+            return mergePartitionResults(ac);
+        }
+    }
+
+    /**
+     * Hash the rows of one slice of the input, and split them into per-partition row sets.
+     *
+     * @param sliceIndex The slice to process
+     */
+    private void partitionSlice(final int sliceIndex) {
+        final long inputSize = input.size();
+        final long sliceStart = inputSize * sliceIndex / slicePartitionRowSets.length;
+        final long sliceEnd = inputSize * (sliceIndex + 1) / slicePartitionRowSets.length;
+        final int chunkSize = ChunkedOperatorAggregationHelper.chunkSize(sliceEnd - sliceStart);
+        final int numKeys = reinterpretedKeySources.length;
+
+        final RowSetBuilderSequential[] builders = new RowSetBuilderSequential[partitionCount];
+        for (int pi = 0; pi < partitionCount; ++pi) {
+            builders[pi] = RowSetFactory.builderSequential();
+        }
+
+        final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[numKeys];
+        try (final RowSet sliceRowSet = input.getRowSet().subSetByPositionRange(sliceStart, sliceEnd);
+                final RowSequence.Iterator rsIt = sliceRowSet.getRowSequenceIterator();
+                final SharedContext sharedContext = SharedContext.makeSharedContext();
+                final SafeCloseableArray<ChunkSource.GetContext> ignored = new SafeCloseableArray<>(getContexts);
+                final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(chunkSize)) {
+            for (int kci = 0; kci < numKeys; ++kci) {
+                getContexts[kci] = reinterpretedKeySources[kci].makeGetContext(chunkSize, sharedContext);
+            }
+            while (rsIt.hasMore()) {
+                final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+                for (int kci = 0; kci < numKeys; ++kci) {
+                    // noinspection unchecked
+                    final Chunk<Values> keyChunk =
+                            (Chunk<Values>) reinterpretedKeySources[kci].getChunk(getContexts[kci], chunkOk);
+                    if (kci == 0) {
+                        hashers[kci].hashInitial(keyChunk, hashes);
+                    } else {
+                        hashers[kci].hashUpdate(keyChunk, hashes);
+                    }
+                }
+                final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                for (int ii = 0; ii < rowKeys.size(); ++ii) {
+                    builders[partitionFor(hashes.get(ii))].appendKey(rowKeys.get(ii));
+                }
+                sharedContext.reset();
+            }
+        }
+
+        final RowSet[] partitionRowSets = new RowSet[partitionCount];
+        for (int pi = 0; pi < partitionCount; ++pi) {
+            partitionRowSets[pi] = builders[pi].build();
+        }
+        slicePartitionRowSets[sliceIndex] = partitionRowSets;
+    }
+
+    /**
+     * Assign a partition for a key hash. The hash is re-scrambled so that the keys in a partition remain uniformly
+     * distributed over the low bits that the partition's own hash table uses to find slots.
+     *
+     * @param hash The key hash
+     * @return The partition index
+     */
+    private int partitionFor(final int hash) {
+        return ChunkHasher.scrambleHash(hash * 0x9E3779B9) % partitionCount;
+    }
+
+    /**
+     * Aggregate one partition's rows, gathered from all slices.
+     *
+     * @param partitionIndex The partition to aggregate
+     */
+    private void aggregatePartition(final int partitionIndex) {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        for (final RowSet[] partitionRowSets : slicePartitionRowSets) {
+            builder.appendRowSequence(partitionRowSets[partitionIndex]);
+        }
+        final QueryTable partitionTable = input.getSubTable(builder.build().toTracking());
+
+        final QueryTable partitionResult = ChunkedOperatorAggregationHelper.serialStaticAggregation(control,
+                (table, requireStateChangeRecorder, groupByColumns) -> aggregationContextFactory
+                        .makeAggregationContext(table, requireStateChangeRecorder, groupByColumns)
+                        .withAdditionalNoInputOperator(new StaticFirstOrLastChunkedOperator(
+                                true, MatchPair.ZERO_LENGTH_MATCH_PAIR_ARRAY, table, FIRST_ROW_KEY_COLUMN)),
+                partitionTable, preserveEmpty, keyNames);
+        Assert.assertion(partitionResult.getRowSet().isFlat(), "partitionResult.getRowSet().isFlat()");
+
+        // Groups are numbered in first-occurrence order within the partition, so the first row keys are ascending
+        final ColumnSource<Long> firstRowKeySource =
+                partitionResult.getColumnSource(FIRST_ROW_KEY_COLUMN, long.class);
+        final RowSetBuilderSequential firstRowKeyBuilder = RowSetFactory.builderSequential();
+        final long partitionResultSize = partitionResult.size();
+        for (long pos = 0; pos < partitionResultSize; ++pos) {
+            firstRowKeyBuilder.appendKey(firstRowKeySource.getLong(pos));
+        }
+
+        partitionResults[partitionIndex] = partitionResult;
+        partitionFirstRowKeys[partitionIndex] = firstRowKeyBuilder.build();
+    }
+
+    /**
+     * Merge the partition results in order of each group's first row key.
+     *
+     * @param ac The {@link AggregationContext} for the entire input, used to transform the merged result
+     * @return The merged result
+     */
+    private QueryTable mergePartitionResults(@NotNull final AggregationContext ac) {
+        final Table merged = TableTools.merge(partitionResults);
+        final RowSet mergedRowSet = merged.getRowSet();
+
+        final int[][] partitionPositionToResultRow = new int[partitionCount][];
+        final LongArraySource redirections = new LongArraySource();
+        final WritableRowRedirection resultRedirection = new LongColumnSourceWritableRowRedirection(redirections);
+        final long resultSize;
+        try (final WritableRowSet allFirstRowKeys = RowSetFactory.empty()) {
+            for (final RowSet firstRowKeys : partitionFirstRowKeys) {
+                allFirstRowKeys.insert(firstRowKeys);
+            }
+            resultSize = allFirstRowKeys.size();
+            Assert.eq(resultSize, "resultSize", mergedRowSet.size(), "mergedRowSet.size()");
+            redirections.ensureCapacity(resultSize);
+
+            long mergedOffset = 0;
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                final int partitionSize = partitionResults[pi].intSize();
+                final int[] positionToResultRow = partitionPositionToResultRow[pi] = new int[partitionSize];
+                try (final RowSet resultPositions = allFirstRowKeys.invert(partitionFirstRowKeys[pi]);
+                        final RowSet mergedRowKeys =
+                                mergedRowSet.subSetByPositionRange(mergedOffset, mergedOffset + partitionSize);
+                        final RowSet.Iterator resultPositionsIt = resultPositions.iterator();
+                        final RowSet.Iterator mergedRowKeysIt = mergedRowKeys.iterator()) {
+                    for (int ppi = 0; ppi < partitionSize; ++ppi) {
+                        final long resultPosition = resultPositionsIt.nextLong();
+                        positionToResultRow[ppi] = (int) resultPosition;
+                        resultRedirection.put(resultPosition, mergedRowKeysIt.nextLong());
+                    }
+                }
+                mergedOffset += partitionSize;
+            }
+        }
+
+        final Map<String, ColumnSource<?>> resultColumnSourceMap = new LinkedHashMap<>();
+        merged.getColumnSourceMap().forEach((name, source) -> {
+            if (!name.equals(FIRST_ROW_KEY_COLUMN)) {
+                resultColumnSourceMap.put(name, RedirectedColumnSource.maybeRedirect(resultRedirection, source));
+            }
+        });
+        final QueryTable result = new QueryTable(RowSetFactory.flat(resultSize).toTracking(), resultColumnSourceMap);
+
+        ac.supplyRowLookup(() -> new PartitionedRowLookup(Arrays.stream(partitionResults)
+                .map(pr -> (AggregationRowLookup) pr.getAttribute(AGGREGATION_ROW_LOOKUP_ATTRIBUTE))
+                .toArray(AggregationRowLookup[]::new), partitionPositionToResultRow));
+        final QueryTable finalResult = ac.transformResult(result);
+        finalResult.setFlat();
+        return finalResult;
+    }
+
+    /**
+     * {@link AggregationRowLookup} that dispatches to the lookup for the partition a key hashes to, and translates the
+     * partition's row position to the merged result's row position.
+     */
+    private class PartitionedRowLookup implements AggregationRowLookup {
+
+        private final AggregationRowLookup[] partitionLookups;
+        private final int[][] partitionPositionToResultRow;
+
+        private PartitionedRowLookup(
+                @NotNull final AggregationRowLookup[] partitionLookups,
+                @NotNull final int[][] partitionPositionToResultRow) {
+            this.partitionLookups = partitionLookups;
+            this.partitionPositionToResultRow = partitionPositionToResultRow;
+        }
+
+        @Override
+        public int get(final Object key) {
+            final int hash;
+            if (hashers.length == 1) {
+                hash = hashers[0].hashInitial(key);
+            } else {
+                final Object[] keyValues = (Object[]) key;
+                int partialHash = hashers[0].hashInitial(keyValues[0]);
+                for (int kci = 1; kci < hashers.length; ++kci) {
+                    partialHash = hashers[kci].hashUpdate(partialHash, keyValues[kci]);
+                }
+                hash = partialHash;
+            }
+            final int partitionIndex = partitionFor(hash);
+            final AggregationRowLookup partitionLookup = partitionLookups[partitionIndex];
+            Assert.neqNull(partitionLookup, "partitionLookup");
+            final int partitionPosition = partitionLookup.get(key);
+            if (partitionPosition == partitionLookup.noEntryValue()) {
+                return noEntryValue();
+            }
+            return partitionPositionToResultRow[partitionIndex][partitionPosition];
+        }
+    }
+}
@@ -349,6 +349,12 @@ public class TDigestPercentileOperator implements IterativeChunkedAggregationOpe
             resultColumn.ensureCapacity(tableSize);
         }
 
+        @Override
+        public boolean dependsOnOtherOperators() {
+            // Reads the positions the primary operator modified in each chunk
+            return true;
+        }
+
         @Override
         public Map<String, ? extends ColumnSource<?>> getResultColumns() {
             return Collections.singletonMap(resultName, resultColumn);
@@ -467,6 +467,12 @@ public class SsmChunkedMinMaxOperator implements IterativeChunkedAggregationOper
             resultColumn.ensureCapacity(tableSize);
         }
 
+        @Override
+        public boolean dependsOnOtherOperators() {
+            // Reads the primary operator's sorted set for each chunk
+            return true;
+        }
+
         @Override
         public Map<String, ? extends ColumnSource<?>> getResultColumns() {
             return Collections.<String, ColumnSource<?>>singletonMap(resultName, resultColumn);
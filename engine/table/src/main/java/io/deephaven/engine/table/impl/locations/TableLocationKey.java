@@ -4,6 +4,7 @@
 package io.deephaven.engine.table.impl.locations;
 
 import io.deephaven.base.log.LogOutputAppendable;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.type.NamedImplementation;
 import org.jetbrains.annotations.NotNull;
 
@@ -50,6 +51,21 @@ public interface TableLocationKey extends Comparable<TableLocationKey>, NamedImp
      */
     Set<String> getPartitionKeys();
 
+    /**
+     * Determine whether the location keyed by {@code this} may contain any row that {@code predicate} would match,
+     * using summary statistics gathered along with the key by the discovery framework (for example, from a table
+     * format's manifest). This allows {@link io.deephaven.engine.table.impl.PartitionAwareSourceTable
+     * PartitionAwareSourceTable} to skip whole locations before they are created or read. Implementations must answer
+     * {@code true} whenever they cannot prove otherwise, and may only answer {@code false} for locations whose data
+     * will never change.
+     *
+     * @param predicate The predicate
+     * @return Whether the location may contain a matching row
+     */
+    default boolean mayMatch(@NotNull final StatisticsPredicate predicate) {
+        return true;
+    }
+
     /**
      * Get an {@link ImmutableTableLocationKey} that is equal to this.
      *
@@ -0,0 +1,322 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.naturaljoin;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.TableInitializationException;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.JoinControl;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
+import io.deephaven.engine.table.impl.util.WritableRowRedirection;
+import io.deephaven.util.SafeCloseableArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongToIntFunction;
+
+import static io.deephaven.engine.table.impl.JoinControl.CHUNK_SIZE;
+
+/**
+ * A static natural join state manager that splits the key space into hash partitions, each backed by its own
+ * {@link StaticNaturalJoinStateManagerTypedBase typed hash table}.
+ * <p>
+ * Since every row for a given key lands in the same partition, the partitions' hash tables can be built from the right
+ * table concurrently without any coordination. The left table is probed in independent position slices, each of which
+ * fills a disjoint range of the left redirections.
+ */
+public class PartitionedStaticNaturalJoinStateManager extends StaticRightBuildNaturalJoinStateManager {
+
+    private final ColumnSource<?>[] tableKeySources;
+    private final LongToIntFunction tableSizeForEntries;
+    private final double maximumLoadFactor;
+    private final double targetLoadFactor;
+    private final ChunkHasher[] hashers;
+    private final int partitionCount;
+    private final String description;
+
+    private final JobScheduler jobScheduler;
+    private final ExecutionContext executionContext;
+
+    private final StaticNaturalJoinStateManagerTypedBase[] partitions;
+
+    /**
+     * Make a partitioned static natural join state manager.
+     *
+     * @param tableKeySources The (possibly reinterpreted) left key sources
+     * @param keySourcesForErrorMessages The original left key sources, for error messages
+     * @param tableSizeForEntries Computes the hash table size for a partition from its number of right rows
+     * @param maximumLoadFactor The maximum load factor for each partition's hash table
+     * @param targetLoadFactor The target load factor for each partition's hash table
+     * @param partitionCount The number of hash partitions, which must be greater than one
+     * @param description A description of the join, for error messages and performance logging
+     */
+    public PartitionedStaticNaturalJoinStateManager(
+            @NotNull final ColumnSource<?>[] tableKeySources,
+            @NotNull final ColumnSource<?>[] keySourcesForErrorMessages,
+            @NotNull final LongToIntFunction tableSizeForEntries,
+            final double maximumLoadFactor,
+            final double targetLoadFactor,
+            final int partitionCount,
+            @NotNull final String description) {
+        super(keySourcesForErrorMessages);
+        Assert.gt(partitionCount, "partitionCount", 1);
+        this.tableKeySources = tableKeySources;
+        this.tableSizeForEntries = tableSizeForEntries;
+        this.maximumLoadFactor = maximumLoadFactor;
+        this.targetLoadFactor = targetLoadFactor;
+        hashers = Arrays.stream(tableKeySources)
+                .map(cs -> ChunkHasher.makeHasher(cs.getChunkType()))
+                .toArray(ChunkHasher[]::new);
+        this.partitionCount = partitionCount;
+        this.description = description;
+
+        if (ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            jobScheduler = new OperationInitializerJobScheduler();
+        } else {
+            jobScheduler = new ImmediateJobScheduler();
+        }
+        executionContext = ExecutionContext.getContext();
+
+        partitions = new StaticNaturalJoinStateManagerTypedBase[partitionCount];
+    }
+
+    @Override
+    public void buildFromRightSide(final Table rightTable, final ColumnSource<?>[] rightSources) {
+        final RowSet rightRowSet = rightTable.getRowSet();
+        final RowSet[][] slicePartitionRowSets = new RowSet[sliceCount(rightRowSet.size())][];
+        try {
+            runJobs(jobComplete -> jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append(description).append(" partition right rows"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, slicePartitionRowSets.length,
+                    (context, sliceIndex, nestedErrorConsumer) -> slicePartitionRowSets[sliceIndex] =
+                            partitionSlice(rightRowSet, rightSources, sliceIndex, slicePartitionRowSets.length),
+                    () -> jobScheduler.iterateParallel(
+                            executionContext,
+                            logOutput -> logOutput.append(description).append(" build partitions"),
+                            JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                            0, partitionCount,
+                            (context, partitionIndex, nestedErrorConsumer) -> buildPartition(
+                                    partitionIndex, slicePartitionRowSets, rightSources),
+                            () -> jobComplete.complete(null),
+                            jobComplete::completeExceptionally),
+                    jobComplete::completeExceptionally));
+        } finally {
+            Arrays.stream(slicePartitionRowSets).filter(Objects::nonNull).forEach(SafeCloseableArray::close);
+        }
+    }
+
+    private void buildPartition(
+            final int partitionIndex,
+            @NotNull final RowSet[][] slicePartitionRowSets,
+            @NotNull final ColumnSource<?>[] rightSources) {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        for (final RowSet[] partitionRowSets : slicePartitionRowSets) {
+            builder.appendRowSequence(partitionRowSets[partitionIndex]);
+        }
+        try (final RowSet partitionRowSet = builder.build()) {
+            // The static state manager doesn't rehash, so size each partition for all of its rows being unique
+            final StaticNaturalJoinStateManagerTypedBase partition = TypedHasherFactory.make(
+                    StaticNaturalJoinStateManagerTypedBase.class, tableKeySources, keySourcesForErrorMessages,
+                    tableSizeForEntries.applyAsInt(partitionRowSet.size()), maximumLoadFactor, targetLoadFactor);
+            partition.buildFromRightRows(partitionRowSet, rightSources);
+            partitions[partitionIndex] = partition;
+        }
+    }
+
+    @Override
+    public void decorateLeftSide(
+            final RowSet leftRowSet,
+            final ColumnSource<?>[] leftSources,
+            final LongArraySource leftRedirections) {
+        if (leftRowSet.isEmpty()) {
+            return;
+        }
+        // Each slice writes a disjoint range of positions, so the capacity must be allocated up front
+        leftRedirections.ensureCapacity(leftRowSet.size());
+        final int sliceCount = sliceCount(leftRowSet.size());
+        runJobs(jobComplete -> jobScheduler.iterateParallel(
+                executionContext,
+                logOutput -> logOutput.append(description).append(" probe left slices"),
+                JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                0, sliceCount,
+                (context, sliceIndex, nestedErrorConsumer) -> decorateLeftSlice(
+                        leftRowSet, leftSources, leftRedirections, sliceIndex, sliceCount),
+                () -> jobComplete.complete(null),
+                jobComplete::completeExceptionally));
+    }
+
+    private void decorateLeftSlice(
+            @NotNull final RowSet leftRowSet,
+            @NotNull final ColumnSource<?>[] leftSources,
+            @NotNull final LongArraySource leftRedirections,
+            final int sliceIndex,
+            final int sliceCount) {
+        final long sliceStart = sliceStart(leftRowSet.size(), sliceIndex, sliceCount);
+        final RowSet[] partitionRowSets = partitionSlice(leftRowSet, leftSources, sliceIndex, sliceCount);
+        final LongArraySource partitionRedirections = new LongArraySource();
+        try (final SafeCloseableArray<RowSet> ignored = new SafeCloseableArray<>(partitionRowSets);
+                final RowSet sliceRowSet = leftRowSet.subSetByPositionRange(
+                        sliceStart, sliceStart(leftRowSet.size(), sliceIndex + 1, sliceCount))) {
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                final RowSet partitionRowSet = partitionRowSets[pi];
+                if (partitionRowSet.isEmpty()) {
+                    continue;
+                }
+                partitions[pi].decorateLeftSide(partitionRowSet, leftSources, partitionRedirections);
+                try (final RowSet slicePositions = sliceRowSet.invert(partitionRowSet);
+                        final RowSet.Iterator slicePositionsIt = slicePositions.iterator()) {
+                    for (long ppi = 0; slicePositionsIt.hasNext(); ++ppi) {
+                        leftRedirections.set(sliceStart + slicePositionsIt.nextLong(),
+                                partitionRedirections.getUnsafe(ppi));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hash the rows of one position slice of {@code rowSet}, and split them into per-partition row sets.
+     *
+     * @param rowSet The row set to slice
+     * @param keySources The key sources to hash
+     * @param sliceIndex The slice to process
+     * @param sliceCount The total number of slices
+     * @return The slice's row sets, indexed by partition
+     */
+    private RowSet[] partitionSlice(
+            @NotNull final RowSet rowSet,
+            @NotNull final ColumnSource<?>[] keySources,
+            final int sliceIndex,
+            final int sliceCount) {
+        final long sliceStart = sliceStart(rowSet.size(), sliceIndex, sliceCount);
+        final long sliceEnd = sliceStart(rowSet.size(), sliceIndex + 1, sliceCount);
+        final int chunkSize = (int) Math.min(CHUNK_SIZE, sliceEnd - sliceStart);
+        final int numKeys = keySources.length;
+
+        final RowSetBuilderSequential[] builders = new RowSetBuilderSequential[partitionCount];
+        for (int pi = 0; pi < partitionCount; ++pi) {
+            builders[pi] = RowSetFactory.builderSequential();
+        }
+
+        final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[numKeys];
+        try (final RowSet sliceRowSet = rowSet.subSetByPositionRange(sliceStart, sliceEnd);
+                final RowSequence.Iterator rsIt = sliceRowSet.getRowSequenceIterator();
+                final SharedContext sharedContext = SharedContext.makeSharedContext();
+                final SafeCloseableArray<ChunkSource.GetContext> ignored = new SafeCloseableArray<>(getContexts);
+                final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(chunkSize)) {
+            for (int kci = 0; kci < numKeys; ++kci) {
+                getContexts[kci] = keySources[kci].makeGetContext(chunkSize, sharedContext);
+            }
+            while (rsIt.hasMore()) {
+                final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+                for (int kci = 0; kci < numKeys; ++kci) {
+                    // noinspection unchecked
+                    final Chunk<Values> keyChunk = (Chunk<Values>) keySources[kci].getChunk(getContexts[kci], chunkOk);
+                    if (kci == 0) {
+                        hashers[kci].hashInitial(keyChunk, hashes);
+                    } else {
+                        hashers[kci].hashUpdate(keyChunk, hashes);
+                    }
+                }
+                final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                for (int ii = 0; ii < rowKeys.size(); ++ii) {
+                    builders[partitionFor(hashes.get(ii))].appendKey(rowKeys.get(ii));
+                }
+                sharedContext.reset();
+            }
+        }
+
+        final RowSet[] partitionRowSets = new RowSet[partitionCount];
+        for (int pi = 0; pi < partitionCount; ++pi) {
+            partitionRowSets[pi] = builders[pi].build();
+        }
+        return partitionRowSets;
+    }
+
+    /**
+     * Assign a partition for a key hash. The hash is re-scrambled so that the keys in a partition remain uniformly
+     * distributed over the low bits that the partition's own hash table uses to find slots.
+     */
+    private int partitionFor(final int hash) {
+        return ChunkHasher.scrambleHash(hash * 0x9E3779B9) % partitionCount;
+    }
+
+    private int sliceCount(final long size) {
+        return (int) Math.max(1, Math.min(partitionCount, size / CHUNK_SIZE));
+    }
+
+    private static long sliceStart(final long size, final int sliceIndex, final int sliceCount) {
+        return size * sliceIndex / sliceCount;
+    }
+
+    @FunctionalInterface
+    private interface JobSubmitter {
+        void submit(CompletableFuture<Void> jobComplete);
+    }
+
+    /**
+     * Submit a job to the {@link JobScheduler} and wait for it to complete. {@link IllegalStateException
+     * IllegalStateExceptions}, which the typed hash tables use to report duplicate right keys, are rethrown as-is so
+     * that callers observe the same errors as a serial join would produce.
+     */
+    private void runJobs(@NotNull final JobSubmitter jobSubmitter) {
+        final CompletableFuture<Void> jobComplete = new CompletableFuture<>();
+        try {
+            jobSubmitter.submit(jobComplete);
+        } catch (Exception e) {
+            jobComplete.completeExceptionally(e);
+        }
+
+        try {
+            jobComplete.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while computing " + description);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalStateException) {
+                throw (IllegalStateException) e.getCause();
+            }
+            throw new TableInitializationException(description,
+                    "an exception occurred while performing the parallel join build or probe", e.getCause());
+        } finally {
+            final BasePerformanceEntry baseEntry = jobScheduler.getAccumulatedPerformance();
+            if (baseEntry != null) {
+                QueryPerformanceRecorder.getInstance().getEnclosingNugget().accumulate(baseEntry);
+            }
+        }
+    }
+
+    @Override
+    public WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable, boolean exactMatch,
+            LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType) {
+        return buildRowRedirection(leftTable, exactMatch, leftRedirections::getUnsafe, redirectionType);
+    }
+}
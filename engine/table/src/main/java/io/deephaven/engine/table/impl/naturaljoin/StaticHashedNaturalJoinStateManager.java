@@ -8,7 +8,6 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.JoinControl;
 import io.deephaven.engine.table.impl.QueryTable;
-import io.deephaven.engine.table.impl.StaticNaturalJoinStateManager;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.util.ContiguousWritableRowRedirection;
 import io.deephaven.engine.table.impl.util.LongColumnSourceWritableRowRedirection;
@@ -17,7 +16,7 @@ import io.deephaven.engine.table.impl.util.WritableRowRedirectionLockFree;
 
 import java.util.function.LongUnaryOperator;
 
-public abstract class StaticHashedNaturalJoinStateManager extends StaticNaturalJoinStateManager {
+public abstract class StaticHashedNaturalJoinStateManager extends StaticRightBuildNaturalJoinStateManager {
 
     protected StaticHashedNaturalJoinStateManager(ColumnSource<?>[] keySourcesForErrorMessages) {
         super(keySourcesForErrorMessages);
@@ -26,19 +25,11 @@ public abstract class StaticHashedNaturalJoinStateManager extends StaticNaturalJ
     public abstract void buildFromLeftSide(final Table leftTable, ColumnSource<?>[] leftSources,
             final IntegerArraySource leftHashSlots);
 
-    public abstract void buildFromRightSide(final Table rightTable, ColumnSource<?>[] rightSources);
-
-    public abstract void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources,
-            final LongArraySource leftRedirections);
-
     public abstract void decorateWithRightSide(Table rightTable, ColumnSource<?>[] rightSources);
 
     public abstract WritableRowRedirection buildRowRedirectionFromHashSlot(QueryTable leftTable, boolean exactMatch,
             IntegerArraySource leftHashSlots, JoinControl.RedirectionType redirectionType);
 
-    public abstract WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable, boolean exactMatch,
-            LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType);
-
     public abstract WritableRowRedirection buildIndexedRowRedirectionFromRedirections(QueryTable leftTable,
             boolean exactMatch, RowSet indexTableRowSet, LongArraySource leftRedirections,
             ColumnSource<RowSet> indexRowSets, JoinControl.RedirectionType redirectionType);
@@ -132,11 +132,19 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
 
     @Override
     public void buildFromRightSide(Table rightTable, ColumnSource<?>[] rightSources) {
-        if (rightTable.isEmpty()) {
+        buildFromRightRows(rightTable.getRowSet(), rightSources);
+    }
+
+    /**
+     * Build from a subset of the right table's rows, as used by {@link PartitionedStaticNaturalJoinStateManager} to
+     * build each partition from only the rows that hash to it.
+     */
+    void buildFromRightRows(RowSet rightRows, ColumnSource<?>[] rightSources) {
+        if (rightRows.isEmpty()) {
             return;
         }
-        try (final BuildContext bc = makeBuildContext(rightSources, rightTable.size())) {
-            buildTable(bc, rightTable.getRowSet(), rightSources, this::buildFromRightSide);
+        try (final BuildContext bc = makeBuildContext(rightSources, rightRows.size())) {
+            buildTable(bc, rightRows, rightSources, this::buildFromRightSide);
         }
     }
 
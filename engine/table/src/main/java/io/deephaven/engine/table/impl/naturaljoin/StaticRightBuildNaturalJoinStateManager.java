@@ -0,0 +1,33 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.naturaljoin;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.JoinControl;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.StaticNaturalJoinStateManager;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.util.WritableRowRedirection;
+
+/**
+ * A static natural join state manager that builds its hash table from the right table and probes it with the left
+ * table. This is the build order used for joins of two static tables when the left table has no data index and is not
+ * smaller than the right table.
+ */
+public abstract class StaticRightBuildNaturalJoinStateManager extends StaticNaturalJoinStateManager {
+
+    protected StaticRightBuildNaturalJoinStateManager(ColumnSource<?>[] keySourcesForErrorMessages) {
+        super(keySourcesForErrorMessages);
+    }
+
+    public abstract void buildFromRightSide(final Table rightTable, ColumnSource<?>[] rightSources);
+
+    public abstract void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources,
+            final LongArraySource leftRedirections);
+
+    public abstract WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable, boolean exactMatch,
+            LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType);
+}
@@ -3,10 +3,14 @@
 //
 package io.deephaven.engine.table.impl.rangejoin;
 
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.JoinAddition;
 import io.deephaven.api.JoinMatch;
+import io.deephaven.api.RangeEndRule;
 import io.deephaven.api.RangeJoinMatch;
+import io.deephaven.api.RangeStartRule;
 import io.deephaven.api.Strings;
 import io.deephaven.api.agg.Aggregation;
 import io.deephaven.api.agg.AggregationPairs;
@@ -26,31 +30,47 @@ import io.deephaven.engine.exceptions.OperationException;
 import io.deephaven.engine.exceptions.OutOfOrderException;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.table.*;
+import io.deephaven.engine.table.impl.ListenerRecorder;
 import io.deephaven.engine.table.impl.MemoizedOperationKey;
+import io.deephaven.engine.table.impl.MergedListener;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.SortingOrder;
 import io.deephaven.engine.table.impl.OperationSnapshotControl;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
 import io.deephaven.engine.table.impl.by.AggregationProcessor;
+import io.deephaven.engine.table.impl.by.AggregationRowLookup;
+import io.deephaven.engine.table.impl.chunkboxer.ChunkBoxer;
 import io.deephaven.engine.table.impl.join.dupcompact.DupCompactKernel;
 import io.deephaven.engine.table.impl.sort.IntSortKernel;
 import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.table.impl.sources.IntegerSparseArraySource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.sources.SparseArrayColumnSource;
 import io.deephaven.engine.table.impl.sources.aggregate.AggregateColumnSource;
 import io.deephaven.engine.table.impl.sources.sparse.SparseConstants;
 import io.deephaven.engine.table.impl.util.*;
 import io.deephaven.engine.table.impl.util.JobScheduler.IterateAction;
 import io.deephaven.engine.table.impl.util.compact.CompactKernel;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.compare.FloatComparisons;
+import io.deephaven.util.compare.ObjectComparisons;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.deephaven.base.ArrayUtil.MAX_ARRAY_SIZE;
 import static io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation.allSupportParallelPopulation;
@@ -58,6 +78,7 @@ import static io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopu
 import static io.deephaven.engine.table.impl.by.AggregationProcessor.EXPOSED_GROUP_ROW_SETS;
 import static io.deephaven.engine.table.impl.sources.InMemoryColumnSource.getImmutableMemoryColumnSource;
 import static io.deephaven.engine.table.impl.sources.WritableRedirectedColumnSource.maybeRedirect;
+import static io.deephaven.util.QueryConstants.NULL_INT;
 
 /**
  * Implementation for {@link QueryTable#rangeJoin(Table, Collection, RangeJoinMatch, Collection)}.
@@ -68,6 +89,7 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
     private static final ColumnName RIGHT_ROW_SET = ColumnName.of("__RIGHT_ROW_SET__");
 
     private static final int MAX_LEFT_CHUNK_CAPACITY = ArrayBackedColumnSource.BLOCK_SIZE;
+    private static final int MAX_LOOKUP_CHUNK_CAPACITY = ArrayBackedColumnSource.BLOCK_SIZE;
 
     private static final String MAXIMUM_STATIC_MEMORY_OVERHEAD_PROPERTY = "RangeJoin.maximumStaticMemoryOverhead";
     private static final double MAXIMUM_STATIC_MEMORY_OVERHEAD = Configuration.getInstance()
@@ -104,13 +126,6 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                 Strings.ofAggregations(aggregations));
         memoizedOperationKey = MemoizedOperationKey.rangeJoin(rightTable, exactMatches, rangeMatch, aggregations);
 
-        if (leftTable.isRefreshing() || rightTable.isRefreshing()) {
-            throw new UnsupportedOperationException(String.format(
-                    "%s: rangeJoin only supports static (not refreshing) inputs at this time: left table is %s, right table is %s",
-                    description,
-                    leftTable.isRefreshing() ? "refreshing" : "static",
-                    rightTable.isRefreshing() ? "refreshing" : "static"));
-        }
         validateExactMatchColumns();
         rangeValueType = validateRangeMatchColumns();
         SupportedRangeJoinAggregations.validate(description, aggregations);
@@ -254,17 +269,21 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
     public Result<QueryTable> initialize(final boolean usePrev, final long beforeClock) {
         QueryTable.checkInitiateBinaryOperation(leftTable, rightTable);
 
+        // When either input is refreshing, all work must happen on this thread: we create refreshing intermediate
+        // tables (which requires the update graph lock) and register listeners within the enclosing liveness scope.
         final JobScheduler jobScheduler;
-        if (ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+        if (!leftTable.isRefreshing() && !rightTable.isRefreshing()
+                && ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
             jobScheduler = new OperationInitializerJobScheduler();
         } else {
             jobScheduler = new ImmediateJobScheduler();
         }
 
         final ExecutionContext executionContext = ExecutionContext.newBuilder()
+                .captureUpdateGraph()
                 .markSystemic().build();
 
-        return new Result<>(staticRangeJoin(jobScheduler, executionContext));
+        return new Result<>(initialRangeJoin(jobScheduler, executionContext));
     }
 
     @Override
@@ -272,11 +291,11 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
         return memoizedOperationKey;
     }
 
-    private QueryTable staticRangeJoin(
+    private QueryTable initialRangeJoin(
             @NotNull final JobScheduler jobScheduler,
             @NotNull final ExecutionContext executionContext) {
         final CompletableFuture<QueryTable> resultFuture = new CompletableFuture<>();
-        new StaticRangeJoinPhase1(jobScheduler, executionContext, resultFuture).start();
+        new RangeJoinPhase1(jobScheduler, executionContext, resultFuture).start();
         try {
             return resultFuture.get();
         } catch (InterruptedException e) {
@@ -302,9 +321,9 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
         }
     }
 
-    private class StaticRangeJoinPhase1 extends RangeJoinPhase {
+    private class RangeJoinPhase1 extends RangeJoinPhase {
 
-        private StaticRangeJoinPhase1(
+        private RangeJoinPhase1(
                 @NotNull final JobScheduler jobScheduler,
                 @NotNull final ExecutionContext executionContext,
                 @NotNull final CompletableFuture<QueryTable> resultFuture) {
@@ -317,13 +336,15 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
             jobScheduler.submit(
                     executionContext,
                     () -> groupLeftTableFuture.complete(groupLeftTable()),
-                    logOutput -> logOutput.append("static range join group left table"),
+                    logOutput -> logOutput.append("range join group left table"),
                     groupLeftTableFuture::completeExceptionally);
             // Perform the right table work on this thread. We don't need to involve the scheduler, and this way we may
             // be able to exploit filter parallelism.
+            final QueryTable rightTableFiltered;
             final Table rightTableGrouped;
             try {
-                rightTableGrouped = filterAndGroupRightTable();
+                rightTableFiltered = filterRightTable();
+                rightTableGrouped = exposeGroupRowSets(rightTableFiltered, JoinMatch.rights(exactMatches));
             } catch (Exception e) {
                 // Try to ensure that the group-left-table job is no longer running before re-throwing
                 groupLeftTableFuture.cancel(true);
@@ -341,8 +362,9 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                 resultFuture.completeExceptionally(e);
                 return;
             }
-            new StaticRangeJoinPhase2(jobScheduler, executionContext, resultFuture).start(
+            new RangeJoinPhase2(jobScheduler, executionContext, resultFuture).start(
                     leftTableGrouped,
+                    rightTableFiltered,
                     rightTableGrouped);
         }
 
@@ -350,16 +372,13 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
             return exposeGroupRowSets(leftTable, JoinMatch.lefts(exactMatches));
         }
 
-        private Table filterAndGroupRightTable() {
+        private QueryTable filterRightTable() {
             final Table rightTableCoalesced = rightTable.coalesce();
-            final Table rightTableFiltered;
             if (rangeValueType == double.class || rangeValueType == float.class) {
-                rightTableFiltered = rightTableCoalesced.where(
+                return (QueryTable) rightTableCoalesced.where(
                         new ValidFloatingPointFilter(rangeMatch.rightRangeColumn()));
-            } else {
-                rightTableFiltered = rightTableCoalesced.where(Filter.isNotNull(rangeMatch.rightRangeColumn()));
             }
-            return exposeGroupRowSets((QueryTable) rightTableFiltered, JoinMatch.rights(exactMatches));
+            return (QueryTable) rightTableCoalesced.where(Filter.isNotNull(rangeMatch.rightRangeColumn()));
         }
     }
 
@@ -369,9 +388,9 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
         return inputTable.aggNoMemo(AggregationProcessor.forExposeGroupRowSets(), false, null, exactMatches);
     }
 
-    private class StaticRangeJoinPhase2
+    private class RangeJoinPhase2
             extends RangeJoinPhase
-            implements IterateAction<StaticRangeJoinPhase2.TaskContext> {
+            implements IterateAction<RangeJoinPhase2.TaskContext> {
 
         // Derived from operation inputs
         private final ColumnSource<?> leftStartValues;
@@ -397,10 +416,13 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
         private final WritableColumnSource<Integer> outputEndPositionsExclusiveExposed;
 
         // Derived from phase inputs
+        private Table leftTableGrouped;
+        private QueryTable rightTableFiltered;
+        private Table joinedInputTables;
         private ColumnSource<RowSet> leftGroupRowSets;
         private ColumnSource<RowSet> rightGroupRowSets;
 
-        private StaticRangeJoinPhase2(
+        private RangeJoinPhase2(
                 @NotNull final JobScheduler jobScheduler,
                 @NotNull final ExecutionContext executionContext,
                 @NotNull final CompletableFuture<QueryTable> resultFuture) {
@@ -422,8 +444,11 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
             rangeSearchKernel = RangeSearchKernel.makeRangeSearchKernel(
                     valueChunkType, rangeMatch.rangeStartRule(), rangeMatch.rangeEndRule());
 
-            final boolean leftIsFlat = leftTable.isFlat();
-            if (!leftIsFlat && SparseConstants.sparseStructureExceedsOverhead(
+            // Refreshing results always use sparse storage in the left table's row key space, so that we can record
+            // previous values and apply left shifts directly to the output sources.
+            final boolean refreshing = leftTable.isRefreshing() || rightTable.isRefreshing();
+            final boolean leftIsFlat = !refreshing && leftTable.isFlat();
+            if (!refreshing && !leftIsFlat && SparseConstants.sparseStructureExceedsOverhead(
                     leftTable.getRowSet(), MAXIMUM_STATIC_MEMORY_OVERHEAD)) {
                 outputRedirection = new InverseWrappedRowSetRowRedirection(leftTable.getRowSet());
                 outputSlotsInner = allocateIntOutputSource(true);
@@ -465,23 +490,24 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                     : new IntegerSparseArraySource();
         }
 
-        private void start(@NotNull final Table leftTableGrouped, @NotNull final Table rightTableGrouped) {
-            final Table joinedInputTables = leftTableGrouped.naturalJoin(
+        private void start(
+                @NotNull final Table leftTableGrouped,
+                @NotNull final QueryTable rightTableFiltered,
+                @NotNull final Table rightTableGrouped) {
+            this.leftTableGrouped = leftTableGrouped;
+            this.rightTableFiltered = rightTableFiltered;
+            joinedInputTables = leftTableGrouped.naturalJoin(
                     rightTableGrouped, exactMatches, List.of(JoinAddition.of(RIGHT_ROW_SET, EXPOSED_GROUP_ROW_SETS)));
             leftGroupRowSets = joinedInputTables.getColumnSource(LEFT_ROW_SET.name(), RowSet.class);
             rightGroupRowSets = joinedInputTables.getColumnSource(RIGHT_ROW_SET.name(), RowSet.class);
             jobScheduler.iterateParallel(
                     executionContext,
-                    logOutput -> logOutput.append("static range join find ranges"),
+                    logOutput -> logOutput.append("range join find ranges"),
                     TaskContext::new,
                     0,
                     joinedInputTables.intSize(),
                     this,
-                    () -> new StaticRangeJoinPhase3(jobScheduler, executionContext, resultFuture).start(
-                            rightGroupRowSets,
-                            outputSlotsExposed,
-                            outputStartPositionsInclusiveExposed,
-                            outputEndPositionsExclusiveExposed),
+                    () -> new RangeJoinPhase3(jobScheduler, executionContext, resultFuture).start(this),
                     resultFuture::completeExceptionally);
         }
 
@@ -683,11 +709,34 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                 @NotNull final TaskContext tc,
                 final int index,
                 @NotNull final Consumer<Exception> nestedErrorConsumer) {
+            // The initial grouped tables are flat, so each index is also the slot (row key) of its bucket
             final RowSet leftRows = leftGroupRowSets.get(index);
             assert leftRows != null;
+            processSlot(tc, index, leftRows);
+        }
+
+        /**
+         * Re-compute the output for the specified left rows of each slot, serially on the calling thread. This is used
+         * to process updates for refreshing inputs.
+         *
+         * @param slotsToLeftRows Map from slot to the (current) left rows of that slot that must be re-computed
+         */
+        private void processSlots(@NotNull final TIntObjectMap<? extends RowSet> slotsToLeftRows) {
+            try (final TaskContext tc = new TaskContext()) {
+                slotsToLeftRows.forEachEntry((slot, leftRows) -> {
+                    processSlot(tc, slot, leftRows);
+                    return true;
+                });
+            }
+        }
+
+        private void processSlot(
+                @NotNull final TaskContext tc,
+                final int slot,
+                @NotNull final RowSet leftRows) {
             tc.ensureLeftCapacity(leftRows.size());
 
-            final RowSet rightRows = rightGroupRowSets.get(index);
+            final RowSet rightRows = rightGroupRowSets.get(slot);
             final int rightSize = rightRows == null ? 0 : rightRows.intSize();
             if (rightSize != 0) {
                 // Read right rows
@@ -738,7 +787,7 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                                 tc.outputStartPositionsInclusiveChunk, tc.outputEndPositionsExclusiveChunk);
                     }
 
-                    tc.outputSlotsChunk.fillWithValue(0, sliceSize, index);
+                    tc.outputSlotsChunk.fillWithValue(0, sliceSize, slot);
                     tc.outputSlotsChunk.setSize(sliceSize);
 
                     if (outputRedirection == null) {
@@ -776,28 +825,281 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                 }
             }
         }
+
+        /**
+         * Select the left rows whose results may be affected by the right changes recorded for each slot, and record
+         * them in {@code slotsToLeftRows}. The remaining left rows of slots with right adds or removes keep the same
+         * matched right rows, and only have their start and end positions adjusted in place.
+         *
+         * @param slotsToRightChanges Map from slot to the right changes within that slot
+         * @param leftRowsToRecompute Left rows that will be re-computed regardless of right changes
+         * @param slotsToLeftRows Map from slot to the (current) left rows of that slot that must be re-computed
+         * @return The left rows selected for re-computation, which the caller must close
+         */
+        private WritableRowSet processRightChanges(
+                @NotNull final TIntObjectMap<RightSlotChanges> slotsToRightChanges,
+                @NotNull final RowSet leftRowsToRecompute,
+                @NotNull final TIntObjectMap<WritableRowSet> slotsToLeftRows) {
+            final RowSetBuilderRandom affectedLeftRowsBuilder = RowSetFactory.builderRandom();
+            try (final TaskContext tc = new TaskContext()) {
+                slotsToRightChanges.forEachEntry((final int slot, final RightSlotChanges changes) -> {
+                    final RowSet leftRows = leftGroupRowSets.get(slot);
+                    if (leftRows == null || leftRows.isEmpty() || leftRows.subsetOf(leftRowsToRecompute)) {
+                        // Every left row in this slot will be re-computed regardless
+                        return true;
+                    }
+                    final RowSet rightRows = rightGroupRowSet(slot, false);
+                    final RowSet prevRightRows = rightGroupRowSet(slot, true);
+                    // @formatter:off
+                    try (final RowSet removed = changes.removed.build();
+                         final RowSet added = changes.added.build();
+                         final RowSet modified = changes.modified.build();
+                         final RowSet removedPositions = prevRightRows.invert(removed);
+                         final RowSet addedPositions = rightRows.invert(added);
+                         final RowSet modifiedPositions = rightRows.invert(modified)) {
+                        // @formatter:on
+                        final List<AffectedValueRange> affectedValueRanges = new ArrayList<>();
+                        addAffectedValueRanges(prevRightRows, removedPositions, true, affectedValueRanges);
+                        addAffectedValueRanges(rightRows, addedPositions, false, affectedValueRanges);
+                        addAffectedValueRanges(rightRows, modifiedPositions, false, affectedValueRanges);
+
+                        final WritableRowSet affectedLeftRows = findLeftRowsInValueRanges(
+                                tc, leftRows, AffectedValueRange.merge(affectedValueRanges));
+                        if (removedPositions.isNonempty() || addedPositions.isNonempty()) {
+                            try (final WritableRowSet unaffectedLeftRows = leftRows.minus(affectedLeftRows)) {
+                                unaffectedLeftRows.remove(leftRowsToRecompute);
+                                adjustPositions(unaffectedLeftRows, removedPositions, addedPositions);
+                            }
+                        }
+                        if (affectedLeftRows.isEmpty()) {
+                            affectedLeftRows.close();
+                        } else {
+                            affectedLeftRowsBuilder.addRowSet(affectedLeftRows);
+                            slotsToLeftRows.put(slot, affectedLeftRows);
+                        }
+                    }
+                    return true;
+                });
+            }
+            return affectedLeftRowsBuilder.build();
+        }
+
+        /**
+         * Get the current or previous right rows for a slot.
+         */
+        private RowSet rightGroupRowSet(final int slot, final boolean usePrev) {
+            if (!usePrev) {
+                final RowSet rightRows = rightGroupRowSets.get(slot);
+                return rightRows == null ? RowSetFactory.empty() : rightRows;
+            }
+            final RowSet prevRightRows = rightGroupRowSets.getPrev(slot);
+            if (prevRightRows == null) {
+                return RowSetFactory.empty();
+            }
+            return prevRightRows.isTracking() ? prevRightRows.trackingCast().prev() : prevRightRows;
+        }
+
+        /**
+         * Record the range of right values within which each changed right row may affect left results. Because the
+         * right rows of each slot are ordered by their range values, the right row set of the slot serves as the
+         * sorted index used to find the neighboring values that bound the effect of a change under the
+         * "allow preceding" and "allow following" rules.
+         *
+         * @param rightRows The right rows of the slot, in the same state (current or previous) as the changes
+         * @param changedPositions The positions of the changed right rows within {@code rightRows}
+         * @param usePrev Whether to read previous values
+         * @param affectedValueRanges The list to add to
+         */
+        private void addAffectedValueRanges(
+                @NotNull final RowSet rightRows,
+                @NotNull final RowSet changedPositions,
+                final boolean usePrev,
+                @NotNull final List<AffectedValueRange> affectedValueRanges) {
+            final boolean allowPreceding =
+                    rangeMatch.rangeStartRule() == RangeStartRule.LESS_THAN_OR_EQUAL_ALLOW_PRECEDING;
+            final boolean allowFollowing =
+                    rangeMatch.rangeEndRule() == RangeEndRule.GREATER_THAN_OR_EQUAL_ALLOW_FOLLOWING;
+            final long rightSize = rightRows.size();
+            changedPositions.forAllRowKeys((final long position) -> {
+                final long rowKey = rightRows.get(position);
+                final Object value = rightRangeValue(rowKey, usePrev);
+                if (!usePrev) {
+                    // Right rows can only become out of order where they were added or modified
+                    if ((position > 0
+                            && compareRangeValues(rightRangeValue(rightRows.get(position - 1), false), value) > 0)
+                            || (position < rightSize - 1
+                                    && compareRangeValues(value,
+                                            rightRangeValue(rightRows.get(position + 1), false)) > 0)) {
+                        throw new OutOfOrderException(String.format(
+                                "%s: Encountered out of order data in right table at row key %d",
+                                description, rowKey));
+                    }
+                }
+                Object lowerBound = value;
+                if (allowFollowing) {
+                    // A left row may match this right row as the following row only if its end precedes this value
+                    // and follows the next-lower right value
+                    lowerBound = null;
+                    for (long pi = position - 1; pi >= 0; --pi) {
+                        final Object other = rightRangeValue(rightRows.get(pi), usePrev);
+                        if (compareRangeValues(other, value) != 0) {
+                            lowerBound = other;
+                            break;
+                        }
+                    }
+                }
+                Object upperBound = value;
+                if (allowPreceding) {
+                    // A left row may match this right row as the preceding row only if its start follows this value
+                    // and precedes the next-higher right value
+                    upperBound = null;
+                    for (long pi = position + 1; pi < rightSize; ++pi) {
+                        final Object other = rightRangeValue(rightRows.get(pi), usePrev);
+                        if (compareRangeValues(other, value) != 0) {
+                            upperBound = other;
+                            break;
+                        }
+                    }
+                }
+                affectedValueRanges.add(new AffectedValueRange(lowerBound, upperBound));
+            });
+        }
+
+        private Object rightRangeValue(final long rowKey, final boolean usePrev) {
+            return usePrev ? rightRangeValues.getPrev(rowKey) : rightRangeValues.get(rowKey);
+        }
+
+        /**
+         * Find the left rows with valid ranges that overlap any of the supplied value ranges.
+         *
+         * @param tc The task context
+         * @param leftRows The left rows to examine
+         * @param mergedValueRanges Sorted, non-overlapping value ranges, as produced by
+         *        {@link AffectedValueRange#merge(List)}
+         * @return The matching left rows, which the caller must close
+         */
+        private WritableRowSet findLeftRowsInValueRanges(
+                @NotNull final TaskContext tc,
+                @NotNull final RowSet leftRows,
+                @NotNull final List<AffectedValueRange> mergedValueRanges) {
+            if (mergedValueRanges.isEmpty()) {
+                return RowSetFactory.empty();
+            }
+            tc.ensureLeftCapacity(leftRows.size());
+            final RowSetBuilderSequential leftRowsBuilder = RowSetFactory.builderSequential();
+            // @formatter:off
+            try (final ChunkBoxer.BoxerKernel startBoxer = ChunkBoxer.getBoxer(valueChunkType, tc.leftChunkCapacity);
+                 final ChunkBoxer.BoxerKernel endBoxer = ChunkBoxer.getBoxer(valueChunkType, tc.leftChunkCapacity);
+                 final WritableLongChunk<OrderedRowKeys> leftRowKeys =
+                         WritableLongChunk.makeWritableChunk(tc.leftChunkCapacity);
+                 final RowSequence.Iterator leftRowsIterator = leftRows.getRowSequenceIterator()) {
+                // @formatter:on
+                while (leftRowsIterator.hasMore()) {
+                    final RowSequence leftRowsSlice =
+                            leftRowsIterator.getNextRowSequenceWithLength(MAX_LEFT_CHUNK_CAPACITY);
+                    leftStartValues.fillChunk(tc.leftStartValuesFillContext, tc.leftStartValuesChunk, leftRowsSlice);
+                    leftEndValues.fillChunk(tc.leftEndValuesFillContext, tc.leftEndValuesChunk, leftRowsSlice);
+                    tc.leftSharedContext.reset();
+                    leftRowsSlice.fillRowKeyChunk(leftRowKeys);
+
+                    // Invalid ranges always have a null result, regardless of the right rows
+                    rangeSearchKernel.processInvalidRanges(
+                            tc.leftStartValuesChunk, tc.leftEndValuesChunk, tc.leftValidity,
+                            tc.outputStartPositionsInclusiveChunk, tc.outputEndPositionsExclusiveChunk);
+                    final ObjectChunk<?, ? extends Values> starts = startBoxer.box(tc.leftStartValuesChunk);
+                    final ObjectChunk<?, ? extends Values> ends = endBoxer.box(tc.leftEndValuesChunk);
+                    final int sliceSize = leftRowKeys.size();
+                    for (int li = 0; li < sliceSize; ++li) {
+                        if (tc.leftValidity.get(li)
+                                && AffectedValueRange.anyOverlap(mergedValueRanges, starts.get(li), ends.get(li))) {
+                            leftRowsBuilder.appendKey(leftRowKeys.get(li));
+                        }
+                    }
+                }
+            }
+            return leftRowsBuilder.build();
+        }
+
+        /**
+         * Adjust the start and end positions of left rows whose matched right rows are unchanged, to account for right
+         * rows removed from or added to their slot. The positions of the matched right rows change, but not their
+         * identities, so these rows are not modified.
+         *
+         * @param leftRows The left rows to adjust
+         * @param removedPositions The previous positions of the removed right rows of the slot
+         * @param addedPositions The current positions of the added right rows of the slot
+         */
+        private void adjustPositions(
+                @NotNull final RowSet leftRows,
+                @NotNull final RowSet removedPositions,
+                @NotNull final RowSet addedPositions) {
+            // For each added right row, record the number of surviving right rows that precede it; this sequence is
+            // non-decreasing, since the added positions are ascending
+            final long[] survivorsBeforeAdded = new long[addedPositions.intSize()];
+            try (final RowSet.Iterator addedPositionsIterator = addedPositions.iterator()) {
+                for (int ai = 0; addedPositionsIterator.hasNext(); ++ai) {
+                    survivorsBeforeAdded[ai] = addedPositionsIterator.nextLong() - ai;
+                }
+            }
+
+            final WritableColumnSource<Integer> starts = outputStartPositionsInclusiveExposed;
+            final WritableColumnSource<Integer> ends = outputEndPositionsExclusiveExposed;
+            leftRows.forAllRowKeys((final long rowKey) -> {
+                final int start = starts.getInt(rowKey);
+                if (start == NULL_INT) {
+                    return;
+                }
+                final int end = ends.getInt(rowKey);
+                final int newStart = adjustPosition(start, removedPositions, survivorsBeforeAdded);
+                final int newEnd = start == end
+                        ? newStart
+                        : adjustPosition(end - 1, removedPositions, survivorsBeforeAdded) + 1;
+                if (newStart != start) {
+                    starts.set(rowKey, newStart);
+                }
+                if (newEnd != end) {
+                    ends.set(rowKey, newEnd);
+                }
+            });
+        }
+
+        private int adjustPosition(
+                final int position,
+                @NotNull final RowSet removedPositions,
+                @NotNull final long[] survivorsBeforeAdded) {
+            final long removedIndex = removedPositions.find(position);
+            final long survivorRank = position - (removedIndex < 0 ? -removedIndex - 1 : removedIndex);
+            // Count the added rows that precede the surviving row with this rank
+            int low = 0;
+            int high = survivorsBeforeAdded.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (survivorsBeforeAdded[mid] <= survivorRank) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return (int) (survivorRank + low);
+        }
     }
 
-    private class StaticRangeJoinPhase3 extends RangeJoinPhase {
+    private class RangeJoinPhase3 extends RangeJoinPhase {
 
-        private StaticRangeJoinPhase3(
+        private RangeJoinPhase3(
                 @NotNull final JobScheduler jobScheduler,
                 @NotNull final ExecutionContext executionContext,
                 @NotNull final CompletableFuture<QueryTable> resultFuture) {
             super(jobScheduler, executionContext, resultFuture);
         }
 
-        public void start(
-                @NotNull final ColumnSource<RowSet> rightGroupRowSets,
-                @NotNull final ColumnSource<Integer> outputSlots,
-                @NotNull final ColumnSource<Integer> outputStartPositionsInclusive,
-                @NotNull final ColumnSource<Integer> outputEndPositionsExclusive) {
+        public void start(@NotNull final RangeJoinPhase2 phase2) {
             // We support only ColumnAggregation(s) with spec of type AggSpecGroup at this time. Since we validate our
             // inputs in the RangeJoinOperation constructor, we can proceed here using just input/output pairs, knowing
             // that all are for a "group" aggregation.
             final List<Pair> groupPairs = AggregationPairs.of(aggregations).collect(Collectors.toList());
-            final ColumnSource<RowSet> outputRowSets =
-                    maybeRedirect(new IntColumnSourceRowRedirection<>(outputSlots), rightGroupRowSets);
+            final ColumnSource<RowSet> outputRowSets = maybeRedirect(
+                    new IntColumnSourceRowRedirection<>(phase2.outputSlotsExposed), phase2.rightGroupRowSets);
             final Map<String, ColumnSource<?>> resultColumnSources =
                     new LinkedHashMap<>(leftTable.getColumnSourceMap());
             groupPairs.forEach((final Pair groupPair) -> resultColumnSources.put(
@@ -805,9 +1107,458 @@ public class RangeJoinOperation implements QueryTable.MemoizableOperation<QueryT
                     AggregateColumnSource.forRangeJoin(
                             rightTable.getColumnSource(groupPair.input().name()),
                             outputRowSets,
-                            outputStartPositionsInclusive,
-                            outputEndPositionsExclusive)));
-            resultFuture.complete(new QueryTable(leftTable.getRowSet(), resultColumnSources));
+                            phase2.outputStartPositionsInclusiveExposed,
+                            phase2.outputEndPositionsExclusiveExposed)));
+            final QueryTable result = new QueryTable(leftTable.getRowSet(), resultColumnSources);
+
+            if (leftTable.isRefreshing() || rightTable.isRefreshing()) {
+                phase2.outputSlotsExposed.startTrackingPrevValues();
+                phase2.outputStartPositionsInclusiveExposed.startTrackingPrevValues();
+                phase2.outputEndPositionsExclusiveExposed.startTrackingPrevValues();
+
+                final ListenerRecorder leftRecorder = leftTable.isRefreshing()
+                        ? new ListenerRecorder(description, leftTable, result)
+                        : null;
+                final ListenerRecorder rightRecorder = phase2.rightTableFiltered.isRefreshing()
+                        ? new ListenerRecorder(description, phase2.rightTableFiltered, result)
+                        : null;
+                final RangeJoinListener listener = new RangeJoinListener(
+                        phase2, leftRecorder, rightRecorder, result,
+                        groupPairs.stream().map(gp -> gp.output().name()).toArray(String[]::new));
+                if (leftRecorder != null) {
+                    leftRecorder.setMergedListener(listener);
+                    leftTable.addUpdateListener(leftRecorder);
+                }
+                if (rightRecorder != null) {
+                    rightRecorder.setMergedListener(listener);
+                    phase2.rightTableFiltered.addUpdateListener(rightRecorder);
+                }
+                result.addParentReference(listener);
+                result.addParentReference(phase2.joinedInputTables);
+            }
+
+            resultFuture.complete(result);
+        }
+    }
+
+    /**
+     * {@link MergedListener} that maintains the result of a range join with refreshing inputs. Input changes are mapped
+     * to the affected slots (buckets) of the joined, grouped input tables using the left grouped table's
+     * {@link AggregationRowLookup}, and only the affected left rows are re-computed:
+     * <ul>
+     * <li>Right adds, removes, and relevant modifies cause only the left rows whose ranges may include the changed
+     * right values to be re-computed. Other left rows in the affected slots keep the same matched right rows, and only
+     * have their positions adjusted.</li>
+     * <li>Left adds and relevant modifies cause only those left rows to be re-computed.</li>
+     * <li>Left shifts are applied directly to the (sparse) output sources.</li>
+     * </ul>
+     * Right shifts never change the order of right rows within a slot, and so require no work.
+     */
+    private class RangeJoinListener extends MergedListener {
+
+        private final RangeJoinPhase2 state;
+        private final ListenerRecorder leftRecorder;
+        private final ListenerRecorder rightRecorder;
+
+        private final AggregationRowLookup slotLookup;
+        private final ColumnSource<?>[] leftKeySources;
+        private final ColumnSource<?>[] rightKeySources;
+
+        private final ModifiedColumnSet leftRecomputeColumns;
+        private final ModifiedColumnSet rightRecomputeColumns;
+        private final ModifiedColumnSet rightRangeAndKeyColumns;
+        private final ModifiedColumnSet.Transformer leftTransformer;
+        private final ModifiedColumnSet resultAggregationColumns;
+        private final ModifiedColumnSet resultModifiedColumnSet;
+
+        private RangeJoinListener(
+                @NotNull final RangeJoinPhase2 state,
+                @Nullable final ListenerRecorder leftRecorder,
+                @Nullable final ListenerRecorder rightRecorder,
+                @NotNull final QueryTable result,
+                @NotNull final String[] resultAggregationColumnNames) {
+            super(Stream.of(leftRecorder, rightRecorder).filter(Objects::nonNull).collect(Collectors.toList()),
+                    List.of(state.joinedInputTables), description, result);
+            this.state = state;
+            this.leftRecorder = leftRecorder;
+            this.rightRecorder = rightRecorder;
+
+            slotLookup = AggregationProcessor.getRowLookup(state.leftTableGrouped);
+            leftKeySources = JoinMatch.lefts(exactMatches).stream()
+                    .map(cn -> ReinterpretUtils.maybeConvertToPrimitive(leftTable.getColumnSource(cn.name())))
+                    .toArray(ColumnSource<?>[]::new);
+            rightKeySources = JoinMatch.rights(exactMatches).stream()
+                    .map(cn -> ReinterpretUtils.maybeConvertToPrimitive(
+                            state.rightTableFiltered.getColumnSource(cn.name())))
+                    .toArray(ColumnSource<?>[]::new);
+
+            final String[] leftKeyColumnNames =
+                    JoinMatch.lefts(exactMatches).stream().map(ColumnName::name).toArray(String[]::new);
+            final String[] rightKeyColumnNames =
+                    JoinMatch.rights(exactMatches).stream().map(ColumnName::name).toArray(String[]::new);
+            leftRecomputeColumns = leftTable.newModifiedColumnSet(Stream.concat(
+                    Stream.of(rangeMatch.leftStartColumn().name(), rangeMatch.leftEndColumn().name()),
+                    Arrays.stream(leftKeyColumnNames)).toArray(String[]::new));
+            rightRecomputeColumns = state.rightTableFiltered.newModifiedColumnSet(Stream.concat(
+                    Stream.concat(Stream.of(rangeMatch.rightRangeColumn().name()), Arrays.stream(rightKeyColumnNames)),
+                    AggregationPairs.of(aggregations).map(pair -> pair.input().name())).toArray(String[]::new));
+            rightRangeAndKeyColumns = state.rightTableFiltered.newModifiedColumnSet(Stream.concat(
+                    Stream.of(rangeMatch.rightRangeColumn().name()),
+                    Arrays.stream(rightKeyColumnNames)).toArray(String[]::new));
+            leftTransformer =
+                    leftTable.newModifiedColumnSetTransformer(result, leftTable.getDefinition().getColumnNamesArray());
+            resultAggregationColumns = result.newModifiedColumnSet(resultAggregationColumnNames);
+            resultModifiedColumnSet = result.newModifiedColumnSet(result.getDefinition().getColumnNamesArray());
+        }
+
+        @Override
+        protected void process() {
+            final boolean leftTicked = leftRecorder != null && leftRecorder.recordedVariablesAreValid();
+            final boolean rightTicked = rightRecorder != null && rightRecorder.recordedVariablesAreValid();
+
+            if (leftTicked && leftRecorder.getShifted().nonempty()) {
+                shiftOutputs(leftRecorder.getRemoved(), leftRecorder.getShifted());
+            }
+
+            final boolean leftRecomputeModified = leftTicked
+                    && leftRecorder.getModified().isNonempty()
+                    && leftRecorder.getModifiedColumnSet().containsAny(leftRecomputeColumns);
+
+            final TIntObjectHashMap<WritableRowSet> slotsToLeftRows = new TIntObjectHashMap<>();
+            WritableRowSet rightAffectedLeftRows = null;
+            try (final WritableRowSet leftRowsToRecompute = !leftTicked
+                    ? RowSetFactory.empty()
+                    : leftRecomputeModified
+                            ? leftRecorder.getAdded().union(leftRecorder.getModified())
+                            : leftRecorder.getAdded().copy()) {
+                rightAffectedLeftRows = rightTicked
+                        ? state.processRightChanges(findRightSlotChanges(), leftRowsToRecompute, slotsToLeftRows)
+                        : RowSetFactory.empty();
+                // Rows selected due to right changes are already accounted for
+                leftRowsToRecompute.remove(rightAffectedLeftRows);
+                findLeftRowSlots(leftRowsToRecompute, slotsToLeftRows);
+
+                state.processSlots(slotsToLeftRows);
+            } catch (Exception e) {
+                if (rightAffectedLeftRows != null) {
+                    rightAffectedLeftRows.close();
+                }
+                throw e;
+            } finally {
+                slotsToLeftRows.forEachValue((final WritableRowSet leftRows) -> {
+                    leftRows.close();
+                    return true;
+                });
+            }
+
+            final TableUpdateImpl downstream = new TableUpdateImpl();
+            downstream.modifiedColumnSet = resultModifiedColumnSet;
+            downstream.modifiedColumnSet().clear();
+            if (leftTicked) {
+                // Newly-added rows are not modified, regardless of the right changes that affected their slots
+                rightAffectedLeftRows.remove(leftRecorder.getAdded());
+            }
+            if (rightAffectedLeftRows.isNonempty() || leftRecomputeModified) {
+                downstream.modifiedColumnSet().setAll(resultAggregationColumns);
+            }
+            if (leftTicked) {
+                downstream.added = leftRecorder.getAdded().copy();
+                downstream.removed = leftRecorder.getRemoved().copy();
+                downstream.shifted = leftRecorder.getShifted();
+                downstream.modified = leftRecorder.getModified().union(rightAffectedLeftRows);
+                rightAffectedLeftRows.close();
+                leftTransformer.transform(leftRecorder.getModifiedColumnSet(), downstream.modifiedColumnSet());
+            } else {
+                downstream.added = RowSetFactory.empty();
+                downstream.removed = RowSetFactory.empty();
+                downstream.shifted = RowSetShiftData.EMPTY;
+                downstream.modified = rightAffectedLeftRows;
+            }
+            if (downstream.modified().isEmpty()) {
+                downstream.modifiedColumnSet = ModifiedColumnSet.EMPTY;
+            }
+
+            result.notifyListeners(downstream);
+        }
+
+        /**
+         * Apply left shifts to our output sources, which are always sparse and in the left table's row key space for
+         * refreshing results.
+         */
+        private void shiftOutputs(@NotNull final RowSet leftRemoved, @NotNull final RowSetShiftData leftShifted) {
+            try (final RowSet prevRowsToShift = leftTable.getRowSet().prev().minus(leftRemoved)) {
+                leftShifted.apply((final long beginRange, final long endRange, final long shiftDelta) -> {
+                    try (final RowSet rowsToShift = prevRowsToShift.subSetByKeyRange(beginRange, endRange)) {
+                        ((SparseArrayColumnSource<?>) state.outputSlotsExposed)
+                                .shift(rowsToShift, shiftDelta);
+                        ((SparseArrayColumnSource<?>) state.outputStartPositionsInclusiveExposed)
+                                .shift(rowsToShift, shiftDelta);
+                        ((SparseArrayColumnSource<?>) state.outputEndPositionsExclusiveExposed)
+                                .shift(rowsToShift, shiftDelta);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Find the slots whose right rows were added, removed, or modified in a way that may affect our result, and
+         * record the changed right rows of each.
+         *
+         * @return Map from slot to the right changes within that slot
+         */
+        private TIntObjectMap<RightSlotChanges> findRightSlotChanges() {
+            final TIntObjectHashMap<RightSlotChanges> slotsToRightChanges = new TIntObjectHashMap<>();
+            final IntFunction<RightSlotChanges> changesForSlot = (final int slot) -> {
+                RightSlotChanges changes = slotsToRightChanges.get(slot);
+                if (changes == null) {
+                    slotsToRightChanges.put(slot, changes = new RightSlotChanges());
+                }
+                return changes;
+            };
+            try (final SlotFinder slotFinder = new SlotFinder(slotLookup, rightKeySources)) {
+                slotFinder.forEachSlot(rightRecorder.getRemoved(), true,
+                        (final long rowKey, final int slot) -> changesForSlot.apply(slot).removed.addKey(rowKey));
+                slotFinder.forEachSlot(rightRecorder.getAdded(), false,
+                        (final long rowKey, final int slot) -> changesForSlot.apply(slot).added.addKey(rowKey));
+                if (rightRecorder.getModified().isNonempty()
+                        && rightRecorder.getModifiedColumnSet().containsAny(rightRecomputeColumns)) {
+                    if (rightRecorder.getModifiedColumnSet().containsAny(rightRangeAndKeyColumns)) {
+                        // Modified rows whose range values or slots may have changed are handled as a remove from
+                        // their previous slot and position, and an add at their current slot and position
+                        slotFinder.forEachSlot(rightRecorder.getModifiedPreShift(), true,
+                                (final long rowKey, final int slot) -> changesForSlot.apply(slot).removed
+                                        .addKey(rowKey));
+                        slotFinder.forEachSlot(rightRecorder.getModified(), false,
+                                (final long rowKey, final int slot) -> changesForSlot.apply(slot).added
+                                        .addKey(rowKey));
+                    } else {
+                        slotFinder.forEachSlot(rightRecorder.getModified(), false,
+                                (final long rowKey, final int slot) -> changesForSlot.apply(slot).modified
+                                        .addKey(rowKey));
+                    }
+                }
+            }
+            return slotsToRightChanges;
+        }
+
+        /**
+         * Find the slots for the specified left rows, and record each row in {@code slotsToLeftRows}.
+         */
+        private void findLeftRowSlots(
+                @NotNull final RowSet leftRows,
+                @NotNull final TIntObjectHashMap<WritableRowSet> slotsToLeftRows) {
+            if (leftRows.isEmpty()) {
+                return;
+            }
+            final TIntObjectHashMap<RowSetBuilderSequential> slotsToLeftRowBuilders = new TIntObjectHashMap<>();
+            try (final SlotFinder slotFinder = new SlotFinder(slotLookup, leftKeySources)) {
+                slotFinder.forEachSlot(leftRows, false, (final long rowKey, final int slot) -> {
+                    RowSetBuilderSequential builder = slotsToLeftRowBuilders.get(slot);
+                    if (builder == null) {
+                        slotsToLeftRowBuilders.put(slot, builder = RowSetFactory.builderSequential());
+                    }
+                    builder.appendKey(rowKey);
+                });
+            }
+            slotsToLeftRowBuilders.forEachEntry((final int slot, final RowSetBuilderSequential builder) -> {
+                final WritableRowSet existing = slotsToLeftRows.get(slot);
+                if (existing == null) {
+                    slotsToLeftRows.put(slot, builder.build());
+                } else {
+                    try (final RowSet leftRowsForSlot = builder.build()) {
+                        existing.insert(leftRowsForSlot);
+                    }
+                }
+                return true;
+            });
+        }
+    }
+
+    /**
+     * The right rows of a single slot that were removed (previous row keys), added, or modified without changing their
+     * range values or slots (current row keys).
+     */
+    private static final class RightSlotChanges {
+        private final RowSetBuilderRandom removed = RowSetFactory.builderRandom();
+        private final RowSetBuilderRandom added = RowSetFactory.builderRandom();
+        private final RowSetBuilderRandom modified = RowSetFactory.builderRandom();
+    }
+
+    /**
+     * A closed range of right range values within which a right change may affect the result of a left row. A
+     * {@code null} bound means that the range is unbounded in that direction.
+     */
+    private static final class AffectedValueRange {
+
+        private final Object lowerBound;
+        private Object upperBound;
+
+        private AffectedValueRange(@Nullable final Object lowerBound, @Nullable final Object upperBound) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        /**
+         * Sort and coalesce overlapping ranges.
+         *
+         * @param ranges The ranges to merge, which may be re-ordered
+         * @return Sorted, non-overlapping ranges covering the same values as {@code ranges}
+         */
+        private static List<AffectedValueRange> merge(@NotNull final List<AffectedValueRange> ranges) {
+            if (ranges.size() <= 1) {
+                return ranges;
+            }
+            ranges.sort((final AffectedValueRange r1, final AffectedValueRange r2) -> {
+                if (r1.lowerBound == null || r2.lowerBound == null) {
+                    return r1.lowerBound == null ? (r2.lowerBound == null ? 0 : -1) : 1;
+                }
+                return compareRangeValues(r1.lowerBound, r2.lowerBound);
+            });
+            final List<AffectedValueRange> merged = new ArrayList<>();
+            AffectedValueRange current = ranges.get(0);
+            for (int ri = 1; ri < ranges.size(); ++ri) {
+                final AffectedValueRange next = ranges.get(ri);
+                if (current.upperBound == null) {
+                    break;
+                }
+                if (next.lowerBound == null || compareRangeValues(next.lowerBound, current.upperBound) <= 0) {
+                    if (next.upperBound == null || compareRangeValues(next.upperBound, current.upperBound) > 0) {
+                        current.upperBound = next.upperBound;
+                    }
+                } else {
+                    merged.add(current);
+                    current = next;
+                }
+            }
+            merged.add(current);
+            return merged;
+        }
+
+        /**
+         * Determine whether the left range {@code [start, end]} overlaps any of the supplied ranges.
+         *
+         * @param mergedRanges Sorted, non-overlapping ranges, as produced by {@link #merge(List)}
+         * @param start The (valid) left range start value
+         * @param end The (valid) left range end value
+         * @return Whether any range overlaps {@code [start, end]}
+         */
+        private static boolean anyOverlap(
+                @NotNull final List<AffectedValueRange> mergedRanges,
+                @NotNull final Object start,
+                @NotNull final Object end) {
+            // Find the last range with a lower bound at or below end; only it can overlap if any does
+            int low = 0;
+            int high = mergedRanges.size();
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                final Object lowerBound = mergedRanges.get(mid).lowerBound;
+                if (lowerBound == null || compareRangeValues(lowerBound, end) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (low == 0) {
+                return false;
+            }
+            final Object upperBound = mergedRanges.get(low - 1).upperBound;
+            return upperBound == null || compareRangeValues(upperBound, start) >= 0;
+        }
+    }
+
+    /**
+     * Compare boxed range values consistently with the range search kernels, which treat {@code -0.0} and {@code 0.0}
+     * as equal.
+     */
+    private static int compareRangeValues(@NotNull final Object value1, @NotNull final Object value2) {
+        if (value1 instanceof Double) {
+            return DoubleComparisons.compare((Double) value1, (Double) value2);
+        }
+        if (value1 instanceof Float) {
+            return FloatComparisons.compare((Float) value1, (Float) value2);
+        }
+        return ObjectComparisons.compare(value1, value2);
+    }
+
+    @FunctionalInterface
+    private interface RowSlotConsumer {
+        void accept(long rowKey, int slot);
+    }
+
+    /**
+     * Tool for mapping input rows to slots of the joined input tables via an {@link AggregationRowLookup}, using the
+     * current or previous values of the input rows' exact match columns.
+     */
+    private static final class SlotFinder implements SafeCloseable {
+
+        private final AggregationRowLookup rowLookup;
+        private final ColumnSource<?>[] keySources;
+
+        private final ChunkSource.GetContext[] keyGetContexts;
+        private final ChunkBoxer.BoxerKernel[] keyBoxers;
+        private final ObjectChunk<?, ? extends Values>[] keyChunks;
+        private final WritableLongChunk<OrderedRowKeys> rowKeys;
+
+        private SlotFinder(
+                @NotNull final AggregationRowLookup rowLookup,
+                @NotNull final ColumnSource<?>[] keySources) {
+            this.rowLookup = rowLookup;
+            this.keySources = keySources;
+            keyGetContexts = Arrays.stream(keySources)
+                    .map(ks -> ks.makeGetContext(MAX_LOOKUP_CHUNK_CAPACITY))
+                    .toArray(ChunkSource.GetContext[]::new);
+            keyBoxers = Arrays.stream(keySources)
+                    .map(ks -> ChunkBoxer.getBoxer(ks.getChunkType(), MAX_LOOKUP_CHUNK_CAPACITY))
+                    .toArray(ChunkBoxer.BoxerKernel[]::new);
+            // noinspection unchecked
+            keyChunks = new ObjectChunk[keySources.length];
+            rowKeys = WritableLongChunk.makeWritableChunk(MAX_LOOKUP_CHUNK_CAPACITY);
+        }
+
+        private void forEachSlot(
+                @NotNull final RowSequence rows,
+                final boolean usePrev,
+                @NotNull final RowSlotConsumer consumer) {
+            try (final RowSequence.Iterator rowsIterator = rows.getRowSequenceIterator()) {
+                while (rowsIterator.hasMore()) {
+                    final RowSequence rowsSlice = rowsIterator.getNextRowSequenceWithLength(MAX_LOOKUP_CHUNK_CAPACITY);
+                    rowsSlice.fillRowKeyChunk(rowKeys);
+                    for (int ki = 0; ki < keySources.length; ++ki) {
+                        keyChunks[ki] = keyBoxers[ki].box(usePrev
+                                ? keySources[ki].getPrevChunk(keyGetContexts[ki], rowsSlice)
+                                : keySources[ki].getChunk(keyGetContexts[ki], rowsSlice));
+                    }
+                    final int sliceSize = rowKeys.size();
+                    for (int ri = 0; ri < sliceSize; ++ri) {
+                        final int slot = rowLookup.get(makeKey(ri));
+                        if (slot != rowLookup.noEntryValue()) {
+                            consumer.accept(rowKeys.get(ri), slot);
+                        }
+                    }
+                }
+            }
+        }
+
+        private Object makeKey(final int position) {
+            switch (keyChunks.length) {
+                case 0:
+                    return AggregationRowLookup.EMPTY_KEY;
+                case 1:
+                    return keyChunks[0].get(position);
+                default:
+                    final Object[] key = new Object[keyChunks.length];
+                    for (int ki = 0; ki < keyChunks.length; ++ki) {
+                        key[ki] = keyChunks[ki].get(position);
+                    }
+                    return key;
+            }
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(keyGetContexts);
+            SafeCloseable.closeAll(keyBoxers);
+            rowKeys.close();
         }
     }
 }
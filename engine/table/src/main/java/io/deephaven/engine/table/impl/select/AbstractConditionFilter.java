@@ -303,6 +303,11 @@ public abstract class AbstractConditionFilter extends WhereFilterImpl {
         return false;
     }
 
+    @Override
+    public boolean canFilterDistinctValues() {
+        return !usesI && !usesII && !usesK && !hasConstantArrayAccess() && getColumnArrays().isEmpty();
+    }
+
     /**
      * @return true if the formula expression of the filter has Array Access that conforms to "i +/- &lt;constant&gt;"
      *         or "ii +/- &lt;constant&gt;".
@@ -11,6 +11,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.rowset.RowSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -22,8 +23,11 @@ import java.util.regex.Pattern;
 /**
  * A filter that determines if a column value is between an upper and lower bound (which each may either be inclusive or
  * exclusive).
+ * <p>
+ * Range filters are also {@link StatisticsPredicate statistics predicates}: a block of values may match only if the
+ * interval between its minimum and maximum (with null ordered first) intersects the filtered range.
  */
-public abstract class AbstractRangeFilter extends WhereFilterImpl {
+public abstract class AbstractRangeFilter extends WhereFilterImpl implements StatisticsPredicate {
     private static final Pattern decimalPattern = Pattern.compile("(-)?\\d+(?:\\.((\\d+)0*)?)?");
 
     protected final String columnName;
@@ -98,6 +102,15 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl {
         return ChunkFilter.applyChunkFilter(selection, columnSource, usePrev, chunkFilter);
     }
 
+    /**
+     * @param value A statistics value, or {@code null}
+     * @param bound A filter bound, or {@code null}
+     * @return Whether {@code value} may be safely compared with {@code bound}
+     */
+    static boolean statisticsComparable(@Nullable final Object value, @Nullable final Object bound) {
+        return value == null || bound == null || value.getClass() == bound.getClass();
+    }
+
     abstract WritableRowSet binarySearch(
             @NotNull RowSet selection, @NotNull ColumnSource<?> columnSource, boolean usePrev, boolean reverse);
 
@@ -106,6 +119,22 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl {
         return true;
     }
 
+    @NotNull
+    @Override
+    public String getColumnName() {
+        return columnName;
+    }
+
+    @Override
+    public StatisticsPredicate getStatisticsPredicate() {
+        return this;
+    }
+
+    @Override
+    public boolean canFilterDistinctValues() {
+        return true;
+    }
+
     @Override
     public void setRecomputeListener(RecomputeListener listener) {}
 }
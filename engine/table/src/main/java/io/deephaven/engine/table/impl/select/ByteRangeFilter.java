@@ -19,6 +19,7 @@ import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.ByteComparisons;
 import io.deephaven.util.type.TypeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ByteRangeFilter extends AbstractRangeFilter {
     public static ByteRangeFilter lt(String columnName, byte x) {
@@ -105,6 +106,25 @@ public class ByteRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Byte)) || (max != null && !(max instanceof Byte))) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final byte blockMin = hasNulls || min == null ? QueryConstants.NULL_BYTE : (Byte) min;
+        final byte blockMax = max == null ? QueryConstants.NULL_BYTE : (Byte) max;
+        final int lowerCompare = ByteComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = ByteComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
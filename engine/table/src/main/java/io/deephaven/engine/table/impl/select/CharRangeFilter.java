@@ -15,6 +15,7 @@ import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.CharComparisons;
 import io.deephaven.util.type.TypeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class CharRangeFilter extends AbstractRangeFilter {
     public static CharRangeFilter lt(String columnName, char x) {
@@ -101,6 +102,25 @@ public class CharRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Character)) || (max != null && !(max instanceof Character))) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final char blockMin = hasNulls || min == null ? QueryConstants.NULL_CHAR : (Character) min;
+        final char blockMax = max == null ? QueryConstants.NULL_CHAR : (Character) max;
+        final int lowerCompare = CharComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = CharComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -16,6 +16,7 @@ import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ComparableRangeFilter extends AbstractRangeFilter {
     private final Comparable<?> upper;
@@ -222,6 +223,23 @@ public class ComparableRangeFilter extends AbstractRangeFilter {
         }
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if (!statisticsComparable(min, lower) || !statisticsComparable(max, upper)) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final int lowerCompare = ObjectComparisons.compare(max, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = ObjectComparisons.compare(hasNulls ? null : min, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -101,6 +101,16 @@ public abstract class ComposedFilter extends WhereFilterLivenessArtifactImpl imp
         return true;
     }
 
+    @Override
+    public boolean canFilterDistinctValues() {
+        for (WhereFilter filter : componentFilters) {
+            if (!filter.canFilterDistinctValues()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected WhereFilter[] getComponentFilters() {
         return componentFilters;
     }
@@ -17,6 +17,7 @@ import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class DoubleRangeFilter extends AbstractRangeFilter {
 
@@ -107,6 +108,25 @@ public class DoubleRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Double)) || (max != null && !(max instanceof Double))) {
+            return true;
+        }
+        // Null is ordered before all other values and NaN after, so the block spans [min (or null), max (or null)]
+        final double blockMin = hasNulls || min == null ? QueryConstants.NULL_DOUBLE : (Double) min;
+        final double blockMax = max == null ? QueryConstants.NULL_DOUBLE : (Double) max;
+        final int lowerCompare = DoubleComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = DoubleComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
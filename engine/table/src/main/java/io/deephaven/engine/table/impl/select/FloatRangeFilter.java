@@ -13,6 +13,7 @@ import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class FloatRangeFilter extends AbstractRangeFilter {
 
@@ -103,6 +104,25 @@ public class FloatRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Float)) || (max != null && !(max instanceof Float))) {
+            return true;
+        }
+        // Null is ordered before all other values and NaN after, so the block spans [min (or null), max (or null)]
+        final float blockMin = hasNulls || min == null ? QueryConstants.NULL_FLOAT : (Float) min;
+        final float blockMax = max == null ? QueryConstants.NULL_FLOAT : (Float) max;
+        final int lowerCompare = FloatComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = FloatComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
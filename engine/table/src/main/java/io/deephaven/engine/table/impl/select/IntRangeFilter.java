@@ -19,6 +19,7 @@ import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.IntComparisons;
 import io.deephaven.util.type.TypeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class IntRangeFilter extends AbstractRangeFilter {
     public static IntRangeFilter lt(String columnName, int x) {
@@ -105,6 +106,25 @@ public class IntRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Integer)) || (max != null && !(max instanceof Integer))) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final int blockMin = hasNulls || min == null ? QueryConstants.NULL_INT : (Integer) min;
+        final int blockMax = max == null ? QueryConstants.NULL_INT : (Integer) max;
+        final int lowerCompare = IntComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = IntComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
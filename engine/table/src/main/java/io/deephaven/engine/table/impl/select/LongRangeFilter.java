@@ -19,6 +19,7 @@ import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.LongComparisons;
 import io.deephaven.util.type.TypeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class LongRangeFilter extends AbstractRangeFilter {
     public static LongRangeFilter lt(String columnName, long x) {
@@ -105,6 +106,25 @@ public class LongRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if ((min != null && !(min instanceof Long)) || (max != null && !(max instanceof Long))) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final long blockMin = hasNulls || min == null ? QueryConstants.NULL_LONG : (Long) min;
+        final long blockMax = max == null ? QueryConstants.NULL_LONG : (Long) max;
+        final int lowerCompare = LongComparisons.compare(blockMax, lower);
+        if (lowerCompare < 0 || (lowerCompare == 0 && !lowerInclusive)) {
+            return false;
+        }
+        final int upperCompare = LongComparisons.compare(blockMin, upper);
+        return upperCompare < 0 || (upperCompare == 0 && upperInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
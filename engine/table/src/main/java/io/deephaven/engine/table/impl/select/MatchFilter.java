@@ -23,6 +23,10 @@ import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.compare.CharComparisons;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.compare.FloatComparisons;
+import io.deephaven.util.compare.ObjectComparisons;
 import io.deephaven.util.datastructures.CachingSupplier;
 import io.deephaven.util.type.ArrayTypeUtils;
 import io.deephaven.util.type.TypeUtils;
@@ -313,6 +317,157 @@ public class MatchFilter extends WhereFilterImpl implements DependencyStreamProv
         return true;
     }
 
+    @Override
+    public boolean canFilterDistinctValues() {
+        final WhereFilter failover = getFailoverFilterIfCached();
+        if (failover != null) {
+            return failover.canFilterDistinctValues();
+        }
+        // A data index gathered for this operation maps values to the source table's rows, not to distinct values
+        return initialized && dataIndex == null;
+    }
+
+    @Override
+    public StatisticsPredicate getStatisticsPredicate() {
+        if (!initialized || caseInsensitive || values == null || getFailoverFilterIfCached() != null) {
+            return null;
+        }
+        return new MatchStatisticsPredicate(columnName, invertMatch, values);
+    }
+
+    /**
+     * {@link StatisticsPredicate} for a case-sensitive match. A regular match may be satisfied by a block containing
+     * any key within its [min, max] interval (or null, for null keys). An inverted match is only impossible when the
+     * block is known to contain a single distinct value that is also a key.
+     */
+    private static final class MatchStatisticsPredicate implements StatisticsPredicate {
+
+        private final String columnName;
+        private final boolean invertMatch;
+        private final Object[] keys;
+        private final boolean hasNullKey;
+
+        private MatchStatisticsPredicate(
+                @NotNull final String columnName,
+                final boolean invertMatch,
+                @NotNull final Object[] values) {
+            this.columnName = columnName;
+            this.invertMatch = invertMatch;
+            keys = Arrays.stream(values).map(MatchStatisticsPredicate::normalizeKey).toArray();
+            hasNullKey = Arrays.stream(keys).anyMatch(Objects::isNull);
+        }
+
+        @NotNull
+        @Override
+        public String getColumnName() {
+            return columnName;
+        }
+
+        @Override
+        public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+            if (invertMatch) {
+                if (min == null) {
+                    return hasNulls && !hasNullKey;
+                }
+                if (hasNulls && !hasNullKey) {
+                    return true;
+                }
+                if (min instanceof Float || min instanceof Double || compare(min, max) != 0) {
+                    // Floating point blocks may hide NaN values
+                    return true;
+                }
+                for (final Object key : keys) {
+                    if (key != null && compare(key, min) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (hasNulls && hasNullKey) {
+                return true;
+            }
+            if (min == null) {
+                return false;
+            }
+            for (final Object key : keys) {
+                if (key == null) {
+                    continue;
+                }
+                final Integer minCompare = compare(key, min);
+                final Integer maxCompare = compare(key, max);
+                if (minCompare == null || maxCompare == null || (minCompare >= 0 && maxCompare <= 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public Collection<Object> getMatchValues() {
+            return invertMatch || hasNullKey ? null : Collections.unmodifiableList(Arrays.asList(keys));
+        }
+
+        /**
+         * Convert boxed null sentinels to {@code null}, and date-times to the epoch nanoseconds used as their native
+         * representation.
+         */
+        private static Object normalizeKey(@Nullable final Object key) {
+            if (key instanceof Instant) {
+                return DateTimeUtils.epochNanos((Instant) key);
+            }
+            if (key instanceof ZonedDateTime) {
+                return DateTimeUtils.epochNanos((ZonedDateTime) key);
+            }
+            if (key instanceof Character) {
+                return TypeUtils.box((char) (Character) key);
+            }
+            if (key instanceof Byte) {
+                return TypeUtils.box((byte) (Byte) key);
+            }
+            if (key instanceof Short) {
+                return TypeUtils.box((short) (Short) key);
+            }
+            if (key instanceof Integer) {
+                return TypeUtils.box((int) (Integer) key);
+            }
+            if (key instanceof Long) {
+                return TypeUtils.box((long) (Long) key);
+            }
+            if (key instanceof Float) {
+                return TypeUtils.box((float) (Float) key);
+            }
+            if (key instanceof Double) {
+                return TypeUtils.box((double) (Double) key);
+            }
+            return key;
+        }
+
+        /**
+         * Compare a key with a statistics value using Deephaven's ordering.
+         *
+         * @return The comparison result, or {@code null} if the two cannot be compared
+         */
+        private static Integer compare(@NotNull final Object key, @NotNull final Object value) {
+            if (key.getClass() != value.getClass()) {
+                return null;
+            }
+            if (key instanceof Character) {
+                return CharComparisons.compare((Character) key, (Character) value);
+            }
+            if (key instanceof Float) {
+                return FloatComparisons.compare((Float) key, (Float) value);
+            }
+            if (key instanceof Double) {
+                return DoubleComparisons.compare((Double) key, (Double) value);
+            }
+            if (key instanceof Comparable) {
+                return ObjectComparisons.compare(key, value);
+            }
+            return null;
+        }
+    }
+
     @Override
     public void setRecomputeListener(RecomputeListener listener) {}
 
@@ -314,6 +314,16 @@ public class RangeFilter extends WhereFilterImpl {
         return filter.isSimpleFilter();
     }
 
+    @Override
+    public StatisticsPredicate getStatisticsPredicate() {
+        return filter == null ? null : filter.getStatisticsPredicate();
+    }
+
+    @Override
+    public boolean canFilterDistinctValues() {
+        return filter != null && filter.canFilterDistinctValues();
+    }
+
     @Override
     public void setRecomputeListener(RecomputeListener listener) {}
 
@@ -16,6 +16,7 @@ import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class SingleSidedComparableRangeFilter extends AbstractRangeFilter {
     private final Comparable<?> pivot;
@@ -170,6 +171,21 @@ public class SingleSidedComparableRangeFilter extends AbstractRangeFilter {
         }
     }
 
+    @Override
+    public boolean mayMatch(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        if (min == null && !hasNulls) {
+            return false;
+        }
+        if (!statisticsComparable(min, pivot) || !statisticsComparable(max, pivot)) {
+            return true;
+        }
+        // Null is ordered before all other values, so the block spans [min (or null), max (or null)]
+        final int compare = isGreaterThan
+                ? ObjectComparisons.compare(max, pivot)
+                : ObjectComparisons.compare(pivot, hasNulls ? null : min);
+        return compare > 0 || (compare == 0 && lowerInclusive);
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -0,0 +1,53 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.select;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A conservative form of a {@link WhereFilter} on a single column that can be evaluated against summary statistics for
+ * a block of column values, such as a Parquet row group or page, without reading the values themselves.
+ *
+ * @see WhereFilter#getStatisticsPredicate()
+ */
+public interface StatisticsPredicate {
+
+    /**
+     * @return The name of the column this predicate applies to
+     */
+    @NotNull
+    String getColumnName();
+
+    /**
+     * Determine whether a block of values summarized by the supplied statistics may contain any value that the
+     * underlying filter would match. Implementations must answer {@code true} whenever they cannot prove otherwise.
+     * <p>
+     * The minimum and maximum are the smallest and largest non-null values in the block, boxed as the column's native
+     * data type (for example, {@link Long} epoch nanoseconds for {@link java.time.Instant} columns). Both are
+     * {@code null} if the block contains no non-null values. Ordering follows Deephaven's comparison semantics, so
+     * floating point blocks that may contain {@code NaN} report {@code NaN} as their maximum.
+     *
+     * @param min The minimum non-null value in the block, or {@code null} if there are none
+     * @param max The maximum non-null value in the block, or {@code null} if there are none
+     * @param hasNulls Whether the block may contain null values
+     * @return Whether the block may contain a matching value
+     */
+    boolean mayMatch(@Nullable Object min, @Nullable Object max, boolean hasNulls);
+
+    /**
+     * Get the values that any matching value must be equal to, for predicates that only match a finite set of non-null
+     * values. Column sources with set membership summaries, such as Parquet Bloom filters, may use these to rule out
+     * blocks that the minimum and maximum cannot.
+     *
+     * @return The values, boxed as for {@link #mayMatch(Object, Object, boolean)}, or {@code null} if this predicate
+     *         may match {@code null} or values outside a finite set
+     */
+    @Nullable
+    default Collection<Object> getMatchValues() {
+        return null;
+    }
+}
@@ -19,6 +19,7 @@ import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.FinalDefault;
 import io.deephaven.util.annotations.InternalUseOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -264,6 +265,29 @@ public interface WhereFilter extends Filter {
         return true;
     }
 
+    /**
+     * Get a {@link StatisticsPredicate} that column sources with summary statistics may use to skip blocks of rows
+     * that cannot match this filter. Only valid after {@link #init(TableDefinition)}.
+     *
+     * @return The predicate, or {@code null} if this filter cannot be evaluated against column statistics
+     */
+    @Nullable
+    default StatisticsPredicate getStatisticsPredicate() {
+        return null;
+    }
+
+    /**
+     * Whether this filter's result for a row depends only on that row's values of {@link #getColumns()}, and not on
+     * row keys, row positions, other rows, or state gathered by {@link #beginOperation(Table)}. Such filters may be
+     * evaluated once per distinct value, for example against the symbol table of a dictionary-encoded column, rather
+     * than once per row. Only valid after {@link #init(TableDefinition)}.
+     *
+     * @return Whether this filter may be evaluated against distinct values instead of rows
+     */
+    default boolean canFilterDistinctValues() {
+        return false;
+    }
+
     /**
      * Set the {@link RecomputeListener} that should be notified if results based on this WhereFilter must be
      * recomputed.
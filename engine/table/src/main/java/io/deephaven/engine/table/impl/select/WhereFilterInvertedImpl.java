@@ -98,6 +98,11 @@ class WhereFilterInvertedImpl
         return filter.isSimpleFilter();
     }
 
+    @Override
+    public boolean canFilterDistinctValues() {
+        return filter.canFilterDistinctValues();
+    }
+
     @Override
     public boolean isRefreshing() {
         return filter.isRefreshing();
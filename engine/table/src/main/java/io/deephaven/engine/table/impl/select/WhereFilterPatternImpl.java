@@ -79,6 +79,11 @@ final class WhereFilterPatternImpl extends WhereFilterImpl {
         return true;
     }
 
+    @Override
+    public boolean canFilterDistinctValues() {
+        return true;
+    }
+
     @Override
     public void setRecomputeListener(RecomputeListener listener) {
 
@@ -3,10 +3,14 @@
 //
 package io.deephaven.engine.table.impl.sources.regioned;
 
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.Releasable;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.Page;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 
@@ -23,6 +27,20 @@ public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
      */
     void invalidate();
 
+    /**
+     * Get the subset of {@code rowKeys} that may satisfy {@code predicate}, according to any summary statistics this
+     * region can consult without reading its values. Regions without statistics retain all row keys.
+     *
+     * @param predicate The predicate to evaluate
+     * @param rowKeys The row keys to consider, all of which must belong to this region
+     * @return A new row set of the row keys that may match
+     */
+    default WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        return rowKeys.copy();
+    }
+
     abstract class Null<ATTR extends Any>
             extends GenericColumnRegionBase<ATTR>
             implements ColumnRegion<ATTR>, WithDefaultsForRepeatingValues<ATTR> {
@@ -39,5 +57,12 @@ public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
             destination.fillWithNullValue(offset, length);
             destination.setSize(offset + length);
         }
+
+        @Override
+        public WritableRowSet filterByStatistics(
+                @NotNull final StatisticsPredicate predicate,
+                @NotNull final RowSet rowKeys) {
+            return predicate.mayMatch(null, null, true) ? rowKeys.copy() : RowSetFactory.empty();
+        }
     }
 }
@@ -10,6 +10,9 @@ import io.deephaven.engine.table.SharedContext;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -46,6 +49,13 @@ public class ColumnRegionReferencingImpl<ATTR extends Any, REFERENCED_COLUMN_REG
                 referencedColumnRegion.getChunk(FillContext.nativeGetContext(context), rowSequence), rowSequence);
     }
 
+    @Override
+    public WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        return referencedColumnRegion.filterByStatistics(predicate, rowKeys);
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
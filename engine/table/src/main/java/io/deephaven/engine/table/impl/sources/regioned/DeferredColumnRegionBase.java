@@ -8,6 +8,9 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.table.SharedContext;
 import io.deephaven.chunk.*;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -99,4 +102,11 @@ public abstract class DeferredColumnRegionBase<ATTR extends Any, REGION_TYPE ext
     public Chunk<? extends ATTR> getChunk(@NotNull GetContext context, long firstKey, long lastKey) {
         return getResultRegion().getChunk(context, firstKey, lastKey);
     }
+
+    @Override
+    public WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        return getResultRegion().filterByStatistics(predicate, rowKeys);
+    }
 }
@@ -9,6 +9,8 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.locations.ColumnLocation;
 import io.deephaven.engine.table.impl.ImmutableColumnSource;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 
@@ -118,4 +120,15 @@ public interface RegionedColumnSource<DATA_TYPE>
      * @param regionIndex the region to invalidate
      */
     void invalidateRegion(int regionIndex);
+
+    /**
+     * Get the subset of {@code selection} that may satisfy {@code predicate}, according to any summary statistics (for
+     * example, Parquet row group or page statistics) the regions of this column source can consult without reading
+     * their values.
+     *
+     * @param predicate The predicate to evaluate
+     * @param selection The row keys to consider
+     * @return A new row set of the row keys in {@code selection} that may match
+     */
+    WritableRowSet filterByStatistics(@NotNull StatisticsPredicate predicate, @NotNull RowSet selection);
 }
@@ -8,6 +8,9 @@ import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +50,13 @@ abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_T
         return PARAMETERS;
     }
 
+    @Override
+    public WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet selection) {
+        return filterRegionsByStatistics(predicate, selection);
+    }
+
     /**
      * Use the more efficient fill chunk implementation, rather than the default which uses get().
      */
@@ -269,6 +269,32 @@ class RegionedColumnSourceWithDictionary<DATA_TYPE>
         });
     }
 
+    @Override
+    public WritableRowSet filterBySymbolIds(
+            @NotNull final RowSet selection,
+            @NotNull final RowSet symbolIds,
+            final boolean matchNull) {
+        if (matchNull || selection.isEmpty()) {
+            // Null values may appear in any region, so every row must be checked
+            return SymbolTableSource.super.filterBySymbolIds(selection, symbolIds, true);
+        }
+        // Symbol ids are prefixed with the region index of the rows that use them, in the same bits as row keys, so
+        // regions that have no accepted ids can be skipped without reading their dictionary keys
+        final RowSetBuilderSequential regionsToScanBuilder = RowSetFactory.builderSequential();
+        try (final RowSet.SearchIterator idsToVisit = symbolIds.searchIterator()) {
+            long lastRowKey = -1;
+            while (lastRowKey != Long.MAX_VALUE && idsToVisit.advance(lastRowKey + 1)) {
+                final int regionIndex = getRegionIndex(idsToVisit.currentValue());
+                lastRowKey = RegionedColumnSource.getLastRowKey(regionIndex);
+                regionsToScanBuilder.appendRange(RegionedColumnSource.getFirstRowKey(regionIndex), lastRowKey);
+            }
+        }
+        try (final RowSet regionsToScan = regionsToScanBuilder.build();
+                final RowSet rowsToScan = selection.intersect(regionsToScan)) {
+            return SymbolTableSource.super.filterBySymbolIds(rowsToScan, symbolIds, false);
+        }
+    }
+
     private final class SymbolTableUpdateListener extends BaseTable.ListenerImpl {
 
         private final BaseTable<?> symbolTable;
@@ -9,6 +9,11 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -90,6 +95,38 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         return lookupRegion(rowKey);
     }
 
+    /**
+     * Apply {@link ColumnRegion#filterByStatistics(StatisticsPredicate, RowSet)} to each region that contains any of
+     * {@code rowKeys}. Regions that are not {@link ColumnRegion column regions} retain all of their row keys.
+     *
+     * @param predicate The predicate to evaluate
+     * @param rowKeys The row keys to consider
+     * @return A new row set of the row keys that may match
+     */
+    @FinalDefault
+    default WritableRowSet filterRegionsByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        try (final RowSequence.Iterator rowKeysIterator = rowKeys.getRowSequenceIterator()) {
+            while (rowKeysIterator.hasMore()) {
+                final long firstRowKey = rowKeysIterator.peekNextKey();
+                final REGION_TYPE region = lookupRegion(firstRowKey);
+                final RowSequence regionRowKeys = rowKeysIterator.getNextRowSequenceThrough(firstRowKey | regionMask());
+                if (!(region instanceof ColumnRegion)) {
+                    builder.appendRowSequence(regionRowKeys);
+                    continue;
+                }
+                try (final RowSet regionRowSet = regionRowKeys.asRowSet();
+                        final RowSet regionMatches =
+                                ((ColumnRegion<?>) region).filterByStatistics(predicate, regionRowSet)) {
+                    builder.appendRowSequence(regionMatches);
+                }
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * Class to calculate and encapsulate the parameters of a RegionedPageStore.
      */
@@ -163,5 +200,15 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         public final REGION_TYPE getRegion(final int regionIndex) {
             return regions[regionIndex];
         }
+
+        /**
+         * Implements {@link ColumnRegion#filterByStatistics(StatisticsPredicate, RowSet)} for subclasses that are
+         * themselves column regions, by consulting each of the regions in this page store.
+         */
+        public WritableRowSet filterByStatistics(
+                @NotNull final StatisticsPredicate predicate,
+                @NotNull final RowSet rowKeys) {
+            return filterRegionsByStatistics(predicate, rowKeys);
+        }
     }
 }
@@ -3,12 +3,20 @@
 //
 package io.deephaven.engine.table.impl.sources.regioned;
 
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.rowset.RowSet;
 import org.jetbrains.annotations.NotNull;
 
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
 /**
  * <p>
  * Interface for {@link ColumnSource}s that can provide a {@link Table} view of their symbol tables, providing a many:1
@@ -64,6 +72,45 @@ public interface SymbolTableSource<SYMBOL_TYPE> extends ColumnSource<SYMBOL_TYPE
      */
     Table getSymbolTable(@NotNull QueryTable sourceTable, boolean useLookupCaching);
 
+    /**
+     * Filter {@code selection} to the rows whose symbol identifiers are in {@code symbolIds}, or are
+     * {@link io.deephaven.util.QueryConstants#NULL_LONG null} when {@code matchNull} is set. Rows are accepted by
+     * comparing identifiers, without reading symbol values.
+     *
+     * @param selection The {@link RowSet} to filter, which must be covered by this source's symbol table (see
+     *        {@link #hasSymbolTable(RowSet)})
+     * @param symbolIds The symbol identifiers to accept, as found in the {@link #ID_COLUMN_NAME identifier column} of
+     *        a symbol table covering {@code selection}
+     * @param matchNull Whether to accept rows with null values
+     * @return A new {@link WritableRowSet} of the rows in {@code selection} that were accepted
+     */
+    default WritableRowSet filterBySymbolIds(
+            @NotNull final RowSet selection,
+            @NotNull final RowSet symbolIds,
+            final boolean matchNull) {
+        if (selection.isEmpty() || (symbolIds.isEmpty() && !matchNull)) {
+            return RowSetFactory.empty();
+        }
+        final ColumnSource<Long> idSource = reinterpret(long.class);
+        final int chunkSize = (int) Math.min(selection.size(), 1 << 12);
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        try (final ColumnSource.GetContext getContext = idSource.makeGetContext(chunkSize);
+                final RowSequence.Iterator rowsIterator = selection.getRowSequenceIterator()) {
+            while (rowsIterator.hasMore()) {
+                final RowSequence rows = rowsIterator.getNextRowSequenceWithLength(chunkSize);
+                final LongChunk<? extends Values> ids = idSource.getChunk(getContext, rows).asLongChunk();
+                final LongChunk<?> rowKeys = rows.asRowKeyChunk();
+                for (int ii = 0; ii < ids.size(); ++ii) {
+                    final long id = ids.get(ii);
+                    if (id == NULL_LONG ? matchNull : symbolIds.find(id) >= 0) {
+                        builder.appendKey(rowKeys.get(ii));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * Check if the specified {@link ColumnSource} supports a symbol table for the entirety of the supplied
      * {@link RowSet}.
@@ -6,11 +6,17 @@ package io.deephaven.engine.table.impl.util;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.util.annotations.ScriptApi;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
 
 /**
  * Accessors for Deephaven tables of instrumentation logs. These tables include query logs and performance logs
  */
 public class TableLoggers {
+
+    private static volatile Supplier<QueryTable> pageCacheLogSupplier;
+
     /**
      * Return a table with update performance data.
      *
@@ -71,4 +77,28 @@ public class TableLoggers {
     public static QueryTable serverStateLog() {
         return ServerStateTracker.getInstance().getQueryTable();
     }
+
+    /**
+     * Register the source of {@link #pageCacheLog()}. The Parquet page cache lives outside the engine, so its
+     * statistics tracker registers itself here when it is started.
+     *
+     * @param supplier Supplies a table with Parquet page cache statistics
+     */
+    public static void registerPageCacheLog(@NotNull final Supplier<QueryTable> supplier) {
+        pageCacheLogSupplier = supplier;
+    }
+
+    /**
+     * Return a table with Parquet page cache hit, miss, decode and eviction data.
+     *
+     * @return A table with page cache data.
+     */
+    @ScriptApi
+    public static QueryTable pageCacheLog() {
+        final Supplier<QueryTable> supplier = pageCacheLogSupplier;
+        if (supplier == null) {
+            throw new IllegalStateException("Parquet page cache statistics are not being collected");
+        }
+        return supplier.get();
+    }
 }
@@ -78,6 +78,12 @@ public class FreezeByOperator implements IterativeChunkedAggregationOperator {
         resultSource.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean dependsOnOtherOperators() {
+        // Frozen values are only written for destinations the count operator observes as new
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, (ColumnSource<?>) resultSource);
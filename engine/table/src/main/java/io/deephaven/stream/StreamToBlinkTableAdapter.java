@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 /**
@@ -70,9 +71,16 @@ public class StreamToBlinkTableAdapter
     /** To start out when we have no data, we use null value column sources which are cheap and singletons. */
     private final NullValueColumnSource<?>[] nullColumnSources;
 
-    // We accumulate data into buffer from the ingester thread; capture it into current on the UGP thread; move it into
-    // prev after one cycle, and then the cycle after that we clear out the chunks and reuse them for the buffers.
-    // They all start out null in the constructor.
+    /**
+     * Batches of chunks accepted from producer threads and not yet claimed by a refresh, most recent first. Producers
+     * push onto this stack without locking, so they never wait on each other or on the update graph; each refresh
+     * swaps out the whole stack at once.
+     */
+    private final AtomicReference<PendingBatch> pendingBatches = new AtomicReference<>();
+
+    // We accumulate pending batches into buffer on the UGP thread, and capture it into current; move it into prev after
+    // one cycle, and then the cycle after that we clear out the chunks and reuse them for the buffers. They all start
+    // out null in the constructor.
     private ChunkColumnSource<?>[] bufferChunkSources;
     private ChunkColumnSource<?>[] currentChunkSources;
     private ChunkColumnSource<?>[] prevChunkSources;
@@ -303,6 +311,7 @@ public class StreamToBlinkTableAdapter
                     .endl();
             updateSourceRegistrar.removeSource(this);
             streamPublisher.shutdown();
+            discardPendingBatches();
         }
     }
 
@@ -373,22 +382,20 @@ public class StreamToBlinkTableAdapter
         final long oldSize = rowSet.size();
         final long newSize;
 
-        final ChunkColumnSource<?>[] capturedBufferSources;
-        synchronized (this) {
-            // streamPublisher.flush() may have called acceptFailure
-            if (deliverFailures()) {
-                return null;
-            }
-            newSize = bufferChunkSources == null ? 0 : bufferChunkSources[0].getSize();
-
-            if (oldSize == 0 && newSize == 0) {
-                return null;
-            }
+        // streamPublisher.flush() may have called acceptFailure
+        if (deliverFailures()) {
+            return null;
+        }
+        bufferPendingBatches();
+        newSize = bufferChunkSources == null ? 0 : bufferChunkSources[0].getSize();
 
-            capturedBufferSources = bufferChunkSources;
-            bufferChunkSources = prevChunkSources;
+        if (oldSize == 0 && newSize == 0) {
+            return null;
         }
 
+        final ChunkColumnSource<?>[] capturedBufferSources = bufferChunkSources;
+        bufferChunkSources = prevChunkSources;
+
         if (capturedBufferSources == null) {
             // null out our current values
             for (int ii = 0; ii < switchSources.length; ++ii) {
@@ -442,30 +449,81 @@ public class StreamToBlinkTableAdapter
             SafeCloseable.closeAll(data.stream().flatMap(Stream::of));
             return;
         }
-        // Accumulate data into buffered column sources
-        synchronized (this) {
-            if (!enqueuedFailures.isEmpty()) {
-                // If we'll never deliver these chunks, dispose of them immediately.
-                SafeCloseable.closeAll(data.stream().flatMap(Stream::of));
-                return;
+        final int numColumns = switchSources.length;
+        for (WritableChunk<Values>[] chunks : data) {
+            if (chunks.length != numColumns) {
+                throw new IllegalStateException(
+                        "StreamConsumer data length = " + chunks.length + " chunks, expected " + numColumns);
             }
-            if (bufferChunkSources == null) {
-                bufferChunkSources = makeChunkSources(tableDefinition);
+            for (int ii = 0; ii < chunks.length; ++ii) {
+                Assert.eq(chunks[0].size(), "data[0].size()", chunks[ii].size(), "data[ii].size()");
             }
-            for (WritableChunk<Values>[] chunks : data) {
-                if (chunks.length != bufferChunkSources.length) {
-                    throw new IllegalStateException(
-                            "StreamConsumer data length = " + chunks.length + " chunks, expected "
-                                    + bufferChunkSources.length);
-                }
+        }
+        // The whole batch is claimed by a single refresh, so the blink table sees it in a single cycle
+        // noinspection unchecked
+        final PendingBatch batch = new PendingBatch(data.toArray(WritableChunk[][]::new));
+        PendingBatch head;
+        do {
+            head = pendingBatches.get();
+            batch.next = head;
+        } while (!pendingBatches.compareAndSet(head, batch));
+        if (!alive.get()) {
+            // We may have raced with close, which will not look for this batch again
+            discardPendingBatches();
+        }
+    }
+
+    /**
+     * A batch of per-column chunks passed to a single {@link #accept(Collection)} call, linked to the batch pushed
+     * before it.
+     */
+    private static final class PendingBatch {
+        private final WritableChunk<Values>[][] data;
+        private PendingBatch next;
+
+        private PendingBatch(@NotNull final WritableChunk<Values>[][] data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * Claim all pending batches and add their chunks to the buffered column sources, in the order they were accepted.
+     * Must only be called from the refresh.
+     */
+    private void bufferPendingBatches() {
+        PendingBatch batch = pendingBatches.getAndSet(null);
+        if (batch == null) {
+            return;
+        }
+        // Reverse the claimed stack, so that each producer's batches are buffered in the order it accepted them
+        PendingBatch oldest = null;
+        while (batch != null) {
+            final PendingBatch next = batch.next;
+            batch.next = oldest;
+            oldest = batch;
+            batch = next;
+        }
+        if (bufferChunkSources == null) {
+            bufferChunkSources = makeChunkSources(tableDefinition);
+        }
+        for (batch = oldest; batch != null; batch = batch.next) {
+            for (WritableChunk<Values>[] chunks : batch.data) {
                 for (int ii = 0; ii < chunks.length; ++ii) {
-                    Assert.eq(chunks[0].size(), "data[0].size()", chunks[ii].size(), "data[ii].size()");
                     bufferChunkSources[ii].addChunk(chunks[ii]);
                 }
             }
         }
     }
 
+    /**
+     * Claim all pending batches and dispose of their chunks, since they will never be delivered.
+     */
+    private void discardPendingBatches() {
+        for (PendingBatch batch = pendingBatches.getAndSet(null); batch != null; batch = batch.next) {
+            SafeCloseable.closeAll(Stream.of(batch.data).flatMap(Stream::of));
+        }
+    }
+
     @Override
     public void acceptFailure(@NotNull final Throwable cause) {
         if (!alive.get()) {
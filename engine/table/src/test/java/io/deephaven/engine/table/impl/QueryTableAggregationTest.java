@@ -214,6 +214,50 @@ public class QueryTableAggregationTest {
                 null, "A");
     }
 
+    @Test
+    public void testStaticPartitionedInitialization() {
+        final AggregationControl serial = new AggregationControl() {
+            @Override
+            public int staticInitializationPartitionCount(@NotNull final Table inputTable) {
+                return 1;
+            }
+        };
+        final AggregationControl partitioned = new AggregationControl() {
+            @Override
+            public int staticInitializationPartitionCount(@NotNull final Table inputTable) {
+                return 5;
+            }
+        };
+
+        final Table input = emptyTable(100_000).update(
+                "A=i % 997", "B=i % 13 == 0 ? null : Integer.toString(i % 11)", "C=ii", "D=i * 0.5");
+        final AggregationContextFactory acf = AggregationProcessor.forAggregation(List.of(
+                AggSum("SumC=C"), AggFirst("FirstD=D"), AggLast("LastD=D"), AggCount("Count"), AggGroup("GroupC=C")));
+
+        for (final String[] keyColumns : new String[][] {{"A"}, {"B"}, {"B", "A"}}) {
+            final Table expected = ChunkedOperatorAggregationHelper.aggregation(
+                    serial, acf, (QueryTable) input, false, null, ColumnName.from(keyColumns));
+            final Table actual = ChunkedOperatorAggregationHelper.aggregation(
+                    partitioned, acf, (QueryTable) input, false, null, ColumnName.from(keyColumns));
+            assertTableEquals(expected, actual);
+
+            final AggregationRowLookup rowLookup = AggregationProcessor.getRowLookup(actual);
+            for (int pos = 0; pos < actual.intSize(); ++pos) {
+                final Object key;
+                if (keyColumns.length == 1) {
+                    key = actual.getColumnSource(keyColumns[0]).get(pos);
+                } else {
+                    final int fpos = pos;
+                    key = Arrays.stream(keyColumns).map(kc -> actual.getColumnSource(kc).get(fpos)).toArray();
+                }
+                assertEquals(pos, rowLookup.get(key));
+            }
+            assertEquals(rowLookup.noEntryValue(), rowLookup.get(keyColumns.length == 1
+                    ? (keyColumns[0].equals("A") ? (Object) (-1) : "missing")
+                    : new Object[] {"missing", -1}));
+        }
+    }
+
     // endregion Static chunked groupBy() tests
 
     // region Incremental chunked groupBy() tests
@@ -1738,6 +1782,120 @@ public class QueryTableAggregationTest {
         }
     }
 
+    @Test
+    public void testParallelIncrementalBy() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.resetForUnitTests(false, true, 0, 4, 2, 1);
+        final boolean old = ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INCREMENTAL_UPDATES;
+        try {
+            ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INCREMENTAL_UPDATES = true;
+            for (final int size : new int[] {10, 100, 10_000}) {
+                for (int seed = 0; seed < 2; ++seed) {
+                    System.out.println("Size = " + size + ", Seed = " + seed);
+                    try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+                        testParallelIncrementalBy(size, seed);
+                        testParallelIncrementalApproxPctBy(size, seed);
+                    }
+                }
+            }
+        } finally {
+            ChunkedOperatorAggregationHelper.FORCE_PARALLEL_INCREMENTAL_UPDATES = old;
+        }
+    }
+
+    private void testParallelIncrementalBy(final int size, final int seed) {
+        final Random random = new Random(seed);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable queryTable = getTable(size, random, columnInfo = initColumnInfos(
+                new String[] {"Sym", "intCol", "longCol", "doubleCol"},
+                new SetGenerator<>("a", "b", "c", "d", "e"),
+                new IntGenerator(0, 100),
+                new LongGenerator(-100_000_000, 100_000_000),
+                new DoubleGenerator(-100000.0, 100000.0, 0.01, 0.001)));
+
+        final Collection<Aggregation> independentAggregations = List.of(
+                AggSum("SumInt=intCol", "SumDouble=doubleCol"),
+                AggMin("MinLong=longCol"),
+                AggMax("MaxDouble=doubleCol"),
+                AggAvg("AvgInt=intCol"),
+                AggStd("StdLong=longCol"),
+                AggCount("Count"),
+                AggCountDistinct("DistinctInt=intCol"));
+        final Collection<Aggregation> withRowKeys = List.of(
+                AggSum("SumInt=intCol"),
+                AggFirst("FirstLong=longCol"),
+                AggLast("LastDouble=doubleCol"),
+                AggSortedFirst("intCol", "SortedFirstLong=longCol"));
+        final Collection<Aggregation> withDependentOperators = List.of(
+                AggSum("SumInt=intCol"),
+                AggWAvg("intCol", "WAvgDouble=doubleCol"),
+                AggCount("Count"));
+        // Min and max of one column, several percentiles of one column, and repeated firsts and lasts
+        final Collection<Aggregation> withSecondaryOperators = List.of(
+                AggMin("MinLong=longCol"),
+                AggMax("MaxLong=longCol"),
+                AggPct("doubleCol", PctOut(0.25, "P25Double"), PctOut(0.5, "P50Double"), PctOut(0.75, "P75Double")),
+                AggFirst("FirstInt=intCol"),
+                AggLast("LastInt=intCol"),
+                AggFirst("FirstDouble=doubleCol"),
+                AggLast("LastLong=longCol"));
+
+        final EvalNugget[] en = new EvalNugget[] {
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(independentAggregations, "Sym"), "Sym"),
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(independentAggregations, "intCol"), "intCol"),
+                EvalNugget.from(() -> queryTable.aggBy(independentAggregations)),
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(withRowKeys, "Sym"), "Sym"),
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(withDependentOperators, "Sym"), "Sym"),
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(withSecondaryOperators, "Sym"), "Sym"),
+                EvalNugget.from(() -> queryTable.aggBy(withSecondaryOperators)),
+        };
+
+        for (int step = 0; step < 50; step++) {
+            if (RefreshingTableTestCase.printTableUpdates) {
+                System.out.println("Seed = " + seed + ", step=" + step);
+            }
+            RefreshingTableTestCase.simulateShiftAwareStep(size, random, queryTable, columnInfo, en);
+        }
+    }
+
+    private void testParallelIncrementalApproxPctBy(final int size, final int seed) {
+        final Random random = new Random(seed);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable queryTable = getTable(size, random, columnInfo = initColumnInfos(
+                new String[] {"Sym", "doubleCol"},
+                new SetGenerator<>("a", "b", "c", "d", "e"),
+                new DoubleGenerator(-100000.0, 100000.0)));
+        queryTable.setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+
+        // Approximate percentiles of one column share the first percentile's t-digest, and are only supported for
+        // add-only tables. Recomputing them from scratch is not exact, so compare against the same percentiles in an
+        // aggregation with a weighted average, which depends on other operators and is never processed in parallel.
+        final Aggregation percentiles = AggApproxPct("doubleCol",
+                PctOut(0.25, "P25"), PctOut(0.5, "P50"), PctOut(0.75, "P75"), PctOut(0.99, "P99"));
+        final Table parallel = queryTable.aggBy(List.of(percentiles), "Sym").sort("Sym");
+        final Table serial = queryTable.aggBy(List.of(percentiles, AggWAvg("doubleCol", "WAvg=doubleCol")), "Sym")
+                .dropColumns("WAvg").sort("Sym");
+        assertTableEquals(serial, parallel);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 20; step++) {
+            if (RefreshingTableTestCase.printTableUpdates) {
+                System.out.println("Seed = " + seed + ", step=" + step);
+            }
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final long firstAdded = queryTable.getRowSet().lastRowKey() + 1;
+                final RowSet added = RowSetFactory.fromRange(firstAdded, firstAdded + random.nextInt(size));
+                final ColumnHolder<?>[] columnHolders = new ColumnHolder[columnInfo.length];
+                for (int ii = 0; ii < columnInfo.length; ii++) {
+                    columnHolders[ii] = columnInfo[ii].generateUpdateColumnHolder(added, random);
+                }
+                addToTable(queryTable, added, columnHolders);
+                queryTable.notifyListeners(added, i(), i());
+            });
+            assertTableEquals(serial, parallel);
+        }
+    }
+
     @Test
     public void testAbsSumBySimple() {
         final QueryTable table = testRefreshingTable(i(2, 4, 6).toTracking(),
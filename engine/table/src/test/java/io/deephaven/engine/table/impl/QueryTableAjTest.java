@@ -640,6 +640,63 @@ public class QueryTableAjTest {
                 true, true);
     }
 
+    @Test
+    public void testAjStaticParallel() {
+        for (int seed = 0; seed < 3; ++seed) {
+            for (boolean reverse : new boolean[] {false, true}) {
+                for (boolean noexact : new boolean[] {false, true}) {
+                    testAjStaticParallel(seed, 20_000, 10_000, reverse, noexact, false);
+                    testAjStaticParallel(seed, 10_000, 20_000, reverse, noexact, true);
+                }
+            }
+        }
+    }
+
+    private void testAjStaticParallel(int seed, int leftSize, int rightSize, boolean reverse, boolean noexact,
+            boolean leftIndexed) {
+        final Random random = new Random(seed);
+        final ColumnInfo.ColAttributes leftAttributes =
+                leftIndexed ? ColumnInfo.ColAttributes.Indexed : ColumnInfo.ColAttributes.None;
+
+        final QueryTable leftTable = getTable(false, leftSize, random,
+                initColumnInfos(new String[] {"Bucket", "LeftStamp", "LeftSentinel"},
+                        Arrays.asList(Collections.singletonList(leftAttributes), Collections.emptyList(),
+                                Collections.emptyList()),
+                        new StringGenerator(500),
+                        new IntGenerator(0, 100000),
+                        new IntGenerator(10_000_000, 10_010_000)));
+        final QueryTable rightTable = getTable(false, rightSize, random,
+                initColumnInfos(new String[] {"Bucket", "RightStamp", "RightSentinel"},
+                        new StringGenerator(500),
+                        new SortedIntGenerator(0, 100000),
+                        new IntGenerator(20_000_000, 20_010_000)));
+
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            boolean parallelizeStaticAsOfJoin(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+                return false;
+            }
+        };
+        final JoinControl parallelControl = new JoinControl() {
+            @Override
+            boolean parallelizeStaticAsOfJoin(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+                return true;
+            }
+        };
+
+        final MatchPair[] columnsToMatch = MatchPairFactory.getExpressions("Bucket", "LeftStamp=RightStamp");
+        final MatchPair[] columnsToAdd = MatchPairFactory.getExpressions("RightStamp", "RightSentinel");
+        final SortingOrder order = reverse ? SortingOrder.Descending : SortingOrder.Ascending;
+
+        final Table expected = AsOfJoinHelper.asOfJoin(serialControl, leftTable, rightTable, columnsToMatch,
+                columnsToAdd, order, noexact);
+        final Table actual = AsOfJoinHelper.asOfJoin(parallelControl, leftTable, rightTable, columnsToMatch,
+                columnsToAdd, order, noexact);
+        assertTableEquals(expected, actual);
+        checkAjResults(actual.partitionBy("Bucket"), leftTable.partitionBy("Bucket"),
+                rightTable.partitionBy("Bucket"), reverse, noexact);
+    }
+
     @Test
     public void testAjRandomLeftIncrementalRightStatic() {
         final int maxLeftSize;
@@ -561,6 +561,56 @@ public class QueryTableNaturalJoinTest extends QueryTableTestBase {
         }
     }
 
+    public void testNaturalJoinPartitionedStatic() {
+        final JoinControl partitionedControl = new JoinControl() {
+            @Override
+            int staticNaturalJoinPartitionCount(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+                return 5;
+            }
+        };
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            int staticNaturalJoinPartitionCount(@NotNull final Table leftTable, @NotNull final Table rightTable) {
+                return 1;
+            }
+        };
+
+        final QueryTable left = (QueryTable) TableTools.emptyTable(100_000)
+                .update("SymNum=(int)(ii * 7 % 3001)", "Sym=`S` + SymNum", "Id=(int)(ii % 13)", "LeftSentinel=ii");
+        final QueryTable right = (QueryTable) TableTools.emptyTable(20_000)
+                .update("Sym=`S` + (ii % 2500)", "Id=(int)(ii / 2500)", "RightSentinel=ii * 10");
+
+        for (final boolean exactMatch : new boolean[] {false, true}) {
+            final QueryTable exactRight = exactMatch ? (QueryTable) right.where("Id < 1") : right;
+            final QueryTable exactLeft = exactMatch ? (QueryTable) left.where("Id < 1 && SymNum < 2500") : left;
+
+            final Table expected = NaturalJoinHelper.naturalJoin(exactLeft, exactRight,
+                    MatchPairFactory.getExpressions("Sym", "Id"), MatchPairFactory.getExpressions("RightSentinel"),
+                    exactMatch, serialControl);
+            final Table actual = NaturalJoinHelper.naturalJoin(exactLeft, exactRight,
+                    MatchPairFactory.getExpressions("Sym", "Id"), MatchPairFactory.getExpressions("RightSentinel"),
+                    exactMatch, partitionedControl);
+            assertTableEquals(expected, actual);
+
+            final Table expectedSingle = NaturalJoinHelper.naturalJoin(exactLeft, (QueryTable) exactRight.where("Id=0"),
+                    MatchPairFactory.getExpressions("Sym"), MatchPairFactory.getExpressions("RightSentinel"),
+                    exactMatch, serialControl);
+            final Table actualSingle = NaturalJoinHelper.naturalJoin(exactLeft, (QueryTable) exactRight.where("Id=0"),
+                    MatchPairFactory.getExpressions("Sym"), MatchPairFactory.getExpressions("RightSentinel"),
+                    exactMatch, partitionedControl);
+            assertTableEquals(expectedSingle, actualSingle);
+        }
+
+        final QueryTable duplicateRight = (QueryTable) TableTools.merge(right, right.where("Sym=`S17` && Id=3"));
+        try {
+            NaturalJoinHelper.naturalJoin(left, duplicateRight, MatchPairFactory.getExpressions("Sym", "Id"),
+                    MatchPairFactory.getExpressions("RightSentinel"), false, partitionedControl);
+            fail("Expected exception.");
+        } catch (IllegalStateException e) {
+            assertEquals(dupMsg + "[S17, 3]", e.getMessage());
+        }
+    }
+
     public void testNaturalJoinDuplicateReinterpret() {
         testNaturalJoinDuplicateRightReinterpret(true, true);
         testNaturalJoinDuplicateRightReinterpret(true, false);
@@ -9,13 +9,20 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.chunk.util.pools.ChunkPoolReleaseTracking;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.QueryScope;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSetShiftData;
 import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.SharedContext;
 import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.EvalNuggetInterface;
 import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.generator.IntGenerator;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.test.types.OutOfBandTest;
 import org.jetbrains.annotations.NotNull;
@@ -29,10 +36,16 @@ import junit.framework.AssertionFailedError;
 import java.lang.reflect.Array;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static io.deephaven.api.agg.Aggregation.*;
 import static io.deephaven.engine.table.TableFactory.emptyTable;
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.testutil.TstUtils.getTable;
+import static io.deephaven.engine.testutil.TstUtils.initColumnInfos;
 import static io.deephaven.engine.testutil.TstUtils.sparsify;
+import static io.deephaven.engine.testutil.testcase.RefreshingTableTestCase.simulateShiftAwareStep;
 import static io.deephaven.time.DateTimeUtils.minus;
 import static io.deephaven.time.DateTimeUtils.plus;
 import static io.deephaven.util.QueryConstants.*;
@@ -65,25 +78,33 @@ public class QueryTableRangeJoinTest {
     // region validation tests
 
     @Test
-    public void testRefreshingUnsupported() {
+    public void testRefreshingSupported() {
         final Table lt = emptyTable(100).updateView("II=ii", "BB=II % 5", "LSV=ii / 0.7", "LEV=ii / 0.1");
         final Table rt = emptyTable(100).updateView("II=ii", "BB=II % 5", "RRV=ii / 0.3");
-        final Runnable test = () -> lt.rangeJoin(rt, List.of("BB", "LSV < RRV < LEV"), List.of(AggGroup("II")));
+        final Supplier<Table> test =
+                () -> lt.rangeJoin(rt, List.of("BB", "LSV < RRV < LEV"), List.of(AggGroup("II")));
 
         // {static, static} works
-        test.run();
+        final Table expected = test.get();
+        assertThat(expected.isRefreshing()).isFalse();
 
-        // {refreshing, static} fails
+        // {refreshing, static} works
         lt.setRefreshing(true);
-        expectException(test, UnsupportedOperationException.class);
+        verifyRefreshingResult(test, expected);
 
-        // {refreshing, refreshing} fails
+        // {refreshing, refreshing} works
         rt.setRefreshing(true);
-        expectException(test, UnsupportedOperationException.class);
+        verifyRefreshingResult(test, expected);
 
-        // {static, refreshing} fails
+        // {static, refreshing} works
         lt.setRefreshing(false);
-        expectException(test, UnsupportedOperationException.class);
+        verifyRefreshingResult(test, expected);
+    }
+
+    private static void verifyRefreshingResult(@NotNull final Supplier<Table> test, @NotNull final Table expected) {
+        final Table result = test.get();
+        assertThat(result.isRefreshing()).isTrue();
+        TstUtils.assertTableEquals(expected, result);
     }
 
     @Test
@@ -513,4 +534,132 @@ public class QueryTableRangeJoinTest {
             }
         }
     }
+
+    @Test
+    public void testRangeJoinIncremental() {
+        for (int seed = 0; seed < 10; ++seed) {
+            testRangeJoinIncremental(seed, 10, 100, 20);
+            testRangeJoinIncremental(seed, 1000, 1000, 10);
+        }
+    }
+
+    @Test
+    public void testRangeJoinIncrementalModifiesOnlyAffectedRows() {
+        final Table left = TstUtils.testTable(
+                intCol("LSV", 0, 10, 20, 30),
+                intCol("LEV", 5, 15, 25, 35));
+        final QueryTable right = TstUtils.testRefreshingTable(i(10, 20, 30, 40).toTracking(),
+                intCol("RRV", 1, 11, 21, 31),
+                intCol("RS", 100, 110, 120, 130));
+
+        final QueryTable result = (QueryTable) left.rangeJoin(right,
+                List.of("LSV <= RRV <= LEV"), List.of(AggGroup("RS")));
+        final QueryTable resultWithNeighbors = (QueryTable) left.rangeJoin(right,
+                List.of("<- LSV <= RRV <= LEV ->"), List.of(AggGroup("RS")));
+        final SimpleListener listener = new SimpleListener(result);
+        result.addUpdateListener(listener);
+        final SimpleListener neighborsListener = new SimpleListener(resultWithNeighbors);
+        resultWithNeighbors.addUpdateListener(neighborsListener);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        // Adding a right row inside the range of left row 2 shifts the positions of left row 3's matches, but must not
+        // modify left row 3 (or rows 0 and 1); with neighbors allowed, left row 3's preceding row changes as well
+        updateGraph.runWithinUnitTestCycle(() -> {
+            TstUtils.addToTable(right, i(35), intCol("RRV", 23), intCol("RS", 123));
+            right.notifyListeners(i(35), i(), i());
+        });
+        assertThat(listener.getUpdate().modified()).isEqualTo(i(2));
+        assertThat(neighborsListener.getUpdate().modified()).isEqualTo(i(2, 3));
+        assertRangeJoinMatchesStatic(left, right, result, "LSV <= RRV <= LEV");
+        assertRangeJoinMatchesStatic(left, right, resultWithNeighbors, "<- LSV <= RRV <= LEV ->");
+        listener.reset();
+        neighborsListener.reset();
+
+        // Removing the first right row only modifies the left rows that matched it
+        updateGraph.runWithinUnitTestCycle(() -> {
+            TstUtils.removeRows(right, i(10));
+            right.notifyListeners(i(), i(10), i());
+        });
+        assertThat(listener.getUpdate().modified()).isEqualTo(i(0));
+        assertThat(neighborsListener.getUpdate().modified()).isEqualTo(i(0, 1));
+        assertRangeJoinMatchesStatic(left, right, result, "LSV <= RRV <= LEV");
+        assertRangeJoinMatchesStatic(left, right, resultWithNeighbors, "<- LSV <= RRV <= LEV ->");
+        listener.reset();
+        neighborsListener.reset();
+
+        // Modifying only an aggregated column modifies only the left rows whose ranges include the modified row
+        updateGraph.runWithinUnitTestCycle(() -> {
+            TstUtils.addToTable(right, i(40), intCol("RRV", 31), intCol("RS", 131));
+            final TableUpdateImpl update = new TableUpdateImpl(
+                    i(), i(), i(40), RowSetShiftData.EMPTY, right.newModifiedColumnSet("RS"));
+            right.notifyListeners(update);
+        });
+        assertThat(listener.getUpdate().modified()).isEqualTo(i(3));
+        assertThat(neighborsListener.getUpdate().modified()).isEqualTo(i(2, 3));
+        assertRangeJoinMatchesStatic(left, right, result, "LSV <= RRV <= LEV");
+        assertRangeJoinMatchesStatic(left, right, resultWithNeighbors, "<- LSV <= RRV <= LEV ->");
+
+        listener.close();
+        neighborsListener.close();
+    }
+
+    private static void assertRangeJoinMatchesStatic(
+            @NotNull final Table left,
+            @NotNull final Table right,
+            @NotNull final Table result,
+            @NotNull final String rangeMatch) {
+        TstUtils.assertTableEquals(
+                left.snapshot().rangeJoin(right.snapshot(), List.of(rangeMatch), List.of(AggGroup("RS"))),
+                result);
+    }
+
+    private static void testRangeJoinIncremental(
+            final int seed,
+            final int leftSize,
+            final int rightSize,
+            final int maxSteps) {
+        final Random random = new Random(seed);
+
+        final ColumnInfo<?, ?>[] leftColumnInfo;
+        final QueryTable leftTable = getTable(leftSize, random,
+                leftColumnInfo = initColumnInfos(new String[] {"BB", "LSV", "LEV", "LeftSentinel"},
+                        new IntGenerator(0, 10),
+                        new IntGenerator(0, 1000, 0.1),
+                        new IntGenerator(0, 1000, 0.1),
+                        new IntGenerator(10_000_000, 10_010_000)));
+        final ColumnInfo<?, ?>[] rightColumnInfo;
+        final QueryTable rightTable = getTable(rightSize, random,
+                rightColumnInfo = initColumnInfos(new String[] {"BB", "RRV", "RightSentinel"},
+                        new IntGenerator(0, 12),
+                        new IntGenerator(0, 1000, 0.1),
+                        new IntGenerator(20_000_000, 20_010_000)));
+        // Right range values must be ascending within each bucket
+        final Table rightSorted = rightTable.sort("RRV");
+        final Table leftStatic = leftTable.snapshot();
+        final Table rightStatic = rightSorted.snapshot();
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> leftTable.rangeJoin(rightSorted,
+                        List.of("BB", "LSV < RRV < LEV"), List.of(AggGroup("RRV", "RightSentinel")))),
+                EvalNugget.from(() -> leftTable.rangeJoin(rightSorted,
+                        List.of("BB", "<- LSV <= RRV <= LEV ->"), List.of(AggGroup("RightSentinel")))),
+                EvalNugget.from(() -> leftTable.rangeJoin(rightSorted,
+                        List.of("LSV <= RRV < LEV"), List.of(AggGroup("RightSentinel")))),
+                EvalNugget.from(() -> leftStatic.rangeJoin(rightSorted,
+                        List.of("BB", "LSV < RRV <= LEV"), List.of(AggGroup("RightSentinel")))),
+                EvalNugget.from(() -> leftTable.rangeJoin(rightStatic,
+                        List.of("BB", "LSV <= RRV <= LEV"), List.of(AggGroup("RightSentinel")))),
+        };
+
+        for (int step = 0; step < maxSteps; ++step) {
+            final String context = "seed=" + seed + ", step=" + step;
+            if (random.nextBoolean()) {
+                simulateShiftAwareStep(context + " (left)", leftSize, random, leftTable, leftColumnInfo, en);
+            }
+            if (random.nextBoolean()) {
+                simulateShiftAwareStep(context + " (right)", rightSize, random, rightTable, rightColumnInfo, en);
+            }
+        }
+    }
 }
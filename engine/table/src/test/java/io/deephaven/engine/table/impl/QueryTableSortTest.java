@@ -894,4 +894,37 @@ public class QueryTableSortTest extends QueryTableTestBase {
         final Table sd = t.sortDescending("Key");
         assertNotSame(t.getRowSet(), sd.getRowSet());
     }
+
+    public void testParallelSort() {
+        final long parallelSortMinimumSize = SortHelpers.parallelSortMinimumSize;
+        final int parallelSortRuns = SortHelpers.parallelSortRuns;
+        try {
+            final Table source = emptyTable(100_003).update(
+                    "IntCol=(int)(ii * 7919 % 1013)",
+                    "DoubleCol=ii % 17 == 0 ? NULL_DOUBLE : (double)(ii * 31 % 101) / 3",
+                    "StrCol=`S` + (ii * 13 % 211)",
+                    "Sentinel=ii");
+
+            SortHelpers.parallelSortMinimumSize = 0;
+            final Table[] expected = new Table[] {
+                    source.sort("IntCol"), source.sortDescending("IntCol"),
+                    source.sort("DoubleCol"), source.sortDescending("DoubleCol"),
+                    source.sort("StrCol"), source.sortDescending("StrCol")};
+
+            SortHelpers.parallelSortMinimumSize = 1;
+            for (final int runs : new int[] {2, 7, 64}) {
+                SortHelpers.parallelSortRuns = runs;
+                final Table[] actual = new Table[] {
+                        source.sort("IntCol"), source.sortDescending("IntCol"),
+                        source.sort("DoubleCol"), source.sortDescending("DoubleCol"),
+                        source.sort("StrCol"), source.sortDescending("StrCol")};
+                for (int ti = 0; ti < expected.length; ++ti) {
+                    assertTableEquals(expected[ti], actual[ti]);
+                }
+            }
+        } finally {
+            SortHelpers.parallelSortMinimumSize = parallelSortMinimumSize;
+            SortHelpers.parallelSortRuns = parallelSortRuns;
+        }
+    }
 }
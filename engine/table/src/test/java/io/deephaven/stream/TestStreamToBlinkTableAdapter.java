@@ -7,6 +7,7 @@ import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
@@ -26,7 +27,13 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.deephaven.engine.util.TableTools.*;
 
@@ -446,6 +453,127 @@ public class TestStreamToBlinkTableAdapter {
         TestCase.assertTrue(listenerFailed.booleanValue());
     }
 
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final TableDefinition tableDefinition = TableDefinition.from(List.of("L"), List.of(long.class));
+        final DummyStreamPublisher streamPublisher = new DummyStreamPublisher();
+
+        final StreamToBlinkTableAdapter adapter = new StreamToBlinkTableAdapter(
+                tableDefinition, streamPublisher, ExecutionContext.getContext().getUpdateGraph(), "test");
+        final Table result = adapter.table();
+
+        final int numProducers = 4;
+        final int batchesPerProducer = 20_000;
+        final Thread[] producers = new Thread[numProducers];
+        for (int pi = 0; pi < numProducers; ++pi) {
+            final long producerOffset = (long) pi * batchesPerProducer;
+            producers[pi] = new Thread(() -> {
+                for (int bi = 0; bi < batchesPerProducer; ++bi) {
+                    final WritableLongChunk<Values> wlc = WritableLongChunk.makeWritableChunk(1);
+                    wlc.set(0, producerOffset + bi);
+                    // noinspection unchecked
+                    adapter.accept(new WritableChunk[] {wlc});
+                }
+            });
+            producers[pi].start();
+        }
+
+        // Refresh while the producers are pushing, and once more after they are done
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final List<Long> delivered = new ArrayList<>();
+        while (Arrays.stream(producers).anyMatch(Thread::isAlive)) {
+            updateGraph.runWithinUnitTestCycle(adapter::run);
+            collectDelivered(result, delivered);
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        updateGraph.runWithinUnitTestCycle(adapter::run);
+        collectDelivered(result, delivered);
+
+        // No row is lost or duplicated, and each producer's rows are in the order it produced them
+        TestCase.assertEquals(numProducers * batchesPerProducer, delivered.size());
+        final boolean[] seen = new boolean[numProducers * batchesPerProducer];
+        final long[] lastByProducer = new long[numProducers];
+        Arrays.fill(lastByProducer, -1);
+        for (final long value : delivered) {
+            TestCase.assertFalse(seen[(int) value]);
+            seen[(int) value] = true;
+            final int pi = (int) (value / batchesPerProducer);
+            TestCase.assertTrue(value > lastByProducer[pi]);
+            lastByProducer[pi] = value;
+        }
+    }
+
+    @Test
+    public void testCloseWhileProducing() throws InterruptedException {
+        final TableDefinition tableDefinition = TableDefinition.from(List.of("L"), List.of(long.class));
+        final DummyStreamPublisher streamPublisher = new DummyStreamPublisher();
+
+        final StreamToBlinkTableAdapter adapter = new StreamToBlinkTableAdapter(
+                tableDefinition, streamPublisher, ExecutionContext.getContext().getUpdateGraph(), "test");
+        final Table result = adapter.table();
+
+        final int numProducers = 4;
+        final long maxBatchesPerProducer = 1L << 24;
+        final int batchesAfterClose = 1000;
+        final long[] batchesProduced = new long[numProducers];
+        final Map<Long, Integer> releases = new ConcurrentHashMap<>();
+        final Thread[] producers = new Thread[numProducers];
+        for (int pi = 0; pi < numProducers; ++pi) {
+            final int producerIndex = pi;
+            final long producerOffset = pi * maxBatchesPerProducer;
+            producers[pi] = new Thread(() -> {
+                // Keep producing until well after the adapter is closed
+                long bi = 0;
+                for (int afterClose = 0; afterClose < batchesAfterClose && bi < maxBatchesPerProducer; ++bi) {
+                    if (!adapter.isAlive()) {
+                        ++afterClose;
+                    }
+                    final long value = producerOffset + bi;
+                    final WritableLongChunk<Values> wlc = new WritableLongChunk<Values>(new long[] {value}, 0, 1) {
+                        @Override
+                        public void close() {
+                            releases.merge(value, 1, Integer::sum);
+                        }
+                    };
+                    // noinspection unchecked
+                    adapter.accept(new WritableChunk[] {wlc});
+                }
+                batchesProduced[producerIndex] = bi;
+            });
+            producers[pi].start();
+        }
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final List<Long> delivered = new ArrayList<>();
+        for (int cycle = 0; cycle < 10 || delivered.isEmpty(); ++cycle) {
+            updateGraph.runWithinUnitTestCycle(adapter::run);
+            collectDelivered(result, delivered);
+        }
+        adapter.close();
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+
+        // Every chunk is either delivered once, or released once without being delivered
+        final Set<Long> deliveredSet = new HashSet<>(delivered);
+        TestCase.assertEquals(delivered.size(), deliveredSet.size());
+        for (int pi = 0; pi < numProducers; ++pi) {
+            for (long bi = 0; bi < batchesProduced[pi]; ++bi) {
+                final long value = pi * maxBatchesPerProducer + bi;
+                if (!deliveredSet.contains(value)) {
+                    TestCase.assertEquals(Integer.valueOf(1), releases.get(value));
+                }
+            }
+        }
+    }
+
+    private static void collectDelivered(@NotNull final Table result, @NotNull final List<Long> delivered) {
+        final ColumnSource<Long> values = result.getColumnSource("L", long.class);
+        result.getRowSet().forAllRowKeys(rowKey -> delivered.add(values.getLong(rowKey)));
+    }
+
     private static class DummyStreamPublisher implements StreamPublisher {
 
         private boolean fail;
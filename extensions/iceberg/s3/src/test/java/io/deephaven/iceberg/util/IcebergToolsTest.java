@@ -12,6 +12,7 @@ import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.extensions.s3.S3Instructions;
 import io.deephaven.iceberg.TestCatalog.IcebergTestCatalog;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.test.types.OutOfBandTest;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.catalog.Catalog;
@@ -42,6 +43,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
 import static io.deephaven.iceberg.util.IcebergCatalogAdapter.NAMESPACE_DEFINITION;
 import static io.deephaven.iceberg.util.IcebergCatalogAdapter.SNAPSHOT_DEFINITION;
 import static io.deephaven.iceberg.util.IcebergCatalogAdapter.TABLES_DEFINITION;
@@ -298,6 +300,39 @@ public abstract class IcebergToolsTest {
         Assert.equals(table.getDefinition(), "table.getDefinition()", SALES_MULTI_DEFINITION);
     }
 
+    @Test
+    public void testOpenTableFilteredByStatistics()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        uploadSalesMulti();
+
+        final IcebergCatalogAdapter adapter = IcebergTools.createAdapter(resourceCatalog);
+        final ParquetFooterCache footerCache = ParquetFooterCache.getInstance();
+
+        // Each data file's footer is looked up once when its location is created, so lookups count data files read
+        long lookupsBefore = footerCache.getHits() + footerCache.getMisses();
+        final Table coalesced = adapter.readTable("sales.sales_multi", instructions).coalesce();
+        Assert.eq(footerCache.getHits() + footerCache.getMisses() - lookupsBefore, "data files read", 4);
+
+        // Filters on non-partitioning columns may skip data files by their manifest statistics, but must still
+        // produce the same rows as filtering every file. Every file holds Units_Sold values from 1 or 2 to 10000, and
+        // Region values from "Asia" to "Sub-Saharan Afr...", so only some Units_Sold filters can skip files.
+        final Map<String, Integer> expectedDataFilesRead = new LinkedHashMap<>();
+        expectedDataFilesRead.put("Units_Sold >= 5000", 4);
+        expectedDataFilesRead.put("Units_Sold <= 1", 3);
+        expectedDataFilesRead.put("Units_Sold > 1000000", 0);
+        expectedDataFilesRead.put("Region = `Europe`", 4);
+        expectedDataFilesRead.put("Region = `Atlantis`", 4);
+        for (final Map.Entry<String, Integer> entry : expectedDataFilesRead.entrySet()) {
+            final String filter = entry.getKey();
+            final int expectedFiles = entry.getValue();
+            lookupsBefore = footerCache.getHits() + footerCache.getMisses();
+            final Table readAndFiltered = adapter.readTable("sales.sales_multi", instructions).where(filter);
+            assertTableEquals(coalesced.where(filter), readAndFiltered);
+            Assert.eq(footerCache.getHits() + footerCache.getMisses() - lookupsBefore, "data files read for " + filter,
+                    expectedFiles);
+        }
+    }
+
     @Test
     public void testOpenTableC() throws ExecutionException, InterruptedException, TimeoutException {
         uploadSalesSingle();
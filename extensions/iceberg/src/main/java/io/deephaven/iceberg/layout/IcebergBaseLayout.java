@@ -4,9 +4,11 @@
 package io.deephaven.iceberg.layout;
 
 import io.deephaven.base.FileUtils;
+import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.locations.impl.TableLocationKeyFinder;
+import io.deephaven.iceberg.location.IcebergDataFileStatistics;
 import io.deephaven.iceberg.location.IcebergTableLocationKey;
 import io.deephaven.iceberg.location.IcebergTableParquetLocationKey;
 import io.deephaven.iceberg.relative.RelativeFileIO;
@@ -15,6 +17,7 @@ import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.iceberg.internal.DataInstructionsProviderLoader;
 import org.apache.iceberg.*;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.types.Types;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -66,11 +69,18 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
      */
     ParquetInstructions parquetInstructions;
 
+    /**
+     * The Iceberg fields of the non-partitioning columns in {@link #tableDef}, keyed by column name, whose per-file
+     * statistics are recorded with each location key so that filters can skip data files that cannot match them.
+     */
+    private final Map<String, Types.NestedField> statisticsFields;
+
     protected IcebergTableLocationKey locationKey(
-            final org.apache.iceberg.FileFormat format,
+            @NotNull final DataFile df,
             final URI fileUri,
             @Nullable final Map<String, Comparable<?>> partitions) {
 
+        final org.apache.iceberg.FileFormat format = df.format();
         if (format == org.apache.iceberg.FileFormat.PARQUET) {
             if (parquetInstructions == null) {
                 // Start with user-supplied instructions (if provided).
@@ -99,7 +109,8 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
 
                 parquetInstructions = builder.build();
             }
-            return new IcebergTableParquetLocationKey(fileUri, 0, partitions, parquetInstructions);
+            return new IcebergTableParquetLocationKey(fileUri, 0, partitions, parquetInstructions,
+                    IcebergDataFileStatistics.from(df, tableDef, statisticsFields));
         }
         throw new UnsupportedOperationException(String.format("%s:%d - an unsupported file format %s for URI '%s'",
                 table, snapshot.snapshotId(), format, fileUri));
@@ -127,6 +138,19 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
         this.dataInstructionsProvider = dataInstructionsProvider;
 
         this.cache = new HashMap<>();
+
+        final Integer schemaId = tableSnapshot.schemaId();
+        final Schema schema = schemaId == null ? table.schema() : table.schemas().get(schemaId);
+        this.statisticsFields = new HashMap<>();
+        if (schema != null) {
+            for (final Types.NestedField field : schema.columns()) {
+                final String name = instructions.columnRenames().getOrDefault(field.name(), field.name());
+                final ColumnDefinition<?> columnDef = tableDef.getColumn(name);
+                if (columnDef != null && !columnDef.isPartitioning() && field.type().isPrimitiveType()) {
+                    statisticsFields.put(name, field);
+                }
+            }
+        }
     }
 
     abstract IcebergTableLocationKey keyFromDataFile(DataFile df, URI fileUri);
@@ -43,6 +43,6 @@ public final class IcebergFlatLayout extends IcebergBaseLayout {
 
     @Override
     IcebergTableLocationKey keyFromDataFile(DataFile df, URI fileUri) {
-        return locationKey(df.format(), fileUri, null);
+        return locationKey(df, fileUri, null);
     }
 }
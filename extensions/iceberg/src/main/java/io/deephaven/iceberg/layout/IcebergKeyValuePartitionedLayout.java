@@ -101,6 +101,6 @@ public final class IcebergKeyValuePartitionedLayout extends IcebergBaseLayout {
             }
             partitions.put(colName, (Comparable<?>) colValue);
         }
-        return locationKey(df.format(), fileUri, partitions);
+        return locationKey(df, fileUri, partitions);
     }
 }
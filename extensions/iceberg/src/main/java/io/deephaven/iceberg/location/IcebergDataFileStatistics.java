@@ -0,0 +1,181 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.location;
+
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The per-column lower and upper bounds and null counts recorded for an Iceberg {@link DataFile} in its manifest entry,
+ * converted to the boxed native types of the Deephaven columns they describe, so that
+ * {@link StatisticsPredicate statistics predicates} can rule out whole data files without reading them.
+ * <p>
+ * Only types whose Iceberg bound ordering agrees with Deephaven's are supported: integers, UTC timestamps (as epoch
+ * nanoseconds), floating point values, and strings. Iceberg bounds may be truncated, but always remain valid bounds.
+ */
+public final class IcebergDataFileStatistics {
+
+    private static final class ColumnStatistics {
+        /**
+         * The lower and upper bounds, or {@code null} for both if the column holds only nulls.
+         */
+        private final Object min;
+        private final Object max;
+        private final boolean hasNulls;
+
+        private ColumnStatistics(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+            this.min = min;
+            this.max = max;
+            this.hasNulls = hasNulls;
+        }
+    }
+
+    private final Map<String, ColumnStatistics> columnStatistics;
+
+    private IcebergDataFileStatistics(@NotNull final Map<String, ColumnStatistics> columnStatistics) {
+        this.columnStatistics = columnStatistics;
+    }
+
+    /**
+     * Extract the statistics for {@code fields} from {@code dataFile}.
+     *
+     * @param dataFile The data file
+     * @param tableDef The {@link TableDefinition} of the table the data file is read into
+     * @param fields The Iceberg fields to extract statistics for, keyed by the name of the column in {@code tableDef}
+     *        they are read as
+     * @return The statistics, or {@code null} if the data file has no usable statistics for any of the fields
+     */
+    @Nullable
+    public static IcebergDataFileStatistics from(
+            @NotNull final DataFile dataFile,
+            @NotNull final TableDefinition tableDef,
+            @NotNull final Map<String, Types.NestedField> fields) {
+        final Map<Integer, ByteBuffer> lowerBounds = nullToEmpty(dataFile.lowerBounds());
+        final Map<Integer, ByteBuffer> upperBounds = nullToEmpty(dataFile.upperBounds());
+        final Map<Integer, Long> nullCounts = nullToEmpty(dataFile.nullValueCounts());
+        final Map<Integer, Long> valueCounts = nullToEmpty(dataFile.valueCounts());
+        final Map<Integer, Long> nanCounts = nullToEmpty(dataFile.nanValueCounts());
+
+        final Map<String, ColumnStatistics> columnStatistics = new HashMap<>();
+        for (final Map.Entry<String, Types.NestedField> column : fields.entrySet()) {
+            final Types.NestedField field = column.getValue();
+            final Class<?> dataType = tableDef.getColumn(column.getKey()).getDataType();
+            final int fieldId = field.fieldId();
+            final Long nullCount = nullCounts.get(fieldId);
+            final Long valueCount = valueCounts.get(fieldId);
+            final boolean hasNulls = nullCount == null || nullCount > 0;
+            if (nullCount != null && valueCount != null && nullCount >= valueCount) {
+                columnStatistics.put(column.getKey(), new ColumnStatistics(null, null, true));
+                continue;
+            }
+            final Object min = decode(field.type(), dataType, lowerBounds.get(fieldId));
+            Object max = decode(field.type(), dataType, upperBounds.get(fieldId));
+            if (min == null || max == null) {
+                continue;
+            }
+            if (min instanceof Float || min instanceof Double) {
+                // Iceberg bounds exclude NaN, which Deephaven orders above all other values
+                final Long nanCount = nanCounts.get(fieldId);
+                if (nanCount == null || nanCount > 0) {
+                    max = min instanceof Float ? (Object) Float.NaN : (Object) Double.NaN;
+                }
+            }
+            columnStatistics.put(column.getKey(), new ColumnStatistics(min, max, hasNulls));
+        }
+        return columnStatistics.isEmpty() ? null : new IcebergDataFileStatistics(columnStatistics);
+    }
+
+    /**
+     * Determine whether the data file may contain any value that {@code predicate} would match.
+     *
+     * @param predicate The predicate
+     * @return Whether the data file may contain a matching value
+     */
+    public boolean mayMatch(@NotNull final StatisticsPredicate predicate) {
+        final ColumnStatistics statistics = columnStatistics.get(predicate.getColumnName());
+        if (statistics == null) {
+            return true;
+        }
+        return predicate.mayMatch(statistics.min, statistics.max, statistics.hasNulls);
+    }
+
+    private static <K, V> Map<K, V> nullToEmpty(@Nullable final Map<K, V> map) {
+        return map == null ? Collections.emptyMap() : map;
+    }
+
+    /**
+     * Decode a single-value serialized bound into the boxed native type of a Deephaven column of {@code dataType}.
+     *
+     * @return The decoded bound, or {@code null} if the bound is missing or cannot be used
+     */
+    @Nullable
+    private static Object decode(
+            @NotNull final Type type,
+            @NotNull final Class<?> dataType,
+            @Nullable final ByteBuffer bound) {
+        if (bound == null) {
+            return null;
+        }
+        final Object value;
+        try {
+            value = Conversions.fromByteBuffer(type, bound.duplicate());
+        } catch (final RuntimeException e) {
+            // E.g., a bound written before the column's type was promoted, in a form we don't recognize
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        switch (type.typeId()) {
+            case INTEGER:
+                return dataType == int.class ? (Object) ((Number) value).intValue() : null;
+            case LONG:
+                return dataType == long.class ? (Object) ((Number) value).longValue() : null;
+            case FLOAT:
+                return dataType == float.class ? (Object) ((Number) value).floatValue() : null;
+            case DOUBLE:
+                return dataType == double.class ? (Object) ((Number) value).doubleValue() : null;
+            case STRING:
+                return dataType == String.class ? toComparableString(value.toString()) : null;
+            case TIMESTAMP:
+                if (dataType != Instant.class || !((Types.TimestampType) type).shouldAdjustToUTC()) {
+                    return null;
+                }
+                try {
+                    return Math.multiplyExact((Long) value, 1_000L);
+                } catch (final ArithmeticException e) {
+                    return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Iceberg orders strings by their unsigned UTF-8 bytes, which is code point order. That agrees with
+     * {@link String#compareTo(String)} for any value bounded by strings without surrogates or characters above them,
+     * so such bounds are not used.
+     */
+    @Nullable
+    private static String toComparableString(@NotNull final String value) {
+        for (int ci = 0; ci < value.length(); ++ci) {
+            if (value.charAt(ci) >= Character.MIN_SURROGATE) {
+                return null;
+            }
+        }
+        return value;
+    }
+}
@@ -4,6 +4,7 @@
 package io.deephaven.iceberg.location;
 
 import io.deephaven.engine.table.impl.locations.TableLocationKey;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
 import org.jetbrains.annotations.NotNull;
@@ -19,6 +20,7 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
     private static final String IMPLEMENTATION_NAME = IcebergTableParquetLocationKey.class.getSimpleName();
 
     private final ParquetInstructions readInstructions;
+    private final IcebergDataFileStatistics statistics;
 
     /**
      * Construct a new IcebergTableParquetLocationKey for the supplied {@code fileUri} and {@code partitions}.
@@ -35,8 +37,31 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
             final int order,
             @Nullable final Map<String, Comparable<?>> partitions,
             @NotNull final ParquetInstructions readInstructions) {
+        this(fileUri, order, partitions, readInstructions, null);
+    }
+
+    /**
+     * Construct a new IcebergTableParquetLocationKey for the supplied {@code fileUri} and {@code partitions}, with the
+     * data file's column statistics from its manifest entry.
+     *
+     * @param fileUri The file that backs the keyed location
+     * @param order Explicit ordering index, taking precedence over other fields
+     * @param partitions The table partitions enclosing the table location keyed by {@code this}. Note that if this
+     *        parameter is {@code null}, the location will be a member of no partitions. An ordered copy of the map will
+     *        be made, so the calling code is free to mutate the map after this call
+     * @param readInstructions the instructions for customizations while reading
+     * @param statistics the data file's column statistics, used to skip this location for filters it cannot match, or
+     *        {@code null} if there are none
+     */
+    public IcebergTableParquetLocationKey(
+            @NotNull final URI fileUri,
+            final int order,
+            @Nullable final Map<String, Comparable<?>> partitions,
+            @NotNull final ParquetInstructions readInstructions,
+            @Nullable final IcebergDataFileStatistics statistics) {
         super(fileUri, order, partitions, readInstructions);
         this.readInstructions = readInstructions;
+        this.statistics = statistics;
     }
 
     @Override
@@ -48,4 +73,9 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
     public ParquetInstructions readInstructions() {
         return readInstructions;
     }
+
+    @Override
+    public boolean mayMatch(@NotNull final StatisticsPredicate predicate) {
+        return statistics == null || statistics.mayMatch(predicate);
+    }
 }
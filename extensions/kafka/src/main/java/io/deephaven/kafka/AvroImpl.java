@@ -12,6 +12,9 @@ import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientExcept
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.base.string.cache.ConcurrentBoundedStringCache;
+import io.deephaven.base.string.cache.StringCache;
+import io.deephaven.base.string.cache.StringCacheTypeAdapterStringImpl;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
@@ -20,6 +23,7 @@ import io.deephaven.kafka.KafkaTools.Consume;
 import io.deephaven.kafka.KafkaTools.KeyOrValue;
 import io.deephaven.kafka.KafkaTools.KeyOrValueIngestData;
 import io.deephaven.kafka.KafkaTools.Produce;
+import io.deephaven.kafka.ingest.AvroBinaryChunkAdapter;
 import io.deephaven.kafka.ingest.GenericRecordChunkAdapter;
 import io.deephaven.kafka.ingest.KeyOrValueProcessor;
 import io.deephaven.kafka.publish.GenericRecordKeyOrValueSerializer;
@@ -38,9 +42,11 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -57,6 +63,10 @@ import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import static io.deephaven.kafka.KafkaTools.AVRO_LATEST_VERSION;
+import static io.deephaven.kafka.KafkaTools.AVRO_DIRECT_DECODING_DEFAULT;
+import static io.deephaven.kafka.KafkaTools.AVRO_DIRECT_DECODING_PROPERTY;
+import static io.deephaven.kafka.KafkaTools.AVRO_STRING_CACHE_SIZE_DEFAULT;
+import static io.deephaven.kafka.KafkaTools.AVRO_STRING_CACHE_SIZE_PROPERTY;
 import static io.deephaven.kafka.KafkaTools.NESTED_FIELD_NAME_SEPARATOR;
 
 class AvroImpl {
@@ -105,10 +115,32 @@ class AvroImpl {
             return Optional.of(new AvroSchemaProvider());
         }
 
+        /**
+         * The state needed to decode records directly from their binary encoding, see
+         * {@link KafkaTools#AVRO_DIRECT_DECODING_PROPERTY}.
+         */
+        private static final class DirectDecoding {
+            private final Schema schema;
+            private final SchemaRegistryClient schemaRegistryClient;
+            private final StringCache<String> stringCache;
+
+            private DirectDecoding(
+                    @NotNull final Schema schema,
+                    @NotNull final SchemaRegistryClient schemaRegistryClient,
+                    @Nullable final StringCache<String> stringCache) {
+                this.schema = schema;
+                this.schemaRegistryClient = schemaRegistryClient;
+                this.stringCache = stringCache;
+            }
+        }
+
         @Override
         protected Deserializer<?> getDeserializer(KeyOrValue keyOrValue, SchemaRegistryClient schemaRegistryClient,
                 Map<String, ?> configs) {
             ensureSchema(schemaRegistryClient);
+            if (useDirectDecoding(schemaRegistryClient, configs)) {
+                return new ByteArrayDeserializer();
+            }
             return new KafkaAvroDeserializerWithReaderSchema(schemaRegistryClient);
         }
 
@@ -121,12 +153,32 @@ class AvroImpl {
             data.fieldPathToColumnName = new HashMap<>();
             avroSchemaToColumnDefinitions(columnDefinitionsOut, data.fieldPathToColumnName, schema,
                     fieldPathToColumnName, useUTF8Strings);
-            data.extra = schema;
+            if (useDirectDecoding(schemaRegistryClient, configs)) {
+                final int stringCacheSize = configs.containsKey(AVRO_STRING_CACHE_SIZE_PROPERTY)
+                        ? Integer.parseInt(((String) configs.get(AVRO_STRING_CACHE_SIZE_PROPERTY)).trim())
+                        : AVRO_STRING_CACHE_SIZE_DEFAULT;
+                data.extra = new DirectDecoding(schema, schemaRegistryClient, stringCacheSize <= 0
+                        ? null
+                        : new ConcurrentBoundedStringCache<>(
+                                StringCacheTypeAdapterStringImpl.INSTANCE, stringCacheSize, 2));
+            } else {
+                data.extra = schema;
+            }
             return data;
         }
 
         @Override
         protected KeyOrValueProcessor getProcessor(TableDefinition tableDef, KeyOrValueIngestData data) {
+            if (data.extra instanceof DirectDecoding) {
+                final DirectDecoding directDecoding = (DirectDecoding) data.extra;
+                return AvroBinaryChunkAdapter.make(
+                        tableDef,
+                        data.fieldPathToColumnName,
+                        NESTED_FIELD_NAME_SEPARATOR,
+                        directDecoding.schema,
+                        directDecoding.schemaRegistryClient,
+                        directDecoding.stringCache);
+            }
             return GenericRecordChunkAdapter.make(
                     tableDef,
                     ci -> StreamChunkUtils.chunkTypeForColumnIndex(tableDef, ci),
@@ -147,6 +199,26 @@ class AvroImpl {
             schema = Objects.requireNonNull(getAvroSchema(schemaRegistryClient, schemaName, schemaVersion));
         }
 
+        /**
+         * Whether to decode records directly from their binary encoding. This requires that it was requested, that
+         * writer schemas can be looked up, and that every field mapped to a column can be decoded directly; otherwise,
+         * records are deserialized to {@link GenericRecord GenericRecords}.
+         */
+        private boolean useDirectDecoding(
+                @Nullable final SchemaRegistryClient schemaRegistryClient,
+                @NotNull final Map<String, ?> configs) {
+            final boolean requested = configs.containsKey(AVRO_DIRECT_DECODING_PROPERTY)
+                    ? Boolean.parseBoolean(((String) configs.get(AVRO_DIRECT_DECODING_PROPERTY)).trim())
+                    : AVRO_DIRECT_DECODING_DEFAULT;
+            if (!requested || schemaRegistryClient == null) {
+                return false;
+            }
+            final Map<String, String> mappedFields = new HashMap<>();
+            avroSchemaToColumnDefinitions(new ArrayList<>(), mappedFields, schema, fieldPathToColumnName,
+                    useUTF8Strings);
+            return AvroBinaryChunkAdapter.supports(schema, mappedFields, NESTED_FIELD_NAME_SEPARATOR);
+        }
+
         /**
          * Our getProcessor relies on a specific {@link Schema}; we need to ensure that Kafka layer adapts the on-wire
          * writer's schema to our reader's schema.
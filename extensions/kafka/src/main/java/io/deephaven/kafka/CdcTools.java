@@ -315,33 +315,18 @@ public class CdcTools {
                 KafkaTools.Consume.avroSpec(valueSchema),
                 KafkaTools.TableType.blink());
         final List<String> dbTableColumnNames = dbTableColumnNames(streamingIn);
-        List<String> allDroppedColumns = null;
-        if (dropColumns != null && !dropColumns.isEmpty()) {
-            allDroppedColumns = new ArrayList<>(dropColumns);
-        }
-        if (!asBlinkTable) {
-            if (allDroppedColumns == null) {
-                allDroppedColumns = new ArrayList<>(1);
-            }
-            allDroppedColumns.add(CDC_OP_COLUMN_NAME);
-        }
         final List<String> dbTableKeyColumnNames = fieldNames(keySchema);
-        final Table narrowerStreamingTable = streamingIn
+        Table narrowerStreamingTable = streamingIn
                 .view(narrowerStreamingTableViewExpressions(dbTableKeyColumnNames, dbTableColumnNames));
+        if (dropColumns != null && !dropColumns.isEmpty()) {
+            narrowerStreamingTable = narrowerStreamingTable.dropColumns(dropColumns);
+        }
         if (asBlinkTable) {
-            if (allDroppedColumns != null) {
-                return narrowerStreamingTable.dropColumns(allDroppedColumns);
-            }
             return narrowerStreamingTable;
         }
-        final List<String> lastByColumnNames;
-        // @formatter:off
-        final Table cdc = narrowerStreamingTable
-                .lastBy(dbTableKeyColumnNames)
-                .where(CDC_OP_COLUMN_NAME + " != `" + CDC_DELETE_OP_VALUE + "`")
-                .dropColumns(allDroppedColumns);
-        // @formatter:on
-        return cdc;
+        // Apply each change in place by key, rather than keeping a lastBy of every change and filtering out deletes
+        return CdcUpsertOperation.upsert(
+                narrowerStreamingTable, dbTableKeyColumnNames, CDC_OP_COLUMN_NAME, CDC_DELETE_OP_VALUE);
     }
 
     @ScriptApi
@@ -0,0 +1,322 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.hash.TObjectLongHashMap;
+import gnu.trove.set.hash.TLongHashSet;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.BaseTable;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.table.impl.TupleSourceFactory;
+import io.deephaven.engine.table.impl.chunkboxer.ChunkBoxer;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.SafeCloseableArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the current state of a database table from a blink table of its CDC row changes, with one row per primary
+ * key. Each change is applied in place by key: deletes remove the key's row, and any other operation inserts or updates
+ * it. Unlike a {@code lastBy} of the changes followed by a filter on the operation, no aggregation state or second copy
+ * of the columns is kept beyond the key index and the result's own column sources.
+ * <p>
+ * Rows removed in one cycle are reused for keys inserted in later cycles, so the result stays dense as keys churn.
+ */
+final class CdcUpsertOperation implements QueryTable.Operation<QueryTable> {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final long NO_ROW = RowSequence.NULL_ROW_KEY;
+
+    /**
+     * Apply the row changes in {@code blinkTable} to a keyed table.
+     *
+     * @param blinkTable The blink table of row changes
+     * @param keyColumnNames The names of the primary key columns
+     * @param opColumnName The name of the column holding the CDC operation of each change; it is not included in the
+     *        result
+     * @param deleteOpValue The operation value that marks a delete
+     * @return A refreshing table with the latest values for each key that has not been deleted
+     */
+    static Table upsert(
+            @NotNull final Table blinkTable,
+            @NotNull final Collection<String> keyColumnNames,
+            @NotNull final String opColumnName,
+            @NotNull final String deleteOpValue) {
+        if (!BlinkTableTools.isBlink(blinkTable)) {
+            throw new IllegalArgumentException("Input is not a blink table!");
+        }
+        final UpdateGraph updateGraph = blinkTable.getUpdateGraph();
+        try (final SafeCloseable ignored = ExecutionContext.getContext().withUpdateGraph(updateGraph).open()) {
+            final QueryTable coalesced = (QueryTable) blinkTable.coalesce();
+            return coalesced.getResult(
+                    new CdcUpsertOperation(coalesced, keyColumnNames, opColumnName, deleteOpValue));
+        }
+    }
+
+    private final QueryTable parent;
+    private final String deleteOpValue;
+
+    private final ChunkSource.WithPrev<Values> keySource;
+    private final ColumnSource<?> opSource;
+
+    private final String[] resultColumnNames;
+    private final String[] valueColumnNames;
+    private final ColumnSource<?>[] sourceColumns;
+    private final WritableColumnSource<?>[] destColumns;
+
+    private final TObjectLongHashMap<Object> keyToRowMap =
+            new TObjectLongHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NO_ROW);
+    /**
+     * Rows removed in earlier cycles, available for reuse.
+     */
+    private final TLongArrayList freeRows = new TLongArrayList();
+    private long nextRow;
+
+    private QueryTable resultTable;
+    private ModifiedColumnSet valueColumnsModified;
+
+    private CdcUpsertOperation(
+            @NotNull final QueryTable parent,
+            @NotNull final Collection<String> keyColumnNames,
+            @NotNull final String opColumnName,
+            @NotNull final String deleteOpValue) {
+        this.parent = parent;
+        this.deleteOpValue = deleteOpValue;
+
+        keySource = TupleSourceFactory.makeTupleSource(
+                keyColumnNames.stream().map(parent::getColumnSource).toArray(ColumnSource[]::new));
+        opSource = parent.getColumnSource(opColumnName);
+
+        final List<String> resultNames = new ArrayList<>(parent.numColumns() - 1);
+        final List<String> valueNames = new ArrayList<>(parent.numColumns() - 1);
+        for (final String name : parent.getDefinition().getColumnNames()) {
+            if (name.equals(opColumnName)) {
+                continue;
+            }
+            resultNames.add(name);
+            if (!keyColumnNames.contains(name)) {
+                valueNames.add(name);
+            }
+        }
+        resultColumnNames = resultNames.toArray(String[]::new);
+        valueColumnNames = valueNames.toArray(String[]::new);
+        sourceColumns = new ColumnSource<?>[resultColumnNames.length];
+        destColumns = new WritableColumnSource<?>[resultColumnNames.length];
+    }
+
+    @Override
+    public String getDescription() {
+        return "CdcTools.upsert(" + String.join(", ", resultColumnNames) + ")";
+    }
+
+    @Override
+    public String getLogPrefix() {
+        return "CdcTools.upsert";
+    }
+
+    @Override
+    public Result<QueryTable> initialize(final boolean usePrev, final long beforeClock) {
+        final Map<String, WritableColumnSource<?>> resultColumns = new LinkedHashMap<>(resultColumnNames.length);
+        for (int ci = 0; ci < resultColumnNames.length; ++ci) {
+            final ColumnSource<?> sourceColumn = parent.getColumnSource(resultColumnNames[ci]);
+            final WritableColumnSource<?> newColumn = ArrayBackedColumnSource.getMemoryColumnSource(
+                    0, sourceColumn.getType(), sourceColumn.getComponentType());
+            resultColumns.put(resultColumnNames[ci], newColumn);
+
+            // read and write primitives whenever possible
+            sourceColumns[ci] = ReinterpretUtils.maybeConvertToPrimitive(sourceColumn);
+            destColumns[ci] = ReinterpretUtils.maybeConvertToWritablePrimitive(newColumn);
+        }
+
+        // against an empty key index, every change is an add
+        final TableUpdateImpl initial = apply(usePrev ? parent.getRowSet().prev() : parent.getRowSet(), usePrev);
+        resultTable = new QueryTable(initial.added.writableCast().toTracking(), resultColumns);
+        initial.removed.close();
+        initial.modified.close();
+        resultTable.setRefreshing(true);
+        resultColumns.values().forEach(ColumnSource::startTrackingPrevValues);
+        valueColumnsModified = resultTable.newModifiedColumnSet(valueColumnNames);
+
+        final BaseTable.ListenerImpl resultListener =
+                new BaseTable.ListenerImpl(getDescription(), parent, resultTable) {
+                    @Override
+                    public void onUpdate(final TableUpdate upstream) {
+                        CdcUpsertOperation.this.onUpdate(upstream);
+                    }
+                };
+        return new Result<>(resultTable, resultListener);
+    }
+
+    private void onUpdate(final TableUpdate upstream) {
+        if (upstream.modified().isNonempty() || upstream.shifted().nonempty()) {
+            throw new IllegalStateException("Blink tables should not modify or shift!");
+        }
+        if (upstream.added().isEmpty()) {
+            return;
+        }
+
+        final TableUpdateImpl downstream = apply(upstream.added(), false);
+        if (downstream.empty()) {
+            downstream.release();
+            return;
+        }
+        downstream.modifiedColumnSet = downstream.modified.isEmpty()
+                ? ModifiedColumnSet.EMPTY
+                : valueColumnsModified;
+        resultTable.getRowSet().writableCast().update(downstream.added, downstream.removed);
+        resultTable.notifyListeners(downstream);
+    }
+
+    /**
+     * Apply the changes in {@code rows} of the parent, in order, to the key index and the result's column sources.
+     *
+     * @return The resulting added, removed and modified rows of the result, with no shifts and the modified column set
+     *         left for the caller
+     */
+    private TableUpdateImpl apply(final RowSet rows, final boolean usePrev) {
+        final TLongHashSet added = new TLongHashSet();
+        final TLongHashSet removed = new TLongHashSet();
+        final TLongHashSet modified = new TLongHashSet();
+        // rows freed in this cycle may still be in the previous row set, so they are only reused in later cycles
+        final TLongArrayList freed = new TLongArrayList();
+
+        if (rows.isNonempty()) {
+            final int chunkSize = (int) Math.min(CHUNK_SIZE, rows.size());
+            final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[sourceColumns.length];
+            final ChunkSink.FillFromContext[] fillFromContexts = new ChunkSink.FillFromContext[destColumns.length];
+            try (final SharedContext sharedContext = SharedContext.makeSharedContext();
+                    final SafeCloseableArray<ChunkSource.GetContext> ignored1 = new SafeCloseableArray<>(getContexts);
+                    final SafeCloseableArray<ChunkSink.FillFromContext> ignored2 =
+                            new SafeCloseableArray<>(fillFromContexts);
+                    final ChunkSource.GetContext keyContext = keySource.makeGetContext(chunkSize, sharedContext);
+                    final ChunkSource.GetContext opContext = opSource.makeGetContext(chunkSize, sharedContext);
+                    final ChunkBoxer.BoxerKernel boxer = ChunkBoxer.getBoxer(keySource.getChunkType(), chunkSize);
+                    final WritableLongChunk<RowKeys> destinations = WritableLongChunk.makeWritableChunk(chunkSize);
+                    final RowSequence.Iterator rowsIt = rows.getRowSequenceIterator()) {
+                for (int ci = 0; ci < sourceColumns.length; ++ci) {
+                    getContexts[ci] = sourceColumns[ci].makeGetContext(chunkSize, sharedContext);
+                    fillFromContexts[ci] = destColumns[ci].makeFillFromContext(chunkSize);
+                }
+
+                while (rowsIt.hasMore()) {
+                    final RowSequence chunkRows = rowsIt.getNextRowSequenceWithLength(chunkSize);
+                    final LongChunk<OrderedRowKeys> rowKeys = chunkRows.asRowKeyChunk();
+                    final ObjectChunk<?, ? extends Values> keys = boxer.box(usePrev
+                            ? keySource.getPrevChunk(keyContext, chunkRows)
+                            : keySource.getChunk(keyContext, chunkRows));
+                    final ObjectChunk<?, ? extends Values> ops = (usePrev
+                            ? opSource.getPrevChunk(opContext, chunkRows)
+                            : opSource.getChunk(opContext, chunkRows)).asObjectChunk();
+
+                    final RowSetBuilderSequential upsertRowsBuilder = RowSetFactory.builderSequential();
+                    destinations.setSize(0);
+                    for (int ii = 0; ii < keys.size(); ++ii) {
+                        final Object key = keys.get(ii);
+                        long row = keyToRowMap.get(key);
+                        if (deleteOpValue.equals(ops.get(ii))) {
+                            if (row == NO_ROW) {
+                                continue;
+                            }
+                            keyToRowMap.remove(key);
+                            if (!added.remove(row)) {
+                                modified.remove(row);
+                                removed.add(row);
+                            }
+                            freed.add(row);
+                            continue;
+                        }
+                        if (row == NO_ROW) {
+                            row = freeRows.isEmpty() ? nextRow++ : freeRows.removeAt(freeRows.size() - 1);
+                            keyToRowMap.put(key, row);
+                            added.add(row);
+                        } else if (!added.contains(row)) {
+                            modified.add(row);
+                        }
+                        upsertRowsBuilder.appendKey(rowKeys.get(ii));
+                        destinations.add(row);
+                    }
+                    sharedContext.reset();
+                    if (destinations.size() == 0) {
+                        continue;
+                    }
+
+                    // repeated changes to a key within the chunk are written in order, so the last one wins
+                    try (final RowSet upsertRows = upsertRowsBuilder.build()) {
+                        for (int ci = 0; ci < sourceColumns.length; ++ci) {
+                            destColumns[ci].ensureCapacity(nextRow);
+                            destColumns[ci].fillFromChunkUnordered(fillFromContexts[ci], usePrev
+                                    ? sourceColumns[ci].getPrevChunk(getContexts[ci], upsertRows)
+                                    : sourceColumns[ci].getChunk(getContexts[ci], upsertRows),
+                                    destinations);
+                        }
+                    }
+                    sharedContext.reset();
+                }
+            }
+        }
+
+        if (!freed.isEmpty()) {
+            // null out object values, so that we do not hold onto garbage until the row is reused
+            freed.sort();
+            try (final RowSet freedRows = RowSetFactory.fromKeys(freed.toArray())) {
+                for (final WritableColumnSource<?> destColumn : destColumns) {
+                    if (destColumn.getChunkType() == ChunkType.Object) {
+                        destColumn.setNull(freedRows);
+                    }
+                }
+            }
+            freeRows.addAll(freed);
+        }
+
+        return new TableUpdateImpl(toRowSet(added), toRowSet(removed), toRowSet(modified),
+                RowSetShiftData.EMPTY, null);
+    }
+
+    private static WritableRowSet toRowSet(@NotNull final TLongHashSet rowKeys) {
+        if (rowKeys.isEmpty()) {
+            return RowSetFactory.empty();
+        }
+        final RowSetBuilderRandom builder = RowSetFactory.builderRandom();
+        rowKeys.forEach(rowKey -> {
+            builder.addKey(rowKey);
+            return true;
+        });
+        return builder.build();
+    }
+}
@@ -3,6 +3,8 @@
 //
 package io.deephaven.kafka;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.Descriptors.Descriptor;
 import gnu.trove.map.hash.TIntLongHashMap;
@@ -43,6 +45,8 @@ import io.deephaven.engine.updategraph.UpdateSourceCombiner;
 import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
+import io.deephaven.json.Value;
+import io.deephaven.json.jackson.JacksonProvider;
 import io.deephaven.kafka.AvroImpl.AvroConsume;
 import io.deephaven.kafka.AvroImpl.AvroProduce;
 import io.deephaven.kafka.IgnoreImpl.IgnoreConsume;
@@ -66,6 +70,7 @@ import io.deephaven.kafka.ingest.KafkaIngester;
 import io.deephaven.kafka.ingest.KafkaRecordConsumer;
 import io.deephaven.kafka.ingest.KafkaStreamPublisher;
 import io.deephaven.kafka.ingest.KeyOrValueProcessor;
+import io.deephaven.kafka.ingest.MultiConsumerStreamPublisher;
 import io.deephaven.kafka.protobuf.ProtobufConsumeOptions;
 import io.deephaven.kafka.publish.KafkaPublisherException;
 import io.deephaven.kafka.publish.KeyOrValueSerializer;
@@ -85,11 +90,13 @@ import io.deephaven.util.annotations.ScriptApi;
 import org.apache.avro.Schema;
 import io.deephaven.util.mutable.MutableInt;
 import org.apache.commons.lang3.mutable.MutableObject;
+import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
@@ -116,6 +123,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -127,10 +135,11 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.IntToLongFunction;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static io.deephaven.kafka.ingest.KafkaStreamPublisher.NULL_COLUMN_INDEX;
 
@@ -154,6 +163,41 @@ public class KafkaTools {
     public static final String VALUE_COLUMN_NAME_DEFAULT = "KafkaValue";
     public static final String KEY_COLUMN_TYPE_PROPERTY = "deephaven.key.column.type";
     public static final String VALUE_COLUMN_TYPE_PROPERTY = "deephaven.value.column.type";
+    /**
+     * Property for the number of Kafka consumers to ingest with. Each consumer owns a subset of the selected
+     * partitions, and polls and decodes them on its own thread, publishing to the same result. Records from any one
+     * partition are published in order. Partitions are assigned to consumers by partition number modulo the number of
+     * consumers, which never exceeds the number of selected partitions and is reduced if needed so that every consumer
+     * owns at least one partition.
+     */
+    public static final String CONSUMER_COUNT_PROPERTY = "deephaven.consumer.count";
+    public static final int CONSUMER_COUNT_DEFAULT = 1;
+    /**
+     * Consumer properties, besides security properties, needed to look up a topic's partitions.
+     */
+    private static final Set<String> CONNECTION_PROPERTIES = Set.of(
+            CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG,
+            CommonClientConfigs.CLIENT_DNS_LOOKUP_CONFIG,
+            CommonClientConfigs.REQUEST_TIMEOUT_MS_CONFIG,
+            CommonClientConfigs.DEFAULT_API_TIMEOUT_MS_CONFIG,
+            CommonClientConfigs.SOCKET_CONNECTION_SETUP_TIMEOUT_MS_CONFIG,
+            CommonClientConfigs.SOCKET_CONNECTION_SETUP_TIMEOUT_MAX_MS_CONFIG);
+    /**
+     * Property to decode Avro keys and values directly from their binary encoding into the result's chunks, rather than
+     * first deserializing each record to a {@link org.apache.avro.generic.GenericRecord GenericRecord}. Fields that are
+     * not mapped to columns are skipped, and primitive fields are never boxed. Direct decoding is only used when writer
+     * schemas can be fetched from a schema registry and every mapped field is a boolean, number, timestamp, string or
+     * enum, possibly nested in records or in unions with null; other Avro specs are ingested as usual.
+     */
+    public static final String AVRO_DIRECT_DECODING_PROPERTY = "deephaven.avro.direct.decoding";
+    public static final boolean AVRO_DIRECT_DECODING_DEFAULT = false;
+    /**
+     * Property for the capacity of the cache used to canonicalize String values when Avro is decoded directly, see
+     * {@link #AVRO_DIRECT_DECODING_PROPERTY}. Repeated values, such as symbols, then share a single String instance
+     * instead of creating one per record. A capacity of 0 disables the cache.
+     */
+    public static final String AVRO_STRING_CACHE_SIZE_PROPERTY = "deephaven.avro.string.cache.size";
+    public static final int AVRO_STRING_CACHE_SIZE_DEFAULT = 0;
     public static final String SCHEMA_SERVER_PROPERTY = AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG;
     public static final String SHORT_DESERIALIZER = ShortDeserializer.class.getName();
     public static final String INT_DESERIALIZER = IntegerDeserializer.class.getName();
@@ -359,6 +403,10 @@ public class KafkaTools {
          * {@link ObjectMapper}. JSON nodes can be specified as a string field name, or as a JSON Pointer string (see
          * RFC 6901, ISSN: 2070-1721).
          *
+         * <p>
+         * Each record is first read into a {@link com.fasterxml.jackson.databind.JsonNode JsonNode} tree. For high
+         * volume topics, prefer {@link #jsonSpec(Value)}, which parses records directly into the result chunks.
+         *
          * @param columnDefinitions An array of column definitions for specifying the table to be created
          * @param fieldToColumnName A mapping from JSON field names or JSON Pointer strings to column names provided in
          *        the definition. For each field key, if it starts with '/' it is assumed to be a JSON Pointer (e.g.,
@@ -422,6 +470,40 @@ public class KafkaTools {
             return jsonSpec(columnDefinitions, null, null);
         }
 
+        /**
+         * A JSON spec that parses each record according to {@code value}, using the Jackson streaming
+         * {@link JsonParser} to write fields directly into the result chunks. Unlike the column definition based JSON
+         * specs, no intermediate {@link com.fasterxml.jackson.databind.JsonNode JsonNode} tree or {@link String} is
+         * created for each record, which substantially reduces the CPU and allocation cost of ingestion. The columns
+         * are named and typed as described by {@link JacksonProvider}.
+         *
+         * <p>
+         * Parsers are created by a shared Deephaven-configured factory, as built by
+         * {@link io.deephaven.json.jackson.JacksonConfiguration#defaultFactoryBuilder()}, with an {@link ObjectMapper}
+         * codec when Jackson databind is on the classpath.
+         *
+         * @param value The JSON value each record is expected to hold
+         * @return A JSON spec for the given value
+         */
+        public static KeyOrValueSpec jsonSpec(@NotNull final Value value) {
+            return objectProcessorSpec(JacksonProvider.of(value));
+        }
+
+        /**
+         * A JSON spec that parses each record according to {@code value}, using parsers created by {@code factory}.
+         *
+         * <p>
+         * Equivalent to {@code objectProcessorSpec(JacksonProvider.of(value, factory))}.
+         *
+         * @param value The JSON value each record is expected to hold
+         * @param factory The Jackson factory
+         * @return A JSON spec for the given value
+         * @see #jsonSpec(Value)
+         */
+        public static KeyOrValueSpec jsonSpec(@NotNull final Value value, @NotNull final JsonFactory factory) {
+            return objectProcessorSpec(JacksonProvider.of(value, factory));
+        }
+
         /**
          * Avro spec from an Avro schema.
          *
@@ -1183,35 +1265,53 @@ public class KafkaTools {
         }
     }
 
-    private static class KafkaRecordConsumerFactoryCreator
-            implements StreamConsumerRegistrarProvider.Visitor<Function<TopicPartition, KafkaRecordConsumer>> {
+    /**
+     * Creates, for each ingester index, the factory for the {@link KafkaRecordConsumer} of each partition that
+     * ingester owns.
+     */
+    private static class KafkaRecordConsumerFactoryCreator implements
+            StreamConsumerRegistrarProvider.Visitor<IntFunction<Function<TopicPartition, KafkaRecordConsumer>>> {
 
-        private final KafkaStreamPublisher.Parameters publisherParameters;
-        private final Supplier<KafkaIngester> ingesterSupplier;
+        private final List<KafkaStreamPublisher.Parameters> publisherParameters;
+        private final IntFunction<KafkaIngester> ingesterLookup;
 
+        /**
+         * @param publisherParameters The publisher parameters for each ingester
+         * @param ingesterLookup A lookup from ingester index to ingester, for use once the ingesters are constructed
+         */
         private KafkaRecordConsumerFactoryCreator(
-                @NotNull final KafkaStreamPublisher.Parameters publisherParameters,
-                @NotNull final Supplier<KafkaIngester> ingesterSupplier) {
+                @NotNull final List<KafkaStreamPublisher.Parameters> publisherParameters,
+                @NotNull final IntFunction<KafkaIngester> ingesterLookup) {
             this.publisherParameters = publisherParameters;
-            this.ingesterSupplier = ingesterSupplier;
+            this.ingesterLookup = ingesterLookup;
         }
 
         @Override
-        public Function<TopicPartition, KafkaRecordConsumer> visit(@NotNull final Single single) {
-            final ConsumerRecordToStreamPublisherAdapter adapter = KafkaStreamPublisher.make(
-                    publisherParameters,
-                    () -> ingesterSupplier.get().shutdown());
-            single.registrar().register(publisherParameters.getTableDefinition(), adapter);
-            return (final TopicPartition tp) -> new SimpleKafkaRecordConsumer(adapter);
+        public IntFunction<Function<TopicPartition, KafkaRecordConsumer>> visit(@NotNull final Single single) {
+            final List<ConsumerRecordToStreamPublisherAdapter> adapters = new ArrayList<>(publisherParameters.size());
+            for (int ii = 0; ii < publisherParameters.size(); ++ii) {
+                final int ingesterIndex = ii;
+                adapters.add(KafkaStreamPublisher.make(
+                        publisherParameters.get(ingesterIndex),
+                        () -> ingesterLookup.apply(ingesterIndex).shutdown()));
+            }
+            single.registrar().register(publisherParameters.get(0).getTableDefinition(),
+                    adapters.size() == 1 ? adapters.get(0) : new MultiConsumerStreamPublisher(adapters));
+            return (final int ingesterIndex) -> {
+                final ConsumerRecordToStreamPublisherAdapter adapter = adapters.get(ingesterIndex);
+                return (final TopicPartition tp) -> new SimpleKafkaRecordConsumer(adapter);
+            };
         }
 
         @Override
-        public Function<TopicPartition, KafkaRecordConsumer> visit(@NotNull final PerPartition perPartition) {
-            return (final TopicPartition tp) -> {
+        public IntFunction<Function<TopicPartition, KafkaRecordConsumer>> visit(
+                @NotNull final PerPartition perPartition) {
+            return (final int ingesterIndex) -> (final TopicPartition tp) -> {
+                final KafkaStreamPublisher.Parameters parameters = publisherParameters.get(ingesterIndex);
                 final ConsumerRecordToStreamPublisherAdapter adapter = KafkaStreamPublisher.make(
-                        publisherParameters,
-                        () -> ingesterSupplier.get().shutdownPartition(tp.partition()));
-                perPartition.registrar().register(publisherParameters.getTableDefinition(), tp, adapter);
+                        parameters,
+                        () -> ingesterLookup.apply(ingesterIndex).shutdownPartition(tp.partition()));
+                perPartition.registrar().register(parameters.getTableDefinition(), tp, adapter);
                 return new SimpleKafkaRecordConsumer(adapter);
             };
         }
@@ -1333,7 +1433,8 @@ public class KafkaTools {
      *        {@link TableDefinition}. See {@link StreamConsumerRegistrarProvider#single(SingleConsumerRegistrar)
      *        single} and {@link StreamConsumerRegistrarProvider#perPartition(PerPartitionConsumerRegistrar)
      *        per-partition}.
-     * @param consumerLoopCallback callback to inject logic into the ingester's consumer loop
+     * @param consumerLoopCallback callback to inject logic into the ingester's consumer loop. If
+     *        {@link #CONSUMER_COUNT_PROPERTY} specifies multiple consumers, it is invoked from each consumer's thread.
      */
     public static void consume(
             @NotNull final Properties kafkaProperties,
@@ -1344,27 +1445,174 @@ public class KafkaTools {
             @NotNull final Consume.KeyOrValueSpec valueSpec,
             @NotNull final StreamConsumerRegistrarProvider streamConsumerRegistrarProvider,
             @Nullable final ConsumerLoopCallback consumerLoopCallback) {
-        final ConsumeStruct consumeStruct = getConsumeStruct(kafkaProperties, keySpec, valueSpec);
-
-        final MutableObject<KafkaIngester> kafkaIngesterHolder = new MutableObject<>();
-
-        final Function<TopicPartition, KafkaRecordConsumer> kafkaRecordConsumerFactory =
-                streamConsumerRegistrarProvider.walk(
-                        new KafkaRecordConsumerFactoryCreator(consumeStruct.publisherParameters,
-                                kafkaIngesterHolder::getValue));
-
-        final KafkaIngester ingester = new KafkaIngester(
-                log,
-                kafkaProperties,
-                topic,
-                partitionFilter,
-                kafkaRecordConsumerFactory,
-                partitionToInitialOffset,
-                consumeStruct.keyDeser,
-                consumeStruct.valueDeser,
-                consumerLoopCallback);
-        kafkaIngesterHolder.setValue(ingester);
-        ingester.start();
+        final List<IntPredicate> ingesterPartitionFilters =
+                ingesterPartitionFilters(kafkaProperties, topic, partitionFilter);
+        final int ingesterCount = ingesterPartitionFilters.size();
+
+        // Each ingester decodes on its own thread, so each gets its own deserializers and processors
+        final List<ConsumeStruct> consumeStructs = new ArrayList<>(ingesterCount);
+        for (int ii = 0; ii < ingesterCount; ++ii) {
+            consumeStructs.add(getConsumeStruct(kafkaProperties, keySpec, valueSpec));
+        }
+
+        final KafkaIngester[] ingesters = new KafkaIngester[ingesterCount];
+
+        final IntFunction<Function<TopicPartition, KafkaRecordConsumer>> kafkaRecordConsumerFactories =
+                streamConsumerRegistrarProvider.walk(new KafkaRecordConsumerFactoryCreator(
+                        consumeStructs.stream().map(cs -> cs.publisherParameters).collect(Collectors.toList()),
+                        ingesterIndex -> ingesters[ingesterIndex]));
+
+        for (int ii = 0; ii < ingesterCount; ++ii) {
+            final ConsumeStruct consumeStruct = consumeStructs.get(ii);
+            ingesters[ii] = new KafkaIngester(
+                    log,
+                    ingesterCount == 1 ? kafkaProperties : ingesterProperties(kafkaProperties, ii),
+                    topic,
+                    ingesterPartitionFilters.get(ii),
+                    kafkaRecordConsumerFactories.apply(ii),
+                    partitionToInitialOffset,
+                    consumeStruct.keyDeser,
+                    consumeStruct.valueDeser,
+                    consumerLoopCallback);
+        }
+        for (final KafkaIngester ingester : ingesters) {
+            ingester.start();
+        }
+    }
+
+    /**
+     * Divide the partitions of {@code topic} selected by {@code partitionFilter} among the number of ingesters
+     * requested by {@link #CONSUMER_COUNT_PROPERTY}, as described for
+     * {@link #ingesterPartitionFilters(int, int[], IntPredicate)}.
+     *
+     * @return The partition filter for each ingester
+     */
+    private static List<IntPredicate> ingesterPartitionFilters(
+            @NotNull final Properties kafkaProperties,
+            @NotNull final String topic,
+            @NotNull final IntPredicate partitionFilter) {
+        final int consumerCount = consumerCount(kafkaProperties);
+        if (consumerCount == 1) {
+            return List.of(partitionFilter);
+        }
+        final int[] partitions;
+        try (final KafkaConsumer<byte[], byte[]> metadataConsumer = new KafkaConsumer<>(
+                metadataConsumerProperties(kafkaProperties),
+                new ByteArrayDeserializer(),
+                new ByteArrayDeserializer())) {
+            partitions = metadataConsumer.partitionsFor(topic).stream()
+                    .mapToInt(PartitionInfo::partition)
+                    .toArray();
+        }
+        return ingesterPartitionFilters(consumerCount, partitions, partitionFilter);
+    }
+
+    /**
+     * Get the number of consumers requested by {@link #CONSUMER_COUNT_PROPERTY}.
+     *
+     * @param kafkaProperties The consumer properties
+     * @return The number of consumers, {@value #CONSUMER_COUNT_DEFAULT} if the property is not set
+     * @throws IllegalArgumentException if the property is not a positive integer
+     */
+    static int consumerCount(@NotNull final Properties kafkaProperties) {
+        final String consumerCountValue = kafkaProperties.getProperty(CONSUMER_COUNT_PROPERTY);
+        final int consumerCount;
+        try {
+            consumerCount = consumerCountValue == null
+                    ? CONSUMER_COUNT_DEFAULT
+                    : Integer.parseInt(consumerCountValue.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Property " + CONSUMER_COUNT_PROPERTY + " must be an integer, found \"" + consumerCountValue + '"',
+                    e);
+        }
+        if (consumerCount < 1) {
+            throw new IllegalArgumentException(
+                    "Property " + CONSUMER_COUNT_PROPERTY + " must be at least 1, found " + consumerCount);
+        }
+        return consumerCount;
+    }
+
+    /**
+     * Divide the partitions selected by {@code partitionFilter} among at most {@code consumerCount} ingesters. Each
+     * ingester owns the selected partitions whose number modulo the ingester count is its index, so partitions added
+     * to the topic later also have exactly one owner. The ingester count is the largest, up to {@code consumerCount},
+     * for which every ingester owns at least one of the topic's current partitions.
+     *
+     * @param consumerCount The number of consumers requested
+     * @param partitions The topic's current partitions
+     * @param partitionFilter The caller's partition filter
+     * @return The partition filter for each ingester
+     */
+    static List<IntPredicate> ingesterPartitionFilters(
+            final int consumerCount,
+            @NotNull final int[] partitions,
+            @NotNull final IntPredicate partitionFilter) {
+        final int[] selectedPartitions = Arrays.stream(partitions).filter(partitionFilter).distinct().toArray();
+        int ingesterCount = Math.min(consumerCount, selectedPartitions.length);
+        while (ingesterCount > 1 && !everyIngesterOwnsAPartition(selectedPartitions, ingesterCount)) {
+            --ingesterCount;
+        }
+        if (ingesterCount <= 1) {
+            return List.of(partitionFilter);
+        }
+        final List<IntPredicate> ingesterPartitionFilters = new ArrayList<>(ingesterCount);
+        for (int ii = 0; ii < ingesterCount; ++ii) {
+            ingesterPartitionFilters.add(
+                    new KafkaIngester.FilteredPartitionRoundRobin(partitionFilter, ii, ingesterCount));
+        }
+        return ingesterPartitionFilters;
+    }
+
+    private static boolean everyIngesterOwnsAPartition(@NotNull final int[] partitions, final int ingesterCount) {
+        final BitSet owners = new BitSet(ingesterCount);
+        for (final int partition : partitions) {
+            owners.set(partition % ingesterCount);
+        }
+        return owners.cardinality() == ingesterCount;
+    }
+
+    /**
+     * Make the properties for the consumer that looks up a topic's partitions, keeping only those needed to connect to
+     * the brokers. Deserializer, group, offset and Deephaven properties are left out, and a distinct client ID is used
+     * if one was specified.
+     *
+     * @param kafkaProperties The consumer properties
+     * @return The metadata consumer's properties
+     */
+    static Properties metadataConsumerProperties(@NotNull final Properties kafkaProperties) {
+        final Properties metadataProperties = new Properties();
+        kafkaProperties.forEach((key, value) -> {
+            if (key instanceof String && isConnectionProperty((String) key)) {
+                metadataProperties.put(key, value);
+            }
+        });
+        final String clientId = kafkaProperties.getProperty(ConsumerConfig.CLIENT_ID_CONFIG);
+        if (clientId != null && !clientId.isEmpty()) {
+            metadataProperties.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, clientId + "-metadata");
+        }
+        return metadataProperties;
+    }
+
+    private static boolean isConnectionProperty(@NotNull final String name) {
+        return CONNECTION_PROPERTIES.contains(name)
+                || name.startsWith("security.")
+                || name.startsWith("sasl.")
+                || name.startsWith("ssl.");
+    }
+
+    /**
+     * Make the properties for one of several ingesters, giving each a distinct client ID if one was specified.
+     */
+    private static Properties ingesterProperties(@NotNull final Properties kafkaProperties, final int ingesterIndex) {
+        final String clientId = kafkaProperties.getProperty(ConsumerConfig.CLIENT_ID_CONFIG);
+        if (clientId == null || clientId.isEmpty()) {
+            return kafkaProperties;
+        }
+        final Properties ingesterProperties = new Properties();
+        ingesterProperties.putAll(kafkaProperties);
+        ingesterProperties.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, clientId + '-' + ingesterIndex);
+        return ingesterProperties;
     }
 
     private static Optional<SchemaRegistryClient> schemaRegistryClient(SchemaProviderProvider key,
@@ -0,0 +1,494 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka.ingest;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.deephaven.base.string.cache.ByteArrayCharSequenceAdapterImpl;
+import io.deephaven.base.string.cache.StringCache;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.util.Utf8;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Convert Avro binary records in the Confluent wire format directly to Deephaven rows, without materializing a
+ * {@link GenericRecord} per record.
+ * <p>
+ * The reader schema is compiled into a plan covering only the fields that are mapped to columns, together with a
+ * reader schema pruned to those fields. Each writer schema seen on the wire is resolved against the pruned schema once,
+ * so that fields which are not mapped to columns are skipped rather than decoded. Primitive fields are written to their
+ * chunks without boxing, and strings are decoded through a reused buffer and may optionally be canonicalized with a
+ * {@link StringCache}.
+ * <p>
+ * Only fields of boolean, int, long (including timestamps), float, double, string and enum types are supported, either
+ * directly or nested in records, and optionally in a union with null. Use {@link #supports(Schema, Map, String)} to
+ * determine whether a schema can be decoded directly.
+ * <p>
+ * Instances are not thread-safe; each must only be used by one ingester.
+ */
+public class AvroBinaryChunkAdapter implements KeyOrValueProcessor {
+
+    /**
+     * The Confluent wire format precedes the Avro binary encoding with a magic byte and a four byte schema ID.
+     */
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private enum LeafKind {
+        BOOLEAN, INT, LONG, TIMESTAMP_MILLIS, TIMESTAMP_MICROS, FLOAT, DOUBLE, STRING, ENUM
+    }
+
+    private static final class RecordPlan {
+        private final Schema prunedSchema;
+        /**
+         * The plan for each field of {@link #prunedSchema}, by position.
+         */
+        private final FieldPlan[] fields;
+
+        private RecordPlan(@NotNull final Schema prunedSchema, @NotNull final FieldPlan[] fields) {
+            this.prunedSchema = prunedSchema;
+            this.fields = fields;
+        }
+
+        private void setNull(@NotNull final WritableChunk<Values>[] chunks, final int row) {
+            for (final FieldPlan field : fields) {
+                field.setNull(chunks, row);
+            }
+        }
+    }
+
+    private static final class FieldPlan {
+        private final String fieldPath;
+        /**
+         * The index of the null branch if the field is a union with null, else -1.
+         */
+        private final int nullBranch;
+        /**
+         * The plan for a nested record field, or {@code null} for a leaf field.
+         */
+        private final RecordPlan record;
+        private final LeafKind kind;
+        private final String[] enumSymbols;
+
+        /**
+         * The index of the chunk a leaf field is written to.
+         */
+        private int chunkIndex;
+        /**
+         * Whether a string or enum leaf field's column holds {@link Utf8} rather than {@link String}.
+         */
+        private boolean utf8;
+
+        private FieldPlan(
+                @NotNull final String fieldPath,
+                final int nullBranch,
+                @Nullable final RecordPlan record,
+                @Nullable final LeafKind kind,
+                @Nullable final String[] enumSymbols) {
+            this.fieldPath = fieldPath;
+            this.nullBranch = nullBranch;
+            this.record = record;
+            this.kind = kind;
+            this.enumSymbols = enumSymbols;
+        }
+
+        private void setNull(@NotNull final WritableChunk<Values>[] chunks, final int row) {
+            if (record != null) {
+                record.setNull(chunks, row);
+                return;
+            }
+            final WritableChunk<Values> chunk = chunks[chunkIndex];
+            switch (kind) {
+                case BOOLEAN:
+                    chunk.asWritableByteChunk().set(row, BooleanUtils.NULL_BOOLEAN_AS_BYTE);
+                    break;
+                case INT:
+                    chunk.asWritableIntChunk().set(row, QueryConstants.NULL_INT);
+                    break;
+                case LONG:
+                case TIMESTAMP_MILLIS:
+                case TIMESTAMP_MICROS:
+                    chunk.asWritableLongChunk().set(row, QueryConstants.NULL_LONG);
+                    break;
+                case FLOAT:
+                    chunk.asWritableFloatChunk().set(row, QueryConstants.NULL_FLOAT);
+                    break;
+                case DOUBLE:
+                    chunk.asWritableDoubleChunk().set(row, QueryConstants.NULL_DOUBLE);
+                    break;
+                case STRING:
+                case ENUM:
+                    chunk.asWritableObjectChunk().set(row, null);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Compiles a record schema into a {@link RecordPlan}, noting the first mapped field that can't be decoded directly.
+     */
+    private static final class Compiler {
+        private final Map<String, String> fieldPathToColumnName;
+        private final String separator;
+        private String unsupportedFieldPath;
+
+        private Compiler(@NotNull final Map<String, String> fieldPathToColumnName, @NotNull final String separator) {
+            this.fieldPathToColumnName = fieldPathToColumnName;
+            this.separator = separator;
+        }
+
+        /**
+         * @return The plan, or {@code null} if no field of the record is mapped to a column
+         */
+        @Nullable
+        private RecordPlan compileRecord(@NotNull final Schema recordSchema, @NotNull final String prefix) {
+            final List<Schema.Field> prunedFields = new ArrayList<>();
+            final List<FieldPlan> fieldPlans = new ArrayList<>();
+            for (final Schema.Field field : recordSchema.getFields()) {
+                final String fieldPath = prefix + field.name();
+                Schema valueSchema = field.schema();
+                int nullBranch = -1;
+                if (valueSchema.isUnion()) {
+                    final List<Schema> branches = valueSchema.getTypes();
+                    if (branches.size() == 2) {
+                        if (branches.get(0).getType() == Schema.Type.NULL) {
+                            nullBranch = 0;
+                        } else if (branches.get(1).getType() == Schema.Type.NULL) {
+                            nullBranch = 1;
+                        }
+                    }
+                    if (nullBranch >= 0) {
+                        valueSchema = branches.get(1 - nullBranch);
+                    }
+                }
+                final FieldPlan fieldPlan;
+                final Schema prunedValueSchema;
+                if (valueSchema.getType() == Schema.Type.RECORD) {
+                    final RecordPlan nested = compileRecord(valueSchema, fieldPath + separator);
+                    if (nested == null) {
+                        continue;
+                    }
+                    fieldPlan = new FieldPlan(fieldPath, nullBranch, nested, null, null);
+                    prunedValueSchema = nested.prunedSchema;
+                } else {
+                    if (!fieldPathToColumnName.containsKey(fieldPath)) {
+                        continue;
+                    }
+                    final LeafKind kind = leafKind(valueSchema);
+                    if (kind == null) {
+                        if (unsupportedFieldPath == null) {
+                            unsupportedFieldPath = fieldPath;
+                        }
+                        continue;
+                    }
+                    fieldPlan = new FieldPlan(fieldPath, nullBranch, null, kind, kind == LeafKind.ENUM
+                            ? valueSchema.getEnumSymbols().toArray(String[]::new)
+                            : null);
+                    prunedValueSchema = valueSchema;
+                }
+                final Schema prunedFieldSchema;
+                if (nullBranch < 0) {
+                    prunedFieldSchema = prunedValueSchema;
+                } else {
+                    final Schema nullSchema = Schema.create(Schema.Type.NULL);
+                    prunedFieldSchema = nullBranch == 0
+                            ? Schema.createUnion(nullSchema, prunedValueSchema)
+                            : Schema.createUnion(prunedValueSchema, nullSchema);
+                }
+                prunedFields.add(new Schema.Field(field, prunedFieldSchema));
+                fieldPlans.add(fieldPlan);
+            }
+            if (fieldPlans.isEmpty()) {
+                return null;
+            }
+            final Schema prunedSchema = Schema.createRecord(recordSchema.getName(), recordSchema.getDoc(),
+                    recordSchema.getNamespace(), recordSchema.isError(), prunedFields);
+            for (final String alias : recordSchema.getAliases()) {
+                prunedSchema.addAlias(alias);
+            }
+            return new RecordPlan(prunedSchema, fieldPlans.toArray(FieldPlan[]::new));
+        }
+    }
+
+    @Nullable
+    private static LeafKind leafKind(@NotNull final Schema schema) {
+        switch (schema.getType()) {
+            case BOOLEAN:
+                return LeafKind.BOOLEAN;
+            case INT:
+                return LeafKind.INT;
+            case LONG: {
+                final LogicalType logicalType = schema.getLogicalType();
+                if (LogicalTypes.timestampMillis().equals(logicalType)) {
+                    return LeafKind.TIMESTAMP_MILLIS;
+                }
+                if (LogicalTypes.timestampMicros().equals(logicalType)) {
+                    return LeafKind.TIMESTAMP_MICROS;
+                }
+                return LeafKind.LONG;
+            }
+            case FLOAT:
+                return LeafKind.FLOAT;
+            case DOUBLE:
+                return LeafKind.DOUBLE;
+            case STRING:
+                return LeafKind.STRING;
+            case ENUM:
+                return LeafKind.ENUM;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Determine whether records of {@code schema} can be decoded directly with the given column mapping.
+     *
+     * @param schema the Avro reader schema, which must be a record
+     * @param fieldPathToColumnName a map from Avro field paths to Deephaven column names
+     * @param separator the separator between the names of nested fields in field paths
+     * @return true if every mapped field can be decoded directly, and at least one field is mapped
+     */
+    public static boolean supports(
+            @NotNull final Schema schema,
+            @NotNull final Map<String, String> fieldPathToColumnName,
+            @NotNull final String separator) {
+        final Compiler compiler = new Compiler(fieldPathToColumnName, separator);
+        return compiler.compileRecord(schema, "") != null && compiler.unsupportedFieldPath == null;
+    }
+
+    /**
+     * Create an AvroBinaryChunkAdapter.
+     *
+     * @param definition the definition of the output table
+     * @param fieldPathToColumnName a map from Avro field paths to Deephaven column names
+     * @param separator the separator between the names of nested fields in field paths
+     * @param schema the Avro reader schema, which must be {@link #supports(Schema, Map, String) supported}
+     * @param schemaRegistryClient the client to look up writer schemas with
+     * @param stringCache the cache to canonicalize {@link String} values with, or {@code null} to create a new String
+     *        for each value
+     * @return an AvroBinaryChunkAdapter for the given definition and column mapping
+     */
+    public static AvroBinaryChunkAdapter make(
+            @NotNull final TableDefinition definition,
+            @NotNull final Map<String, String> fieldPathToColumnName,
+            @NotNull final String separator,
+            @NotNull final Schema schema,
+            @NotNull final SchemaRegistryClient schemaRegistryClient,
+            @Nullable final StringCache<String> stringCache) {
+        final Compiler compiler = new Compiler(fieldPathToColumnName, separator);
+        final RecordPlan root = compiler.compileRecord(schema, "");
+        if (compiler.unsupportedFieldPath != null) {
+            throw new IllegalArgumentException(
+                    "Can not decode field directly from Avro binary: field=" + compiler.unsupportedFieldPath);
+        }
+        if (root == null) {
+            throw new IllegalArgumentException("No Avro fields are mapped to columns");
+        }
+        final List<FieldPlan> leaves = new ArrayList<>();
+        bind(root, definition, fieldPathToColumnName, leaves);
+        return new AvroBinaryChunkAdapter(root, leaves.stream().mapToInt(leaf -> leaf.chunkIndex).distinct().toArray(),
+                schemaRegistryClient, stringCache);
+    }
+
+    private static void bind(
+            @NotNull final RecordPlan record,
+            @NotNull final TableDefinition definition,
+            @NotNull final Map<String, String> fieldPathToColumnName,
+            @NotNull final List<FieldPlan> leavesOut) {
+        for (final FieldPlan field : record.fields) {
+            if (field.record != null) {
+                bind(field.record, definition, fieldPathToColumnName, leavesOut);
+                continue;
+            }
+            final String columnName = fieldPathToColumnName.get(field.fieldPath);
+            final int columnIndex = definition.getColumnNames().indexOf(columnName);
+            if (columnIndex < 0) {
+                throw new IllegalArgumentException("Column not found in Deephaven table: " + columnName);
+            }
+            final ColumnDefinition<?> column = definition.getColumns().get(columnIndex);
+            field.chunkIndex = columnIndex;
+            field.utf8 = column.getDataType() == Utf8.class;
+            leavesOut.add(field);
+        }
+    }
+
+    private final RecordPlan root;
+    private final int[] chunkIndices;
+    private final SchemaRegistryClient schemaRegistryClient;
+    private final StringCache<String> stringCache;
+
+    /**
+     * A decoder resolving each writer schema ID seen so far to {@link #root}'s pruned schema.
+     */
+    private final Map<Integer, ResolvingDecoder> resolvingDecoders = new HashMap<>();
+    private BinaryDecoder binaryDecoder;
+    private Utf8 stringBuffer;
+    private final ByteArrayCharSequenceAdapterImpl asciiAdapter;
+
+    private AvroBinaryChunkAdapter(
+            @NotNull final RecordPlan root,
+            @NotNull final int[] chunkIndices,
+            @NotNull final SchemaRegistryClient schemaRegistryClient,
+            @Nullable final StringCache<String> stringCache) {
+        this.root = root;
+        this.chunkIndices = chunkIndices;
+        this.schemaRegistryClient = schemaRegistryClient;
+        this.stringCache = stringCache;
+        asciiAdapter = stringCache == null ? null : new ByteArrayCharSequenceAdapterImpl();
+    }
+
+    @Override
+    public void handleChunk(ObjectChunk<Object, Values> inputChunk, WritableChunk<Values>[] publisherChunks) {
+        final int existingSize = publisherChunks[chunkIndices[0]].size();
+        for (final int chunkIndex : chunkIndices) {
+            publisherChunks[chunkIndex].setSize(existingSize + inputChunk.size());
+        }
+        for (int ii = 0; ii < inputChunk.size(); ++ii) {
+            final byte[] bytes = (byte[]) inputChunk.get(ii);
+            final int row = existingSize + ii;
+            if (bytes == null) {
+                root.setNull(publisherChunks, row);
+                continue;
+            }
+            if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC_BYTE) {
+                throw new KafkaIngesterException("Unknown magic byte in Avro record");
+            }
+            final int schemaId = ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16)
+                    | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+            final ResolvingDecoder decoder = resolvingDecoder(schemaId);
+            binaryDecoder = DecoderFactory.get().binaryDecoder(
+                    bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, binaryDecoder);
+            try {
+                decoder.configure(binaryDecoder);
+                // Any writer fields after the last field we read need not be skipped, as each record is decoded from
+                // its own buffer
+                readRecord(root, decoder, publisherChunks, row);
+            } catch (IOException e) {
+                throw new KafkaIngesterException("Failed to decode Avro record with schema ID " + schemaId, e);
+            }
+        }
+    }
+
+    private ResolvingDecoder resolvingDecoder(final int schemaId) {
+        ResolvingDecoder decoder = resolvingDecoders.get(schemaId);
+        if (decoder == null) {
+            try {
+                final ParsedSchema writerSchema = schemaRegistryClient.getSchemaById(schemaId);
+                if (!(writerSchema.rawSchema() instanceof Schema)) {
+                    throw new KafkaIngesterException("Schema ID " + schemaId + " is not an Avro schema");
+                }
+                decoder = DecoderFactory.get().resolvingDecoder(
+                        (Schema) writerSchema.rawSchema(), root.prunedSchema, null);
+            } catch (IOException | RestClientException e) {
+                throw new KafkaIngesterException("Failed to get Avro writer schema with ID " + schemaId, e);
+            }
+            resolvingDecoders.put(schemaId, decoder);
+        }
+        return decoder;
+    }
+
+    private void readRecord(
+            @NotNull final RecordPlan record,
+            @NotNull final ResolvingDecoder in,
+            @NotNull final WritableChunk<Values>[] chunks,
+            final int row) throws IOException {
+        for (final Schema.Field field : in.readFieldOrder()) {
+            final FieldPlan fieldPlan = record.fields[field.pos()];
+            if (fieldPlan.nullBranch >= 0 && in.readIndex() == fieldPlan.nullBranch) {
+                in.readNull();
+                fieldPlan.setNull(chunks, row);
+            } else if (fieldPlan.record != null) {
+                readRecord(fieldPlan.record, in, chunks, row);
+            } else {
+                readLeaf(fieldPlan, in, chunks[fieldPlan.chunkIndex], row);
+            }
+        }
+    }
+
+    private void readLeaf(
+            @NotNull final FieldPlan field,
+            @NotNull final ResolvingDecoder in,
+            @NotNull final WritableChunk<Values> chunk,
+            final int row) throws IOException {
+        switch (field.kind) {
+            case BOOLEAN:
+                chunk.asWritableByteChunk().set(row,
+                        in.readBoolean() ? BooleanUtils.TRUE_BOOLEAN_AS_BYTE : BooleanUtils.FALSE_BOOLEAN_AS_BYTE);
+                break;
+            case INT:
+                chunk.asWritableIntChunk().set(row, in.readInt());
+                break;
+            case LONG:
+                chunk.asWritableLongChunk().set(row, in.readLong());
+                break;
+            case TIMESTAMP_MILLIS:
+                chunk.asWritableLongChunk().set(row, multiply(in.readLong(), 1000_000L));
+                break;
+            case TIMESTAMP_MICROS:
+                chunk.asWritableLongChunk().set(row, multiply(in.readLong(), 1000L));
+                break;
+            case FLOAT:
+                chunk.asWritableFloatChunk().set(row, in.readFloat());
+                break;
+            case DOUBLE:
+                chunk.asWritableDoubleChunk().set(row, in.readDouble());
+                break;
+            case STRING:
+                if (field.utf8) {
+                    chunk.asWritableObjectChunk().set(row, in.readString(null));
+                } else {
+                    stringBuffer = in.readString(stringBuffer);
+                    chunk.asWritableObjectChunk().set(row, toString(stringBuffer));
+                }
+                break;
+            case ENUM: {
+                final String symbol = field.enumSymbols[in.readEnum()];
+                chunk.asWritableObjectChunk().set(row, field.utf8 ? new Utf8(symbol) : symbol);
+                break;
+            }
+        }
+    }
+
+    private static long multiply(final long value, final long multiplier) {
+        return value == QueryConstants.NULL_LONG ? QueryConstants.NULL_LONG : value * multiplier;
+    }
+
+    private String toString(@NotNull final Utf8 value) {
+        if (stringCache == null) {
+            return value.toString();
+        }
+        final byte[] bytes = value.getBytes();
+        final int length = value.getByteLength();
+        for (int bi = 0; bi < length; ++bi) {
+            if (bytes[bi] < 0) {
+                // The cache's byte-oriented lookup only supports single byte characters
+                return stringCache.getCachedString(value.toString());
+            }
+        }
+        final String result = stringCache.getCachedString(asciiAdapter.set(bytes, 0, length));
+        asciiAdapter.clear();
+        return result;
+    }
+}
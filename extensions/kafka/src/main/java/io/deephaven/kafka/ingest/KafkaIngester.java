@@ -27,6 +27,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Properties;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
@@ -65,13 +66,17 @@ public class KafkaIngester {
     @Nullable
     private final ConsumerLoopCallback consumerLoopCallback;
 
-    private long messagesProcessed = 0;
-    private long bytesProcessed = 0;
+    // Written only by the consumer thread; volatile so that the getters below may be used from other threads
+    private volatile long messagesProcessed = 0;
+    private volatile long bytesProcessed = 0;
+    private volatile long consumeNanos = 0;
+    private volatile long lag = 0;
     private long pollCalls = 0;
     private long messagesWithErr = 0;
     private long lastMessages = 0;
     private long lastBytes = 0;
     private long lastPollCalls = 0;
+    private long lastConsumeNanos = 0;
 
     private volatile boolean needsAssignment;
     private volatile boolean done;
@@ -170,6 +175,42 @@ public class KafkaIngester {
     }
 
 
+    /**
+     * A predicate for evenly distributing the partitions selected by another predicate among a set of ingesters. Like
+     * {@link PartitionRoundRobin}, partitions are assigned by number, so partitions added to the topic later also have
+     * exactly one owner.
+     */
+    public static class FilteredPartitionRoundRobin extends PartitionRoundRobin {
+        final IntPredicate partitionFilter;
+
+        /**
+         * Creates a predicate for evenly distributing the partitions selected by {@code partitionFilter} among a set of
+         * ingesters.
+         *
+         * @param partitionFilter the predicate selecting the partitions to distribute
+         * @param consumerIndex the index of this consumer; you should have precisely one ingester configured for each
+         *        index between zero (inclusive) and consumerCount (exclusive)
+         * @param consumerCount the number of consumers that will ingest this topic
+         */
+        public FilteredPartitionRoundRobin(
+                @NotNull final IntPredicate partitionFilter,
+                final int consumerIndex,
+                final int consumerCount) {
+            super(consumerIndex, consumerCount);
+            this.partitionFilter = Objects.requireNonNull(partitionFilter);
+        }
+
+        @Override
+        public boolean test(int value) {
+            return partitionFilter.test(value) && super.test(value);
+        }
+
+        @Override
+        public String toString() {
+            return partitionFilter + " && " + super.toString();
+        }
+    }
+
     public static final long SEEK_TO_BEGINNING = -1;
     public static final long DONT_SEEK = -2;
     public static final long SEEK_TO_END = -3;
@@ -267,6 +308,41 @@ public class KafkaIngester {
         t.start();
     }
 
+    /**
+     * @return The number of messages this ingester has consumed
+     */
+    public long getMessagesProcessed() {
+        return messagesProcessed;
+    }
+
+    /**
+     * @return The number of bytes of message keys and values this ingester has consumed
+     */
+    public long getBytesProcessed() {
+        return bytesProcessed;
+    }
+
+    /**
+     * Get the total time the consumer thread has spent decoding consumed messages and publishing them downstream, as
+     * opposed to polling Kafka. When this approaches the elapsed time, the consumer thread is saturated, and
+     * {@link #getLag() lag} will grow.
+     *
+     * @return The time spent decoding and publishing, in nanoseconds
+     */
+    public long getConsumeNanos() {
+        return consumeNanos;
+    }
+
+    /**
+     * Get the number of messages available in Kafka but not yet consumed by this ingester, summed over its partitions,
+     * as of its latest poll. Partitions whose lag is not yet known are not counted.
+     *
+     * @return The consumer lag, in messages
+     */
+    public long getLag() {
+        return lag;
+    }
+
     private static double unitsPerSec(final long units, final long nanos) {
         if (nanos <= 0) {
             return 0;
@@ -323,6 +399,7 @@ public class KafkaIngester {
                 final long periodMessages = messagesProcessed - lastMessages;
                 final long periodBytes = bytesProcessed - lastBytes;
                 final long periodPolls = pollCalls - lastPollCalls;
+                final long periodConsumeNanos = consumeNanos - lastConsumeNanos;
                 final long periodNanos = afterPoll - lastReportNanos;
                 log.info().append(logPrefix)
                         .append("ingestion period summary")
@@ -333,12 +410,17 @@ public class KafkaIngester {
                         .append(", polls/sec=").append(rateFormat.format(unitsPerSec(periodPolls, periodNanos)))
                         .append(", msgs/sec=").append(rateFormat.format(unitsPerSec(periodMessages, periodNanos)))
                         .append(", bytes/sec=").append(rateFormat.format(unitsPerSec(periodBytes, periodNanos)))
+                        .append(", busy=").append(rateFormat.format(periodNanos <= 0
+                                ? 0
+                                : 100.0 * periodConsumeNanos / periodNanos))
+                        .append("%, lag=").append(lag)
                         .endl();
                 lastReportNanos = afterPoll;
                 nextReport = lastReportNanos + reportIntervalNanos;
                 lastMessages = messagesProcessed;
                 lastBytes = bytesProcessed;
                 lastPollCalls = pollCalls;
+                lastConsumeNanos = consumeNanos;
             }
         }
         log.info().append(logPrefix).append("Closing Kafka consumer").endl();
@@ -382,9 +464,11 @@ public class KafkaIngester {
                 continue;
             }
 
+            final long beforeConsume = System.nanoTime();
             try {
                 bytesProcessed += streamConsumer.consume(receiveTime, partitionRecords);
             } catch (Throwable ex) {
+                consumeNanos += System.nanoTime() - beforeConsume;
                 ++messagesWithErr;
                 log.error().append(logPrefix).append("Exception while processing Kafka message:").append(ex).endl();
                 /*
@@ -401,11 +485,24 @@ public class KafkaIngester {
                 }
                 continue;
             }
+            consumeNanos += System.nanoTime() - beforeConsume;
             messagesProcessed += partitionRecords.size();
         }
+        updateLag();
         return true;
     }
 
+    private void updateLag() {
+        long totalLag = 0;
+        for (final TopicPartition topicPartition : kafkaConsumer.assignment()) {
+            final OptionalLong partitionLag = kafkaConsumer.currentLag(topicPartition);
+            if (partitionLag.isPresent()) {
+                totalLag += partitionLag.getAsLong();
+            }
+        }
+        lag = totalLag;
+    }
+
     private void notifyAllConsumersOnFailure(Exception ex) {
         final KafkaRecordConsumer[] allConsumers;
         synchronized (streamConsumers) {
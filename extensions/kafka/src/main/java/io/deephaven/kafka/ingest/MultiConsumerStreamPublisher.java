@@ -0,0 +1,55 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.util.annotations.InternalUseOnly;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A {@link StreamPublisher} that combines the publishers of several {@link KafkaIngester ingesters}, each consuming and
+ * decoding its own subset of a topic's partitions on its own thread, into a single stream for one
+ * {@link StreamConsumer}. Each constituent publisher delivers its chunks to the consumer independently, so the records
+ * of any one partition remain in order, while records of partitions owned by different ingesters may interleave.
+ *
+ * <p>
+ * This class is an internal implementation detail for io.deephaven.kafka; is not intended to be used directly by client
+ * code. It lives in a separate package as a means of code organization.
+ */
+@InternalUseOnly
+public class MultiConsumerStreamPublisher implements StreamPublisher {
+
+    private final List<? extends StreamPublisher> publishers;
+
+    /**
+     * @param publishers The publishers to combine, one per ingester
+     */
+    public MultiConsumerStreamPublisher(@NotNull final List<? extends StreamPublisher> publishers) {
+        this.publishers = List.copyOf(publishers);
+    }
+
+    @Override
+    public void register(@NotNull final StreamConsumer consumer) {
+        for (final StreamPublisher publisher : publishers) {
+            publisher.register(consumer);
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (final StreamPublisher publisher : publishers) {
+            publisher.flush();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (final StreamPublisher publisher : publishers) {
+            publisher.shutdown();
+        }
+    }
+}
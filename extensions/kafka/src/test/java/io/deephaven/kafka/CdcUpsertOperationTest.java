@@ -0,0 +1,184 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.EvalNuggetInterface;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CdcUpsertOperationTest {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private static final String DELETE = "d";
+
+    /**
+     * The changes to publish, and the end of each cycle's changes.
+     */
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> ops = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+    private final List<Integer> values = new ArrayList<>();
+    private final List<Integer> cycleEnds = new ArrayList<>();
+
+    private void change(@NotNull final String key, @NotNull final String op, final int value) {
+        keys.add(key);
+        ops.add(op);
+        values.add(value);
+        // a null label every so often, so that object columns see nulls as well as reused rows
+        labels.add(value % 5 == 0 ? null : "L" + value);
+    }
+
+    private void endCycle() {
+        cycleEnds.add(keys.size());
+    }
+
+    @Test
+    public void testMatchesLastByWithoutDeletes() {
+        // The initial snapshot, with two changes to one key and a key inserted and deleted
+        change("A", "r", 1);
+        change("B", "r", 2);
+        change("C", "r", 3);
+        change("A", "u", 4);
+        change("D", "r", 5);
+        change("D", DELETE, 5);
+        endCycle();
+        // Free B's row, and reuse D's row freed by the snapshot
+        change("B", DELETE, 2);
+        change("E", "c", 6);
+        endCycle();
+        // Reuse B's row
+        change("F", "c", 7);
+        change("C", "u", 8);
+        endCycle();
+        // Delete and re-insert the same key
+        change("A", DELETE, 9);
+        change("A", "c", 10);
+        endCycle();
+        // Insert and delete a new key, re-insert after delete with a new value, and delete an unknown key
+        change("G", "c", 11);
+        change("G", DELETE, 11);
+        change("C", DELETE, 12);
+        change("C", "c", 13);
+        change("H", DELETE, 14);
+        endCycle();
+        // An empty cycle
+        endCycle();
+        // Random churn over a small key space
+        final Random random = new Random(0);
+        for (int cycle = 0; cycle < 100; ++cycle) {
+            final int numChanges = random.nextInt(20);
+            for (int ii = 0; ii < numChanges; ++ii) {
+                final String key = "K" + random.nextInt(12);
+                final int op = random.nextInt(10);
+                change(key, op < 3 ? DELETE : op < 6 ? "c" : "u", 100 + keys.size());
+            }
+            endCycle();
+        }
+
+        final Table changes = TableTools.newTable(
+                stringCol("Key", keys.toArray(String[]::new)),
+                stringCol("Op", ops.toArray(String[]::new)),
+                intCol("Value", values.stream().mapToInt(Integer::intValue).toArray()),
+                stringCol("Label", labels.toArray(String[]::new)));
+
+        // The add-only history of every change, and a blink table presenting only the current cycle's changes
+        final QueryTable history = new QueryTable(RowSetFactory.empty().toTracking(), changes.getColumnSourceMap());
+        history.setRefreshing(true);
+        final QueryTable blink = new QueryTable(RowSetFactory.empty().toTracking(), changes.getColumnSourceMap());
+        blink.setRefreshing(true);
+        blink.setAttribute(Table.BLINK_TABLE_ATTRIBUTE, true);
+
+        final RowSet snapshot = RowSetFactory.fromRange(0, cycleEnds.get(0) - 1);
+        history.getRowSet().writableCast().insert(snapshot);
+        blink.getRowSet().writableCast().insert(snapshot);
+
+        final EvalNugget nugget = new EvalNugget.Sorted("CdcUpsertOperation", "Key") {
+            @Override
+            protected Table e() {
+                // The first call makes the incremental result; later calls recompute the expected result from scratch
+                return originalValue == null
+                        ? CdcUpsertOperation.upsert(blink, List.of("Key"), "Op", DELETE)
+                        : history.lastBy("Key").where("Op != `" + DELETE + "`").dropColumns("Op");
+            }
+        };
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {nugget};
+        final Table result = nugget.originalValue;
+        TstUtils.validate("Initial snapshot", en);
+        assertEquals(3, result.size());
+        final long bRow = rowKeyOf(result, "B");
+        assertNotEquals(RowSequence.NULL_ROW_KEY, bRow);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int cycle = 1; cycle < cycleEnds.size(); ++cycle) {
+            final long firstRow = cycleEnds.get(cycle - 1);
+            final long lastRow = cycleEnds.get(cycle) - 1;
+            final RowSet added = firstRow > lastRow
+                    ? RowSetFactory.empty()
+                    : RowSetFactory.fromRange(firstRow, lastRow);
+            updateGraph.runWithinUnitTestCycle(() -> {
+                if (added.isNonempty()) {
+                    history.getRowSet().writableCast().insert(added);
+                    history.notifyListeners(new TableUpdateImpl(added.copy(), RowSetFactory.empty(),
+                            RowSetFactory.empty(), RowSetShiftData.EMPTY, ModifiedColumnSet.EMPTY));
+                }
+                final RowSet removed = blink.getRowSet().copy();
+                if (added.isNonempty() || removed.isNonempty()) {
+                    blink.getRowSet().writableCast().clear();
+                    blink.getRowSet().writableCast().insert(added);
+                    blink.notifyListeners(new TableUpdateImpl(added.copy(), removed,
+                            RowSetFactory.empty(), RowSetShiftData.EMPTY, ModifiedColumnSet.EMPTY));
+                } else {
+                    removed.close();
+                }
+            });
+            TstUtils.validate("Cycle " + cycle, en);
+
+            if (cycle == 2) {
+                // B was deleted in the previous cycle, and its row is reused for the next new key
+                assertEquals(RowSequence.NULL_ROW_KEY, rowKeyOf(result, "B"));
+                assertEquals(bRow, rowKeyOf(result, "F"));
+            }
+        }
+    }
+
+    private static long rowKeyOf(@NotNull final Table table, @NotNull final String key) {
+        final ColumnSource<String> keySource = table.getColumnSource("Key", String.class);
+        try (final RowSet.Iterator rowKeys = table.getRowSet().iterator()) {
+            while (rowKeys.hasNext()) {
+                final long rowKey = rowKeys.nextLong();
+                if (key.equals(keySource.get(rowKey))) {
+                    return rowKey;
+                }
+            }
+        }
+        return RowSequence.NULL_ROW_KEY;
+    }
+}
@@ -3,19 +3,58 @@
 //
 package io.deephaven.kafka;
 
+import io.deephaven.base.verify.RequirementFailure;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.json.DoubleValue;
+import io.deephaven.json.LongValue;
+import io.deephaven.json.ObjectValue;
+import io.deephaven.json.StringValue;
+import io.deephaven.kafka.ingest.KafkaIngester;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.mutable.MutableInt;
 import org.apache.avro.Schema;
 
 import org.apache.avro.util.Utf8;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
+import static io.deephaven.engine.util.TableTools.doubleCol;
+import static io.deephaven.engine.util.TableTools.longCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
 import static org.junit.Assert.*;
 
 public class KafkaToolsTest {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
     //
     // Avro schema reference at https://avro.apache.org/docs/1.8.1/spec.html
     //
@@ -202,4 +241,190 @@ public class KafkaToolsTest {
         assertEquals(double.class, colDefs.get(c++).getDataType());
         assertEquals(nCols, c);
     }
+
+    @Test
+    public void testStreamingJsonSpecDefinition() {
+        final ObjectValue value = ObjectValue.builder()
+                .putFields("Symbol", StringValue.standard())
+                .putFields("Price", DoubleValue.standard())
+                .putFields("Qty", LongValue.standard())
+                .build();
+        final TableDefinition definition = KafkaTools.getTableDefinition(
+                new Properties(), KafkaTools.Consume.IGNORE, KafkaTools.Consume.jsonSpec(value));
+        assertEquals(ColumnDefinition.ofString("Symbol"), definition.getColumn("Symbol"));
+        assertEquals(ColumnDefinition.ofDouble("Price"), definition.getColumn("Price"));
+        assertEquals(ColumnDefinition.ofLong("Qty"), definition.getColumn("Qty"));
+    }
+
+    @Test
+    public void testStreamingJsonSpecIngestsRecords() {
+        final ObjectValue value = ObjectValue.builder()
+                .putFields("Symbol", StringValue.standard())
+                .putFields("Price", DoubleValue.standard())
+                .putFields("Qty", LongValue.standard())
+                .build();
+        final KafkaTools.Consume.KeyOrValueSpec spec = KafkaTools.Consume.jsonSpec(value);
+        final List<ColumnDefinition<?>> columnDefinitions = new ArrayList<>();
+        final KafkaTools.KeyOrValueIngestData data = spec.getIngestData(
+                KafkaTools.KeyOrValue.VALUE, null, Map.of(), new MutableInt(), columnDefinitions);
+        final TableDefinition definition = TableDefinition.of(columnDefinitions);
+        final Deserializer<?> deserializer = spec.getDeserializer(KafkaTools.KeyOrValue.VALUE, null, Map.of());
+
+        // An explicit null, an unknown field and missing fields
+        final String[] records = {
+                "{\"Symbol\": \"AAPL\", \"Price\": 187.5, \"Qty\": 100}",
+                "{\"Symbol\": \"MSFT\", \"Price\": null, \"Qty\": 25, \"Venue\": \"ARCA\"}",
+                "{\"Price\": 12.25}"
+        };
+        final WritableChunk<Values>[] chunks = StreamChunkUtils.makeChunksForDefinition(definition, records.length);
+        try (final WritableObjectChunk<Object, Values> recordChunk =
+                WritableObjectChunk.makeWritableChunk(records.length)) {
+            for (int ii = 0; ii < records.length; ++ii) {
+                recordChunk.set(ii, deserializer.deserialize("topic", records[ii].getBytes(StandardCharsets.UTF_8)));
+            }
+            spec.getProcessor(definition, data).handleChunk(recordChunk, chunks);
+        }
+        final List<String> columnNames = definition.getColumnNames();
+        final ObjectChunk<Object, Values> symbols = chunks[columnNames.indexOf("Symbol")].asObjectChunk();
+        final DoubleChunk<Values> prices = chunks[columnNames.indexOf("Price")].asDoubleChunk();
+        final LongChunk<Values> quantities = chunks[columnNames.indexOf("Qty")].asLongChunk();
+        assertEquals(records.length, symbols.size());
+        assertEquals("MSFT", symbols.get(1));
+        assertNull(symbols.get(2));
+        assertEquals(QueryConstants.NULL_DOUBLE, prices.get(1), 0);
+        assertEquals(QueryConstants.NULL_LONG, quantities.get(2));
+
+        final StreamPublisher publisher = new StreamPublisher() {
+            @Override
+            public void register(@NotNull final StreamConsumer consumer) {}
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void shutdown() {}
+        };
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        try (final StreamToBlinkTableAdapter adapter =
+                new StreamToBlinkTableAdapter(definition, publisher, updateGraph, "testStreamingJsonSpec")) {
+            adapter.accept(chunks);
+            updateGraph.runWithinUnitTestCycle(adapter::run);
+            TstUtils.assertTableEquals(TableTools.newTable(
+                    stringCol("Symbol", "AAPL", "MSFT", null),
+                    doubleCol("Price", 187.5, QueryConstants.NULL_DOUBLE, 12.25),
+                    longCol("Qty", 100, 25, QueryConstants.NULL_LONG)),
+                    adapter.table());
+        }
+    }
+
+    @Test
+    public void testConsumerCount() {
+        final Properties properties = new Properties();
+        assertEquals(KafkaTools.CONSUMER_COUNT_DEFAULT, KafkaTools.consumerCount(properties));
+        properties.setProperty(KafkaTools.CONSUMER_COUNT_PROPERTY, " 3 ");
+        assertEquals(3, KafkaTools.consumerCount(properties));
+        properties.setProperty(KafkaTools.CONSUMER_COUNT_PROPERTY, "three");
+        assertThrows(IllegalArgumentException.class, () -> KafkaTools.consumerCount(properties));
+        properties.setProperty(KafkaTools.CONSUMER_COUNT_PROPERTY, "0");
+        assertThrows(IllegalArgumentException.class, () -> KafkaTools.consumerCount(properties));
+    }
+
+    @Test
+    public void testIngesterPartitionFiltersSplitByPartitionNumber() {
+        final List<IntPredicate> filters =
+                KafkaTools.ingesterPartitionFilters(3, new int[] {0, 1, 2, 3, 4, 5, 6, 7}, KafkaTools.ALL_PARTITIONS);
+        assertEquals(3, filters.size());
+        // Partitions added after the split, 8 and beyond, also have exactly one owner
+        for (int partition = 0; partition < 20; ++partition) {
+            for (int ii = 0; ii < filters.size(); ++ii) {
+                assertEquals(partition % 3 == ii, filters.get(ii).test(partition));
+            }
+        }
+    }
+
+    @Test
+    public void testIngesterPartitionFiltersRespectPartitionFilter() {
+        final IntPredicate even = partition -> partition % 2 == 0;
+        final int[] partitions = {0, 1, 2, 3, 4, 5, 6, 7};
+
+        // Even partitions modulo 3 are 0, 2, 1 and 0, so every ingester owns one
+        final List<IntPredicate> filters = KafkaTools.ingesterPartitionFilters(3, partitions, even);
+        assertEquals(3, filters.size());
+        for (int partition = 0; partition < 20; ++partition) {
+            int owners = 0;
+            for (final IntPredicate filter : filters) {
+                if (filter.test(partition)) {
+                    ++owners;
+                }
+            }
+            assertEquals(even.test(partition) ? 1 : 0, owners);
+        }
+
+        // Even partitions modulo 4 would leave two ingesters with nothing, so three are used
+        assertEquals(3, KafkaTools.ingesterPartitionFilters(4, partitions, even).size());
+        // Even partitions modulo 2 would leave one ingester with nothing, so a single ingester is used
+        assertEquals(List.of(even), KafkaTools.ingesterPartitionFilters(2, partitions, even));
+    }
+
+    @Test
+    public void testIngesterPartitionFiltersNeverLeaveAnIngesterEmpty() {
+        // Partitions 0, 1, 2 and 5 modulo 4 leave index 3 empty, modulo 3 leave nothing empty
+        final int[] partitions = {0, 1, 2, 5};
+        final List<IntPredicate> filters =
+                KafkaTools.ingesterPartitionFilters(8, partitions, KafkaTools.ALL_PARTITIONS);
+        assertEquals(3, filters.size());
+        for (final IntPredicate filter : filters) {
+            boolean ownsPartition = false;
+            for (final int partition : partitions) {
+                ownsPartition |= filter.test(partition);
+            }
+            assertTrue(ownsPartition);
+        }
+    }
+
+    @Test
+    public void testIngesterPartitionFiltersSingleIngester() {
+        final IntPredicate filter = KafkaTools.partitionFilterFromArray(new int[] {3});
+        assertEquals(List.of(filter), KafkaTools.ingesterPartitionFilters(1, new int[] {0, 1, 2, 3}, filter));
+        assertEquals(List.of(filter), KafkaTools.ingesterPartitionFilters(4, new int[] {0, 1, 2, 3}, filter));
+        assertEquals(List.of(filter), KafkaTools.ingesterPartitionFilters(4, new int[0], filter));
+    }
+
+    @Test
+    public void testFilteredPartitionRoundRobin() {
+        final IntPredicate odd = partition -> partition % 2 == 1;
+        final KafkaIngester.FilteredPartitionRoundRobin filter =
+                new KafkaIngester.FilteredPartitionRoundRobin(odd, 1, 3);
+        assertTrue(filter.test(1));
+        assertFalse(filter.test(4));
+        assertTrue(filter.test(7));
+        assertFalse(filter.test(2));
+        assertEquals(odd + " && N % 3 == 1", filter.toString());
+        assertThrows(RequirementFailure.class, () -> new KafkaIngester.FilteredPartitionRoundRobin(odd, 3, 3));
+    }
+
+    @Test
+    public void testMetadataConsumerProperties() {
+        final Properties properties = new Properties();
+        properties.setProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "broker:9092");
+        properties.setProperty(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, "1000");
+        properties.setProperty("security.protocol", "SASL_SSL");
+        properties.setProperty("sasl.mechanism", "PLAIN");
+        properties.setProperty("ssl.truststore.location", "/truststore.jks");
+        properties.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, "client");
+        properties.setProperty(ConsumerConfig.GROUP_ID_CONFIG, "group");
+        properties.setProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.setProperty(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, "com.example.Deserializer");
+        properties.setProperty(KafkaTools.CONSUMER_COUNT_PROPERTY, "4");
+
+        final Properties metadataProperties = KafkaTools.metadataConsumerProperties(properties);
+        final Properties expected = new Properties();
+        expected.setProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "broker:9092");
+        expected.setProperty(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, "1000");
+        expected.setProperty("security.protocol", "SASL_SSL");
+        expected.setProperty("sasl.mechanism", "PLAIN");
+        expected.setProperty("ssl.truststore.location", "/truststore.jks");
+        expected.setProperty(ConsumerConfig.CLIENT_ID_CONFIG, "client-metadata");
+        assertEquals(expected, metadataProperties);
+    }
 }
@@ -0,0 +1,83 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MultiConsumerStreamPublisherTest {
+
+    private static final class RecordingPublisher implements StreamPublisher {
+        private StreamConsumer consumer;
+        private int flushes;
+        private int shutdowns;
+
+        @Override
+        public void register(@NotNull final StreamConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void flush() {
+            ++flushes;
+        }
+
+        @Override
+        public void shutdown() {
+            ++shutdowns;
+        }
+    }
+
+    private static final class NoopConsumer implements StreamConsumer {
+        @Override
+        @SafeVarargs
+        public final void accept(@NotNull final WritableChunk<Values>... data) {}
+
+        @Override
+        public void accept(@NotNull final Collection<WritableChunk<Values>[]> data) {}
+
+        @Override
+        public void acceptFailure(@NotNull final Throwable cause) {}
+    }
+
+    @Test
+    public void testDelegatesToEveryPublisher() {
+        final List<RecordingPublisher> publishers = new ArrayList<>();
+        for (int ii = 0; ii < 3; ++ii) {
+            publishers.add(new RecordingPublisher());
+        }
+        final MultiConsumerStreamPublisher multiPublisher = new MultiConsumerStreamPublisher(publishers);
+
+        // Publishers added after construction are not part of the combined stream
+        final RecordingPublisher latecomer = new RecordingPublisher();
+        publishers.add(latecomer);
+
+        final StreamConsumer consumer = new NoopConsumer();
+        multiPublisher.register(consumer);
+        multiPublisher.flush();
+        multiPublisher.flush();
+        multiPublisher.shutdown();
+
+        for (final RecordingPublisher publisher : publishers.subList(0, 3)) {
+            assertSame(consumer, publisher.consumer);
+            assertEquals(2, publisher.flushes);
+            assertEquals(1, publisher.shutdowns);
+        }
+        assertNull(latecomer.consumer);
+        assertEquals(0, latecomer.flushes);
+        assertEquals(0, latecomer.shutdowns);
+    }
+}
@@ -3,6 +3,12 @@
 //
 package io.deephaven.kafka.ingest;
 
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.deephaven.base.string.cache.ConcurrentBoundedStringCache;
+import io.deephaven.base.string.cache.StringCacheTypeAdapterStringImpl;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.time.DateTimeUtils;
@@ -13,12 +19,17 @@ import io.deephaven.util.SafeCloseableArray;
 import junit.framework.TestCase;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -192,4 +203,114 @@ public class TestAvroAdapter {
             }
         }
     }
+
+    @Test
+    public void testDirectBinary() throws IOException, RestClientException {
+        final Schema avroSchema = new Schema.Parser().parse("{\"type\": \"record\", \"name\": \"Quote\", \"fields\": ["
+                + "{\"name\": \"venue\", \"type\": \"string\"},"
+                + "{\"name\": \"symbol\", \"type\": \"string\"},"
+                + "{\"name\": \"price\", \"type\": \"double\"},"
+                + "{\"name\": \"size\", \"type\": [\"null\", \"long\"]},"
+                + "{\"name\": \"ts\", \"type\": {\"type\": \"long\", \"logicalType\": \"timestamp-millis\"}},"
+                + "{\"name\": \"detail\", \"type\": [\"null\", {\"type\": \"record\", \"name\": \"Detail\","
+                + " \"fields\": [{\"name\": \"flag\", \"type\": \"boolean\"},"
+                + " {\"name\": \"note\", \"type\": \"string\"}]}]}"
+                + "]}");
+        final SchemaRegistryClient registry = new MockSchemaRegistryClient();
+        final int schemaId = registry.register("quotes-value", new AvroSchema(avroSchema));
+
+        final String[] names = new String[] {"symbol", "price", "size", "ts", "flag"};
+        final Class<?>[] types = new Class[] {String.class, double.class, long.class, Instant.class, Boolean.class};
+        final TableDefinition definition = TableDefinition.from(Arrays.asList(names), Arrays.asList(types));
+
+        // venue and detail.note are not mapped, and must be skipped
+        final Map<String, String> colMap = new HashMap<>();
+        colMap.put("symbol", "symbol");
+        colMap.put("price", "price");
+        colMap.put("size", "size");
+        colMap.put("ts", "ts");
+        colMap.put("detail.flag", "flag");
+        TestCase.assertTrue(AvroBinaryChunkAdapter.supports(avroSchema, colMap, "."));
+
+        final Schema detailSchema = avroSchema.getField("detail").schema().getTypes().get(1);
+        final GenericData.Record detail = new GenericData.Record(detailSchema);
+        detail.put("flag", true);
+        detail.put("note", "unused");
+
+        final GenericData.Record genericRecord1 = new GenericData.Record(avroSchema);
+        genericRecord1.put("venue", "X");
+        genericRecord1.put("symbol", "AAPL");
+        genericRecord1.put("price", 1.5);
+        genericRecord1.put("size", 100L);
+        genericRecord1.put("ts", 1000L);
+        genericRecord1.put("detail", detail);
+
+        final GenericData.Record genericRecord2 = new GenericData.Record(avroSchema);
+        genericRecord2.put("venue", "Y");
+        genericRecord2.put("symbol", "AAPL");
+        genericRecord2.put("price", 2.5);
+        genericRecord2.put("size", null);
+        genericRecord2.put("ts", 2000L);
+        genericRecord2.put("detail", null);
+
+        try (final WritableObjectChunk<Object, Values> inputValues =
+                WritableObjectChunk.makeWritableChunk(3)) {
+            inputValues.setSize(0);
+            inputValues.add(encode(schemaId, avroSchema, genericRecord1));
+            inputValues.add(encode(schemaId, avroSchema, genericRecord2));
+            inputValues.add(null);
+
+            final WritableChunk[] output = new WritableChunk[5];
+            try (final SafeCloseableArray ignored = new SafeCloseableArray(output)) {
+                output[0] = WritableObjectChunk.makeWritableChunk(3);
+                output[1] = WritableDoubleChunk.makeWritableChunk(3);
+                output[2] = WritableLongChunk.makeWritableChunk(3);
+                output[3] = WritableLongChunk.makeWritableChunk(3);
+                output[4] = WritableByteChunk.makeWritableChunk(3);
+
+                for (WritableChunk wc : output) {
+                    wc.setSize(0);
+                }
+
+                final AvroBinaryChunkAdapter adapter = AvroBinaryChunkAdapter.make(definition, colMap, ".",
+                        avroSchema, registry,
+                        new ConcurrentBoundedStringCache<>(StringCacheTypeAdapterStringImpl.INSTANCE, 16, 2));
+                adapter.handleChunk(inputValues, output);
+
+                for (int ii = 0; ii < 5; ++ii) {
+                    TestCase.assertEquals(3, output[ii].size());
+                }
+
+                TestCase.assertEquals("AAPL", output[0].asObjectChunk().get(0));
+                TestCase.assertEquals(1.5, output[1].asDoubleChunk().get(0));
+                TestCase.assertEquals(100L, output[2].asLongChunk().get(0));
+                TestCase.assertEquals(DateTimeUtils.millisToNanos(1000L), output[3].asLongChunk().get(0));
+                TestCase.assertEquals(BooleanUtils.TRUE_BOOLEAN_AS_BYTE, output[4].asByteChunk().get(0));
+
+                // Canonicalized through the string cache
+                TestCase.assertSame(output[0].asObjectChunk().get(0), output[0].asObjectChunk().get(1));
+                TestCase.assertEquals(2.5, output[1].asDoubleChunk().get(1));
+                TestCase.assertEquals(QueryConstants.NULL_LONG, output[2].asLongChunk().get(1));
+                TestCase.assertEquals(DateTimeUtils.millisToNanos(2000L), output[3].asLongChunk().get(1));
+                TestCase.assertEquals(BooleanUtils.NULL_BOOLEAN_AS_BYTE, output[4].asByteChunk().get(1));
+
+                TestCase.assertNull(output[0].asObjectChunk().get(2));
+                TestCase.assertEquals(QueryConstants.NULL_DOUBLE, output[1].asDoubleChunk().get(2));
+                TestCase.assertEquals(QueryConstants.NULL_LONG, output[2].asLongChunk().get(2));
+                TestCase.assertEquals(QueryConstants.NULL_LONG, output[3].asLongChunk().get(2));
+                TestCase.assertEquals(BooleanUtils.NULL_BOOLEAN_AS_BYTE, output[4].asByteChunk().get(2));
+            }
+        }
+    }
+
+    private static byte[] encode(final int schemaId, final Schema schema, final GenericData.Record record)
+            throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(ByteBuffer.allocate(Integer.BYTES).putInt(schemaId).array());
+        final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericData.Record>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
 }
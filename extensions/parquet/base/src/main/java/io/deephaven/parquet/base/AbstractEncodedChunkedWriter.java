@@ -0,0 +1,71 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * The base class for bulk writers that encode values with one of Parquet's own {@link ValuesWriter values writers}, for
+ * encodings other than PLAIN (e.g., DELTA_BINARY_PACKED or BYTE_STREAM_SPLIT). Subclasses feed non-null values to the
+ * {@link #encoder} one at a time, since these encodings cannot simply copy buffers.
+ *
+ * @param <BUFFER_TYPE> The type of the buffers of values being written
+ */
+abstract class AbstractEncodedChunkedWriter<BUFFER_TYPE> extends AbstractBulkValuesWriter<BUFFER_TYPE> {
+
+    final ValuesWriter encoder;
+    IntBuffer nullOffsets;
+
+    AbstractEncodedChunkedWriter(@NotNull final ValuesWriter encoder) {
+        this.encoder = encoder;
+        nullOffsets = IntBuffer.allocate(4);
+    }
+
+    @Override
+    public long getBufferedSize() {
+        return encoder.getBufferedSize();
+    }
+
+    @Override
+    public BytesInput getBytes() {
+        return encoder.getBytes();
+    }
+
+    @Override
+    public void reset() {
+        encoder.reset();
+    }
+
+    @Override
+    public ByteBuffer getByteBufferView() throws IOException {
+        return encoder.getBytes().toByteBuffer();
+    }
+
+    @Override
+    public void close() {
+        encoder.close();
+    }
+
+    @Override
+    public long getAllocatedSize() {
+        return encoder.getAllocatedSize();
+    }
+
+    @Override
+    public Encoding getEncoding() {
+        return encoder.getEncoding();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+        return encoder.memUsageString(prefix + " " + getClass().getSimpleName());
+    }
+}
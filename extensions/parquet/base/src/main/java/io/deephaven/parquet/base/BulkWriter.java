@@ -3,6 +3,7 @@
 //
 package io.deephaven.parquet.base;
 
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
 import org.jetbrains.annotations.NotNull;
@@ -89,6 +90,11 @@ interface BulkWriter<BUFFER_TYPE> {
             final int rowCount,
             @NotNull Statistics<?> statistics);
 
+    /**
+     * @return The encoding of the values written
+     */
+    Encoding getEncoding();
+
     /**
      * Clear all internal state.
      */
@@ -0,0 +1,94 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * The output for a column chunk that is encoded concurrently with the column chunks before it in the same row group.
+ * Bytes are buffered in memory until the preceding column chunks have been written and this chunk is
+ * {@link #handOff(OutputStream) handed off} to the file, after which they are written straight through. Writers block
+ * once {@code maxBufferedBytes} are buffered, bounding the memory used for each column chunk that is not yet being
+ * written.
+ */
+final class ColumnChunkHandoffOutputStream extends OutputStream {
+
+    private final long maxBufferedBytes;
+
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private OutputStream destination;
+    private IOException failure;
+
+    ColumnChunkHandoffOutputStream(final long maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(@NotNull final byte[] b, final int off, final int len) throws IOException {
+        // Always accept at least one write into an empty buffer, so that a single large write cannot block forever
+        while (destination == null && failure == null
+                && buffer.size() > 0 && buffer.size() + (long) len > maxBufferedBytes) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to write column chunk");
+            }
+        }
+        if (failure != null) {
+            throw new IOException("Failed writing preceding column chunks", failure);
+        }
+        if (destination != null) {
+            destination.write(b, off, len);
+        } else {
+            buffer.write(b, off, len);
+        }
+    }
+
+    /**
+     * Write any buffered bytes to {@code destination}, and write all subsequent bytes straight through to it. Must be
+     * called at most once.
+     *
+     * @param destination The file output, positioned at the start of this column chunk
+     */
+    synchronized void handOff(@NotNull final OutputStream destination) throws IOException {
+        buffer.writeTo(destination);
+        buffer = null;
+        this.destination = destination;
+        notifyAll();
+    }
+
+    /**
+     * Fail any blocked or subsequent writes, because this column chunk will never be handed off.
+     *
+     * @param cause The reason the preceding column chunks could not be written
+     */
+    synchronized void fail(@NotNull final IOException cause) {
+        if (destination == null) {
+            buffer = null;
+            failure = cause;
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void flush() {
+        // The destination is owned and flushed by the file writer
+    }
+
+    @Override
+    public void close() {
+        // The destination is owned and closed by the file writer
+    }
+}
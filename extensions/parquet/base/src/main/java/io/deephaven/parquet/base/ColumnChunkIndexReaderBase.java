@@ -0,0 +1,87 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import io.deephaven.util.channel.SeekableChannelsProvider;
+import org.apache.parquet.format.ColumnChunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Base class for readers of per-column-chunk index structures (the column index and the offset index), which are read
+ * on demand from a known offset and length in the file, and cached for future requests.
+ */
+abstract class ColumnChunkIndexReaderBase<INDEX_TYPE> {
+
+    private final SeekableChannelsProvider channelsProvider;
+    final ColumnChunk columnChunk;
+    private final URI columnChunkURI;
+    private final String indexName;
+    private volatile INDEX_TYPE index;
+
+    ColumnChunkIndexReaderBase(
+            @NotNull final SeekableChannelsProvider channelsProvider,
+            @NotNull final ColumnChunk columnChunk,
+            @NotNull final URI columnChunkURI,
+            @NotNull final String indexName) {
+        this.channelsProvider = channelsProvider;
+        this.columnChunk = columnChunk;
+        this.columnChunkURI = columnChunkURI;
+        this.indexName = indexName;
+        this.index = null;
+    }
+
+    /**
+     * @return Whether the column chunk metadata records the location of this index
+     */
+    abstract boolean isIndexSet();
+
+    /**
+     * @return The file offset of this index
+     */
+    abstract long indexOffset();
+
+    /**
+     * @return The serialized length of this index
+     */
+    abstract int indexLength();
+
+    /**
+     * Deserialize this index.
+     *
+     * @param in The stream to read from, positioned at the start of the serialized index
+     * @return The index
+     */
+    abstract INDEX_TYPE readIndex(@NotNull InputStream in) throws IOException;
+
+    final INDEX_TYPE getIndex(@NotNull final SeekableChannelContext context) {
+        final INDEX_TYPE localIndex;
+        if ((localIndex = index) != null) {
+            return localIndex;
+        }
+        if (!isIndexSet()) {
+            throw new UnsupportedOperationException("Cannot read " + indexName + " from this source.");
+        }
+        return readAndCacheIndex(context);
+    }
+
+    private INDEX_TYPE readAndCacheIndex(@NotNull final SeekableChannelContext channelContext) {
+        try (
+                final SeekableChannelContext.ContextHolder holder =
+                        SeekableChannelContext.ensureContext(channelsProvider, channelContext);
+                final SeekableByteChannel readChannel = channelsProvider.getReadChannel(holder.get(), columnChunkURI);
+                final InputStream in =
+                        channelsProvider.getInputStream(readChannel.position(indexOffset()), indexLength())) {
+            return (index = readIndex(in));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,6 +6,9 @@ package io.deephaven.parquet.base;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.format.Statistics;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.Nullable;
@@ -53,6 +56,37 @@ public interface ColumnChunkReader {
      */
     OffsetIndex getOffsetIndex(final SeekableChannelContext context);
 
+    /**
+     * @return The statistics recorded for this column chunk in the file metadata, or null if there are none.
+     */
+    @Nullable
+    Statistics getStatistics();
+
+    /**
+     * @return Whether the column chunk has column index information set in the metadata or not.
+     */
+    boolean hasColumnIndex();
+
+    /**
+     * @param context The channel context to use for reading the column index.
+     * @return Get the column index, which holds per-page statistics, for a column chunk.
+     * @throws UnsupportedOperationException If the column chunk does not have a column index.
+     */
+    ColumnIndex getColumnIndex(final SeekableChannelContext context);
+
+    /**
+     * @return Whether the column chunk has a Bloom filter set in the metadata or not.
+     */
+    boolean hasBloomFilter();
+
+    /**
+     * @param context The channel context to use for reading the Bloom filter.
+     * @return The Bloom filter for this column chunk, or {@code null} if there is none or it uses an unsupported
+     *         algorithm, hash, or compression
+     */
+    @Nullable
+    BloomFilter getBloomFilter(final SeekableChannelContext context);
+
     /**
      * Used to iterate over column page readers for each page with the capability to set channel context to for reading
      * the pages.
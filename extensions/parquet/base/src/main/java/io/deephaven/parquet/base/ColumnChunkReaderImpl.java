@@ -15,7 +15,10 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.format.*;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -29,6 +32,7 @@ import java.net.URI;
 import java.nio.channels.SeekableByteChannel;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static io.deephaven.parquet.base.ParquetUtils.resolve;
@@ -38,14 +42,22 @@ import static org.apache.parquet.format.Encoding.RLE_DICTIONARY;
 
 final class ColumnChunkReaderImpl implements ColumnChunkReader {
 
+    /**
+     * Size hint for reading Bloom filters written without a {@code bloom_filter_length}, matching the default maximum
+     * Bloom filter size used by writers.
+     */
+    private static final int DEFAULT_BLOOM_FILTER_SIZE_HINT = 1 << 20;
+
     private final String columnName;
     private final ColumnChunk columnChunk;
     private final SeekableChannelsProvider channelsProvider;
     private final CompressorAdapter decompressor;
     private final ColumnDescriptor path;
     private final OffsetIndexReader offsetIndexReader;
+    private final ColumnIndexReader columnIndexReader;
     private final List<Type> fieldTypes;
     private final Function<SeekableChannelContext, Dictionary> dictionarySupplier;
+    private final Function<SeekableChannelContext, Optional<BloomFilter>> bloomFilterSupplier;
     private final URI columnChunkURI;
     /**
      * Number of rows in the row group of this column chunk.
@@ -78,6 +90,7 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         }
         this.fieldTypes = fieldTypes;
         this.dictionarySupplier = new SoftCachingFunction<>(this::getDictionary);
+        this.bloomFilterSupplier = new SoftCachingFunction<>(this::readBloomFilter);
         this.numRows = numRows;
         this.version = version;
         if (columnChunk.isSetFile_path()) {
@@ -89,6 +102,9 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         this.offsetIndexReader = (columnChunk.isSetOffset_index_offset())
                 ? new OffsetIndexReaderImpl(channelsProvider, columnChunk, columnChunkURI)
                 : OffsetIndexReader.NULL;
+        this.columnIndexReader = (columnChunk.isSetColumn_index_offset())
+                ? new ColumnIndexReaderImpl(channelsProvider, columnChunk, columnChunkURI, path.getPrimitiveType())
+                : ColumnIndexReader.NULL;
     }
 
     @Override
@@ -123,6 +139,66 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         return offsetIndexReader.getOffsetIndex(context);
     }
 
+    @Override
+    public Statistics getStatistics() {
+        final ColumnMetaData columnMeta = columnChunk.getMeta_data();
+        return columnMeta.isSetStatistics() ? columnMeta.getStatistics() : null;
+    }
+
+    @Override
+    public boolean hasColumnIndex() {
+        return columnChunk.isSetColumn_index_offset();
+    }
+
+    @Override
+    public ColumnIndex getColumnIndex(final SeekableChannelContext context) {
+        // Reads and caches the column index if it hasn't been read yet. Throws an exception if the column index cannot
+        // be read from this source
+        return columnIndexReader.getColumnIndex(context);
+    }
+
+    @Override
+    public boolean hasBloomFilter() {
+        return columnChunk.getMeta_data().isSetBloom_filter_offset();
+    }
+
+    @Override
+    public BloomFilter getBloomFilter(final SeekableChannelContext context) {
+        if (!hasBloomFilter()) {
+            return null;
+        }
+        return bloomFilterSupplier.apply(context).orElse(null);
+    }
+
+    @NotNull
+    private Optional<BloomFilter> readBloomFilter(final SeekableChannelContext channelContext) {
+        final ColumnMetaData chunkMeta = columnChunk.getMeta_data();
+        final int sizeHint = chunkMeta.isSetBloom_filter_length()
+                ? chunkMeta.getBloom_filter_length()
+                : DEFAULT_BLOOM_FILTER_SIZE_HINT;
+        try (
+                final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext);
+                final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), getURI())
+                        .position(chunkMeta.getBloom_filter_offset());
+                final InputStream in = channelsProvider.getInputStream(ch, sizeHint)) {
+            final BloomFilterHeader header = Util.readBloomFilterHeader(in);
+            if (!header.getAlgorithm().isSetBLOCK()
+                    || !header.getHash().isSetXXHASH()
+                    || !header.getCompression().isSetUNCOMPRESSED()
+                    || header.getNumBytes() <= 0
+                    || header.getNumBytes() > BlockSplitBloomFilter.UPPER_BOUND_BYTES) {
+                return Optional.empty();
+            }
+            final byte[] bitset = new byte[header.getNumBytes()];
+            if (in.readNBytes(bitset, 0, bitset.length) != bitset.length) {
+                throw new IOException("Unexpected end of stream reading Bloom filter for column " + columnName);
+            }
+            return Optional.of(new BlockSplitBloomFilter(bitset));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public ColumnPageReaderIterator getPageIterator(final PageMaterializerFactory pageMaterializerFactory) {
         return new ColumnPageReaderIteratorImpl(pageMaterializerFactory);
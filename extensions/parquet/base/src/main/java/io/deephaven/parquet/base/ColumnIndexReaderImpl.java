@@ -0,0 +1,57 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import io.deephaven.util.channel.SeekableChannelsProvider;
+import org.apache.parquet.format.ColumnChunk;
+import org.apache.parquet.format.Util;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Implementation of {@link ColumnIndexReader}, which reads the column index for a column chunk on demand, and caches it
+ * for future requests.
+ */
+final class ColumnIndexReaderImpl extends ColumnChunkIndexReaderBase<ColumnIndex> implements ColumnIndexReader {
+
+    private final PrimitiveType type;
+
+    ColumnIndexReaderImpl(final SeekableChannelsProvider channelsProvider, final ColumnChunk columnChunk,
+            final URI columnChunkURI, final PrimitiveType type) {
+        super(channelsProvider, columnChunk, columnChunkURI, "column index");
+        this.type = type;
+    }
+
+    @Override
+    public ColumnIndex getColumnIndex(@NotNull final SeekableChannelContext context) {
+        return getIndex(context);
+    }
+
+    @Override
+    boolean isIndexSet() {
+        return columnChunk.isSetColumn_index_offset();
+    }
+
+    @Override
+    long indexOffset() {
+        return columnChunk.getColumn_index_offset();
+    }
+
+    @Override
+    int indexLength() {
+        return columnChunk.getColumn_index_length();
+    }
+
+    @Override
+    ColumnIndex readIndex(@NotNull final InputStream in) throws IOException {
+        return ParquetMetadataConverter.fromParquetColumnIndex(type, Util.readColumnIndex(in));
+    }
+}
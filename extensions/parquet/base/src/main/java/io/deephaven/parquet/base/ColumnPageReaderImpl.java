@@ -113,12 +113,35 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
     @Override
     public Object materialize(@NotNull final Object nullValue,
             @NotNull final SeekableChannelContext channelContext) throws IOException {
-        try (
-                final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext);
-                final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
-            ch.position(dataOffset);
-            return readDataPage(nullValue, ch, holder.get());
+        try (final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext)) {
+            final ByteBuffer mappedPage = mapUncompressedPageV1(holder.get());
+            if (mappedPage != null) {
+                return readPageV1(mappedPage, nullValue, holder.get());
+            }
+            try (final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
+                ch.position(dataOffset);
+                return readDataPage(nullValue, ch, holder.get());
+            }
+        }
+    }
+
+    /**
+     * Map the bytes of this page for decoding in place, if it is an uncompressed V1 data page and
+     * {@link #channelsProvider} supports {@link SeekableChannelsProvider#mapReadOnly memory-mapped reads}. Such pages
+     * are stored exactly as decoded, so there is no need to copy them into a heap buffer first.
+     *
+     * @param channelContext The channel context to use
+     * @return The little-endian page bytes, or {@code null} if the page must be read through a channel
+     */
+    @Nullable
+    private ByteBuffer mapUncompressedPageV1(@NotNull final SeekableChannelContext channelContext) throws IOException {
+        if (pageHeader.type != PageType.DATA_PAGE || compressorAdapter != CompressorAdapter.PASSTHRU
+                || pageHeader.getUncompressed_page_size() != pageHeader.getCompressed_page_size()) {
+            return null;
         }
+        final ByteBuffer mappedPage =
+                channelsProvider.mapReadOnly(channelContext, uri, dataOffset, pageHeader.getUncompressed_page_size());
+        return mappedPage == null ? null : mappedPage.order(ByteOrder.LITTLE_ENDIAN);
     }
 
     private int readRowCount(@NotNull final SeekableChannelContext channelContext) throws IOException {
@@ -135,11 +158,15 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final IntBuffer keyDest,
             final int nullPlaceholder,
             @NotNull final SeekableChannelContext channelContext) throws IOException {
-        try (
-                final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext);
-                final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
-            ch.position(dataOffset);
-            return readKeysFromDataPage(keyDest, nullPlaceholder, ch, holder.get());
+        try (final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext)) {
+            final ByteBuffer mappedPage = mapUncompressedPageV1(holder.get());
+            if (mappedPage != null) {
+                return readKeysFromPageV1(mappedPage, keyDest, nullPlaceholder, holder.get());
+            }
+            try (final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
+                ch.position(dataOffset);
+                return readKeysFromDataPage(keyDest, nullPlaceholder, ch, holder.get());
+            }
         }
     }
 
@@ -397,12 +424,29 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final IntBuffer keyDest,
             final int nullPlaceholder,
             @NotNull final SeekableChannelContext channelContext) {
-        final DataPageHeader header = pageHeader.getData_page_header();
         final int uncompressedSize = pageHeader.getUncompressed_page_size();
         final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, uncompressedSize)
                 .order(ByteOrder.LITTLE_ENDIAN);
         try {
             readNBytes(decompressedInput, bytes.array(), bytes.arrayOffset(), uncompressedSize);
+        } catch (final IOException e) {
+            throw new ParquetDecodingException("Failed to read keys from parquet V1 page for column: " + columnName +
+                    ", uri: " + uri, e);
+        }
+        return readKeysFromPageV1(bytes, keyDest, nullPlaceholder, channelContext);
+    }
+
+    /**
+     * Read keys from the uncompressed contents of a V1 page, which {@code bytes} must be positioned at the start of.
+     */
+    @Nullable
+    private IntBuffer readKeysFromPageV1(
+            final ByteBuffer bytes,
+            final IntBuffer keyDest,
+            final int nullPlaceholder,
+            @NotNull final SeekableChannelContext channelContext) {
+        final DataPageHeader header = pageHeader.getData_page_header();
+        try {
             final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV1(bytes);
             final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV1(bytes);
             final ValuesReader dataReader =
@@ -455,12 +499,27 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final InputStream decompressedInput,
             final Object nullValue,
             @NotNull final SeekableChannelContext channelContext) {
-        final DataPageHeader header = pageHeader.getData_page_header();
         final int uncompressedSize = pageHeader.getUncompressed_page_size();
         final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, uncompressedSize)
                 .order(ByteOrder.LITTLE_ENDIAN);
         try {
             readNBytes(decompressedInput, bytes.array(), bytes.arrayOffset(), uncompressedSize);
+        } catch (final IOException e) {
+            throw new ParquetDecodingException("Failed to read parquet V1 page for column: " + columnName +
+                    ", uri: " + uri, e);
+        }
+        return readPageV1(bytes, nullValue, channelContext);
+    }
+
+    /**
+     * Materialize the uncompressed contents of a V1 page, which {@code bytes} must be positioned at the start of.
+     */
+    private Object readPageV1(
+            final ByteBuffer bytes,
+            final Object nullValue,
+            @NotNull final SeekableChannelContext channelContext) {
+        final DataPageHeader header = pageHeader.getData_page_header();
+        try {
             final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV1(bytes);
             final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV1(bytes);
             final ValuesReader dataReader =
@@ -12,23 +12,37 @@ import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
+import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForInteger;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.deltalengthbytearray.DeltaLengthByteArrayValuesWriter;
 import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
 import org.apache.parquet.format.*;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.ColumnIndexBuilder;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndexBuilder;
 import org.apache.parquet.io.ParquetEncodingException;
+import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.HashSet;
@@ -40,6 +54,7 @@ import static org.apache.parquet.format.Util.writePageHeader;
 final class ColumnWriterImpl implements ColumnWriter {
 
     private static final int MIN_SLAB_SIZE = 64;
+    private static final double BLOOM_FILTER_FPP = ParquetProperties.DEFAULT_BLOOM_FILTER_FPP;
 
     private final CountingOutputStream countingOutput;
     private final ColumnDescriptor column;
@@ -63,7 +78,23 @@ final class ColumnWriterImpl implements ColumnWriter {
     private long compressedLength;
     private long totalValueCount;
     private DictionaryPageHeader dictionaryPage;
+    /**
+     * The dictionary keys, retained so that page statistics for dictionary-encoded pages can be computed from the
+     * dictionary positions written to each page.
+     */
+    private Binary[] dictionaryKeys;
     private final OffsetIndexBuilder offsetIndexBuilder;
+    private final ColumnIndexBuilder columnIndexBuilder;
+    /**
+     * Whether to write a Bloom filter for this column. The filter itself is created lazily, once the number of distinct
+     * values can be estimated: exactly from the dictionary if there is one, or else bounded by the row group size.
+     */
+    private final boolean writeBloomFilter;
+    private BloomFilter bloomFilter;
+    /**
+     * The encoding for data pages that are not dictionary-encoded, or {@code null} for PLAIN
+     */
+    private final Encoding valuesEncoding;
 
     private final EncodingStats.Builder encodingStatsBuilder = new EncodingStats.Builder();
 
@@ -73,7 +104,9 @@ final class ColumnWriterImpl implements ColumnWriter {
             final ColumnDescriptor column,
             final CompressorAdapter compressorAdapter,
             final int targetPageSize,
-            final ByteBufferAllocator allocator) {
+            final ByteBufferAllocator allocator,
+            final boolean writeBloomFilter,
+            @Nullable final Encoding valuesEncoding) {
         this.countingOutput = countingOutput;
         this.column = column;
         this.compressorAdapter = compressorAdapter;
@@ -87,7 +120,12 @@ final class ColumnWriterImpl implements ColumnWriter {
                         getWidthFromMaxInt(column.getMaxRepetitionLevel()), MIN_SLAB_SIZE, targetPageSize, allocator);
         this.owner = owner;
         offsetIndexBuilder = OffsetIndexBuilder.getBuilder();
+        columnIndexBuilder = ColumnIndexBuilder.getBuilder(column.getPrimitiveType(),
+                ParquetProperties.DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
         statistics = Statistics.createStats(column.getPrimitiveType());
+        this.writeBloomFilter = writeBloomFilter
+                && column.getPrimitiveType().getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.BOOLEAN;
+        this.valuesEncoding = valuesEncoding;
     }
 
     @Override
@@ -96,14 +134,18 @@ final class ColumnWriterImpl implements ColumnWriter {
             @NotNull final Statistics<?> statistics)
             throws IOException {
         initWriter();
+        final Statistics<?> pageStatistics = newPageStatistics(pageData);
+        final long initialNullCount = statistics.getNumNulls();
+        updateBloomFilter(pageData, valuesCount);
         // noinspection unchecked
-        bulkWriter.writeBulk(pageData, valuesCount, statistics);
+        bulkWriter.writeBulk(pageData, valuesCount, hasDictionary ? statistics : pageStatistics);
         if (dlEncoder != null) {
             for (int i = 0; i < valuesCount; i++) {
                 dlEncoder.writeInt(1); // TODO implement a bulk RLE writer
             }
         }
         writePage(bulkWriter.getByteBufferView(), valuesCount, valuesCount);
+        finishPageStatistics(statistics, pageStatistics, initialNullCount);
         bulkWriter.reset();
     }
 
@@ -113,7 +155,7 @@ final class ColumnWriterImpl implements ColumnWriter {
                 bulkWriter = new RleIntChunkedWriter(targetPageSize, allocator,
                         (byte) (32 - Integer.numberOfLeadingZeros(dictionaryPage.num_values)));
             } else {
-                bulkWriter = getWriter(column.getPrimitiveType());
+                bulkWriter = getDataWriter(column.getPrimitiveType());
             }
         } else {
             bulkWriter.reset();
@@ -137,6 +179,14 @@ final class ColumnWriterImpl implements ColumnWriter {
         writeDictionaryPage(dictionaryWriter.getByteBufferView(), valuesCount);
         pageCount++;
         hasDictionary = true;
+        dictionaryKeys = (Binary[]) dictionaryValues;
+        if (writeBloomFilter) {
+            // Every dictionary key is used by some page, so the dictionary is exactly the set of distinct values
+            ensureBloomFilter(valuesCount);
+            for (int ii = 0; ii < valuesCount; ++ii) {
+                bloomFilter.insertHash(bloomFilter.hash(dictionaryKeys[ii]));
+            }
+        }
         dictionaryPage = new DictionaryPageHeader(valuesCount, org.apache.parquet.format.Encoding.PLAIN);
     }
 
@@ -166,24 +216,105 @@ final class ColumnWriterImpl implements ColumnWriter {
         encodings.add(Encoding.PLAIN);
     }
 
+    private void ensureBloomFilter(final long maxDistinctValues) {
+        if (bloomFilter == null) {
+            final int numBytes = BlockSplitBloomFilter.optimalNumOfBits(maxDistinctValues, BLOOM_FILTER_FPP) / 8;
+            bloomFilter = new BlockSplitBloomFilter(numBytes, ParquetProperties.DEFAULT_MAX_BLOOM_FILTER_BYTES);
+        }
+    }
+
+    /**
+     * Insert the non-null values of a plain-encoded page into the Bloom filter, before the bulk writer consumes them.
+     * Dictionary-encoded columns have already inserted their dictionary keys.
+     */
+    private void updateBloomFilter(@NotNull final Object pageData, final int valuesCount) {
+        if (!writeBloomFilter || hasDictionary) {
+            return;
+        }
+        ensureBloomFilter(owner.getBlock().getRowCount());
+        switch (column.getPrimitiveType().getPrimitiveTypeName()) {
+            case INT32: {
+                final IntBuffer values = (IntBuffer) pageData;
+                final int nullValue = getIntNullValue(column.getPrimitiveType());
+                for (int ii = values.position(); ii < values.limit(); ++ii) {
+                    final int value = values.get(ii);
+                    if (value != nullValue) {
+                        bloomFilter.insertHash(bloomFilter.hash(value));
+                    }
+                }
+                break;
+            }
+            case INT64: {
+                final LongBuffer values = (LongBuffer) pageData;
+                for (int ii = values.position(); ii < values.limit(); ++ii) {
+                    final long value = values.get(ii);
+                    if (value != QueryConstants.NULL_LONG) {
+                        bloomFilter.insertHash(bloomFilter.hash(value));
+                    }
+                }
+                break;
+            }
+            case FLOAT: {
+                final FloatBuffer values = (FloatBuffer) pageData;
+                for (int ii = values.position(); ii < values.limit(); ++ii) {
+                    final float value = values.get(ii);
+                    if (value != QueryConstants.NULL_FLOAT) {
+                        bloomFilter.insertHash(bloomFilter.hash(value));
+                    }
+                }
+                break;
+            }
+            case DOUBLE: {
+                final DoubleBuffer values = (DoubleBuffer) pageData;
+                for (int ii = values.position(); ii < values.limit(); ++ii) {
+                    final double value = values.get(ii);
+                    if (value != QueryConstants.NULL_DOUBLE) {
+                        bloomFilter.insertHash(bloomFilter.hash(value));
+                    }
+                }
+                break;
+            }
+            case BINARY: {
+                final Binary[] values = (Binary[]) pageData;
+                for (int ii = 0; ii < valuesCount; ++ii) {
+                    if (values[ii] != null) {
+                        bloomFilter.insertHash(bloomFilter.hash(values[ii]));
+                    }
+                }
+                break;
+            }
+            default:
+                throw new UnsupportedOperationException(
+                        "No Bloom filter support for type " + column.getPrimitiveType().getPrimitiveTypeName());
+        }
+    }
+
+    /**
+     * Get the value used to represent {@code null} in the int buffers written for an INT32 column, which depends on
+     * the Deephaven type the column was written from.
+     */
+    private static int getIntNullValue(final PrimitiveType primitiveType) {
+        final LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
+        if (annotation != null) {
+            if (LogicalTypeAnnotation.intType(8, true).equals(annotation)) {
+                return QueryConstants.NULL_BYTE;
+            } else if (LogicalTypeAnnotation.intType(16, true).equals(annotation)) {
+                return QueryConstants.NULL_SHORT;
+            } else if (LogicalTypeAnnotation.intType(16, false).equals(annotation)) {
+                return QueryConstants.NULL_CHAR;
+            }
+        }
+        return QueryConstants.NULL_INT;
+    }
+
     private BulkWriter getWriter(final PrimitiveType primitiveType) {
         switch (primitiveType.getPrimitiveTypeName()) {
             case INT96:
             case FIXED_LEN_BYTE_ARRAY:
                 throw new UnsupportedOperationException("No support for writing FIXED_LENGTH or INT96 types");
             case INT32:
-                final LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
-                if (annotation != null) {
-                    // Appropriately set the null value for different type of integers
-                    if (LogicalTypeAnnotation.intType(8, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_BYTE);
-                    } else if (LogicalTypeAnnotation.intType(16, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_SHORT);
-                    } else if (LogicalTypeAnnotation.intType(16, false).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_CHAR);
-                    }
-                }
-                return new PlainIntChunkedWriter(targetPageSize, allocator);
+                // Appropriately set the null value for different type of integers
+                return new PlainIntChunkedWriter(targetPageSize, allocator, getIntNullValue(primitiveType));
             case INT64:
                 return new PlainLongChunkedWriter(targetPageSize, allocator);
             case FLOAT:
@@ -200,6 +331,49 @@ final class ColumnWriterImpl implements ColumnWriter {
 
     }
 
+    /**
+     * Get the writer for data pages that are not dictionary-encoded, using {@link #valuesEncoding} if one was
+     * requested. Dictionary pages are always PLAIN-encoded.
+     */
+    private BulkWriter getDataWriter(final PrimitiveType primitiveType) {
+        if (valuesEncoding == null || valuesEncoding == Encoding.PLAIN) {
+            return getWriter(primitiveType);
+        }
+        final PrimitiveType.PrimitiveTypeName typeName = primitiveType.getPrimitiveTypeName();
+        switch (valuesEncoding) {
+            case DELTA_BINARY_PACKED:
+                if (typeName == PrimitiveType.PrimitiveTypeName.INT32) {
+                    return new EncodedIntChunkedWriter(new DeltaBinaryPackingValuesWriterForInteger(
+                            MIN_SLAB_SIZE, targetPageSize, allocator), getIntNullValue(primitiveType));
+                }
+                if (typeName == PrimitiveType.PrimitiveTypeName.INT64) {
+                    return new EncodedLongChunkedWriter(new DeltaBinaryPackingValuesWriterForLong(
+                            MIN_SLAB_SIZE, targetPageSize, allocator));
+                }
+                break;
+            case DELTA_LENGTH_BYTE_ARRAY:
+                if (typeName == PrimitiveType.PrimitiveTypeName.BINARY) {
+                    return new EncodedBinaryChunkedWriter(new DeltaLengthByteArrayValuesWriter(
+                            MIN_SLAB_SIZE, targetPageSize, allocator));
+                }
+                break;
+            case BYTE_STREAM_SPLIT:
+                if (typeName == PrimitiveType.PrimitiveTypeName.FLOAT) {
+                    return new EncodedFloatChunkedWriter(
+                            new ByteStreamSplitValuesWriter.FloatByteStreamSplitValuesWriter(
+                                    MIN_SLAB_SIZE, targetPageSize, allocator));
+                }
+                if (typeName == PrimitiveType.PrimitiveTypeName.DOUBLE) {
+                    return new EncodedDoubleChunkedWriter(
+                            new ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter(
+                                    MIN_SLAB_SIZE, targetPageSize, allocator));
+                }
+                break;
+        }
+        throw new UnsupportedOperationException("Encoding " + valuesEncoding + " is not supported for column "
+                + column.getPath()[0] + " of type " + typeName);
+    }
+
     @Override
     public void addPage(@NotNull final Object pageData,
             final int valuesCount,
@@ -209,9 +383,14 @@ final class ColumnWriterImpl implements ColumnWriter {
             throw new IllegalStateException("Null values not supported");
         }
         initWriter();
+        final Statistics<?> pageStatistics = newPageStatistics(pageData);
+        final long initialNullCount = statistics.getNumNulls();
+        updateBloomFilter(pageData, valuesCount);
         // noinspection unchecked
-        bulkWriter.writeBulkFilterNulls(pageData, dlEncoder, valuesCount, statistics);
+        bulkWriter.writeBulkFilterNulls(pageData, dlEncoder, valuesCount,
+                hasDictionary ? statistics : pageStatistics);
         writePage(bulkWriter.getByteBufferView(), valuesCount, valuesCount);
+        finishPageStatistics(statistics, pageStatistics, initialNullCount);
         bulkWriter.reset();
     }
 
@@ -227,13 +406,53 @@ final class ColumnWriterImpl implements ColumnWriter {
             throw new IllegalStateException("Repeating values not supported");
         }
         initWriter();
+        final Statistics<?> pageStatistics = newPageStatistics(pageData);
+        final long initialNullCount = statistics.getNumNulls();
+        updateBloomFilter(pageData, nonNullValueCount);
         // noinspection unchecked
-        final int valueCount =
-                bulkWriter.writeBulkVector(pageData, repeatCount, rlEncoder, dlEncoder, nonNullValueCount, statistics);
+        final int valueCount = bulkWriter.writeBulkVector(pageData, repeatCount, rlEncoder, dlEncoder,
+                nonNullValueCount, hasDictionary ? statistics : pageStatistics);
         writePage(bulkWriter.getByteBufferView(), valueCount, repeatCount.limit());
+        finishPageStatistics(statistics, pageStatistics, initialNullCount);
         bulkWriter.reset();
     }
 
+    /**
+     * Create the statistics for the next page. For non-dictionary pages, the bulk writer fills these in while writing
+     * the page. For dictionary-encoded pages, the bulk writer only sees dictionary positions, so the minimum and
+     * maximum are computed here by looking up the page's positions in the dictionary before they are consumed.
+     */
+    private Statistics<?> newPageStatistics(@NotNull final Object pageData) {
+        final Statistics<?> pageStatistics = Statistics.createStats(column.getPrimitiveType());
+        if (hasDictionary) {
+            final IntBuffer positions = (IntBuffer) pageData;
+            for (int ii = positions.position(); ii < positions.limit(); ++ii) {
+                final int position = positions.get(ii);
+                if (position != QueryConstants.NULL_INT) {
+                    pageStatistics.updateStats(dictionaryKeys[position]);
+                }
+            }
+        }
+        return pageStatistics;
+    }
+
+    /**
+     * Record the statistics for the page just written in the column index, and fold them into the column chunk
+     * statistics. For dictionary-encoded pages, the column chunk statistics were updated directly by the bulk writer,
+     * and only the page's null count needs to be recovered from them.
+     */
+    private void finishPageStatistics(
+            @NotNull final Statistics<?> chunkStatistics,
+            @NotNull final Statistics<?> pageStatistics,
+            final long initialNullCount) {
+        if (hasDictionary) {
+            pageStatistics.incrementNumNulls(chunkStatistics.getNumNulls() - initialNullCount);
+        } else {
+            chunkStatistics.mergeStatistics(pageStatistics);
+        }
+        columnIndexBuilder.add(pageStatistics);
+    }
+
     private void writeDataPageV2Header(
             final int uncompressedSize,
             final int compressedSize,
@@ -404,7 +623,8 @@ final class ColumnWriterImpl implements ColumnWriter {
                 final BytesInput rlBytesInput = rlEncoder.toBytes();
                 bytes = BytesInput.concat(BytesInput.fromInt((int) rlBytesInput.size()), rlBytesInput, bytes);
             }
-            writePage(bytes, (int) valueCount, rowCount, hasDictionary ? Encoding.RLE_DICTIONARY : Encoding.PLAIN);
+            writePage(bytes, (int) valueCount, rowCount,
+                    hasDictionary ? Encoding.RLE_DICTIONARY : bulkWriter.getEncoding());
         } catch (IOException e) {
             throw new ParquetEncodingException("could not write page for " + column.getPath()[0], e);
         }
@@ -418,18 +638,7 @@ final class ColumnWriterImpl implements ColumnWriter {
 
     @Override
     public void close() {
-        owner.releaseWriter(this,
-                ColumnChunkMetaData.get(ColumnPath.get(column.getPath()),
-                        column.getPrimitiveType(),
-                        compressorAdapter.getCodecName(),
-                        encodingStatsBuilder.build(),
-                        encodings,
-                        statistics,
-                        firstDataPageOffset,
-                        dictionaryOffset,
-                        totalValueCount,
-                        compressedLength,
-                        uncompressedLength));
+        owner.releaseWriter(this);
 
         // We do not call bout.close() because it closes the underlying writeChannel, and this class does not own the
         // writeChannel. Also, we are assuming that all the buffered data has already been flushed to the writeChannel.
@@ -439,8 +648,50 @@ final class ColumnWriterImpl implements ColumnWriter {
         return column;
     }
 
-    OffsetIndex getOffsetIndex() {
-        return offsetIndexBuilder.build(firstDataPageOffset);
+    /**
+     * @param chunkOffset The file offset of the start of the output this writer counts positions from; zero if it
+     *        writes directly to the file
+     * @return The metadata for the column chunk written
+     */
+    ColumnChunkMetaData getColumnChunkMetaData(final long chunkOffset) {
+        return ColumnChunkMetaData.get(ColumnPath.get(column.getPath()),
+                column.getPrimitiveType(),
+                compressorAdapter.getCodecName(),
+                encodingStatsBuilder.build(),
+                encodings,
+                statistics,
+                shiftOffset(firstDataPageOffset, chunkOffset),
+                shiftOffset(dictionaryOffset, chunkOffset),
+                totalValueCount,
+                compressedLength,
+                uncompressedLength);
+    }
+
+    /**
+     * @param chunkOffset As for {@link #getColumnChunkMetaData(long)}
+     * @return The offset index for the pages written
+     */
+    OffsetIndex getOffsetIndex(final long chunkOffset) {
+        return offsetIndexBuilder.build(shiftOffset(firstDataPageOffset, chunkOffset));
+    }
+
+    private static long shiftOffset(final long offset, final long chunkOffset) {
+        return offset == -1 ? -1 : offset + chunkOffset;
+    }
+
+    /**
+     * @return The column index for the pages written, or {@code null} if one cannot be built for this column (e.g.,
+     *         because a page's minimum or maximum is {@code NaN})
+     */
+    ColumnIndex getColumnIndex() {
+        return columnIndexBuilder.build();
+    }
+
+    /**
+     * @return The Bloom filter for the values written, or {@code null} if none was requested or no pages were written
+     */
+    BloomFilter getBloomFilter() {
+        return bloomFilter;
     }
 
     @Override
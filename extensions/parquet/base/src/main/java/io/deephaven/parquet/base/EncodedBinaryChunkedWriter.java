@@ -0,0 +1,78 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.apache.parquet.io.api.Binary;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * A writer for encoding binary values with a non-PLAIN {@link ValuesWriter}
+ */
+final class EncodedBinaryChunkedWriter extends AbstractEncodedChunkedWriter<Binary[]> {
+
+    EncodedBinaryChunkedWriter(@NotNull final ValuesWriter encoder) {
+        super(encoder);
+    }
+
+    @Override
+    public void writeBytes(Binary v) {
+        encoder.writeBytes(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull Binary[] bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final Binary v = bulkValues[i];
+            writeBytes(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final Binary[] bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        for (int i = 0; i < rowCount; i++) {
+            if (bulkValues[i] != null) {
+                final Binary v = bulkValues[i];
+                writeBytes(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final Binary[] bulkValues,
+            final int nonNullLeafCount,
+            @NotNull final Statistics<?> statistics) {
+        nullOffsets.clear();
+        for (int i = 0; i < nonNullLeafCount; i++) {
+            if (bulkValues[i] != null) {
+                final Binary v = bulkValues[i];
+                writeBytes(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+        }
+        return new WriteResult(nonNullLeafCount, nullOffsets);
+    }
+}
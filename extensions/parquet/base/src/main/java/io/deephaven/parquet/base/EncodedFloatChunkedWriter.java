@@ -0,0 +1,81 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+/**
+ * A writer for encoding floats with a non-PLAIN {@link ValuesWriter}
+ */
+final class EncodedFloatChunkedWriter extends AbstractEncodedChunkedWriter<FloatBuffer> {
+
+    EncodedFloatChunkedWriter(@NotNull final ValuesWriter encoder) {
+        super(encoder);
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        encoder.writeFloat(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull FloatBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final float v = bulkValues.get();
+            writeFloat(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final FloatBuffer bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        while (bulkValues.hasRemaining()) {
+            final float v = bulkValues.get();
+            if (v != QueryConstants.NULL_FLOAT) {
+                writeFloat(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final FloatBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        int i = 0;
+        nullOffsets.clear();
+        while (bulkValues.hasRemaining()) {
+            final float v = bulkValues.get();
+            if (v != QueryConstants.NULL_FLOAT) {
+                writeFloat(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+            i++;
+        }
+        return new WriteResult(rowCount, nullOffsets);
+    }
+}
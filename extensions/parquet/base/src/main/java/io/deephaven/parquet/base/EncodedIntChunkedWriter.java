@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+
+/**
+ * A writer for encoding ints with a non-PLAIN {@link ValuesWriter}
+ */
+final class EncodedIntChunkedWriter extends AbstractEncodedChunkedWriter<IntBuffer> {
+    /**
+     * This variable stores a type-specific {@code null} representation for writing. This is useful for Byte, Char, and
+     * Short data types which are written as primitive ints but have a different definition of {@code null}.
+     */
+    private final int nullValue;
+
+    EncodedIntChunkedWriter(@NotNull final ValuesWriter encoder, final int nullValue) {
+        super(encoder);
+        this.nullValue = nullValue;
+    }
+
+    EncodedIntChunkedWriter(@NotNull final ValuesWriter encoder) {
+        this(encoder, QueryConstants.NULL_INT);
+    }
+
+    @Override
+    public void writeInteger(int v) {
+        encoder.writeInteger(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull IntBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final int v = bulkValues.get();
+            writeInteger(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final IntBuffer bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        while (bulkValues.hasRemaining()) {
+            final int v = bulkValues.get();
+            if (v != nullValue) {
+                writeInteger(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final IntBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        int i = 0;
+        nullOffsets.clear();
+        while (bulkValues.hasRemaining()) {
+            final int v = bulkValues.get();
+            if (v != nullValue) {
+                writeInteger(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+            i++;
+        }
+        return new WriteResult(rowCount, nullOffsets);
+    }
+}
@@ -14,52 +14,42 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.net.URI;
-import java.nio.channels.SeekableByteChannel;
 
 /**
  * Implementation of {@link OffsetIndexReader}, which reads the offset index for a column chunk on demand, and caches it
  * for future requests.
  */
-final class OffsetIndexReaderImpl implements OffsetIndexReader {
-
-    private final SeekableChannelsProvider channelsProvider;
-    private final ColumnChunk columnChunk;
-    private final URI columnChunkURI;
-    private OffsetIndex offsetIndex;
+final class OffsetIndexReaderImpl extends ColumnChunkIndexReaderBase<OffsetIndex> implements OffsetIndexReader {
 
     OffsetIndexReaderImpl(final SeekableChannelsProvider channelsProvider, final ColumnChunk columnChunk,
             final URI columnChunkURI) {
-        this.channelsProvider = channelsProvider;
-        this.columnChunk = columnChunk;
-        this.columnChunkURI = columnChunkURI;
-        this.offsetIndex = null;
+        super(channelsProvider, columnChunk, columnChunkURI, "offset index");
     }
 
     @Override
     @Nullable
     public OffsetIndex getOffsetIndex(@NotNull final SeekableChannelContext context) {
-        if (offsetIndex != null) {
-            return offsetIndex;
-        }
-        if (!columnChunk.isSetOffset_index_offset()) {
-            throw new UnsupportedOperationException("Cannot read offset index from this source.");
-        }
-        return readOffsetIndex(context);
+        return getIndex(context);
+    }
+
+    @Override
+    boolean isIndexSet() {
+        return columnChunk.isSetOffset_index_offset();
     }
 
-    private OffsetIndex readOffsetIndex(@NotNull final SeekableChannelContext channelContext) {
-        try (
-                final SeekableChannelContext.ContextHolder holder =
-                        SeekableChannelContext.ensureContext(channelsProvider, channelContext);
-                final SeekableByteChannel readChannel = channelsProvider.getReadChannel(holder.get(), columnChunkURI);
-                final InputStream in =
-                        channelsProvider.getInputStream(readChannel.position(columnChunk.getOffset_index_offset()),
-                                columnChunk.getOffset_index_length())) {
-            return (offsetIndex = ParquetMetadataConverter.fromParquetOffsetIndex(Util.readOffsetIndex(in)));
-        } catch (final IOException e) {
-            throw new UncheckedIOException(e);
-        }
+    @Override
+    long indexOffset() {
+        return columnChunk.getOffset_index_offset();
+    }
+
+    @Override
+    int indexLength() {
+        return columnChunk.getOffset_index_length();
+    }
+
+    @Override
+    OffsetIndex readIndex(@NotNull final InputStream in) throws IOException {
+        return ParquetMetadataConverter.fromParquetOffsetIndex(Util.readOffsetIndex(in));
     }
 }
@@ -8,7 +8,9 @@ import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.apache.parquet.format.*;
 import org.apache.parquet.format.ColumnOrder;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
 import org.apache.parquet.format.Type;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.schema.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -41,6 +43,12 @@ public class ParquetFileReader {
     private final URI rootURI;
     private final MessageType type;
 
+    /**
+     * The cached footer this reader was created from, or {@code null} if the footer was not cached
+     */
+    @Nullable
+    private final ParquetFooterCache.Footer cachedFooter;
+
     /**
      * Make a {@link ParquetFileReader} for the supplied {@link File}. Wraps {@link IOException} as
      * {@link UncheckedIOException}.
@@ -94,15 +102,48 @@ public class ParquetFileReader {
             // TODO(deephaven-core#5066): Add support for reading metadata files from non-file URIs
             rootURI = parquetFileURI;
         }
+        final ParquetFooterCache footerCache = ParquetFooterCache.getInstance();
+        final String version = footerCache.isEnabled() ? channelsProvider.getVersion(parquetFileURI) : null;
+        final ParquetFooterCache.Footer footer = version == null ? null : footerCache.get(parquetFileURI, version);
+        if (footer != null) {
+            fileMetaData = footer.getFileMetaData();
+            type = footer.getSchema();
+            cachedFooter = footer;
+            return;
+        }
+        final int footerLength;
         try (
                 final SeekableChannelContext context = channelsProvider.makeSingleUseContext();
                 final SeekableByteChannel ch = channelsProvider.getReadChannel(context, parquetFileURI)) {
-            final int footerLength = positionToFileMetadata(parquetFileURI, ch);
+            footerLength = positionToFileMetadata(parquetFileURI, ch);
             try (final InputStream in = channelsProvider.getInputStream(ch, footerLength)) {
                 fileMetaData = Util.readFileMetaData(in);
             }
         }
         type = fromParquetSchema(fileMetaData.schema, fileMetaData.column_orders);
+        if (version != null) {
+            cachedFooter = new ParquetFooterCache.Footer(version, footerLength, fileMetaData, type);
+            footerCache.put(parquetFileURI, cachedFooter);
+        } else {
+            cachedFooter = null;
+        }
+    }
+
+    /**
+     * Get the footer of this file converted to {@link ParquetMetadata}. When the footer was read from or added to the
+     * {@link ParquetFooterCache}, the conversion is shared with all other readers of the same version of the file.
+     *
+     * @return The {@link ParquetMetadata} for this file
+     */
+    public ParquetMetadata getParquetMetadata() {
+        if (cachedFooter != null) {
+            return cachedFooter.getParquetMetadata();
+        }
+        try {
+            return new ParquetMetadataConverter().fromParquetMetadata(fileMetaData);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to convert Parquet footer for " + rootURI, e);
+        }
     }
 
     /**
@@ -9,9 +9,11 @@ import io.deephaven.parquet.compress.CompressorAdapter;
 import io.deephaven.parquet.compress.DeephavenCompressorAdapterFactory;
 import org.apache.parquet.Version;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 
 import org.apache.parquet.format.Util;
 import org.apache.parquet.hadoop.metadata.*;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.hadoop.metadata.IndexReference;
 import org.apache.parquet.schema.MessageType;
@@ -39,6 +41,8 @@ public final class ParquetFileWriter implements AutoCloseable {
     private final CompressorAdapter compressorAdapter;
     private final Map<String, String> extraMetaData;
     private final List<BlockMetaData> blocks = new ArrayList<>();
+    private final List<List<BloomFilter>> bloomFilters = new ArrayList<>();
+    private final List<List<ColumnIndex>> columnIndexes = new ArrayList<>();
     private final List<List<OffsetIndex>> offsetIndexes = new ArrayList<>();
     private final URI dest;
     private final ParquetMetadataFileWriter metadataFileWriter;
@@ -68,12 +72,16 @@ public final class ParquetFileWriter implements AutoCloseable {
                 new RowGroupWriterImpl(countingOutput, type, targetPageSize, allocator, compressorAdapter);
         rowGroupWriter.getBlock().setRowCount(size);
         blocks.add(rowGroupWriter.getBlock());
+        bloomFilters.add(rowGroupWriter.bloomFilters());
+        columnIndexes.add(rowGroupWriter.columnIndexes());
         offsetIndexes.add(rowGroupWriter.offsetIndexes());
         return rowGroupWriter;
     }
 
     @Override
     public void close() throws IOException {
+        serializeBloomFilters();
+        serializeColumnIndexes();
         serializeOffsetIndexes();
         final ParquetMetadata footer =
                 new ParquetMetadata(new FileMetaData(type, extraMetaData, Version.FULL_VERSION), blocks);
@@ -103,6 +111,45 @@ public final class ParquetFileWriter implements AutoCloseable {
         };
     }
 
+    private void serializeBloomFilters() throws IOException {
+        for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+            final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
+            final List<BloomFilter> blockBloomFilters = bloomFilters.get(bIndex);
+            for (int cIndex = 0, cSize = columns.size(); cIndex < cSize; ++cIndex) {
+                final BloomFilter bloomFilter = blockBloomFilters.get(cIndex);
+                if (bloomFilter == null) {
+                    continue;
+                }
+                final ColumnChunkMetaData column = columns.get(cIndex);
+                final long offset = countingOutput.getCount();
+                Util.writeBloomFilterHeader(ParquetMetadataConverter.toBloomFilterHeader(bloomFilter), countingOutput);
+                bloomFilter.writeTo(countingOutput);
+                column.setBloomFilterOffset(offset);
+                column.setBloomFilterLength((int) (countingOutput.getCount() - offset));
+            }
+        }
+    }
+
+    private void serializeColumnIndexes() throws IOException {
+        for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+            final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
+            final List<ColumnIndex> blockColumnIndexes = columnIndexes.get(bIndex);
+            for (int cIndex = 0, cSize = columns.size(); cIndex < cSize; ++cIndex) {
+                final ColumnIndex columnIndex = blockColumnIndexes.get(cIndex);
+                if (columnIndex == null) {
+                    continue;
+                }
+                final ColumnChunkMetaData column = columns.get(cIndex);
+                final long offset = countingOutput.getCount();
+                Util.writeColumnIndex(
+                        ParquetMetadataConverter.toParquetColumnIndex(column.getPrimitiveType(), columnIndex),
+                        countingOutput);
+                column.setColumnIndexReference(
+                        new IndexReference(offset, (int) (countingOutput.getCount() - offset)));
+            }
+        }
+    }
+
     private void serializeOffsetIndexes() throws IOException {
         for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
             final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
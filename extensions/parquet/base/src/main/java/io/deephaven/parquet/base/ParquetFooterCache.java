@@ -0,0 +1,218 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.util.metrics.LongCounterMetric;
+import io.deephaven.util.metrics.MetricsManager;
+import org.apache.parquet.format.FileMetaData;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.MessageType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A process-wide cache of parsed Parquet footers, shared by all {@link ParquetFileReader readers} regardless of the
+ * session or table that opened them. Footers are keyed by file {@link URI} and are only returned for the same
+ * {@link io.deephaven.util.channel.SeekableChannelsProvider#getVersion(URI) version} of the file that they were read
+ * from, so files that are replaced or rewritten are re-read. Files whose provider cannot report a version are never
+ * cached.
+ * <p>
+ * The cache holds footers whose serialized (Thrift) lengths total at most {@code ParquetFooterCache.maxSerializedBytes}
+ * (256 MiB by default), evicting the least recently used footers first. Setting it to zero disables the cache. This
+ * limit is on the footers' size in the file, not their heap footprint once parsed, which is typically several times
+ * larger; size it accordingly. Cached footers are shared, and must not be modified.
+ * <p>
+ * Hits, misses and evictions are reported as the {@code ParquetFooterCacheHits}, {@code ParquetFooterCacheMisses} and
+ * {@code ParquetFooterCacheEvictions} counters of the {@link MetricsManager}, when it is enabled.
+ */
+public final class ParquetFooterCache {
+
+    private static final long MAX_SERIALIZED_BYTES = Configuration.getInstance()
+            .getLongForClassWithDefault(ParquetFooterCache.class, "maxSerializedBytes", 256L << 20);
+
+    private static final ParquetFooterCache INSTANCE = new ParquetFooterCache(MAX_SERIALIZED_BYTES);
+
+    private static final LongCounterMetric HITS_METRIC = new LongCounterMetric("ParquetFooterCacheHits");
+    private static final LongCounterMetric MISSES_METRIC = new LongCounterMetric("ParquetFooterCacheMisses");
+    private static final LongCounterMetric EVICTIONS_METRIC = new LongCounterMetric("ParquetFooterCacheEvictions");
+
+    /**
+     * @return The process-wide footer cache
+     */
+    public static ParquetFooterCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * A parsed footer for one version of a Parquet file.
+     */
+    static final class Footer {
+
+        private final String version;
+        private final int footerLength;
+        private final FileMetaData fileMetaData;
+        private final MessageType schema;
+
+        private volatile ParquetMetadata parquetMetadata;
+
+        Footer(
+                @NotNull final String version,
+                final int footerLength,
+                @NotNull final FileMetaData fileMetaData,
+                @NotNull final MessageType schema) {
+            this.version = version;
+            this.footerLength = footerLength;
+            this.fileMetaData = fileMetaData;
+            this.schema = schema;
+        }
+
+        FileMetaData getFileMetaData() {
+            return fileMetaData;
+        }
+
+        MessageType getSchema() {
+            return schema;
+        }
+
+        /**
+         * @return The footer converted to {@link ParquetMetadata}, converted at most once per cached footer
+         */
+        ParquetMetadata getParquetMetadata() {
+            ParquetMetadata local;
+            if ((local = parquetMetadata) == null) {
+                synchronized (this) {
+                    if ((local = parquetMetadata) == null) {
+                        try {
+                            parquetMetadata = local = new ParquetMetadataConverter().fromParquetMetadata(fileMetaData);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Failed to convert Parquet footer", e);
+                        }
+                    }
+                }
+            }
+            return local;
+        }
+    }
+
+    private final long maxSerializedBytes;
+
+    /**
+     * Footers in least to most recently used order.
+     */
+    private final LinkedHashMap<URI, Footer> footers = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedSerializedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ParquetFooterCache(final long maxSerializedBytes) {
+        this.maxSerializedBytes = maxSerializedBytes;
+    }
+
+    /**
+     * @return Whether this cache may hold any footers
+     */
+    boolean isEnabled() {
+        return maxSerializedBytes > 0;
+    }
+
+    /**
+     * Get the cached footer for {@code version} of the file at {@code uri}, if present.
+     *
+     * @param uri The file URI
+     * @param version The current version of the file
+     * @return The cached footer, or {@code null} on a miss
+     */
+    @Nullable
+    synchronized Footer get(@NotNull final URI uri, @NotNull final String version) {
+        final Footer footer = footers.get(uri);
+        if (footer != null && footer.version.equals(version)) {
+            hits.increment();
+            HITS_METRIC.sample(1);
+            return footer;
+        }
+        misses.increment();
+        MISSES_METRIC.sample(1);
+        return null;
+    }
+
+    /**
+     * Cache a footer read from the file at {@code uri}, replacing any footer cached for another version, and evict the
+     * least recently used footers until the cache is within its limit.
+     *
+     * @param uri The file URI
+     * @param footer The footer to cache
+     */
+    synchronized void put(@NotNull final URI uri, @NotNull final Footer footer) {
+        if (footer.footerLength > maxSerializedBytes) {
+            return;
+        }
+        final Footer replaced = footers.put(uri, footer);
+        if (replaced != null) {
+            cachedSerializedBytes -= replaced.footerLength;
+        }
+        cachedSerializedBytes += footer.footerLength;
+        final Iterator<Footer> it = footers.values().iterator();
+        while (cachedSerializedBytes > maxSerializedBytes && it.hasNext()) {
+            final Footer evicted = it.next();
+            it.remove();
+            cachedSerializedBytes -= evicted.footerLength;
+            evictions.increment();
+            EVICTIONS_METRIC.sample(1);
+        }
+    }
+
+    /**
+     * Remove all cached footers.
+     */
+    public synchronized void clear() {
+        footers.clear();
+        cachedSerializedBytes = 0;
+    }
+
+    /**
+     * @return The number of lookups that found a current footer
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that found no footer, or a footer for another version of the file
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of footers evicted to stay within {@code maxSerializedBytes}
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The total serialized size of all cached footers, which understates their heap footprint
+     */
+    public synchronized long getCachedSerializedBytes() {
+        return cachedSerializedBytes;
+    }
+
+    /**
+     * @return The number of cached footers
+     */
+    public synchronized int getCachedFooters() {
+        return footers.size();
+    }
+}
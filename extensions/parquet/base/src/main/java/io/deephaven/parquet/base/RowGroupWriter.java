@@ -3,10 +3,40 @@
 //
 package io.deephaven.parquet.base;
 
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.jetbrains.annotations.Nullable;
 
 public interface RowGroupWriter {
-    ColumnWriter addColumn(String columnName);
+    default ColumnWriter addColumn(String columnName) {
+        return addColumn(columnName, false, null);
+    }
+
+    /**
+     * Add a writer for the next column in this row group.
+     *
+     * @param columnName The parquet column name
+     * @param writeBloomFilter Whether to write a split-block Bloom filter for the column
+     * @param valuesEncoding The encoding for non-dictionary data pages, or {@code null} for PLAIN
+     * @return The column writer, which must be closed before the next column is added
+     */
+    ColumnWriter addColumn(String columnName, boolean writeBloomFilter, @Nullable Encoding valuesEncoding);
+
+    /**
+     * Add a writer for the next column in this row group, which may be written by another thread concurrently with the
+     * columns added before it. Column chunks are laid out in the file in the order they are added; each one's encoded
+     * pages are buffered in memory until every column added before it has been closed, and writes block once
+     * {@code maxBufferedBytes} are buffered. Closing a concurrent column writer is thread-safe, and the writer must be
+     * closed even if writing fails so that later columns are not blocked indefinitely.
+     *
+     * @param columnName The parquet column name
+     * @param writeBloomFilter Whether to write a split-block Bloom filter for the column
+     * @param valuesEncoding The encoding for non-dictionary data pages, or {@code null} for PLAIN
+     * @param maxBufferedBytes The maximum number of bytes to buffer before this column is written to the file
+     * @return The column writer
+     */
+    ColumnWriter addConcurrentColumn(String columnName, boolean writeBloomFilter, @Nullable Encoding valuesEncoding,
+            long maxBufferedBytes);
 
     BlockMetaData getBlock();
 }
@@ -5,16 +5,25 @@ package io.deephaven.parquet.base;
 
 import com.google.common.io.CountingOutputStream;
 import io.deephaven.parquet.compress.CompressorAdapter;
+import io.deephaven.parquet.compress.DeephavenCompressorAdapterFactory;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.Type;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 
 final class RowGroupWriterImpl implements RowGroupWriter {
@@ -25,7 +34,15 @@ final class RowGroupWriterImpl implements RowGroupWriter {
     private ColumnWriterImpl activeWriter;
     private final BlockMetaData blockMetaData;
     private final List<OffsetIndex> currentOffsetIndexes = new ArrayList<>();
+    private final List<ColumnIndex> currentColumnIndexes = new ArrayList<>();
+    private final List<BloomFilter> currentBloomFilters = new ArrayList<>();
     private final CompressorAdapter compressorAdapter;
+    /**
+     * Column chunks started with {@link #addConcurrentColumn}, in file order, that have not yet been released. The
+     * first of these is the one being written to the file.
+     */
+    private final Deque<ConcurrentColumn> concurrentColumns = new ArrayDeque<>();
+    private IOException concurrentFailure;
 
     RowGroupWriterImpl(CountingOutputStream countingOutput,
             MessageType type,
@@ -66,7 +83,11 @@ final class RowGroupWriterImpl implements RowGroupWriter {
     }
 
     @Override
-    public ColumnWriter addColumn(String columnName) {
+    public ColumnWriter addColumn(String columnName, boolean writeBloomFilter, @Nullable Encoding valuesEncoding) {
+        if (!concurrentColumns.isEmpty()) {
+            throw new IllegalStateException("There are concurrent column writers that need to be closed before opening "
+                    + "a writer for " + columnName);
+        }
         if (activeWriter != null) {
             throw new IllegalStateException(
                     "There is already an active column writer for " + activeWriter.getColumn().getPath()[0]
@@ -77,26 +98,136 @@ final class RowGroupWriterImpl implements RowGroupWriter {
                 type.getColumnDescription(getPrimitivePath(columnName)),
                 compressorAdapter,
                 targetPageSize,
-                allocator);
+                allocator,
+                writeBloomFilter,
+                valuesEncoding);
         return activeWriter;
     }
 
+    @Override
+    public synchronized ColumnWriter addConcurrentColumn(String columnName, boolean writeBloomFilter,
+            @Nullable Encoding valuesEncoding, long maxBufferedBytes) {
+        if (activeWriter != null) {
+            throw new IllegalStateException(
+                    "There is already an active column writer for " + activeWriter.getColumn().getPath()[0]
+                            + " need to close that before opening a concurrent writer for " + columnName);
+        }
+        final ColumnChunkHandoffOutputStream handoffOutput = new ColumnChunkHandoffOutputStream(maxBufferedBytes);
+        // Each concurrent writer compresses on its own thread, so it needs its own compressor
+        final CompressorAdapter columnCompressorAdapter =
+                DeephavenCompressorAdapterFactory.getInstance().getByName(compressorAdapter.getCodecName().name());
+        final ColumnWriterImpl columnWriter = new ColumnWriterImpl(this,
+                new CountingOutputStream(handoffOutput),
+                type.getColumnDescription(getPrimitivePath(columnName)),
+                columnCompressorAdapter,
+                targetPageSize,
+                allocator,
+                writeBloomFilter,
+                valuesEncoding);
+        final ConcurrentColumn concurrentColumn =
+                new ConcurrentColumn(columnWriter, handoffOutput, columnCompressorAdapter);
+        concurrentColumns.add(concurrentColumn);
+        if (concurrentFailure != null) {
+            handoffOutput.fail(concurrentFailure);
+        } else if (concurrentColumns.size() == 1) {
+            handOffNext();
+        }
+        return columnWriter;
+    }
+
     @Override
     public BlockMetaData getBlock() {
         return blockMetaData;
     }
 
-    void releaseWriter(ColumnWriterImpl columnWriter, ColumnChunkMetaData columnChunkMetaData) {
-        if (activeWriter != columnWriter) {
-            throw new RuntimeException(columnWriter.getColumn().getPath()[0] + " is not the active column");
+    synchronized void releaseWriter(ColumnWriterImpl columnWriter) {
+        if (activeWriter == columnWriter) {
+            addColumnMetadata(columnWriter, 0);
+            activeWriter = null;
+            return;
+        }
+        final ConcurrentColumn concurrentColumn = concurrentColumns.stream()
+                .filter(cc -> cc.columnWriter == columnWriter)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        columnWriter.getColumn().getPath()[0] + " is not an active column"));
+        concurrentColumn.closed = true;
+        try {
+            // Release every closed column at the head of the queue, handing off the file to the next column each time
+            ConcurrentColumn head;
+            while ((head = concurrentColumns.peekFirst()) != null && head.closed) {
+                concurrentColumns.removeFirst();
+                head.compressorAdapter.close();
+                if (concurrentFailure == null) {
+                    addColumnMetadata(head.columnWriter, head.chunkOffset);
+                    handOffNext();
+                }
+            }
+        } catch (IOException e) {
+            concurrentFailure = e;
+            concurrentColumns.forEach(cc -> cc.handoffOutput.fail(e));
+            throw new UncheckedIOException("Failed to write column chunk", e);
+        }
+        if (concurrentFailure != null) {
+            throw new UncheckedIOException("Failed to write a preceding column chunk", concurrentFailure);
+        }
+    }
+
+    /**
+     * Hand off the file to the first pending concurrent column, if any.
+     */
+    private void handOffNext() {
+        final ConcurrentColumn next = concurrentColumns.peekFirst();
+        if (next == null) {
+            return;
+        }
+        next.chunkOffset = countingOutput.getCount();
+        try {
+            next.handoffOutput.handOff(countingOutput);
+        } catch (IOException e) {
+            concurrentFailure = e;
+            concurrentColumns.forEach(cc -> cc.handoffOutput.fail(e));
         }
-        currentOffsetIndexes.add(columnWriter.getOffsetIndex());
+    }
+
+    private void addColumnMetadata(final ColumnWriterImpl columnWriter, final long chunkOffset) {
+        final ColumnChunkMetaData columnChunkMetaData = columnWriter.getColumnChunkMetaData(chunkOffset);
+        currentOffsetIndexes.add(columnWriter.getOffsetIndex(chunkOffset));
+        currentColumnIndexes.add(columnWriter.getColumnIndex());
+        currentBloomFilters.add(columnWriter.getBloomFilter());
         blockMetaData.addColumn(columnChunkMetaData);
         blockMetaData.setTotalByteSize(columnChunkMetaData.getTotalSize() + blockMetaData.getTotalByteSize());
-        activeWriter = null;
     }
 
     List<OffsetIndex> offsetIndexes() {
         return currentOffsetIndexes;
     }
+
+    List<ColumnIndex> columnIndexes() {
+        return currentColumnIndexes;
+    }
+
+    List<BloomFilter> bloomFilters() {
+        return currentBloomFilters;
+    }
+
+    private static final class ConcurrentColumn {
+        private final ColumnWriterImpl columnWriter;
+        private final ColumnChunkHandoffOutputStream handoffOutput;
+        private final CompressorAdapter compressorAdapter;
+        /**
+         * The file offset at which this column chunk starts, set once it is handed off
+         */
+        private long chunkOffset;
+        private boolean closed;
+
+        private ConcurrentColumn(
+                final ColumnWriterImpl columnWriter,
+                final ColumnChunkHandoffOutputStream handoffOutput,
+                final CompressorAdapter compressorAdapter) {
+            this.columnWriter = columnWriter;
+            this.handoffOutput = handoffOutput;
+            this.compressorAdapter = compressorAdapter;
+        }
+    }
 }
@@ -11,6 +11,7 @@ import io.deephaven.hash.KeyedObjectHashMap;
 import io.deephaven.hash.KeyedObjectKey;
 import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.util.annotations.VisibleForTesting;
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -191,6 +192,19 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
      */
     public abstract boolean useDictionary(String columnName);
 
+    /**
+     * @return Whether the writer should write a split-block Bloom filter for this column, allowing readers to skip row
+     *         groups that cannot contain a value being matched; defaults to false
+     */
+    public abstract boolean writeBloomFilter(String columnName);
+
+    /**
+     * @return The encoding the writer should use for this column's non-dictionary data pages, or {@code null} to use
+     *         PLAIN encoding; String columns with an encoding set are never dictionary-encoded
+     */
+    @Nullable
+    public abstract Encoding getValuesEncoding(String columnName);
+
     public abstract Object getSpecialInstructions();
 
     public abstract String getCompressionCodecName();
@@ -217,6 +231,13 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
      */
     public abstract boolean isRefreshing();
 
+    /**
+     * @return The maximum estimated size, in bytes, of decoded pages that tables read with these instructions may keep
+     *         resident in the global page cache budget, or zero for no per-table limit
+     * @see io.deephaven.parquet.table.pagestore.PageCacheBudget
+     */
+    public abstract long getPageCacheQuotaBytes();
+
     /**
      * @return should we generate {@value ParquetUtils#METADATA_FILE_NAME} and
      *         {@value ParquetUtils#COMMON_METADATA_FILE_NAME} files while writing parquet files?
@@ -305,6 +326,17 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return false;
         }
 
+        @Override
+        public boolean writeBloomFilter(final String columnName) {
+            return false;
+        }
+
+        @Override
+        @Nullable
+        public Encoding getValuesEncoding(final String columnName) {
+            return null;
+        }
+
         @Override
         @Nullable
         public Object getSpecialInstructions() {
@@ -341,6 +373,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return DEFAULT_IS_REFRESHING;
         }
 
+        @Override
+        public long getPageCacheQuotaBytes() {
+            return 0;
+        }
+
         @Override
         public boolean generateMetadataFiles() {
             return DEFAULT_GENERATE_METADATA_FILES;
@@ -382,16 +419,16 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 @Nullable final ParquetFileLayout useLayout) {
             return new ReadOnly(null, null, getCompressionCodecName(), getMaximumDictionaryKeys(),
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
-                    getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
-                    useLayout, useDefinition, null);
+                    getPageCacheQuotaBytes(), getSpecialInstructions(), generateMetadataFiles(),
+                    baseNameForPartitionedParquetData(), useLayout, useDefinition, null);
         }
 
         @Override
         ParquetInstructions withIndexColumns(final Collection<List<String>> indexColumns) {
             return new ReadOnly(null, null, getCompressionCodecName(), getMaximumDictionaryKeys(),
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
-                    getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
-                    null, null, indexColumns);
+                    getPageCacheQuotaBytes(), getSpecialInstructions(), generateMetadataFiles(),
+                    baseNameForPartitionedParquetData(), null, null, indexColumns);
         }
     };
 
@@ -401,6 +438,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private String codecName;
         private String codecArgs;
         private boolean useDictionary;
+        private boolean writeBloomFilter;
+        private Encoding valuesEncoding;
 
         public ColumnInstructions(final String columnName) {
             this.columnName = columnName;
@@ -444,6 +483,22 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         public void useDictionary(final boolean useDictionary) {
             this.useDictionary = useDictionary;
         }
+
+        public boolean writeBloomFilter() {
+            return writeBloomFilter;
+        }
+
+        public void writeBloomFilter(final boolean writeBloomFilter) {
+            this.writeBloomFilter = writeBloomFilter;
+        }
+
+        public Encoding getValuesEncoding() {
+            return valuesEncoding;
+        }
+
+        public void setValuesEncoding(final Encoding valuesEncoding) {
+            this.valuesEncoding = valuesEncoding;
+        }
     }
 
     private static final class ReadOnly extends ParquetInstructions {
@@ -460,6 +515,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private final boolean isLegacyParquet;
         private final int targetPageSize;
         private final boolean isRefreshing;
+        private final long pageCacheQuotaBytes;
         private final Object specialInstructions;
         private final boolean generateMetadataFiles;
         private final String baseNameForPartitionedParquetData;
@@ -476,6 +532,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 final boolean isLegacyParquet,
                 final int targetPageSize,
                 final boolean isRefreshing,
+                final long pageCacheQuotaBytes,
                 final Object specialInstructions,
                 final boolean generateMetadataFiles,
                 final String baseNameForPartitionedParquetData,
@@ -490,6 +547,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             this.isLegacyParquet = isLegacyParquet;
             this.targetPageSize = targetPageSize;
             this.isRefreshing = isRefreshing;
+            this.pageCacheQuotaBytes = pageCacheQuotaBytes;
             this.specialInstructions = specialInstructions;
             this.generateMetadataFiles = generateMetadataFiles;
             this.baseNameForPartitionedParquetData = baseNameForPartitionedParquetData;
@@ -557,6 +615,17 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return getOrDefault(columnName, false, ColumnInstructions::useDictionary);
         }
 
+        @Override
+        public boolean writeBloomFilter(final String columnName) {
+            return getOrDefault(columnName, false, ColumnInstructions::writeBloomFilter);
+        }
+
+        @Override
+        @Nullable
+        public Encoding getValuesEncoding(final String columnName) {
+            return getOrDefault(columnName, null, ColumnInstructions::getValuesEncoding);
+        }
+
         @Override
         public String getCompressionCodecName() {
             return compressionCodecName;
@@ -587,6 +656,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return isRefreshing;
         }
 
+        @Override
+        public long getPageCacheQuotaBytes() {
+            return pageCacheQuotaBytes;
+        }
+
         @Override
         @Nullable
         public Object getSpecialInstructions() {
@@ -634,18 +708,18 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 @Nullable final ParquetFileLayout useLayout) {
             return new ReadOnly(columnNameToInstructions, parquetColumnNameToInstructions,
                     getCompressionCodecName(), getMaximumDictionaryKeys(), getMaximumDictionarySize(),
-                    isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
-                    generateMetadataFiles(), baseNameForPartitionedParquetData(), useLayout, useDefinition,
-                    indexColumns);
+                    isLegacyParquet(), getTargetPageSize(), isRefreshing(), getPageCacheQuotaBytes(),
+                    getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(), useLayout,
+                    useDefinition, indexColumns);
         }
 
         @Override
         ParquetInstructions withIndexColumns(final Collection<List<String>> useIndexColumns) {
             return new ReadOnly(columnNameToInstructions, parquetColumnNameToInstructions,
                     getCompressionCodecName(), getMaximumDictionaryKeys(), getMaximumDictionarySize(),
-                    isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
-                    generateMetadataFiles(), baseNameForPartitionedParquetData(), fileLayout,
-                    tableDefinition, useIndexColumns);
+                    isLegacyParquet(), getTargetPageSize(), isRefreshing(), getPageCacheQuotaBytes(),
+                    getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
+                    fileLayout, tableDefinition, useIndexColumns);
         }
 
         KeyedObjectHashMap<String, ColumnInstructions> copyColumnNameToInstructions() {
@@ -698,6 +772,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private boolean isLegacyParquet;
         private int targetPageSize = defaultTargetPageSize;
         private boolean isRefreshing = DEFAULT_IS_REFRESHING;
+        private long pageCacheQuotaBytes;
         private Object specialInstructions;
         private boolean generateMetadataFiles = DEFAULT_GENERATE_METADATA_FILES;
         private String baseNameForPartitionedParquetData = DEFAULT_BASE_NAME_FOR_PARTITIONED_PARQUET_DATA;
@@ -725,6 +800,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             isLegacyParquet = readOnlyParquetInstructions.isLegacyParquet();
             targetPageSize = readOnlyParquetInstructions.getTargetPageSize();
             isRefreshing = readOnlyParquetInstructions.isRefreshing();
+            pageCacheQuotaBytes = readOnlyParquetInstructions.getPageCacheQuotaBytes();
             specialInstructions = readOnlyParquetInstructions.getSpecialInstructions();
             generateMetadataFiles = readOnlyParquetInstructions.generateMetadataFiles();
             baseNameForPartitionedParquetData = readOnlyParquetInstructions.baseNameForPartitionedParquetData();
@@ -833,6 +909,51 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Set whether the writer should write a split-block Bloom filter for this column. Bloom filters let readers
+         * skip row groups when matching high-cardinality keys, where min/max statistics are of little use.
+         * <p>
+         * On read, Bloom filters are consulted for match filters with an explicit list of values, such as
+         * {@code where("Id = 7")} or {@code where("Id in 1, 2, 3")}. They are not consulted for inverted,
+         * case-insensitive, or null-matching filters, for floating point columns, or for set filters backed by another
+         * table, such as {@code whereIn(keys, "Id")}.
+         *
+         * @param columnName The column name
+         * @param writeBloomFilter Whether to write a Bloom filter
+         */
+        public Builder writeBloomFilter(final String columnName, final boolean writeBloomFilter) {
+            final ColumnInstructions ci = getColumnInstructions(columnName);
+            ci.writeBloomFilter(writeBloomFilter);
+            return this;
+        }
+
+        /**
+         * Set the encoding the writer should use for this column's data pages. Supported encodings are
+         * {@link Encoding#PLAIN PLAIN} for any column, {@link Encoding#DELTA_BINARY_PACKED DELTA_BINARY_PACKED} for
+         * columns stored as Parquet INT32 or INT64 (e.g., sequence numbers and timestamps),
+         * {@link Encoding#DELTA_LENGTH_BYTE_ARRAY DELTA_LENGTH_BYTE_ARRAY} for String columns, and
+         * {@link Encoding#BYTE_STREAM_SPLIT BYTE_STREAM_SPLIT} for float and double columns. String columns with an
+         * encoding set are never dictionary-encoded.
+         *
+         * @param columnName The column name
+         * @param valuesEncoding The encoding
+         */
+        public Builder setValuesEncoding(final String columnName, final Encoding valuesEncoding) {
+            switch (valuesEncoding) {
+                case PLAIN:
+                case DELTA_BINARY_PACKED:
+                case DELTA_LENGTH_BYTE_ARRAY:
+                case BYTE_STREAM_SPLIT:
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported encoding " + valuesEncoding + " for column "
+                            + columnName);
+            }
+            final ColumnInstructions ci = getColumnInstructions(columnName);
+            ci.setValuesEncoding(valuesEncoding);
+            return this;
+        }
+
         private ColumnInstructions getColumnInstructions(final String columnName) {
             final ColumnInstructions ci;
             if (columnNameToInstructions == null) {
@@ -892,6 +1013,21 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Limit the estimated size of decoded pages that a table read with these instructions may keep resident in the
+         * global {@link io.deephaven.parquet.table.pagestore.PageCacheBudget page cache budget}, so that one large scan
+         * cannot evict every other table's pages. Has no effect unless a global budget is configured.
+         *
+         * @param pageCacheQuotaBytes The quota in bytes, or zero for no per-table limit
+         */
+        public Builder setPageCacheQuotaBytes(final long pageCacheQuotaBytes) {
+            if (pageCacheQuotaBytes < 0) {
+                throw new IllegalArgumentException("Page cache quota should be >= 0");
+            }
+            this.pageCacheQuotaBytes = pageCacheQuotaBytes;
+            return this;
+        }
+
         public Builder setSpecialInstructions(final Object specialInstructions) {
             this.specialInstructions = specialInstructions;
             return this;
@@ -1006,8 +1142,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             parquetColumnNameToInstructions = null;
             return new ReadOnly(columnNameToInstructionsOut, parquetColumnNameToColumnNameOut, compressionCodecName,
                     maximumDictionaryKeys, maximumDictionarySize, isLegacyParquet, targetPageSize, isRefreshing,
-                    specialInstructions, generateMetadataFiles, baseNameForPartitionedParquetData, fileLayout,
-                    tableDefinition, indexColumns);
+                    pageCacheQuotaBytes, specialInstructions, generateMetadataFiles, baseNameForPartitionedParquetData,
+                    fileLayout, tableDefinition, indexColumns);
         }
     }
 
@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,8 +35,9 @@ import static io.deephaven.parquet.base.ParquetUtils.getPerFileMetadataKey;
 
 /**
  * Used to generate a combined {@value ParquetUtils#METADATA_FILE_NAME} and
- * {@value ParquetUtils#COMMON_METADATA_FILE_NAME} file for provided Parquet files. This class is stateful and therefore
- * should not be used by multiple threads concurrently.
+ * {@value ParquetUtils#COMMON_METADATA_FILE_NAME} file for provided Parquet files. Metadata for individual files may be
+ * {@link #addParquetFileMetadata(URI, ParquetMetadata) added} concurrently and in any order, and is merged in the order
+ * of the destinations provided at construction.
  */
 final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
 
@@ -54,6 +56,10 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
 
     private final URI metadataRootDir;
     private final List<ParquetFileMetadata> parquetFileMetadataList;
+    /**
+     * The position of each destination in the order provided at construction
+     */
+    private final Map<URI, Integer> destinationOrder;
     private final MessageType partitioningColumnsSchema;
 
     // The following fields are used to accumulate metadata for all parquet files
@@ -82,11 +88,13 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
         }
         this.metadataRootDir = metadataRootDir;
         final String metadataRootDirStr = metadataRootDir.toString();
+        this.destinationOrder = new HashMap<>(destinations.length);
         for (final URI destination : destinations) {
             if (!destination.toString().startsWith(metadataRootDirStr)) {
                 throw new UncheckedDeephavenException("All destinations must be nested under the provided metadata root"
                         + " directory, provided destination " + destination + " is not under " + metadataRootDir);
             }
+            destinationOrder.putIfAbsent(destination, destinationOrder.size());
         }
         this.parquetFileMetadataList = new ArrayList<>(destinations.length);
         this.partitioningColumnsSchema = partitioningColumnsSchema;
@@ -105,7 +113,7 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
      * @param parquetFileURI The parquet file destination URI
      * @param metadata The parquet metadata
      */
-    public void addParquetFileMetadata(final URI parquetFileURI, final ParquetMetadata metadata) {
+    public synchronized void addParquetFileMetadata(final URI parquetFileURI, final ParquetMetadata metadata) {
         parquetFileMetadataList.add(new ParquetFileMetadata(parquetFileURI, metadata));
     }
 
@@ -116,7 +124,7 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
      * @param metadataOutputStream The output stream for the {@value ParquetUtils#METADATA_FILE_NAME} file
      * @param commonMetadataOutputStream The output stream for the {@value ParquetUtils#COMMON_METADATA_FILE_NAME} file
      */
-    public void writeMetadataFiles(
+    public synchronized void writeMetadataFiles(
             final CompletableOutputStream metadataOutputStream,
             final CompletableOutputStream commonMetadataOutputStream) throws IOException {
         if (parquetFileMetadataList.isEmpty()) {
@@ -146,6 +154,9 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
      * Merge all the accumulated metadata for the parquet files.
      */
     private void mergeMetadata() throws IOException {
+        // Files may have been written concurrently, so restore the destination order
+        parquetFileMetadataList.sort(Comparator.comparingInt((ParquetFileMetadata fileMetadata) -> destinationOrder
+                .getOrDefault(fileMetadata.uri, Integer.MAX_VALUE)));
         final Collection<String> mergedCreatedBy = new HashSet<>();
         for (final ParquetFileMetadata parquetFileMetadata : parquetFileMetadataList) {
             final FileMetaData fileMetaData = parquetFileMetadata.metadata.getFileMetaData();
@@ -13,6 +13,7 @@ import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.parquet.table.metadata.CodecInfo;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
 import io.deephaven.parquet.table.metadata.TableInfo;
+import io.deephaven.parquet.table.metadata.TableInfoCache;
 import io.deephaven.parquet.base.ParquetFileReader;
 import io.deephaven.util.SimpleTypeMap;
 import io.deephaven.vector.ByteVector;
@@ -101,7 +102,7 @@ public class ParquetSchemaReader {
             return Optional.empty();
         }
         try {
-            return Optional.of(TableInfo.deserializeFromJSON(tableInfoRaw));
+            return Optional.of(TableInfoCache.getInstance().get(tableInfoRaw));
         } catch (IOException e) {
             throw new TableDataException("Failed to parse " + METADATA_KEY + " metadata", e);
         }
@@ -3,7 +3,10 @@
 //
 package io.deephaven.parquet.table;
 
+import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.SortColumn;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.TrackingRowSet;
@@ -14,6 +17,7 @@ import io.deephaven.engine.table.impl.select.FormulaColumn;
 import io.deephaven.engine.table.impl.select.NullSelectColumn;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.SourceColumn;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.parquet.base.ColumnWriter;
 import io.deephaven.parquet.base.NullParquetMetadataFileWriter;
 import io.deephaven.parquet.base.ParquetMetadataFileWriter;
@@ -39,10 +43,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.nio.IntBuffer;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static io.deephaven.parquet.base.ParquetUtils.METADATA_KEY;
 
@@ -56,6 +63,20 @@ public class ParquetTableWriter {
 
     public static final String INDEX_ROW_SET_COLUMN_NAME = "dh_row_set";
 
+    /**
+     * Whether to encode the columns of a file, and the files of a multi-table write, concurrently using the
+     * {@link OperationInitializer} of the current {@link ExecutionContext}.
+     */
+    static final boolean PARALLEL_WRITES = Configuration.getInstance()
+            .getBooleanForClassWithDefault(ParquetTableWriter.class, "parallelWrites", true);
+
+    /**
+     * The maximum number of encoded bytes to buffer in memory for each column chunk that is encoded ahead of the
+     * column chunk currently being written to the file.
+     */
+    private static final long MAX_BUFFERED_COLUMN_BYTES = Configuration.getInstance()
+            .getLongForClassWithDefault(ParquetTableWriter.class, "maxBufferedColumnBytes", 64L << 20);
+
 
     /**
      * Helper struct used to pass information about where to write the index files
@@ -237,6 +258,12 @@ public class ParquetTableWriter {
         final long nRows = table.size();
         if (nRows > 0) {
             final RowGroupWriter rowGroupWriter = parquetFileWriter.addRowGroup(nRows);
+            final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+            if (PARALLEL_WRITES && columnSourceMap.size() > 1 && operationInitializer.canParallelize()) {
+                writeColumnsConcurrently(tableRowSet, writeInstructions, rowGroupWriter, computedCache,
+                        columnSourceMap, operationInitializer);
+                return;
+            }
             for (final Map.Entry<String, ? extends ColumnSource<?>> nameToSource : columnSourceMap.entrySet()) {
                 final String columnName = nameToSource.getKey();
                 final ColumnSource<?> columnSource = nameToSource.getValue();
@@ -250,6 +277,108 @@ public class ParquetTableWriter {
         }
     }
 
+    /**
+     * Transfer, encode and compress each column on the {@code operationInitializer}'s threads, keeping at most its
+     * {@link OperationInitializer#parallelismFactor() parallelism factor} columns in flight at once. Column chunks are
+     * written to the file in order; each column encoded ahead of the one being written buffers at most
+     * {@link #MAX_BUFFERED_COLUMN_BYTES} before waiting its turn.
+     */
+    private static void writeColumnsConcurrently(
+            @NotNull final RowSet tableRowSet,
+            @NotNull final ParquetInstructions writeInstructions,
+            @NotNull final RowGroupWriter rowGroupWriter,
+            @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
+            @NotNull final Map<String, ? extends ColumnSource<?>> columnSourceMap,
+            @NotNull final OperationInitializer operationInitializer) throws IOException {
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        final int maxColumnsInFlight = Math.max(2, operationInitializer.parallelismFactor());
+        final Deque<Future<?>> columnsInFlight = new ArrayDeque<>(maxColumnsInFlight);
+        Throwable failure = null;
+        try {
+            for (final Map.Entry<String, ? extends ColumnSource<?>> nameToSource : columnSourceMap.entrySet()) {
+                if (columnsInFlight.size() == maxColumnsInFlight) {
+                    failure = awaitColumn(columnsInFlight.removeFirst(), failure);
+                    if (failure != null) {
+                        break;
+                    }
+                }
+                final String columnName = nameToSource.getKey();
+                final ColumnSource<?> columnSource = nameToSource.getValue();
+                // Give each task a cache of its own, holding only its column's entry, since tasks run concurrently
+                final Map<String, Map<ParquetCacheTags, Object>> columnComputedCache = new HashMap<>(2);
+                columnComputedCache.put(columnName,
+                        computedCache.computeIfAbsent(columnName, unusedColumnName -> new HashMap<>()));
+                final ColumnWriter columnWriter = rowGroupWriter.addConcurrentColumn(
+                        writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName),
+                        writeInstructions.writeBloomFilter(columnName),
+                        writeInstructions.getValuesEncoding(columnName),
+                        MAX_BUFFERED_COLUMN_BYTES);
+                try {
+                    columnsInFlight.add(operationInitializer.submit(() -> {
+                        try (final SafeCloseable ignored1 = executionContext.open();
+                                final ColumnWriter ignored2 = columnWriter) {
+                            encodeColumn(tableRowSet, writeInstructions, columnWriter, columnComputedCache,
+                                    columnName, columnSource);
+                        } catch (IOException e) {
+                            throw new UncheckedDeephavenException("Failed to write column " + columnName, e);
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    // Later columns wait for this one to be closed
+                    columnWriter.close();
+                    throw e;
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            // Columns that are still being written must finish before the file can be completed or rolled back
+            while (!columnsInFlight.isEmpty()) {
+                failure = awaitColumn(columnsInFlight.removeFirst(), failure);
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new UncheckedDeephavenException("Failed to write columns", failure);
+        }
+    }
+
+    /**
+     * Wait for a column to be written, without being interrupted.
+     *
+     * @return {@code failure}, or the reason the column failed to be written if {@code failure} is {@code null}
+     */
+    private static Throwable awaitColumn(@NotNull final Future<?> column, @Nullable Throwable failure) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    column.get();
+                    return failure;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    if (failure == null) {
+                        failure = new InterruptedIOException("Interrupted while writing columns");
+                    }
+                } catch (ExecutionException e) {
+                    return failure == null ? e.getCause() : failure;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      * Get the parquet schema for a table
      *
@@ -391,15 +520,28 @@ public class ParquetTableWriter {
             @NotNull final String columnName,
             @NotNull final ColumnSource<DATA_TYPE> columnSource) throws IllegalAccessException, IOException {
         try (final ColumnWriter columnWriter = rowGroupWriter.addColumn(
-                writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName))) {
-            boolean usedDictionary = false;
-            if (String.class.equals(columnSource.getType()) || String.class.equals(columnSource.getComponentType())) {
-                usedDictionary =
-                        tryEncodeDictionary(tableRowSet, writeInstructions, columnWriter, columnName, columnSource);
-            }
-            if (!usedDictionary) {
-                encodePlain(tableRowSet, writeInstructions, columnWriter, computedCache, columnName, columnSource);
-            }
+                writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName),
+                writeInstructions.writeBloomFilter(columnName),
+                writeInstructions.getValuesEncoding(columnName))) {
+            encodeColumn(tableRowSet, writeInstructions, columnWriter, computedCache, columnName, columnSource);
+        }
+    }
+
+    private static <DATA_TYPE> void encodeColumn(
+            @NotNull final RowSet tableRowSet,
+            @NotNull final ParquetInstructions writeInstructions,
+            @NotNull final ColumnWriter columnWriter,
+            @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
+            @NotNull final String columnName,
+            @NotNull final ColumnSource<DATA_TYPE> columnSource) throws IOException {
+        boolean usedDictionary = false;
+        if ((String.class.equals(columnSource.getType()) || String.class.equals(columnSource.getComponentType()))
+                && writeInstructions.getValuesEncoding(columnName) == null) {
+            usedDictionary =
+                    tryEncodeDictionary(tableRowSet, writeInstructions, columnWriter, columnName, columnSource);
+        }
+        if (!usedDictionary) {
+            encodePlain(tableRowSet, writeInstructions, columnWriter, computedCache, columnName, columnSource);
         }
     }
 
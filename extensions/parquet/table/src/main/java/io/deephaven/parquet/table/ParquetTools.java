@@ -18,6 +18,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.locations.util.PartitionFormatter;
 import io.deephaven.engine.table.impl.locations.util.TableDataRefreshService;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
 import io.deephaven.parquet.base.ParquetMetadataFileWriter;
 import io.deephaven.parquet.base.NullParquetMetadataFileWriter;
@@ -54,9 +55,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -526,6 +531,13 @@ public class ParquetTools {
         return TableDefinition.of(nonKeyColumnDefinition);
     }
 
+    private static Map<String, Map<ParquetCacheTags, Object>> copyComputedCache(
+            @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache) {
+        final Map<String, Map<ParquetCacheTags, Object>> copy = new HashMap<>(computedCache.size());
+        computedCache.forEach((columnName, columnCache) -> copy.put(columnName, new HashMap<>(columnCache)));
+        return copy;
+    }
+
     /**
      * If the definition has any big decimal columns, precompute the precision and scale values for big decimal columns
      * for the merged table so that all the constituent parquet files are written with the same schema, precision and
@@ -588,42 +600,30 @@ public class ParquetTools {
         }
 
         // List of output streams created, to rollback in case of exceptions
-        final List<CompletableOutputStream> outputStreams = new ArrayList<>(destinations.length);
+        final List<CompletableOutputStream> outputStreams =
+                Collections.synchronizedList(new ArrayList<>(destinations.length));
         try (final SafeCloseable ignored = () -> SafeCloseable.closeAll(outputStreams.stream())) {
             try {
-                if (indexColumns.isEmpty()) {
-                    // Write the tables without any index info
-                    for (int tableIdx = 0; tableIdx < sources.length; tableIdx++) {
-                        final Table source = sources[tableIdx];
-                        final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
-                                destinations[tableIdx], PARQUET_OUTPUT_BUFFER_SIZE);
-                        outputStreams.add(outputStream);
-                        ParquetTableWriter.write(source, definition, writeInstructions, destinations[tableIdx],
-                                outputStream, Collections.emptyMap(), (List<ParquetTableWriter.IndexWritingInfo>) null,
-                                metadataFileWriter, computedCache);
-                    }
+                // Shared parquet column names across all tables
+                final String[][] parquetColumnNameArr = indexColumns.stream()
+                        .map((Collection<String> columns) -> columns.stream()
+                                .map(writeInstructions::getParquetColumnNameFromColumnNameOrDefault)
+                                .toArray(String[]::new))
+                        .toArray(String[][]::new);
+                final OperationInitializer operationInitializer =
+                        ExecutionContext.getContext().getOperationInitializer();
+                if (ParquetTableWriter.PARALLEL_WRITES && sources.length > 1
+                        && operationInitializer.canParallelize()) {
+                    // Each table is written with a copy of the cache, since the tasks run concurrently
+                    writeTablesConcurrently(sources.length, operationInitializer,
+                            tableIdx -> writeTable(sources[tableIdx], definition, writeInstructions,
+                                    destinations[tableIdx], indexColumns, parquetColumnNameArr, channelsProvider,
+                                    metadataFileWriter, copyComputedCache(computedCache), outputStreams));
                 } else {
-                    // Shared parquet column names across all tables
-                    final String[][] parquetColumnNameArr = indexColumns.stream()
-                            .map((Collection<String> columns) -> columns.stream()
-                                    .map(writeInstructions::getParquetColumnNameFromColumnNameOrDefault)
-                                    .toArray(String[]::new))
-                            .toArray(String[][]::new);
-
                     for (int tableIdx = 0; tableIdx < sources.length; tableIdx++) {
-                        final URI tableDestination = destinations[tableIdx];
-                        final List<ParquetTableWriter.IndexWritingInfo> indexInfoList =
-                                indexInfoBuilderHelper(indexColumns, parquetColumnNameArr, tableDestination,
-                                        channelsProvider);
-                        final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
-                                destinations[tableIdx], PARQUET_OUTPUT_BUFFER_SIZE);
-                        outputStreams.add(outputStream);
-                        for (final ParquetTableWriter.IndexWritingInfo info : indexInfoList) {
-                            outputStreams.add(info.destOutputStream);
-                        }
-                        final Table sourceTable = sources[tableIdx];
-                        ParquetTableWriter.write(sourceTable, definition, writeInstructions, destinations[tableIdx],
-                                outputStream, Collections.emptyMap(), indexInfoList, metadataFileWriter, computedCache);
+                        writeTable(sources[tableIdx], definition, writeInstructions, destinations[tableIdx],
+                                indexColumns, parquetColumnNameArr, channelsProvider, metadataFileWriter,
+                                computedCache, outputStreams);
                     }
                 }
 
@@ -657,6 +657,110 @@ public class ParquetTools {
         }
     }
 
+    /**
+     * Write a single table, and any index tables for it, adding the output streams used to {@code outputStreams}.
+     */
+    private static void writeTable(
+            @NotNull final Table source,
+            @NotNull final TableDefinition definition,
+            @NotNull final ParquetInstructions writeInstructions,
+            @NotNull final URI destination,
+            @NotNull final Collection<List<String>> indexColumns,
+            @NotNull final String[][] parquetColumnNameArr,
+            @NotNull final SeekableChannelsProvider channelsProvider,
+            @NotNull final ParquetMetadataFileWriter metadataFileWriter,
+            @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
+            @NotNull final List<CompletableOutputStream> outputStreams) throws IOException {
+        if (indexColumns.isEmpty()) {
+            // Write the table without any index info
+            final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
+                    destination, PARQUET_OUTPUT_BUFFER_SIZE);
+            outputStreams.add(outputStream);
+            ParquetTableWriter.write(source, definition, writeInstructions, destination,
+                    outputStream, Collections.emptyMap(), (List<ParquetTableWriter.IndexWritingInfo>) null,
+                    metadataFileWriter, computedCache);
+            return;
+        }
+        final List<ParquetTableWriter.IndexWritingInfo> indexInfoList =
+                indexInfoBuilderHelper(indexColumns, parquetColumnNameArr, destination, channelsProvider);
+        final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
+                destination, PARQUET_OUTPUT_BUFFER_SIZE);
+        outputStreams.add(outputStream);
+        for (final ParquetTableWriter.IndexWritingInfo info : indexInfoList) {
+            outputStreams.add(info.destOutputStream);
+        }
+        ParquetTableWriter.write(source, definition, writeInstructions, destination,
+                outputStream, Collections.emptyMap(), indexInfoList, metadataFileWriter, computedCache);
+    }
+
+    @FunctionalInterface
+    private interface TableWriter {
+        void write(int tableIdx) throws IOException;
+    }
+
+    /**
+     * Write {@code numTables} tables concurrently on the {@code operationInitializer}'s threads. Once any table fails,
+     * tables that have not started are skipped. Returns only once every started table has finished, so that the output
+     * streams can be safely completed or rolled back.
+     */
+    private static void writeTablesConcurrently(
+            final int numTables,
+            @NotNull final OperationInitializer operationInitializer,
+            @NotNull final TableWriter tableWriter) throws IOException {
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Future<?>> tableFutures = new ArrayList<>(numTables);
+        try {
+            for (int tableIdx = 0; tableIdx < numTables; tableIdx++) {
+                final int fTableIdx = tableIdx;
+                tableFutures.add(operationInitializer.submit(() -> {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    try (final SafeCloseable ignored = executionContext.open()) {
+                        tableWriter.write(fTableIdx);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            boolean interrupted = false;
+            for (final Future<?> tableFuture : tableFutures) {
+                while (true) {
+                    try {
+                        tableFuture.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        failure.compareAndSet(null, new InterruptedIOException("Interrupted while writing tables"));
+                    } catch (ExecutionException e) {
+                        failure.compareAndSet(null, e.getCause());
+                        break;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final Throwable firstFailure = failure.get();
+        if (firstFailure instanceof IOException) {
+            throw (IOException) firstFailure;
+        }
+        if (firstFailure instanceof RuntimeException) {
+            throw (RuntimeException) firstFailure;
+        }
+        if (firstFailure instanceof Error) {
+            throw (Error) firstFailure;
+        }
+        if (firstFailure != null) {
+            throw new UncheckedDeephavenException("Failed to write tables", firstFailure);
+        }
+    }
+
     /**
      * Examine the source tables to retrieve the list of indexes as String lists.
      *
@@ -23,6 +23,7 @@ import io.deephaven.parquet.table.metadata.CodecInfo;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.parquet.table.pagestore.PageCache;
+import io.deephaven.parquet.table.pagestore.PageCacheBudget;
 import io.deephaven.parquet.table.pagestore.topage.*;
 import io.deephaven.parquet.table.region.*;
 import io.deephaven.util.codec.CodecCache;
@@ -99,7 +100,12 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
             if ((localPageCache = pageCache) != null) {
                 return localPageCache;
             }
-            return pageCache = new PageCache<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE);
+            final PageCacheBudget pageCacheBudget = PageCacheBudget.get();
+            if (pageCacheBudget == null) {
+                return pageCache = new PageCache<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE);
+            }
+            final PageCacheBudget.Quota quota = tl().getPageCacheQuota();
+            return pageCache = new PageCache<>(quota == null ? pageCacheBudget.getDefaultQuota() : quota);
         }
     }
 
@@ -33,6 +33,7 @@ import io.deephaven.parquet.table.metadata.DataIndexInfo;
 import io.deephaven.parquet.table.metadata.GroupingColumnInfo;
 import io.deephaven.parquet.table.metadata.SortColumnInfo;
 import io.deephaven.parquet.table.metadata.TableInfo;
+import io.deephaven.parquet.table.pagestore.PageCacheBudget;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.format.RowGroup;
@@ -57,6 +58,8 @@ public class ParquetTableLocation extends AbstractTableLocation {
     private static final String IMPLEMENTATION_NAME = ParquetColumnLocation.class.getSimpleName();
 
     private final ParquetInstructions readInstructions;
+    @Nullable
+    private final PageCacheBudget.Quota pageCacheQuota;
     private final ParquetFileReader parquetFileReader;
     private final int[] rowGroupIndices;
 
@@ -77,8 +80,23 @@ public class ParquetTableLocation extends AbstractTableLocation {
     public ParquetTableLocation(@NotNull final TableKey tableKey,
             @NotNull final ParquetTableLocationKey tableLocationKey,
             @NotNull final ParquetInstructions readInstructions) {
+        this(tableKey, tableLocationKey, readInstructions, null);
+    }
+
+    /**
+     * @param tableKey The table key
+     * @param tableLocationKey The table location key
+     * @param readInstructions The read instructions
+     * @param pageCacheQuota The {@link PageCacheBudget} quota shared by the locations of this table, or {@code null}
+     *        to use the budget's default quota
+     */
+    public ParquetTableLocation(@NotNull final TableKey tableKey,
+            @NotNull final ParquetTableLocationKey tableLocationKey,
+            @NotNull final ParquetInstructions readInstructions,
+            @Nullable final PageCacheBudget.Quota pageCacheQuota) {
         super(tableKey, tableLocationKey, false);
         this.readInstructions = readInstructions;
+        this.pageCacheQuota = pageCacheQuota;
         final ParquetMetadata parquetMetadata;
         // noinspection SynchronizationOnLocalVariableOrMethodParameter
         synchronized (tableLocationKey) {
@@ -144,6 +162,11 @@ public class ParquetTableLocation extends AbstractTableLocation {
         return readInstructions;
     }
 
+    @Nullable
+    PageCacheBudget.Quota getPageCacheQuota() {
+        return pageCacheQuota;
+    }
+
     SeekableChannelsProvider getChannelProvider() {
         return parquetFileReader.getChannelsProvider();
     }
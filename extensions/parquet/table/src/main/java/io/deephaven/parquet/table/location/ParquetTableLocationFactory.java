@@ -9,6 +9,7 @@ import io.deephaven.engine.table.impl.locations.impl.NonexistentTableLocation;
 import io.deephaven.engine.table.impl.locations.impl.TableLocationFactory;
 import io.deephaven.engine.table.impl.locations.util.TableDataRefreshService;
 import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.pagestore.PageCacheBudget;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -23,9 +24,18 @@ import static io.deephaven.parquet.base.ParquetFileReader.FILE_URI_SCHEME;
 public final class ParquetTableLocationFactory implements TableLocationFactory<TableKey, ParquetTableLocationKey> {
 
     private final ParquetInstructions readInstructions;
+    /**
+     * The page cache quota shared by all locations made by this factory, or {@code null} to use the default quota
+     */
+    @Nullable
+    private final PageCacheBudget.Quota pageCacheQuota;
 
     public ParquetTableLocationFactory(@NotNull final ParquetInstructions readInstructions) {
         this.readInstructions = readInstructions;
+        final PageCacheBudget pageCacheBudget = PageCacheBudget.get();
+        pageCacheQuota = pageCacheBudget == null || readInstructions.getPageCacheQuotaBytes() == 0
+                ? null
+                : pageCacheBudget.newQuota(readInstructions.getPageCacheQuotaBytes());
     }
 
     @Override
@@ -35,7 +45,7 @@ public final class ParquetTableLocationFactory implements TableLocationFactory<T
             @Nullable final TableDataRefreshService refreshService) {
         final URI parquetFileURI = locationKey.getURI();
         if (!FILE_URI_SCHEME.equals(parquetFileURI.getScheme()) || new File(parquetFileURI).exists()) {
-            return new ParquetTableLocation(tableKey, locationKey, readInstructions);
+            return new ParquetTableLocation(tableKey, locationKey, readInstructions, pageCacheQuota);
         } else {
             return new NonexistentTableLocation(tableKey, locationKey);
         }
@@ -0,0 +1,127 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.metadata;
+
+import io.deephaven.configuration.Configuration;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A process-wide cache of {@link TableInfo} deserialized from Parquet key-value metadata. Since {@link TableInfo} is
+ * immutable, entries are keyed by the serialized JSON itself, so every file carrying the same metadata (e.g., all the
+ * partitions of one table, or the same file re-opened from another session) shares one parsed instance, and a
+ * rewritten file with different metadata is never served a stale one.
+ * <p>
+ * The cache holds at most {@code TableInfoCache.maxChars} characters of serialized JSON (16 Mi by default), evicting
+ * the least recently used entries first. Setting it to zero disables the cache.
+ */
+public final class TableInfoCache {
+
+    private static final long MAX_CHARS = Configuration.getInstance()
+            .getLongForClassWithDefault(TableInfoCache.class, "maxChars", 16L << 20);
+
+    private static final TableInfoCache INSTANCE = new TableInfoCache(MAX_CHARS);
+
+    /**
+     * @return The process-wide {@link TableInfo} cache
+     */
+    public static TableInfoCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final long maxChars;
+
+    /**
+     * Entries in least to most recently used order.
+     */
+    private final LinkedHashMap<String, TableInfo> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedChars;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    TableInfoCache(final long maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Get the {@link TableInfo} serialized as {@code tableInfoRaw}, deserializing and caching it on a miss.
+     *
+     * @param tableInfoRaw The serialized JSON
+     * @return The deserialized {@link TableInfo}
+     * @throws IOException If {@code tableInfoRaw} could not be deserialized
+     */
+    public TableInfo get(@NotNull final String tableInfoRaw) throws IOException {
+        if (maxChars <= 0) {
+            return TableInfo.deserializeFromJSON(tableInfoRaw);
+        }
+        synchronized (this) {
+            final TableInfo cached = entries.get(tableInfoRaw);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        final TableInfo tableInfo = TableInfo.deserializeFromJSON(tableInfoRaw);
+        if (tableInfoRaw.length() <= maxChars) {
+            put(tableInfoRaw, tableInfo);
+        }
+        return tableInfo;
+    }
+
+    private synchronized void put(@NotNull final String tableInfoRaw, @NotNull final TableInfo tableInfo) {
+        if (entries.put(tableInfoRaw, tableInfo) == null) {
+            cachedChars += tableInfoRaw.length();
+        }
+        final Iterator<String> it = entries.keySet().iterator();
+        while (cachedChars > maxChars && it.hasNext()) {
+            final String evicted = it.next();
+            it.remove();
+            cachedChars -= evicted.length();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        cachedChars = 0;
+    }
+
+    /**
+     * @return The number of lookups that found a cached {@link TableInfo}
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that deserialized a new {@link TableInfo}
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to stay within {@code maxChars}
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of cached entries
+     */
+    public synchronized int getCachedEntries() {
+        return entries.size();
+    }
+}
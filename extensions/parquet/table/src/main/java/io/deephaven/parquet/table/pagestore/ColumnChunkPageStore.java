@@ -4,10 +4,19 @@
 package io.deephaven.parquet.table.pagestore;
 
 import io.deephaven.base.verify.Require;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.page.PagingContextHolder;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Context;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.SharedContext;
+import io.deephaven.engine.table.impl.DefaultGetContext;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import io.deephaven.parquet.table.pagestore.topage.ToPage;
@@ -16,19 +25,30 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.table.impl.chunkattributes.DictionaryKeys;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ColumnPageReader;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.thread.NamingThreadFactory;
 import io.deephaven.util.channel.SeekableChannelContext.ContextHolder;
 import io.deephaven.vector.Vector;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -36,12 +56,65 @@ import java.util.regex.Pattern;
 public abstract class ColumnChunkPageStore<ATTR extends Any>
         implements PageStore<ATTR, ATTR, ChunkPage<ATTR>>, Page<ATTR>, SafeCloseable, Releasable {
 
+    /**
+     * The number of pages to read ahead of a sequential consumer, in addition to the pages of the row sequence being
+     * filled. Zero disables prefetching.
+     */
+    static final int PREFETCH_PAGES = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "prefetchPages", 4);
+    private static final int PREFETCH_THREADS = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "prefetchThreads", 8);
+    private static final int PREFETCH_QUEUE_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ColumnChunkPageStore.class, "prefetchQueueSize", 1024);
+
+    /**
+     * Lazily-initialized holder for the executor that reads and decodes pages ahead of their consumers. Prefetch
+     * requests are dropped rather than queued without bound, since the consumer will read any page that was not
+     * prefetched itself.
+     */
+    private static final class PrefetchExecutorHolder {
+        private static final Executor EXECUTOR = makeExecutor();
+
+        private static Executor makeExecutor() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(PREFETCH_THREADS, PREFETCH_THREADS,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+                    new NamingThreadFactory(ColumnChunkPageStore.class, "prefetch", true),
+                    new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * @return The bounded executor for reading and decoding pages ahead of their consumers, which rejects work when
+     *         its queue is full
+     */
+    static Executor prefetchExecutor() {
+        return PrefetchExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * The number of pages submitted for decoding ahead of their consumers, across all page stores
+     */
+    static final LongAdder PAGES_PREFETCHED = new LongAdder();
+
+    /**
+     * @return The number of pages submitted for decoding ahead of their consumers, across all page stores
+     */
+    public static long getTotalPagesPrefetched() {
+        return PAGES_PREFETCHED.sum();
+    }
+
     final PageCache<ATTR> pageCache;
     final ColumnChunkReader columnChunkReader;
     private final long mask;
     final ToPage<ATTR, ?> toPage;
 
     private final long numRows;
+    @Nullable
+    private final StatisticsConverter statisticsConverter;
+
+    private volatile boolean invalidated;
 
     public static class CreatorResult<ATTR extends Any> {
 
@@ -105,17 +178,21 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         final boolean canUseOffsetIndex = canUseOffsetIndexBasedPageStore(columnChunkReader, columnDefinition);
         // TODO(deephaven-core#4879): Rather than this fall back logic for supporting incorrect offset index, we should
         // instead log an error and explain to user how to fix the parquet file
+        final StatisticsConverter statisticsConverter =
+                StatisticsConverter.create(columnChunkReader, toPage, columnDefinition);
         final ColumnChunkPageStore<ATTR> columnChunkPageStore = canUseOffsetIndex
-                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage)
-                : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage);
+                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage,
+                        statisticsConverter)
+                : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage,
+                        statisticsConverter);
         final ToPage<DictionaryKeys, long[]> dictionaryKeysToPage = toPage.getDictionaryKeysToPage();
         final ColumnChunkPageStore<DictionaryKeys> dictionaryKeysColumnChunkPageStore =
                 dictionaryKeysToPage == null ? null
                         : canUseOffsetIndex
                                 ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage)
+                                        mask, dictionaryKeysToPage, null)
                                 : new VariablePageSizeColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage);
+                                        mask, dictionaryKeysToPage, null);
         return new CreatorResult<>(columnChunkPageStore, toPage::getDictionaryChunk,
                 dictionaryKeysColumnChunkPageStore);
     }
@@ -124,7 +201,8 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            final ToPage<ATTR, ?> toPage) throws IOException {
+            final ToPage<ATTR, ?> toPage,
+            @Nullable final StatisticsConverter statisticsConverter) throws IOException {
         Require.requirement(((mask + 1) & mask) == 0, "mask is one less than a power of two");
 
         this.pageCache = pageCache;
@@ -133,6 +211,7 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         this.toPage = toPage;
 
         this.numRows = Require.inRange(columnChunkReader.numRows(), "numRows", mask, "mask");
+        this.statisticsConverter = statisticsConverter;
     }
 
     ChunkPage<ATTR> toPage(final long offset, @NotNull final ColumnPageReader columnPageReader,
@@ -158,6 +237,125 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return numRows;
     }
 
+    /**
+     * Get the subset of {@code rowKeys} that may match {@code predicate}, according to the statistics and Bloom filter
+     * for this column chunk and, if the file has a column index, the statistics for each of its pages.
+     *
+     * @param predicate The predicate to evaluate
+     * @param rowKeys The row keys to consider, all of which must belong to this column chunk
+     * @return A new {@link WritableRowSet} of the row keys that may match
+     */
+    public WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        if (statisticsConverter == null || rowKeys.isEmpty()) {
+            return rowKeys.copy();
+        }
+        if (!statisticsConverter.mayMatch(predicate, columnChunkReader.getStatistics(),
+                columnChunkReader.numValues())) {
+            return RowSetFactory.empty();
+        }
+        final Collection<Object> matchValues = predicate.getMatchValues();
+        final boolean useBloomFilter = matchValues != null
+                && statisticsConverter.supportsBloomFilter()
+                && columnChunkReader.hasBloomFilter();
+        final boolean useColumnIndex = columnChunkReader.hasColumnIndex() && columnChunkReader.hasOffsetIndex();
+        if (!useBloomFilter && !useColumnIndex) {
+            return rowKeys.copy();
+        }
+        final ColumnIndex columnIndex;
+        final OffsetIndex offsetIndex;
+        try (final ContextHolder holder = SeekableChannelContext.ensureContext(
+                columnChunkReader.getChannelsProvider(), SeekableChannelContext.NULL)) {
+            if (useBloomFilter) {
+                final BloomFilter bloomFilter = columnChunkReader.getBloomFilter(holder.get());
+                if (bloomFilter != null && !statisticsConverter.mayContainAny(bloomFilter, matchValues)) {
+                    return RowSetFactory.empty();
+                }
+            }
+            if (!useColumnIndex) {
+                return rowKeys.copy();
+            }
+            columnIndex = columnChunkReader.getColumnIndex(holder.get());
+            offsetIndex = columnChunkReader.getOffsetIndex(holder.get());
+        }
+        final int numPages = offsetIndex.getPageCount();
+        if (columnIndex == null || columnIndex.getNullPages().size() != numPages) {
+            return rowKeys.copy();
+        }
+        final long firstRowKey = rowKeys.firstRowKey() & ~mask;
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        for (int pi = 0; pi < numPages; ++pi) {
+            if (statisticsConverter.mayMatch(predicate, columnIndex, pi)) {
+                final long lastRowOffset = pi + 1 < numPages ? offsetIndex.getFirstRowIndex(pi + 1) - 1 : numRows - 1;
+                builder.appendRange(firstRowKey + offsetIndex.getFirstRowIndex(pi), firstRowKey + lastRowOffset);
+            }
+        }
+        try (final RowSet mayMatch = builder.build()) {
+            return rowKeys.intersect(mayMatch);
+        }
+    }
+
+    /**
+     * Start reading and decoding, in the background, pages that a consumer filling {@code rowSequence} will need after
+     * the page containing its first row key, so that they are in the {@link PageCache} by the time the consumer
+     * reaches them. Only pages containing some row in {@code rowSequence} are read, so that sparse consumers (e.g., of
+     * a filtered table) skip the pages between the rows they need. The default implementation does nothing.
+     *
+     * @param fillContext The consumer's fill context, or {@code null}
+     * @param rowSequence The non-empty row keys the consumer will read, which may extend beyond this column chunk
+     */
+    void prefetch(@Nullable final FillContext fillContext, @NotNull final RowSequence rowSequence) {}
+
+    @Override
+    public Chunk<? extends ATTR> getChunk(
+            @NotNull final GetContext context,
+            @NotNull final RowSequence rowSequence) {
+        if (PREFETCH_PAGES > 0 && rowSequence.isNonempty()) {
+            prefetch(DefaultGetContext.getFillContext(context), rowSequence);
+        }
+        return PageStore.super.getChunk(context, rowSequence);
+    }
+
+    @Override
+    @NotNull
+    public Chunk<? extends ATTR> getChunk(
+            @NotNull final GetContext context,
+            final long firstKey,
+            final long lastKey) {
+        if (PREFETCH_PAGES > 0) {
+            try (final RowSequence rowSequence = RowSequenceFactory.forRange(firstKey, lastKey)) {
+                prefetch(DefaultGetContext.getFillContext(context), rowSequence);
+            }
+        }
+        return PageStore.super.getChunk(context, firstKey, lastKey);
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super ATTR> destination,
+            @NotNull final RowSequence rowSequence) {
+        if (PREFETCH_PAGES > 0 && rowSequence.isNonempty()) {
+            prefetch(context, rowSequence);
+        }
+        PageStore.super.fillChunk(context, destination, rowSequence);
+    }
+
+    @Override
+    public void fillChunkAppend(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super ATTR> destination,
+            @NotNull final RowSequence.Iterator rowSequenceIterator) {
+        if (PREFETCH_PAGES > 0) {
+            final long firstRowKey = rowSequenceIterator.peekNextKey();
+            try (final RowSequence rowSequence = RowSequenceFactory.forRange(firstRowKey, firstRowKey)) {
+                prefetch(context, rowSequence);
+            }
+        }
+        PageStore.super.fillChunkAppend(context, destination, rowSequenceIterator);
+    }
+
     @Override
     @NotNull
     public ChunkType getChunkType() {
@@ -175,11 +373,65 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
     public void close() {}
 
     /**
-     * Wrapper class for holding a {@link SeekableChannelContext}.
+     * Mark this page store as invalid, because the data it reads has been removed. No further pages will be prefetched,
+     * including those whose prefetch is already queued.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * @return Whether this page store has been {@link #invalidate() invalidated}
+     */
+    final boolean isInvalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Record that the consumer holding {@code context} is filling pages {@code firstPageNum} through
+     * {@code lastPageNum} of this page store, and report whether that continues where the consumer's previous fill
+     * ended. Each fill context tracks its own position, so that concurrent consumers of one page store do not mistake
+     * each other's fills for random access.
+     *
+     * @param context The consumer's fill context, or {@code null}
+     * @param firstPageNum The first page of the fill
+     * @param lastPageNum The last page of the fill
+     * @return Whether the consumer is reading sequentially; always {@code false} for a {@code null} context
+     */
+    final boolean recordFill(@Nullable final FillContext context, final int firstPageNum, final int lastPageNum) {
+        if (context == null) {
+            return false;
+        }
+        final ChannelContextWrapper innerContext =
+                ((PagingContextHolder) context).updateInnerContext(this::fillContextUpdater);
+        final boolean sequential;
+        if (innerContext.lastFilledPageStore == this) {
+            final int previousLastPageNum = innerContext.lastFilledPageNum;
+            sequential = firstPageNum == previousLastPageNum || firstPageNum == previousLastPageNum + 1;
+        } else {
+            // A consumer moving on to a new column chunk reads it sequentially if it starts from the beginning
+            sequential = firstPageNum == 0;
+        }
+        innerContext.lastFilledPageStore = this;
+        innerContext.lastFilledPageNum = lastPageNum;
+        return sequential;
+    }
+
+    /**
+     * Wrapper class for holding a {@link SeekableChannelContext}, along with the position of the consumer's most
+     * recent fill.
      */
     private static class ChannelContextWrapper extends PagingContextHolder {
         @NotNull
         private final SeekableChannelContext channelContext;
+        /**
+         * The page store of the most recent fill
+         */
+        private ColumnChunkPageStore<?> lastFilledPageStore;
+        /**
+         * The last page of the most recent fill, within {@link #lastFilledPageStore}
+         */
+        private int lastFilledPageNum = -1;
 
         private ChannelContextWrapper(
                 final int chunkCapacity,
@@ -7,6 +7,7 @@ import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.attributes.Any;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.parquet.table.pagestore.PageCache.IntrusivePage;
 import io.deephaven.parquet.table.pagestore.topage.ToPage;
@@ -14,6 +15,7 @@ import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ColumnPageReader;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelContext.ContextHolder;
+import gnu.trove.list.array.TIntArrayList;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,6 +24,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
 import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -33,10 +37,19 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
 
     private static final class PageState<ATTR extends Any> {
         private volatile WeakReference<PageCache.IntrusivePage<ATTR>> pageRef;
+        /**
+         * Whether a prefetch of this page has been submitted and has not yet completed
+         */
+        private final AtomicBoolean prefetchPending = new AtomicBoolean();
 
         PageState() {
             pageRef = null; // Initialized when used for the first time
         }
+
+        private boolean isMaterialized() {
+            final WeakReference<PageCache.IntrusivePage<ATTR>> localRef = pageRef;
+            return localRef != null && localRef.get() != null;
+        }
     }
 
     private volatile boolean isInitialized; // This class is initialized when reading the first page
@@ -58,8 +71,9 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
-        super(pageCache, columnChunkReader, mask, toPage);
+            @NotNull final ToPage<ATTR, ?> toPage,
+            @Nullable final StatisticsConverter statisticsConverter) throws IOException {
+        super(pageCache, columnChunkReader, mask, toPage, statisticsConverter);
         numPages = NUM_PAGES_NOT_INITIALIZED;
         fixedPageSize = PAGE_SIZE_NOT_FIXED;
     }
@@ -122,7 +136,7 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
         return (low - 1); // 'row' is somewhere in the middle of page
     }
 
-    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
+    private PageState<ATTR> getPageState(final int pageNum) {
         if (pageNum < 0 || pageNum >= numPages) {
             throw new IllegalArgumentException("pageNum " + pageNum + " is out of range [0, " + numPages + ")");
         }
@@ -133,6 +147,11 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
                 break;
             }
         }
+        return pageState;
+    }
+
+    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
+        final PageState<ATTR> pageState = getPageState(pageNum);
         PageCache.IntrusivePage<ATTR> page;
         WeakReference<PageCache.IntrusivePage<ATTR>> localRef;
         if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
@@ -177,21 +196,136 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
     private ChunkPage<ATTR> getPageContainingImpl(@Nullable final FillContext fillContext, long rowKey) {
         rowKey &= mask();
         Require.inRange(rowKey, "rowKey", numRows(), "numRows");
+        return getPage(fillContext, findPageNum(rowKey));
+    }
 
-        int pageNum;
+    private int findPageNum(final long row) {
         if (fixedPageSize == PAGE_SIZE_NOT_FIXED) {
-            pageNum = findPageNumUsingOffsetIndex(offsetIndex, rowKey);
-        } else {
-            pageNum = (int) (rowKey / fixedPageSize);
-            if (pageNum >= numPages) {
-                // This can happen if the last page is larger than rest of the pages, which are all the same size.
-                // We have already checked that row is less than numRows.
-                Assert.geq(rowKey, "row", offsetIndex.getFirstRowIndex(numPages - 1),
-                        "offsetIndex.getFirstRowIndex(numPages - 1)");
-                pageNum = (numPages - 1);
+            return findPageNumUsingOffsetIndex(offsetIndex, row);
+        }
+        final int pageNum = (int) (row / fixedPageSize);
+        if (pageNum >= numPages) {
+            // This can happen if the last page is larger than rest of the pages, which are all the same size.
+            // We have already checked that row is less than numRows.
+            Assert.geq(row, "row", offsetIndex.getFirstRowIndex(numPages - 1),
+                    "offsetIndex.getFirstRowIndex(numPages - 1)");
+            return numPages - 1;
+        }
+        return pageNum;
+    }
+
+    @Override
+    void prefetch(@Nullable final FillContext fillContext, @NotNull final RowSequence rowSequence) {
+        final long firstRowKey = rowSequence.firstRowKey();
+        final long firstRow = firstRowKey & mask();
+        if (firstRow >= numRows() || isInvalidated()) {
+            return;
+        }
+        try {
+            ensureInitialized(fillContext);
+        } catch (final RuntimeException e) {
+            // Leave the consumer to encounter and report the failure
+            return;
+        }
+        final long chunkFirstRowKey = firstRowKey - firstRow;
+        final long chunkLastRowKey = chunkFirstRowKey + numRows() - 1;
+        final int firstPageNum = findPageNum(firstRow);
+        int lastPageNum = firstPageNum;
+        // Whether the consumer needs every page from the first to the last, rather than skipping some
+        boolean dense = true;
+        final TIntArrayList pagesToPrefetch = new TIntArrayList();
+        if (rowSequence.lastRowKey() > pageLastRowKey(chunkFirstRowKey, firstPageNum)) {
+            try (final RowSequence.Iterator rsIt = rowSequence.getRowSequenceIterator()) {
+                // The consumer reads the first page itself; skip straight from each needed page to the next
+                rsIt.advance(pageLastRowKey(chunkFirstRowKey, firstPageNum) + 1);
+                while (rsIt.hasMore()) {
+                    final long rowKey = rsIt.peekNextKey();
+                    if (rowKey > chunkLastRowKey) {
+                        break;
+                    }
+                    final int pageNum = findPageNum(rowKey - chunkFirstRowKey);
+                    dense &= pageNum == lastPageNum + 1;
+                    if (claimPrefetch(pageNum)) {
+                        pagesToPrefetch.add(pageNum);
+                    }
+                    lastPageNum = pageNum;
+                    rsIt.advance(pageLastRowKey(chunkFirstRowKey, pageNum) + 1);
+                }
+            }
+        }
+
+        // Read ahead of dense consumers that continue where their previous fill ended
+        final boolean sequential = recordFill(fillContext, firstPageNum, lastPageNum);
+        if (dense && sequential) {
+            final int lastPageNumToPrefetch = (int) Math.min(numPages - 1L, (long) lastPageNum + PREFETCH_PAGES);
+            for (int pageNum = lastPageNum + 1; pageNum <= lastPageNumToPrefetch; ++pageNum) {
+                if (claimPrefetch(pageNum)) {
+                    pagesToPrefetch.add(pageNum);
+                }
             }
         }
+        if (pagesToPrefetch.isEmpty()) {
+            return;
+        }
+
+        // Let the channels provider fetch the pages' bytes together, before they are decoded one at a time
+        final int numPagesToPrefetch = pagesToPrefetch.size();
+        final long[] positions = new long[numPagesToPrefetch];
+        final int[] lengths = new int[numPagesToPrefetch];
+        for (int pi = 0; pi < numPagesToPrefetch; ++pi) {
+            positions[pi] = offsetIndex.getOffset(pagesToPrefetch.get(pi));
+            lengths[pi] = offsetIndex.getCompressedPageSize(pagesToPrefetch.get(pi));
+        }
+        try {
+            columnChunkReader.getChannelsProvider().prefetch(columnChunkReader.getURI(), positions, lengths);
+        } catch (final IOException | RuntimeException e) {
+            // Only a hint; the pages are read on their own below
+        }
+        pagesToPrefetch.forEach(pageNum -> {
+            submitPrefetch(pageNum);
+            return true;
+        });
+    }
+
+    /**
+     * @return The row key of the last row in page {@code pageNum}, given the row key of the first row in this column
+     *         chunk
+     */
+    private long pageLastRowKey(final long chunkFirstRowKey, final int pageNum) {
+        return chunkFirstRowKey + offsetIndex.getLastRowIndex(pageNum, numRows());
+    }
+
+    /**
+     * @return Whether page {@code pageNum} should be prefetched by the caller, because it is not materialized and no
+     *         other prefetch of it is pending
+     */
+    private boolean claimPrefetch(final int pageNum) {
+        final PageState<ATTR> pageState = getPageState(pageNum);
+        return !pageState.isMaterialized() && pageState.prefetchPending.compareAndSet(false, true);
+    }
 
-        return getPage(fillContext, pageNum);
+    /**
+     * Decode page {@code pageNum} on the prefetch executor. The caller must have {@link #claimPrefetch(int) claimed}
+     * the page.
+     */
+    private void submitPrefetch(final int pageNum) {
+        final PageState<ATTR> pageState = getPageState(pageNum);
+        try {
+            prefetchExecutor().execute(() -> {
+                try {
+                    if (!isInvalidated()) {
+                        getPage(null, pageNum);
+                    }
+                } catch (final RuntimeException e) {
+                    // Leave the consumer to encounter and report the failure when it reads this page itself
+                } finally {
+                    pageState.prefetchPending.set(false);
+                }
+            });
+            PAGES_PREFETCHED.increment();
+        } catch (final RejectedExecutionException e) {
+            // The prefetch queue is full; the consumer will read this page itself
+            pageState.prefetchPending.set(false);
+        }
     }
 }
@@ -3,20 +3,44 @@
 //
 package io.deephaven.parquet.table.pagestore;
 
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.util.datastructures.intrusive.IntrusiveSoftLRU;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * A cache for {@link IntrusivePage IntrusivePages}. This data structure stores pages as {@link SoftReference soft
- * references} and maintains them as an LRU cache. External references to cached pages should be held via
- * {@link WeakReference weak references} so that as memory pressure builds the pages can be evicted from the cache.
+ * A cache for {@link IntrusivePage IntrusivePages}. By default, this data structure stores pages as
+ * {@link SoftReference soft references} and maintains them as an LRU cache. External references to cached pages should
+ * be held via {@link WeakReference weak references} so that as memory pressure builds the pages can be evicted from the
+ * cache.
+ * <p>
+ * When a {@link PageCacheBudget} is configured, pages are instead held strongly by the budget's
+ * {@link PageCacheBudget.Quota quota} for this cache, and evicted deterministically once the budget or quota is
+ * exceeded.
  */
 public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.IntrusivePage<ATTR>> {
 
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder DECODED_BYTES = new LongAdder();
+
+    /**
+     * Rough size of an object header and reference, used to estimate the size of object pages
+     */
+    private static final int OBJECT_OVERHEAD_BYTES = 24;
+    /**
+     * Estimated size of non-string objects in object pages
+     */
+    private static final int ESTIMATED_OBJECT_BYTES = 64;
+
     /**
      * Sentinel reference for a null page
      */
@@ -36,16 +60,57 @@ public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.Intr
     public static class IntrusivePage<ATTR extends Any> extends IntrusiveSoftLRU.Node.Impl<IntrusivePage<ATTR>> {
 
         private final ChunkPage<ATTR> page;
+        private final long sizeBytes;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<IntrusivePage> ACCESSED_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(IntrusivePage.class, "accessed");
+        private static final int ACCESSED_FALSE = 0;
+        private static final int ACCESSED_TRUE = 1;
+
+        private volatile int accessed = ACCESSED_FALSE;
+
+        /**
+         * The quota this page is resident in, if any. Only written while holding the lock on the
+         * {@link PageCacheBudget}, but read without it to decide whether an access needs that lock.
+         */
+        volatile PageCacheBudget.Quota residentQuota;
+        // The following fields are guarded by the PageCacheBudget that this page is resident in, if any
+        IntrusivePage<?> prevResident;
+        IntrusivePage<?> nextResident;
+        long lastAccess;
 
         public IntrusivePage(ChunkPage<ATTR> page) {
             this.page = page;
+            sizeBytes = estimateSizeBytes(page);
         }
 
         public ChunkPage<ATTR> getPage() {
             return page;
         }
+
+        /**
+         * @return The estimated heap footprint of the decoded page
+         */
+        long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        /**
+         * @return Whether this is the first access to this page, meaning it was decoded to satisfy the access. Exactly
+         *         one of any number of concurrent first accesses returns {@code true}.
+         */
+        private boolean recordAccess() {
+            return accessed == ACCESSED_FALSE && ACCESSED_UPDATER.compareAndSet(this, ACCESSED_FALSE, ACCESSED_TRUE);
+        }
     }
 
+    /**
+     * The {@link PageCacheBudget.Quota} that holds pages for this cache, or {@code null} to hold pages softly
+     */
+    @Nullable
+    private final PageCacheBudget.Quota quota;
+
     public <ATTR2 extends Any> PageCache<ATTR2> castAttr() {
         // noinspection unchecked
         return (PageCache<ATTR2>) this;
@@ -53,5 +118,86 @@ public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.Intr
 
     public PageCache(final int initialCapacity, final int maxCapacity) {
         super(IntrusiveSoftLRU.Node.Adapter.getInstance(), initialCapacity, maxCapacity);
+        quota = null;
+    }
+
+    /**
+     * Create a cache whose pages are held and evicted by {@code quota}, rather than held softly.
+     *
+     * @param quota The quota to account pages against
+     */
+    public PageCache(@NotNull final PageCacheBudget.Quota quota) {
+        // The soft LRU is unused, so keep it as small as possible
+        super(IntrusiveSoftLRU.Node.Adapter.getInstance(), 2, 2);
+        this.quota = quota;
+    }
+
+    @Override
+    public void touch(@NotNull final IntrusivePage<ATTR> page) {
+        if (page.recordAccess()) {
+            MISSES.increment();
+            DECODED_BYTES.add(page.getSizeBytes());
+        } else {
+            HITS.increment();
+        }
+        if (quota == null) {
+            super.touch(page);
+        } else {
+            quota.touch(page);
+        }
+    }
+
+    /**
+     * @return The number of accesses to already-decoded pages across all page caches since startup
+     */
+    public static long getTotalHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return The number of accesses across all page caches since startup that required a page to be decoded
+     */
+    public static long getTotalMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return The estimated size of all pages decoded across all page caches since startup
+     */
+    public static long getTotalDecodedBytes() {
+        return DECODED_BYTES.sum();
+    }
+
+    private static long estimateSizeBytes(@NotNull final ChunkPage<?> page) {
+        final int size = page.size();
+        final ChunkType chunkType = page.getChunkType();
+        switch (chunkType) {
+            case Boolean:
+            case Byte:
+                return size;
+            case Char:
+            case Short:
+                return (long) size * Short.BYTES;
+            case Int:
+            case Float:
+                return (long) size * Integer.BYTES;
+            case Long:
+            case Double:
+                return (long) size * Long.BYTES;
+            case Object:
+                final ObjectChunk<?, ?> values = page.asObjectChunk();
+                long sizeBytes = (long) size * Long.BYTES;
+                for (int ii = 0; ii < size; ++ii) {
+                    final Object value = values.get(ii);
+                    if (value instanceof String) {
+                        sizeBytes += OBJECT_OVERHEAD_BYTES + ((String) value).length();
+                    } else if (value != null) {
+                        sizeBytes += ESTIMATED_OBJECT_BYTES;
+                    }
+                }
+                return sizeBytes;
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
     }
 }
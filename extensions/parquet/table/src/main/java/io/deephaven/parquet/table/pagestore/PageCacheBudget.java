@@ -0,0 +1,294 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.base.verify.Require;
+import io.deephaven.configuration.Configuration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A hard limit on the estimated heap footprint of decoded pages, shared by all {@link PageCache page caches} that
+ * account against it.
+ * <p>
+ * Resident pages are held strongly and evicted in least recently used order whenever the total estimated size of
+ * resident pages exceeds the budget. Pages are additionally grouped into {@link Quota quotas}, typically one per table,
+ * which may impose their own limit; a quota over its limit evicts its own least recently used pages first. Evicted
+ * pages remain reachable only through the weak references held by page stores, and are re-decoded if accessed after
+ * they have been collected.
+ * <p>
+ * Accesses to pages that are already resident are recorded in a lock-free buffer and applied to the least recently used
+ * order in batches, so that concurrent readers of cached pages do not contend on the budget's lock. Accesses that
+ * overflow the buffer before it is drained are dropped, which only makes the order approximate.
+ * <p>
+ * The global budget is configured with {@code PageCacheBudget.budgetBytes}. When it is not set, page caches hold their
+ * pages softly, as before.
+ */
+public final class PageCacheBudget {
+
+    private static final long BUDGET_BYTES = Configuration.getInstance()
+            .getLongForClassWithDefault(PageCacheBudget.class, "budgetBytes", 0);
+
+    /**
+     * The number of resident page accesses buffered before they are applied; must be a power of two
+     */
+    private static final int ACCESS_BUFFER_SIZE = 1 << 10;
+    private static final int ACCESS_BUFFER_MASK = ACCESS_BUFFER_SIZE - 1;
+    /**
+     * Buffered accesses are applied whenever this many have been recorded since the last time
+     */
+    private static final int ACCESS_BUFFER_DRAIN_THRESHOLD = ACCESS_BUFFER_SIZE / 2;
+
+    private static final PageCacheBudget INSTANCE = BUDGET_BYTES > 0 ? new PageCacheBudget(BUDGET_BYTES) : null;
+
+    /**
+     * @return The global page cache budget, or {@code null} if none is configured
+     */
+    @Nullable
+    public static PageCacheBudget get() {
+        return INSTANCE;
+    }
+
+    private final long budgetBytes;
+    private final Quota defaultQuota;
+    /**
+     * Quotas that currently have resident pages
+     */
+    private final List<Quota> activeQuotas = new ArrayList<>();
+
+    /**
+     * Resident pages that have been accessed since the buffer was last drained
+     */
+    private final AtomicReferenceArray<PageCache.IntrusivePage<?>> accessBuffer =
+            new AtomicReferenceArray<>(ACCESS_BUFFER_SIZE);
+    private final AtomicLong accessBufferWrites = new AtomicLong();
+    private final AtomicBoolean accessBufferDraining = new AtomicBoolean();
+
+    private long accessCount;
+    private long residentBytes;
+    private long residentPages;
+    private long evictions;
+    private long evictedBytes;
+
+    PageCacheBudget(final long budgetBytes) {
+        this.budgetBytes = Require.gtZero(budgetBytes, "budgetBytes");
+        defaultQuota = new Quota(Long.MAX_VALUE);
+    }
+
+    /**
+     * @return The quota for pages that are not subject to a more specific quota, limited only by the budget itself
+     */
+    public Quota getDefaultQuota() {
+        return defaultQuota;
+    }
+
+    /**
+     * Make a new quota, limiting the pages accounted against it to at most {@code limitBytes} in addition to the
+     * overall budget.
+     *
+     * @param limitBytes The maximum estimated size of resident pages for the new quota
+     * @return The new quota
+     */
+    public Quota newQuota(final long limitBytes) {
+        return new Quota(Require.gtZero(limitBytes, "limitBytes"));
+    }
+
+    /**
+     * @return The maximum estimated size of all resident pages
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * @return The estimated size of all resident pages
+     */
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * @return The number of resident pages
+     */
+    public synchronized long getResidentPages() {
+        return residentPages;
+    }
+
+    /**
+     * @return The number of pages evicted since startup
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return The estimated size of all pages evicted since startup
+     */
+    public synchronized long getEvictedBytes() {
+        return evictedBytes;
+    }
+
+    private void touch(@NotNull final Quota quota, @NotNull final PageCache.IntrusivePage<?> page) {
+        if (page.residentQuota == quota) {
+            // Already resident; record the access without taking the lock
+            final long writeIndex = accessBufferWrites.getAndIncrement();
+            accessBuffer.lazySet((int) (writeIndex & ACCESS_BUFFER_MASK), page);
+            if ((writeIndex + 1) % ACCESS_BUFFER_DRAIN_THRESHOLD == 0
+                    && accessBufferDraining.compareAndSet(false, true)) {
+                try {
+                    synchronized (this) {
+                        drainAccessBuffer();
+                    }
+                } finally {
+                    accessBufferDraining.set(false);
+                }
+            }
+            return;
+        }
+        admit(quota, page);
+    }
+
+    private synchronized void admit(@NotNull final Quota quota, @NotNull final PageCache.IntrusivePage<?> page) {
+        // Bring the least recently used order up to date before choosing what to evict
+        drainAccessBuffer();
+        page.lastAccess = ++accessCount;
+        if (page.residentQuota == quota) {
+            // Admitted concurrently
+            quota.unlink(page);
+            quota.append(page);
+            return;
+        }
+        if (page.residentQuota != null) {
+            remove(page);
+        }
+        final long pageBytes = page.getSizeBytes();
+        if (pageBytes > budgetBytes || pageBytes > quota.limitBytes) {
+            // Caching this page would only evict everything else
+            return;
+        }
+        if (quota.head == null) {
+            activeQuotas.add(quota);
+        }
+        quota.append(page);
+        residentBytes += pageBytes;
+        ++residentPages;
+        while (quota.residentBytes > quota.limitBytes) {
+            evict(quota.head);
+        }
+        while (residentBytes > budgetBytes) {
+            evict(leastRecentlyUsed());
+        }
+    }
+
+    /**
+     * Apply buffered accesses to the least recently used order of their pages' quotas. Must be called while
+     * synchronized on this budget.
+     */
+    private void drainAccessBuffer() {
+        for (int bi = 0; bi < ACCESS_BUFFER_SIZE; ++bi) {
+            final PageCache.IntrusivePage<?> page = accessBuffer.getAndSet(bi, null);
+            if (page == null) {
+                continue;
+            }
+            final Quota quota = page.residentQuota;
+            if (quota == null) {
+                // Evicted since the access was recorded
+                continue;
+            }
+            page.lastAccess = ++accessCount;
+            quota.unlink(page);
+            quota.append(page);
+        }
+    }
+
+    @NotNull
+    private PageCache.IntrusivePage<?> leastRecentlyUsed() {
+        PageCache.IntrusivePage<?> result = null;
+        for (final Quota quota : activeQuotas) {
+            if (result == null || quota.head.lastAccess < result.lastAccess) {
+                result = quota.head;
+            }
+        }
+        // noinspection ConstantConditions
+        return result;
+    }
+
+    private void evict(@NotNull final PageCache.IntrusivePage<?> page) {
+        ++evictions;
+        evictedBytes += page.getSizeBytes();
+        remove(page);
+    }
+
+    private void remove(@NotNull final PageCache.IntrusivePage<?> page) {
+        final Quota quota = page.residentQuota;
+        quota.unlink(page);
+        residentBytes -= page.getSizeBytes();
+        --residentPages;
+        if (quota.head == null) {
+            activeQuotas.remove(quota);
+        }
+    }
+
+    /**
+     * A group of resident pages, with an optional limit on their estimated size. Each quota keeps its resident pages
+     * in least recently used order.
+     */
+    public final class Quota {
+
+        private final long limitBytes;
+
+        private long residentBytes;
+        private PageCache.IntrusivePage<?> head;
+        private PageCache.IntrusivePage<?> tail;
+
+        private Quota(final long limitBytes) {
+            this.limitBytes = limitBytes;
+        }
+
+        /**
+         * Record an access to {@code page}, making it resident if it isn't already.
+         *
+         * @param page The page
+         */
+        void touch(@NotNull final PageCache.IntrusivePage<?> page) {
+            PageCacheBudget.this.touch(this, page);
+        }
+
+        private void append(@NotNull final PageCache.IntrusivePage<?> page) {
+            page.residentQuota = this;
+            page.prevResident = tail;
+            page.nextResident = null;
+            if (tail == null) {
+                head = page;
+            } else {
+                tail.nextResident = page;
+            }
+            tail = page;
+            residentBytes += page.getSizeBytes();
+        }
+
+        private void unlink(@NotNull final PageCache.IntrusivePage<?> page) {
+            if (page.prevResident == null) {
+                head = page.nextResident;
+            } else {
+                page.prevResident.nextResident = page.nextResident;
+            }
+            if (page.nextResident == null) {
+                tail = page.prevResident;
+            } else {
+                page.nextResident.prevResident = page.prevResident;
+            }
+            page.residentQuota = null;
+            page.prevResident = null;
+            page.nextResident = null;
+            residentBytes -= page.getSizeBytes();
+        }
+    }
+}
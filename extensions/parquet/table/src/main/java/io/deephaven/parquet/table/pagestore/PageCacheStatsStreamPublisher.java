@@ -0,0 +1,99 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.time.DateTimeUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+class PageCacheStatsStreamPublisher implements StreamPublisher {
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofTime("IntervalStartTime"),
+            ColumnDefinition.ofInt("IntervalDurationMicros"),
+            ColumnDefinition.ofLong("IntervalHits"),
+            ColumnDefinition.ofLong("IntervalMisses"),
+            ColumnDefinition.ofLong("IntervalDecodedBytes"),
+            ColumnDefinition.ofLong("IntervalEvictions"),
+            ColumnDefinition.ofLong("IntervalEvictedBytes"),
+            ColumnDefinition.ofLong("ResidentPages"),
+            ColumnDefinition.ofLong("ResidentBytes"),
+            ColumnDefinition.ofLong("BudgetBytes"));
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    PageCacheStatsStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    public synchronized void add(
+            final long intervalStartTimeMillis,
+            final int intervalDurationMicros,
+            final long intervalHits,
+            final long intervalMisses,
+            final long intervalDecodedBytes,
+            final long intervalEvictions,
+            final long intervalEvictedBytes,
+            final long residentPages,
+            final long residentBytes,
+            final long budgetBytes) {
+        chunks[0].asWritableLongChunk().add(DateTimeUtils.millisToNanos(intervalStartTimeMillis));
+        chunks[1].asWritableIntChunk().add(intervalDurationMicros);
+        chunks[2].asWritableLongChunk().add(intervalHits);
+        chunks[3].asWritableLongChunk().add(intervalMisses);
+        chunks[4].asWritableLongChunk().add(intervalDecodedBytes);
+        chunks[5].asWritableLongChunk().add(intervalEvictions);
+        chunks[6].asWritableLongChunk().add(intervalEvictedBytes);
+        chunks[7].asWritableLongChunk().add(residentPages);
+        chunks[8].asWritableLongChunk().add(residentBytes);
+        chunks[9].asWritableLongChunk().add(budgetBytes);
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    public void acceptFailure(Throwable e) {
+        consumer.acceptFailure(e);
+    }
+
+    @Override
+    public void shutdown() {}
+}
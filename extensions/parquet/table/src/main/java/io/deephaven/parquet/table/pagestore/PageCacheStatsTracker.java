@@ -0,0 +1,120 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.util.TableLoggers;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+
+/**
+ * Periodically publishes Parquet {@link PageCache page cache} hit, miss, decode and eviction counts, along with
+ * {@link PageCacheBudget} residency, as a blink table. Eviction and residency columns are zero when no budget is
+ * configured. Once {@link #start() started}, the table is available from {@link TableLoggers#pageCacheLog()}.
+ */
+public class PageCacheStatsTracker {
+    private static final long REPORT_INTERVAL_MILLIS = Configuration.getInstance().getLongForClassWithDefault(
+            PageCacheStatsTracker.class, "reportIntervalMillis", 15 * 1000L);
+
+    private static volatile PageCacheStatsTracker INSTANCE;
+    private static boolean started = false;
+
+    public static PageCacheStatsTracker getInstance() {
+        PageCacheStatsTracker local;
+        if ((local = INSTANCE) == null) {
+            synchronized (PageCacheStatsTracker.class) {
+                if ((local = INSTANCE) == null) {
+                    INSTANCE = local = new PageCacheStatsTracker();
+                }
+            }
+        }
+        return local;
+    }
+
+    private final PageCacheStatsStreamPublisher publisher;
+    // Keep, may eventually want to manage closing
+    @SuppressWarnings("FieldCanBeLocal")
+    private final StreamToBlinkTableAdapter adapter;
+    private final Table blink;
+
+    private PageCacheStatsTracker() {
+        publisher = new PageCacheStatsStreamPublisher();
+        adapter = new StreamToBlinkTableAdapter(
+                PageCacheStatsStreamPublisher.definition(),
+                publisher,
+                ExecutionContext.getContext().getUpdateGraph(),
+                PageCacheStatsTracker.class.getName());
+        blink = adapter.table();
+    }
+
+    private void startThread() {
+        final Thread driverThread = new Thread(new Driver(), PageCacheStatsTracker.class.getSimpleName() + ".Driver");
+        driverThread.setDaemon(true);
+        driverThread.start();
+    }
+
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        getInstance().startThread();
+        TableLoggers.registerPageCacheLog(() -> getInstance().getQueryTable());
+    }
+
+    private class Driver implements Runnable {
+
+        @Override
+        public void run() {
+            final PageCacheBudget budget = PageCacheBudget.get();
+            long prevHits = PageCache.getTotalHits();
+            long prevMisses = PageCache.getTotalMisses();
+            long prevDecodedBytes = PageCache.getTotalDecodedBytes();
+            long prevEvictions = budget == null ? 0 : budget.getEvictions();
+            long prevEvictedBytes = budget == null ? 0 : budget.getEvictedBytes();
+            // noinspection InfiniteLoopStatement
+            while (true) {
+                final long intervalStartTimeMillis = System.currentTimeMillis();
+                try {
+                    Thread.sleep(REPORT_INTERVAL_MILLIS);
+                } catch (InterruptedException ignore) {
+                    // ignore
+                }
+                final long hits = PageCache.getTotalHits();
+                final long misses = PageCache.getTotalMisses();
+                final long decodedBytes = PageCache.getTotalDecodedBytes();
+                final long evictions = budget == null ? 0 : budget.getEvictions();
+                final long evictedBytes = budget == null ? 0 : budget.getEvictedBytes();
+                final long endTimeMillis = System.currentTimeMillis();
+                publisher.add(
+                        intervalStartTimeMillis,
+                        (int) ((endTimeMillis - intervalStartTimeMillis) * 1000),
+                        hits - prevHits,
+                        misses - prevMisses,
+                        decodedBytes - prevDecodedBytes,
+                        evictions - prevEvictions,
+                        evictedBytes - prevEvictedBytes,
+                        budget == null ? 0 : budget.getResidentPages(),
+                        budget == null ? 0 : budget.getResidentBytes(),
+                        budget == null ? 0 : budget.getBudgetBytes());
+                prevHits = hits;
+                prevMisses = misses;
+                prevDecodedBytes = decodedBytes;
+                prevEvictions = evictions;
+                prevEvictedBytes = evictedBytes;
+            }
+        }
+    }
+
+    public Table getBlinkTable() {
+        return blink;
+    }
+
+    public QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(blink);
+    }
+}
@@ -0,0 +1,303 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
+import io.deephaven.parquet.base.ColumnChunkReader;
+import io.deephaven.parquet.table.pagestore.topage.ToPage;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.format.Statistics;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Evaluates {@link StatisticsPredicate statistics predicates} against Parquet column chunk statistics and column index
+ * page statistics, by converting the plain-encoded Parquet minimum and maximum values into the boxed native type of the
+ * page store's chunks.
+ * <p>
+ * Only types whose Parquet sort order agrees with Deephaven's are supported: signed integers, UTC timestamps (as epoch
+ * nanoseconds), floating point values, and UTF-8 strings. Bloom filters are consulted for all of these except floating
+ * point values, whose equality semantics ({@code -0.0 == 0.0}) differ from Parquet's bitwise hashing.
+ */
+final class StatisticsConverter {
+
+    /**
+     * Decodes a plain-encoded statistics value, or returns {@code null} if the value cannot be used.
+     */
+    private final Function<ByteBuffer, Object> decoder;
+    /**
+     * The maximum to report for floating point blocks, which may contain {@code NaN} values that Parquet statistics
+     * exclude; {@code null} for other types.
+     */
+    private final Object floatingPointMax;
+    /**
+     * Converts a boxed native value into the Parquet value hashed by Bloom filters, or returns {@code null} if the
+     * value cannot be hashed; {@code null} if Bloom filters cannot be used.
+     */
+    private final Function<Object, Object> bloomFilterEncoder;
+
+    private StatisticsConverter(
+            @NotNull final Function<ByteBuffer, Object> decoder,
+            @Nullable final Object floatingPointMax,
+            @Nullable final Function<Object, Object> bloomFilterEncoder) {
+        this.decoder = decoder;
+        this.floatingPointMax = floatingPointMax;
+        this.bloomFilterEncoder = bloomFilterEncoder;
+    }
+
+    /**
+     * Make a converter for the pages produced by {@code toPage} from {@code columnChunkReader}.
+     *
+     * @return The converter, or {@code null} if statistics cannot be used for this column chunk
+     */
+    @Nullable
+    static StatisticsConverter create(
+            @NotNull final ColumnChunkReader columnChunkReader,
+            @NotNull final ToPage<?, ?> toPage,
+            @NotNull final ColumnDefinition<?> columnDefinition) {
+        if (columnChunkReader.getMaxRl() > 0) {
+            return null;
+        }
+        final PrimitiveType type = columnChunkReader.getType();
+        final LogicalTypeAnnotation logicalType = type.getLogicalTypeAnnotation();
+        final ChunkType chunkType = toPage.getChunkType();
+        switch (type.getPrimitiveTypeName()) {
+            case INT32:
+                if (!isSignedInteger(logicalType)) {
+                    return null;
+                }
+                switch (chunkType) {
+                    case Byte:
+                        return new StatisticsConverter(buffer -> (byte) readInt(buffer), null,
+                                value -> value instanceof Byte ? (int) (Byte) value : null);
+                    case Short:
+                        return new StatisticsConverter(buffer -> (short) readInt(buffer), null,
+                                value -> value instanceof Short ? (int) (Short) value : null);
+                    case Int:
+                        return new StatisticsConverter(StatisticsConverter::readInt, null,
+                                value -> value instanceof Integer ? value : null);
+                    case Long:
+                        return new StatisticsConverter(buffer -> (long) readInt(buffer), null,
+                                value -> value instanceof Long && (Long) value == (int) (long) (Long) value
+                                        ? (int) (long) (Long) value
+                                        : null);
+                    default:
+                        return null;
+                }
+            case INT64:
+                if (chunkType != ChunkType.Long) {
+                    return null;
+                }
+                if (isSignedInteger(logicalType)) {
+                    return new StatisticsConverter(StatisticsConverter::readLong, null,
+                            value -> value instanceof Long ? value : null);
+                }
+                if (logicalType instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) logicalType).isAdjustedToUTC()) {
+                    final long nanosPerUnit;
+                    switch (((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) logicalType).getUnit()) {
+                        case MILLIS:
+                            nanosPerUnit = 1_000_000L;
+                            break;
+                        case MICROS:
+                            nanosPerUnit = 1_000L;
+                            break;
+                        case NANOS:
+                            nanosPerUnit = 1L;
+                            break;
+                        default:
+                            return null;
+                    }
+                    return new StatisticsConverter(buffer -> toEpochNanos(readLong(buffer), nanosPerUnit), null,
+                            value -> value instanceof Long && (Long) value % nanosPerUnit == 0
+                                    ? (Long) value / nanosPerUnit
+                                    : null);
+                }
+                return null;
+            case FLOAT:
+                if (logicalType != null) {
+                    return null;
+                }
+                switch (chunkType) {
+                    case Float:
+                        return new StatisticsConverter(StatisticsConverter::readFloat, Float.NaN, null);
+                    case Double:
+                        return new StatisticsConverter(buffer -> (double) readFloat(buffer), Double.NaN, null);
+                    default:
+                        return null;
+                }
+            case DOUBLE:
+                if (logicalType != null || chunkType != ChunkType.Double) {
+                    return null;
+                }
+                return new StatisticsConverter(StatisticsConverter::readDouble, Double.NaN, null);
+            case BINARY:
+                if (!(logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation)
+                        || chunkType != ChunkType.Object
+                        || toPage.getNativeType() != String.class
+                        || columnDefinition.getDataType() != String.class) {
+                    return null;
+                }
+                return new StatisticsConverter(StatisticsConverter::readString, null,
+                        value -> value instanceof String ? Binary.fromString((String) value) : null);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Evaluate {@code predicate} against column chunk statistics.
+     *
+     * @param predicate The predicate
+     * @param statistics The column chunk statistics, or {@code null} if there are none
+     * @param numValues The number of values (including nulls) in the column chunk
+     * @return Whether the column chunk may contain a matching value
+     */
+    boolean mayMatch(
+            @NotNull final StatisticsPredicate predicate,
+            @Nullable final Statistics statistics,
+            final long numValues) {
+        if (statistics == null) {
+            return true;
+        }
+        final boolean hasNullCount = statistics.isSetNull_count();
+        final boolean hasNulls = !hasNullCount || statistics.getNull_count() > 0;
+        if (hasNullCount && statistics.getNull_count() >= numValues) {
+            return predicate.mayMatch(null, null, hasNulls);
+        }
+        if (!statistics.isSetMin_value() || !statistics.isSetMax_value()) {
+            // Only the type-defined min_value and max_value fields are trustworthy; the deprecated min and max fields
+            // may have been written with signed byte ordering
+            return true;
+        }
+        return mayMatch(predicate, ByteBuffer.wrap(statistics.getMin_value()),
+                ByteBuffer.wrap(statistics.getMax_value()), hasNulls);
+    }
+
+    /**
+     * Evaluate {@code predicate} against the statistics for a single page in a column index.
+     *
+     * @param predicate The predicate
+     * @param columnIndex The column index
+     * @param pageIndex The page to evaluate
+     * @return Whether the page may contain a matching value
+     */
+    boolean mayMatch(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final ColumnIndex columnIndex,
+            final int pageIndex) {
+        if (columnIndex.getNullPages().get(pageIndex)) {
+            return predicate.mayMatch(null, null, true);
+        }
+        final List<Long> nullCounts = columnIndex.getNullCounts();
+        final boolean hasNulls = nullCounts == null || nullCounts.get(pageIndex) > 0;
+        return mayMatch(predicate, columnIndex.getMinValues().get(pageIndex),
+                columnIndex.getMaxValues().get(pageIndex), hasNulls);
+    }
+
+    /**
+     * @return Whether {@link #mayContainAny(BloomFilter, Collection)} can be used for this column chunk
+     */
+    boolean supportsBloomFilter() {
+        return bloomFilterEncoder != null;
+    }
+
+    /**
+     * Check whether a column chunk's Bloom filter may contain any of the supplied values.
+     *
+     * @param bloomFilter The Bloom filter
+     * @param values The values, boxed as for {@link StatisticsPredicate#getMatchValues()}
+     * @return Whether any of the values may be present
+     */
+    boolean mayContainAny(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final Collection<Object> values) {
+        for (final Object value : values) {
+            final Object encoded = bloomFilterEncoder.apply(value);
+            if (encoded == null || bloomFilter.findHash(bloomFilter.hash(encoded))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayMatch(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final ByteBuffer encodedMin,
+            @NotNull final ByteBuffer encodedMax,
+            final boolean hasNulls) {
+        final Object min = decoder.apply(encodedMin.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        final Object max = decoder.apply(encodedMax.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        if (min == null || max == null) {
+            return true;
+        }
+        if (floatingPointMax != null) {
+            if (min instanceof Float ? ((Float) min).isNaN() : ((Double) min).isNaN()) {
+                return true;
+            }
+            return predicate.mayMatch(min, floatingPointMax, hasNulls);
+        }
+        return predicate.mayMatch(min, max, hasNulls);
+    }
+
+    private static boolean isSignedInteger(@Nullable final LogicalTypeAnnotation logicalType) {
+        return logicalType == null || (logicalType instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) logicalType).isSigned());
+    }
+
+    private static int readInt(@NotNull final ByteBuffer buffer) {
+        return buffer.getInt(buffer.position());
+    }
+
+    private static long readLong(@NotNull final ByteBuffer buffer) {
+        return buffer.getLong(buffer.position());
+    }
+
+    private static float readFloat(@NotNull final ByteBuffer buffer) {
+        return buffer.getFloat(buffer.position());
+    }
+
+    private static double readDouble(@NotNull final ByteBuffer buffer) {
+        return buffer.getDouble(buffer.position());
+    }
+
+    @Nullable
+    private static Long toEpochNanos(final long value, final long nanosPerUnit) {
+        try {
+            return Math.multiplyExact(value, nanosPerUnit);
+        } catch (final ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parquet orders strings by their unsigned UTF-8 bytes, which is code point order. That agrees with
+     * {@link String#compareTo(String)} for any value bounded by strings without surrogates or characters above them,
+     * so bounds containing such characters (including replacement characters from truncated column index values) are
+     * not used.
+     */
+    @Nullable
+    private static String readString(@NotNull final ByteBuffer buffer) {
+        final String value = StandardCharsets.UTF_8.decode(buffer).toString();
+        for (int ci = 0; ci < value.length(); ++ci) {
+            if (value.charAt(ci) >= Character.MIN_SURROGATE) {
+                return null;
+            }
+        }
+        return value;
+    }
+}
@@ -38,8 +38,9 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
-        super(pageCache, columnChunkReader, mask, toPage);
+            @NotNull final ToPage<ATTR, ?> toPage,
+            @Nullable final StatisticsConverter statisticsConverter) throws IOException {
+        super(pageCache, columnChunkReader, mask, toPage, statisticsConverter);
 
         final int INIT_ARRAY_SIZE = 15;
         pageRowOffsets = new long[INIT_ARRAY_SIZE + 1];
@@ -11,6 +11,9 @@ import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.impl.select.StatisticsPredicate;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -72,6 +75,21 @@ public abstract class ParquetColumnRegionBase<ATTR extends Any>
         return columnChunkPageStore.getPageContaining(null, elementIndex);
     }
 
+    @Override
+    public WritableRowSet filterByStatistics(
+            @NotNull final StatisticsPredicate predicate,
+            @NotNull final RowSet rowKeys) {
+        throwIfInvalidated();
+        return columnChunkPageStore.filterByStatistics(predicate, rowKeys);
+    }
+
+    @Override
+    @OverridingMethodsMustInvokeSuper
+    public void invalidate() {
+        super.invalidate();
+        columnChunkPageStore.invalidate();
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
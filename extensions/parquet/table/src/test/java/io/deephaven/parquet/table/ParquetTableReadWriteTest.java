@@ -22,11 +22,15 @@ import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfFloat;
 import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfInt;
 import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfLong;
 import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfShort;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.PartitionedTable;
 import io.deephaven.engine.table.PartitionedTableFactory;
 import io.deephaven.engine.table.impl.SourceTable;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.QueryTable;
@@ -37,6 +41,7 @@ import io.deephaven.engine.table.impl.select.FormulaEvaluationException;
 import io.deephaven.engine.table.impl.select.FunctionalColumn;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ColumnHolder;
 import io.deephaven.engine.table.iterators.*;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
@@ -47,9 +52,11 @@ import io.deephaven.engine.util.file.TrackedFileHandleFactory;
 import io.deephaven.parquet.base.BigDecimalParquetBytesCodec;
 import io.deephaven.parquet.base.InvalidParquetFileException;
 import io.deephaven.parquet.base.NullStatistics;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.parquet.table.location.ParquetTableLocation;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
+import io.deephaven.parquet.table.pagestore.PageCache;
 import io.deephaven.parquet.table.transfer.StringDictionary;
 import io.deephaven.qst.type.Type;
 import io.deephaven.stringset.ArrayStringSet;
@@ -100,6 +107,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
@@ -3201,6 +3209,404 @@ public final class ParquetTableReadWriteTest {
         assertEquals(columnMetadata.getEncodingStats().getNumDataPagesEncodedAs(Encoding.PLAIN), 2);
     }
 
+    @Test
+    public void whereWithStatisticsTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE) // Force many pages per column chunk
+                .build();
+        final Table source = TableTools.emptyTable(100_000).update(
+                "L = ii",
+                "I = ii % 1000 == 0 ? NULL_INT : (int) (ii / 10)",
+                "D = ii % 777 == 0 ? Double.NaN : (double) ii",
+                "S = ii % 5000 == 0 ? null : String.format(`%06d`, ii)",
+                "T = DateTimeUtils.epochNanosToInstant(ii * 1_000_000L)");
+        final File dest = new File(rootFile, "whereWithStatisticsTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+        final Table fromDisk = readTable(dest.getPath());
+
+        final String[] filters = {
+                "L >= 40000 && L < 40100",
+                "L = 12345",
+                "L in 3, 50000, 99999",
+                "L not in 3, 50000, 99999",
+                "I < 10",
+                "I = 5000",
+                "isNull(I)",
+                "D > 99990",
+                "D = 777",
+                "S >= `050000` && S < `050010`",
+                "S = `012345`",
+                "S in `000001`, `099999`",
+                "T >= '1970-01-01T00:01:00Z' && T < '1970-01-01T00:01:00.010Z'",
+                "T = '1970-01-01T00:00:10Z'",
+        };
+        for (final String filter : filters) {
+            assertTableEquals(source.where(filter), fromDisk.where(filter));
+        }
+
+        // Selective filters must not decode the pages that statistics rule out
+        final long allLongPages = countDecodedPages(() -> readTable(dest.getPath()).where("L >= 0"));
+        assertTrue(allLongPages > 10);
+        assertTrue(countDecodedPages(() -> readTable(dest.getPath()).where("L = 12345")) < allLongPages / 10);
+        assertTrue(countDecodedPages(() -> readTable(dest.getPath()).where("L >= 40000 && L < 40100"))
+                < allLongPages / 10);
+        final long allInstantPages =
+                countDecodedPages(() -> readTable(dest.getPath()).where("T >= '1970-01-01T00:00:00Z'"));
+        assertTrue(allInstantPages > 10);
+        assertTrue(countDecodedPages(() -> readTable(dest.getPath()).where("T = '1970-01-01T00:00:10Z'"))
+                < allInstantPages / 10);
+    }
+
+    /**
+     * Count the Parquet pages decoded while running {@code action}, using the global page cache miss count.
+     */
+    private static long countDecodedPages(final Runnable action) {
+        final long missesBefore = PageCache.getTotalMisses();
+        action.run();
+        return PageCache.getTotalMisses() - missesBefore;
+    }
+
+    @Test
+    public void bloomFilterTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .writeBloomFilter("Id", true)
+                .writeBloomFilter("Cusip", true)
+                .writeBloomFilter("DictKey", true)
+                .build();
+        final Table source = TableTools.emptyTable(10_000).update(
+                "Id = (ii * 7919) % 10_007",
+                "Cusip = ii % 97 == 0 ? null : Long.toHexString(ii * 104_729L)",
+                "DictKey = `K` + (ii % 50)",
+                "NoFilter = ii");
+        final File dest = new File(rootFile, "bloomFilterTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+        checkSingleTable(source, dest);
+
+        final ParquetMetadata metadata =
+                new ParquetTableLocationKey(dest.toURI(), 0, null, ParquetInstructions.EMPTY).getMetadata();
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            final boolean expectBloomFilter = !columnMetadata.getPath().toDotString().equals("NoFilter");
+            assertEquals(expectBloomFilter, columnMetadata.getBloomFilterOffset() >= 0);
+        }
+
+        final Table fromDisk = readTable(dest.getPath());
+        final String[] filters = {
+                "Id = 7919",
+                "Id in 1, 2, 3",
+                "Id = -1",
+                "Cusip = `" + Long.toHexString(42 * 104_729L) + "`",
+                "Cusip in `nope`, `also nope`",
+                "isNull(Cusip)",
+                "DictKey = `K7`",
+                "DictKey = `K50`",
+                "DictKey not in `K1`, `K2`",
+        };
+        for (final String filter : filters) {
+            assertTableEquals(source.where(filter), fromDisk.where(filter));
+        }
+
+        // Absent keys within the min/max range can only be ruled out by the Bloom filters, which must skip the whole
+        // column chunk without decoding any pages
+        assertTrue(countDecodedPages(() -> readTable(dest.getPath()).where("Id = 7919")) > 0);
+        assertEquals(0, countDecodedPages(() -> readTable(dest.getPath()).where("Id = 4176")));
+        assertEquals(0, countDecodedPages(() -> readTable(dest.getPath()).where("Id in 433, 2088, 8352")));
+        assertTrue(countDecodedPages(() -> readTable(dest.getPath()).where("DictKey = `K7`")) > 0);
+        assertEquals(0, countDecodedPages(() -> readTable(dest.getPath()).where("DictKey = `K50`")));
+    }
+
+    @Test
+    public void valuesEncodingTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setValuesEncoding("Seq", Encoding.DELTA_BINARY_PACKED)
+                .setValuesEncoding("Ts", Encoding.DELTA_BINARY_PACKED)
+                .setValuesEncoding("Qty", Encoding.DELTA_BINARY_PACKED)
+                .setValuesEncoding("Sh", Encoding.DELTA_BINARY_PACKED)
+                .setValuesEncoding("Arr", Encoding.DELTA_BINARY_PACKED)
+                .setValuesEncoding("Sym", Encoding.DELTA_LENGTH_BYTE_ARRAY)
+                .setValuesEncoding("Px", Encoding.BYTE_STREAM_SPLIT)
+                .setValuesEncoding("Fl", Encoding.BYTE_STREAM_SPLIT)
+                .setTargetPageSize(1 << 12)
+                .build();
+        final Table source = TableTools.emptyTable(20_000).update(
+                "Seq = ii",
+                "Ts = DateTimeUtils.epochNanosToInstant(1_700_000_000_000_000_000L + ii * 1_000_000L)",
+                "Qty = i % 101 == 0 ? null : (i * 37) % 1000 - 500",
+                "Sh = i % 103 == 0 ? null : (short) (i % 300)",
+                "Arr = i % 7 == 0 ? null : new long[] {ii, i % 5 == 0 ? NULL_LONG : ii + 1}",
+                "Sym = i % 11 == 0 ? null : `S` + (i % 13)",
+                "Px = i % 17 == 0 ? NULL_DOUBLE : 100.0 + i / 64.0",
+                "Fl = (float) (i % 1000) / 8.0f",
+                "Plain = ii * 3");
+        final File dest = new File(rootFile, "valuesEncodingTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+        checkSingleTable(source, dest);
+
+        final Map<String, Encoding> expectedEncodings = Map.of(
+                "Seq", Encoding.DELTA_BINARY_PACKED,
+                "Ts", Encoding.DELTA_BINARY_PACKED,
+                "Qty", Encoding.DELTA_BINARY_PACKED,
+                "Sh", Encoding.DELTA_BINARY_PACKED,
+                "Arr", Encoding.DELTA_BINARY_PACKED,
+                "Sym", Encoding.DELTA_LENGTH_BYTE_ARRAY,
+                "Px", Encoding.BYTE_STREAM_SPLIT,
+                "Fl", Encoding.BYTE_STREAM_SPLIT,
+                "Plain", Encoding.PLAIN);
+        final ParquetMetadata metadata =
+                new ParquetTableLocationKey(dest.toURI(), 0, null, ParquetInstructions.EMPTY).getMetadata();
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            final Encoding expected = expectedEncodings.get(columnMetadata.getPath().toArray()[0]);
+            assertTrue(columnMetadata.getEncodings().contains(expected));
+            assertFalse(columnMetadata.getEncodings().contains(Encoding.RLE_DICTIONARY));
+        }
+
+        try {
+            writeTable(source, new File(rootFile, "valuesEncodingTestBad.parquet").getPath(),
+                    new ParquetInstructions.Builder().setValuesEncoding("Px", Encoding.DELTA_BINARY_PACKED).build());
+            TestCase.fail("Exception expected for unsupported encoding");
+        } catch (final RuntimeException expected) {
+        }
+    }
+
+    @Test
+    public void sparseFilteredSelectTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build();
+        final Table source = TableTools.emptyTable(200_000).update(
+                "Key = (ii * 7919) % 200_000",
+                "A = ii",
+                "B = i % 13 == 0 ? null : `S` + (i % 1000)",
+                "C = ii / 3.0",
+                "D = new int[] {i, i + 1}");
+        final File dest = new File(rootFile, "sparseFilteredSelectTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+        final Table fromDisk = readTable(dest.getPath());
+
+        // Each of these keeps rows from only a few of the many pages of the non-filter columns
+        final String[] filters = {
+                "Key % 997 == 0",
+                "Key < 200",
+                "A >= 100_000 && A < 100_003",
+        };
+        for (final String filter : filters) {
+            assertTableEquals(source.where(filter), fromDisk.where(filter).select());
+            assertTableEquals(source.where(filter).view("B", "D"), fromDisk.where(filter).view("B", "D"));
+        }
+
+        // Selecting the surviving rows decodes only the pages that hold them, so it reads fewer pages than a full scan
+        final long fullScanPages = countDecodedPages(() -> readTable(dest.getPath()).select());
+        for (final String filter : filters) {
+            final long filteredPages = countDecodedPages(() -> readTable(dest.getPath()).where(filter).select());
+            assertTrue(filteredPages > 0);
+            assertTrue(filteredPages < fullScanPages);
+        }
+        // Only the filter column is read in full when the surviving rows are all on a few pages
+        final long fewRowsPages =
+                countDecodedPages(() -> readTable(dest.getPath()).where("A >= 100_000 && A < 100_003").select());
+        assertTrue(fewRowsPages < fullScanPages / 2);
+    }
+
+    @Test
+    public void parallelColumnWriteTest() {
+        Assume.assumeTrue(ExecutionContext.getContext().getOperationInitializer().canParallelize());
+        // Enough rows that every column spans many pages, with two big decimal columns that each compute their own
+        // precision and scale while other columns are being encoded
+        final Table tableToSave = getTableFlat(200_000, false, true)
+                .update("bdColumn2 = i % 7 == 0 ? null : java.math.BigDecimal.valueOf(ii * 7, 3)");
+        final File dest = new File(rootFile, "parallelColumnWriteTest.parquet");
+        writeTable(tableToSave, dest.getPath());
+        checkSingleTable(maybeFixBigDecimal(tableToSave), dest);
+
+        // Several files written concurrently, sharing big decimal precision and scale
+        final Table[] tablesToSave = new Table[4];
+        final String[] destinations = new String[tablesToSave.length];
+        for (int ti = 0; ti < tablesToSave.length; ++ti) {
+            tablesToSave[ti] = TableTools.emptyTable(50_000).update(
+                    "A = ii + " + ti,
+                    "B = `S` + (i % 100)",
+                    "BD = java.math.BigDecimal.valueOf(ii * " + (ti + 1) + ", 2)");
+            destinations[ti] = new File(rootFile, "parallelColumnWriteTest_" + ti + ".parquet").getPath();
+        }
+        writeTables(tablesToSave, destinations, ParquetInstructions.EMPTY);
+        for (int ti = 0; ti < tablesToSave.length; ++ti) {
+            assertTableEquals(tablesToSave[ti], readTable(destinations[ti]));
+        }
+    }
+
+    @Test
+    public void parallelColumnWriteFailureTest() {
+        Assume.assumeTrue(ExecutionContext.getContext().getOperationInitializer().canParallelize());
+        final File parentDir = new File(rootFile, "parallelColumnWriteFailureTest");
+        assertTrue(parentDir.mkdirs());
+        final String filename = "parallelColumnWriteFailureTest.parquet";
+        final File destFile = new File(parentDir, filename);
+        final Table original = TableTools.emptyTable(10).update("A = i", "B = ii");
+        writeTable(original, destFile.getPath());
+
+        // Column B fails partway through, while the other columns are being encoded concurrently
+        final Table badTable = TableTools.emptyTable(200_000).view(
+                "A = i",
+                "B = ii < 150_000 ? ii : Long.parseLong(`x` + ii)",
+                "C = ii * 2",
+                "D = `S` + ii");
+        try {
+            writeTable(badTable, destFile.getPath());
+            TestCase.fail("Exception expected for failing column");
+        } catch (final RuntimeException expected) {
+            // expected
+        }
+
+        // No partial or temporary file is left behind, and the original file is preserved
+        verifyFilesInDir(parentDir, new String[] {filename}, null);
+        checkSingleTable(original, destFile);
+    }
+
+    @Test
+    public void prefetchSequentialFillsTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build();
+        final Table source = TableTools.emptyTable(200_000).update("A = ii");
+        final File dest = new File(rootFile, "prefetchSequentialFillsTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+
+        // Two consumers that each walk their own half of the column in order, interleaving their fills
+        final ColumnSource<Long> sequentialSource = readTable(dest.getPath()).getColumnSource("A", long.class);
+        final int chunkSize = 1024;
+        final long prefetchedBefore = ColumnChunkPageStore.getTotalPagesPrefetched();
+        try (final ChunkSource.FillContext firstContext = sequentialSource.makeFillContext(chunkSize);
+                final ChunkSource.FillContext secondContext = sequentialSource.makeFillContext(chunkSize);
+                final WritableLongChunk<Values> destination = WritableLongChunk.makeWritableChunk(chunkSize)) {
+            for (long firstRow = 0; firstRow < 100_000; firstRow += chunkSize) {
+                for (final ChunkSource.FillContext context : new ChunkSource.FillContext[] {firstContext,
+                        secondContext}) {
+                    final long chunkFirstRow = context == firstContext ? firstRow : firstRow + 100_000;
+                    final long chunkLastRow = Math.min(chunkFirstRow + chunkSize, 200_000) - 1;
+                    try (final RowSequence rows = RowSequenceFactory.forRange(chunkFirstRow, chunkLastRow)) {
+                        sequentialSource.fillChunk(context, destination, rows);
+                    }
+                    assertEquals(chunkFirstRow, destination.get(0));
+                    assertEquals(chunkLastRow, destination.get(destination.size() - 1));
+                }
+            }
+        }
+        assertTrue(ColumnChunkPageStore.getTotalPagesPrefetched() > prefetchedBefore);
+
+        // A consumer that reads single rows far apart should not be read ahead of
+        final ColumnSource<Long> sparseSource = readTable(dest.getPath()).getColumnSource("A", long.class);
+        final long sparsePrefetchedBefore = ColumnChunkPageStore.getTotalPagesPrefetched();
+        try (final ChunkSource.FillContext context = sparseSource.makeFillContext(1);
+                final WritableLongChunk<Values> destination = WritableLongChunk.makeWritableChunk(1)) {
+            for (long row = 4_999; row < 200_000; row += 5_000) {
+                try (final RowSequence rows = RowSequenceFactory.forRange(row, row)) {
+                    sparseSource.fillChunk(context, destination, rows);
+                }
+                assertEquals(row, destination.get(0));
+            }
+        }
+        assertEquals(sparsePrefetchedBefore, ColumnChunkPageStore.getTotalPagesPrefetched());
+    }
+
+    @Test
+    public void footerCacheTest() {
+        final Table source = TableTools.emptyTable(1000).update("A = ii", "B = `S` + i");
+        final File dest = new File(rootFile, "footerCacheTest.parquet");
+        writeTable(source, dest.getPath());
+
+        final ParquetFooterCache footerCache = ParquetFooterCache.getInstance();
+        assertTableEquals(source, readTable(dest.getPath()));
+        final long hitsBefore = footerCache.getHits();
+        assertTableEquals(source, readTable(dest.getPath()));
+        assertTrue(footerCache.getHits() > hitsBefore);
+
+        // A rewritten file must not be served the old footer
+        final Table replacement = TableTools.emptyTable(2000).update("A = ii * 2", "B = `T` + i");
+        writeTable(replacement, dest.getPath());
+        assertTableEquals(replacement, readTable(dest.getPath()));
+    }
+
+    private static final AtomicLong exchangeFilterCalls = new AtomicLong();
+
+    public static boolean countedExchangeFilter(final String exchange) {
+        exchangeFilterCalls.incrementAndGet();
+        return exchange != null && exchange.startsWith("EX1");
+    }
+
+    @Test
+    public void whereWithDictionaryTest() {
+        final Table source = TableTools.emptyTable(100_000).update(
+                "Exchange = ii % 1001 == 0 ? null : `EX` + (ii % 13)",
+                "Venue = `V` + (ii % 7) + `_` + (ii % 3)",
+                "L = ii");
+        final File dest = new File(rootFile, "whereWithDictionaryTest.parquet");
+        writeTable(source, dest.getPath());
+        final Table fromDisk = readTable(dest.getPath());
+        final ColumnSource<?> exchangeSource = fromDisk.getColumnSource("Exchange");
+        assertTrue(SymbolTableSource.hasSymbolTable(exchangeSource, fromDisk.getRowSet()));
+
+        final String[] filters = {
+                "Exchange = `EX3`",
+                "Exchange in `EX1`, `EX12`, `EX99`",
+                "Exchange not in `EX1`, `EX12`",
+                "Exchange = `EX99`",
+                "isNull(Exchange)",
+                "!isNull(Exchange) && Exchange.contains(`1`)",
+                "Exchange.matches(`EX1[0-2]`)",
+                "Exchange > `EX5`",
+                "Exchange icase in `ex4`",
+                "Venue.startsWith(`V3`) || Venue.endsWith(`_2`)",
+                "Venue.contains(`nope`)",
+        };
+        for (final String filter : filters) {
+            assertTableEquals(source.where(filter), fromDisk.where(filter));
+        }
+        // A formula that cannot evaluate null values is only evaluated directly on the rows that have them
+        assertTableEquals(source.where("L > 0 && L < 1001").where("Exchange.contains(`1`)"),
+                fromDisk.where("L > 0 && L < 1001").where("Exchange.contains(`1`)"));
+        try {
+            fromDisk.where("Exchange.contains(`1`)");
+            fail("Expected an exception because a null value was dereferenced");
+        } catch (RuntimeException expected) {
+        }
+
+        // The dictionary path evaluates the filter once per symbol and once for null, rather than once per row
+        final String countedFilter =
+                ParquetTableReadWriteTest.class.getCanonicalName() + ".countedExchangeFilter(Exchange)";
+        exchangeFilterCalls.set(0);
+        final Table expected = source.where(countedFilter);
+        assertEquals(source.size(), exchangeFilterCalls.get());
+        exchangeFilterCalls.set(0);
+        assertTableEquals(expected, fromDisk.where(countedFilter));
+        assertTrue(exchangeFilterCalls.get() > 0);
+        // 13 exchanges and null
+        assertTrue(exchangeFilterCalls.get() <= 14);
+    }
+
+    @Test
+    public void columnIndexWrittenTest() {
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE) // Force many pages per column chunk
+                .build();
+        final Table source = TableTools.emptyTable(10_000).update(
+                "L = ii",
+                "DictS = ii % 100 == 0 ? null : Long.toString(ii % 10)",
+                "PlainS = String.format(`%06d`, ii)",
+                "T = DateTimeUtils.epochNanosToInstant(ii * 1_000_000L)");
+        final File dest = new File(rootFile, "columnIndexWrittenTest.parquet");
+        writeTable(source, dest.getPath(), writeInstructions);
+        checkSingleTable(source, dest);
+
+        final ParquetMetadata metadata =
+                new ParquetTableLocationKey(dest.toURI(), 0, null, ParquetInstructions.EMPTY).getMetadata();
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            assertNotNull(columnMetadata.getColumnIndexReference());
+            assertNotNull(columnMetadata.getOffsetIndexReference());
+        }
+        assertTableEquals(source.where("DictS = `7`"), readTable(dest.getPath()).where("DictS = `7`"));
+        assertTableEquals(source.where("PlainS >= `001000` && PlainS < `001010`"),
+                readTable(dest.getPath()).where("PlainS >= `001000` && PlainS < `001010`"));
+    }
+
     @Test
     public void readWriteStatisticsTest() {
         // Test simple structured table.
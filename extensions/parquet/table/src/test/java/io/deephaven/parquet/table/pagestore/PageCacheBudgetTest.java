@@ -0,0 +1,196 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.page.LongChunkPage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PageCacheBudgetTest {
+
+    private static final int PAGE_LONGS = 10;
+    private static final long PAGE_BYTES = PAGE_LONGS * Long.BYTES;
+
+    private static PageCache.IntrusivePage<Values> newPage() {
+        return new PageCache.IntrusivePage<>(LongChunkPage.pageWrap(0, new long[PAGE_LONGS], Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testQuotaEvictsItsOwnPages() {
+        final PageCacheBudget budget = new PageCacheBudget(100 * PAGE_BYTES);
+        final PageCacheBudget.Quota quota = budget.newQuota(2 * PAGE_BYTES);
+        final PageCacheBudget.Quota otherQuota = budget.newQuota(2 * PAGE_BYTES);
+        final PageCache.IntrusivePage<Values> other = newPage();
+        otherQuota.touch(other);
+
+        final PageCache.IntrusivePage<Values> first = newPage();
+        final PageCache.IntrusivePage<Values> second = newPage();
+        final PageCache.IntrusivePage<Values> third = newPage();
+        quota.touch(first);
+        quota.touch(second);
+        quota.touch(third);
+
+        assertNull(first.residentQuota);
+        assertSame(quota, second.residentQuota);
+        assertSame(quota, third.residentQuota);
+        assertSame(otherQuota, other.residentQuota);
+        assertEquals(3, budget.getResidentPages());
+        assertEquals(3 * PAGE_BYTES, budget.getResidentBytes());
+        assertEquals(1, budget.getEvictions());
+        assertEquals(PAGE_BYTES, budget.getEvictedBytes());
+    }
+
+    @Test
+    public void testBudgetEvictsLeastRecentlyUsedAcrossQuotas() {
+        final PageCacheBudget budget = new PageCacheBudget(3 * PAGE_BYTES);
+        final PageCacheBudget.Quota firstQuota = budget.newQuota(10 * PAGE_BYTES);
+        final PageCacheBudget.Quota secondQuota = budget.getDefaultQuota();
+
+        final PageCache.IntrusivePage<Values> a1 = newPage();
+        final PageCache.IntrusivePage<Values> a2 = newPage();
+        final PageCache.IntrusivePage<Values> b1 = newPage();
+        firstQuota.touch(a1);
+        firstQuota.touch(a2);
+        secondQuota.touch(b1);
+
+        // Re-access a1, which is only buffered until the next admission, so that a2 is least recently used
+        firstQuota.touch(a1);
+
+        final PageCache.IntrusivePage<Values> b2 = newPage();
+        secondQuota.touch(b2);
+        assertSame(firstQuota, a1.residentQuota);
+        assertNull(a2.residentQuota);
+        assertSame(secondQuota, b1.residentQuota);
+        assertSame(secondQuota, b2.residentQuota);
+        assertEquals(3, budget.getResidentPages());
+        assertEquals(1, budget.getEvictions());
+
+        // Now b1 is least recently used
+        final PageCache.IntrusivePage<Values> a3 = newPage();
+        firstQuota.touch(a3);
+        assertNull(b1.residentQuota);
+        assertSame(firstQuota, a1.residentQuota);
+        assertEquals(3 * PAGE_BYTES, budget.getResidentBytes());
+        assertEquals(2, budget.getEvictions());
+    }
+
+    @Test
+    public void testOversizedPageIsNotResident() {
+        final PageCacheBudget budget = new PageCacheBudget(PAGE_BYTES / 2);
+        final PageCache.IntrusivePage<Values> page = newPage();
+        budget.getDefaultQuota().touch(page);
+        assertNull(page.residentQuota);
+        assertEquals(0, budget.getResidentPages());
+        assertEquals(0, budget.getResidentBytes());
+        assertEquals(0, budget.getEvictions());
+    }
+
+    @Test
+    public void testConcurrentAccessesKeepAccounting() throws InterruptedException {
+        final int numPages = 64;
+        final PageCacheBudget budget = new PageCacheBudget(16 * PAGE_BYTES);
+        final PageCacheBudget.Quota quota = budget.getDefaultQuota();
+        final List<PageCache.IntrusivePage<Values>> pages = new ArrayList<>(numPages);
+        for (int pi = 0; pi < numPages; ++pi) {
+            pages.add(newPage());
+        }
+
+        final int numThreads = 8;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>(numThreads);
+        for (int ti = 0; ti < numThreads; ++ti) {
+            final int threadIndex = ti;
+            final Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int ii = 0; ii < 20_000; ++ii) {
+                    // Mostly re-access a small hot set, occasionally admitting a page from the rest
+                    final int pageIndex = ii % 10 == 0 ? (ii * 7 + threadIndex) % numPages : threadIndex;
+                    quota.touch(pages.get(pageIndex));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        long residentPages = 0;
+        for (final PageCache.IntrusivePage<Values> page : pages) {
+            if (page.residentQuota != null) {
+                ++residentPages;
+            }
+        }
+        assertEquals(residentPages, budget.getResidentPages());
+        assertEquals(residentPages * PAGE_BYTES, budget.getResidentBytes());
+        assertTrue(budget.getResidentBytes() <= budget.getBudgetBytes());
+        assertTrue(budget.getEvictions() > 0);
+    }
+
+    @Test
+    public void testPageCacheCountsHitsAndMisses() {
+        final PageCacheBudget budget = new PageCacheBudget(100 * PAGE_BYTES);
+        final PageCache<Values> pageCache = new PageCache<>(budget.getDefaultQuota());
+        final PageCache.IntrusivePage<Values> page = newPage();
+
+        final long hitsBefore = PageCache.getTotalHits();
+        final long missesBefore = PageCache.getTotalMisses();
+        final long decodedBytesBefore = PageCache.getTotalDecodedBytes();
+        pageCache.touch(page);
+        assertEquals(missesBefore + 1, PageCache.getTotalMisses());
+        assertEquals(decodedBytesBefore + PAGE_BYTES, PageCache.getTotalDecodedBytes());
+        assertNotNull(page.residentQuota);
+
+        pageCache.touch(page);
+        pageCache.touch(page);
+        assertEquals(hitsBefore + 2, PageCache.getTotalHits());
+        assertEquals(missesBefore + 1, PageCache.getTotalMisses());
+    }
+
+    @Test
+    public void testConcurrentFirstAccessesCountOneMiss() throws InterruptedException {
+        final PageCache<Values> pageCache = new PageCache<>(new PageCacheBudget(100 * PAGE_BYTES).getDefaultQuota());
+        final int numThreads = 8;
+        for (int trial = 0; trial < 100; ++trial) {
+            final PageCache.IntrusivePage<Values> page = newPage();
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Thread> threads = new ArrayList<>(numThreads);
+            final long missesBefore = PageCache.getTotalMisses();
+            final long hitsBefore = PageCache.getTotalHits();
+            for (int ti = 0; ti < numThreads; ++ti) {
+                final Thread thread = new Thread(() -> {
+                    try {
+                        startLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    pageCache.touch(page);
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            startLatch.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(missesBefore + 1, PageCache.getTotalMisses());
+            assertEquals(hitsBefore + numThreads - 1, PageCache.getTotalHits());
+        }
+    }
+}
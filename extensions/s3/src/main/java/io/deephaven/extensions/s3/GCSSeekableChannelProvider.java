@@ -8,7 +8,9 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.channels.SeekableByteChannel;
@@ -37,6 +39,18 @@ final class GCSSeekableChannelProvider extends S3SeekableChannelProvider {
         return super.getReadChannel(channelContext, gcsToS3Uri(uri));
     }
 
+    @Override
+    public void prefetch(@NotNull final URI uri, @NotNull final long[] positions, @NotNull final int[] lengths)
+            throws IOException {
+        super.prefetch(gcsToS3Uri(uri), positions, lengths);
+    }
+
+    @Override
+    @Nullable
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        return super.getVersion(gcsToS3Uri(uri));
+    }
+
     @Override
     public CompletableOutputStream getOutputStream(@NotNull final URI uri, final int bufferSizeHint) {
         return super.getOutputStream(gcsToS3Uri(uri), bufferSizeHint);
@@ -8,14 +8,17 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.BaseSeekableChannelContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
@@ -32,6 +35,11 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
     final S3AsyncClient client;
     final S3Instructions instructions;
 
+    /**
+     * The provider's scheduler, through which all GET requests are sent.
+     */
+    final S3RequestScheduler scheduler;
+
     /**
      * The URI associated with this context. A single context object can only be associated with a single URI at a time.
      * But it can be re-associated with a different URI after {@link #reset() resetting}.
@@ -62,6 +70,7 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
         this.provider = Objects.requireNonNull(provider);
         this.client = Objects.requireNonNull(client);
         this.instructions = Objects.requireNonNull(instructions);
+        this.scheduler = provider.getRequestScheduler();
         this.sharedCache = sharedCache;
         if (sharedCache.getFragmentSize() != instructions.fragmentSize()) {
             throw new IllegalArgumentException("Fragment size mismatch between shared cache and instructions, "
@@ -134,6 +143,94 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
         return filled;
     }
 
+    /**
+     * Start fetching the given byte ranges of the {@link #uri} in the background, merging nearby ranges into fewer,
+     * larger requests as planned by {@link S3ReadPlanner}. Fragments that are already cached or being fetched are not
+     * fetched again, unless they lie within a merged request.
+     *
+     * @param positions The offsets of the first byte of each range
+     * @param lengths The number of bytes in each range, parallel to {@code positions}
+     */
+    void prefetch(@NotNull final long[] positions, @NotNull final int[] lengths) throws IOException {
+        ensureSize();
+        final int fragmentSize = instructions.fragmentSize();
+        final long maxGapFragments = instructions.coalesceMaxGap() / fragmentSize;
+        for (final S3ReadPlanner.FragmentRange range : S3ReadPlanner.plan(positions, lengths, size, instructions)) {
+            final int numFragments = (int) range.numFragments();
+            final S3Request.Acquired[] fragments = new S3Request.Acquired[numFragments];
+            // noinspection unchecked
+            final CompletableFuture<Boolean>[] futures = new CompletableFuture[numFragments];
+            for (int fi = 0; fi < numFragments; ++fi) {
+                final S3Request.Acquired fragment =
+                        sharedCache.getOrCreateRequest(uri, range.firstFragmentIndex + fi, this);
+                final CompletableFuture<Boolean> future = new CompletableFuture<>();
+                if (fragment.claim(future)) {
+                    fragments[fi] = fragment;
+                    futures[fi] = future;
+                }
+            }
+            // Fragments already sent on their own split the range wherever they leave too large a gap
+            int runStart = -1;
+            int runEnd = -1;
+            for (int fi = 0; fi <= numFragments; ++fi) {
+                if (fi < numFragments && fragments[fi] == null) {
+                    continue;
+                }
+                if (runStart >= 0 && (fi == numFragments || fi - runEnd - 1 > maxGapFragments)) {
+                    sendCoalesced(fragments, futures, runStart, runEnd);
+                    runStart = -1;
+                }
+                if (fi < numFragments) {
+                    if (runStart < 0) {
+                        runStart = fi;
+                    }
+                    runEnd = fi;
+                }
+            }
+        }
+    }
+
+    private void sendCoalesced(
+            @NotNull final S3Request.Acquired[] fragments,
+            @NotNull final CompletableFuture<Boolean>[] futures,
+            final int runStart,
+            final int runEnd) {
+        final int runLength = runEnd - runStart + 1;
+        final S3Request.Acquired[] runFragments = Arrays.copyOfRange(fragments, runStart, runEnd + 1);
+        final CompletableFuture<Boolean>[] runFutures = Arrays.copyOfRange(futures, runStart, runEnd + 1);
+        final long from = runFragments[0].from();
+        final long to = runFragments[runLength - 1].from() + runFragments[runLength - 1].length() - 1;
+        final S3CoalescedRead read = new S3CoalescedRead(client, uri, instructions.fragmentSize(), from, to,
+                runFragments, runFutures);
+        scheduler.submit(read::send);
+    }
+
+    /**
+     * Get the key for a fragment of the {@link #uri} in the provider's {@link S3FragmentDiskCache disk cache}.
+     *
+     * @param fragmentIndex The fragment index
+     * @return The key, or {@code null} if there is no disk cache or the object's ETag is not known
+     */
+    @Nullable
+    String diskCacheKey(final long fragmentIndex) {
+        if (provider.getDiskCache() == null) {
+            return null;
+        }
+        final String eTag = provider.getCachedETag(uri.uri());
+        if (eTag == null) {
+            return null;
+        }
+        return S3FragmentDiskCache.key(uri.uri(), eTag, instructions.fragmentSize(), fragmentIndex);
+    }
+
+    /**
+     * @return The provider's disk cache, or {@code null} if none is configured
+     */
+    @Nullable
+    S3FragmentDiskCache diskCache() {
+        return provider.getDiskCache();
+    }
+
     private void reset() {
         // Reset the internal state
         uri = null;
@@ -0,0 +1,217 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Uri;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A single ranged GET that fills a run of consecutive fragment {@link S3Request requests}, planned by
+ * {@link S3ReadPlanner}. Fragments that were already sent on their own when the run was claimed are fetched along with
+ * the others, and their bytes are discarded. Each claimed fragment completes as soon as its bytes have arrived, so
+ * readers of the first fragments need not wait for the whole GET.
+ */
+final class S3CoalescedRead implements AsyncResponseTransformer<GetObjectResponse, Boolean> {
+
+    private static final Logger log = LoggerFactory.getLogger(S3CoalescedRead.class);
+
+    private final S3AsyncClient client;
+    private final S3Uri uri;
+    private final int fragmentSize;
+    private final long from;
+    private final long to;
+
+    /**
+     * The claimed fragment requests in this run, indexed from the first fragment; {@code null} for fragments that were
+     * not claimed or that have been filled. Holding these keeps their buffers alive until they are filled.
+     */
+    private final S3Request.Acquired[] fragments;
+    private final CompletableFuture<Boolean>[] fragmentFutures;
+
+    private volatile CompletableFuture<Boolean> producerFuture;
+
+    /**
+     * @param client The client to send the GET with
+     * @param uri The object to read
+     * @param fragmentSize The size of each fragment; only the last fragment of the object may be shorter
+     * @param from The offset in the object of the first byte of the first fragment
+     * @param to The offset in the object of the last byte of the last fragment
+     * @param fragments The fragment requests in the run, each followed by the next fragment of the object, with
+     *        {@code null} for fragments that need not be filled
+     * @param fragmentFutures The futures the non-{@code null} fragments were claimed with, parallel to
+     *        {@code fragments}
+     */
+    S3CoalescedRead(
+            @NotNull final S3AsyncClient client,
+            @NotNull final S3Uri uri,
+            final int fragmentSize,
+            final long from,
+            final long to,
+            @NotNull final S3Request.Acquired[] fragments,
+            @NotNull final CompletableFuture<Boolean>[] fragmentFutures) {
+        this.client = client;
+        this.uri = uri;
+        this.fragmentSize = fragmentSize;
+        this.from = from;
+        this.to = to;
+        this.fragments = fragments;
+        this.fragmentFutures = fragmentFutures;
+    }
+
+    /**
+     * Send the GET for this read, failing all claimed fragments if it cannot be sent.
+     *
+     * @return The future for the GET, or {@code null} if it could not be sent
+     */
+    @Nullable
+    CompletableFuture<Boolean> send() {
+        if (log.isDebugEnabled()) {
+            log.debug().append("Sending coalesced: ").append(readStr()).endl();
+        }
+        final CompletableFuture<Boolean> result;
+        try {
+            result = client.getObject(GetObjectRequest.builder()
+                    .bucket(uri.bucket().orElseThrow())
+                    .key(uri.key().orElseThrow())
+                    .range("bytes=" + from + "-" + to)
+                    .build(), this);
+        } catch (final RuntimeException e) {
+            failRemaining(e);
+            return null;
+        }
+        return result.whenComplete((isComplete, error) -> {
+            if (error != null) {
+                failRemaining(error);
+            } else if (!Boolean.TRUE.equals(isComplete)) {
+                failRemaining(new IllegalStateException("Incomplete coalesced read " + readStr()));
+            }
+        });
+    }
+
+    private synchronized void failRemaining(@NotNull final Throwable error) {
+        for (int fi = 0; fi < fragments.length; ++fi) {
+            if (fragments[fi] != null) {
+                fragments[fi] = null;
+                fragmentFutures[fi].completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Write bytes received starting at {@code offset} from the start of this read to the fragments they belong to,
+     * completing each fragment whose last byte is written.
+     */
+    private synchronized void deliver(final long offset, @NotNull final ByteBuffer data) {
+        long position = offset;
+        while (data.hasRemaining()) {
+            final int fi = (int) (position / fragmentSize);
+            final int fragmentOffset = (int) (position % fragmentSize);
+            final int numBytes = Math.min(data.remaining(), fragmentSize - fragmentOffset);
+            final S3Request.Acquired fragment = fi < fragments.length ? fragments[fi] : null;
+            if (fragment != null) {
+                final ByteBuffer slice = data.duplicate();
+                slice.limit(slice.position() + numBytes);
+                fragment.write(fragmentOffset, slice);
+                if (fragmentOffset + numBytes == fragment.length()) {
+                    fragments[fi] = null;
+                    fragmentFutures[fi].complete(true);
+                }
+            }
+            data.position(data.position() + numBytes);
+            position += numBytes;
+        }
+    }
+
+    private String readStr() {
+        return String.format("[%d, %d]/%d %s/%s", from, to, to - from + 1,
+                uri.bucket().orElseThrow(), uri.key().orElseThrow());
+    }
+
+    // --------------------------------------------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> prepare() {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        producerFuture = future;
+        return future;
+    }
+
+    @Override
+    public void onResponse(final GetObjectResponse response) {
+
+    }
+
+    @Override
+    public void onStream(final SdkPublisher<ByteBuffer> publisher) {
+        publisher.subscribe(new Sub());
+    }
+
+    @Override
+    public void exceptionOccurred(final Throwable error) {
+        producerFuture.completeExceptionally(error);
+    }
+
+    // --------------------------------------------------------------------------------------------------
+
+    private final class Sub implements Subscriber<ByteBuffer> {
+
+        private final CompletableFuture<Boolean> localProducer;
+        private Subscription subscription;
+
+        /**
+         * Number of bytes received.
+         */
+        private long offset;
+
+        Sub() {
+            localProducer = producerFuture;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final ByteBuffer dataBuffer) {
+            final int numBytes = dataBuffer.remaining();
+            deliver(offset, dataBuffer);
+            offset += numBytes;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            localProducer.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (offset != to - from + 1) {
+                localProducer.completeExceptionally(new IllegalStateException(String.format(
+                        "Expected %d bytes, received %d, %s", to - from + 1, offset, readStr())));
+                return;
+            }
+            localProducer.complete(true);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A size-bounded cache of S3 fragments in a local directory, used beneath the in-memory {@link S3RequestCache} when
+ * {@link S3Instructions#diskCacheDirectory()} is set. Each fragment is stored in its own file, named for a hash of the
+ * object URI, ETag and fragment size along with the fragment index, so a fragment is only ever served for the version
+ * of the object it was read from. Least recently used fragments are deleted once the cache exceeds
+ * {@link S3Instructions#diskCacheMaxBytes()}.
+ * <p>
+ * Fragments are written to a temporary file and atomically renamed into place, so concurrent writers of the same
+ * fragment are harmless and readers never see partial fragments. Fragments already in the directory when the cache is
+ * created, e.g. from before a restart, are adopted in order of modification time. One cache is shared by all providers
+ * in the process that use the same directory, and they must all configure the same size limit.
+ * <p>
+ * Fragments fetched from S3 are written by a background thread, so that the threads completing S3 requests never wait
+ * on the disk.
+ */
+final class S3FragmentDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(S3FragmentDiskCache.class);
+
+    private static final String TEMP_FILE_MARKER = ".tmp-";
+
+    /**
+     * The maximum total size of fragments waiting to be written; fragments fetched while this many bytes are waiting
+     * are not cached on disk.
+     */
+    private static final long MAX_PENDING_WRITE_BYTES = 64L << 20;
+
+    private static final Map<Path, S3FragmentDiskCache> CACHES = new HashMap<>();
+
+    /**
+     * Get the cache for {@code directory}, creating it if necessary.
+     *
+     * @param directory The cache directory
+     * @param maxBytes The maximum total size of cached fragments
+     * @return The cache
+     * @throws IllegalArgumentException if the directory is already in use with a different size limit
+     */
+    static synchronized S3FragmentDiskCache forDirectory(@NotNull final Path directory, final long maxBytes) {
+        final Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        final S3FragmentDiskCache cache =
+                CACHES.computeIfAbsent(absoluteDirectory, dir -> new S3FragmentDiskCache(dir, maxBytes));
+        if (cache.maxBytes != maxBytes) {
+            throw new IllegalArgumentException("S3 disk cache directory " + absoluteDirectory
+                    + " is already in use with diskCacheMaxBytes=" + cache.maxBytes + ", cannot use it with "
+                    + maxBytes);
+        }
+        return cache;
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * The size of each cached fragment by file name, in least to most recently used order.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .threadNamePrefix("s3-disk-cache-writer")
+            .daemonThreads(true)
+            .build());
+    private final AtomicLong pendingWriteBytes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private S3FragmentDiskCache(@NotNull final Path directory, final long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        final List<Path> existing;
+        try {
+            Files.createDirectories(directory);
+            try (final Stream<Path> files = Files.list(directory)) {
+                existing = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to initialize S3 disk cache in " + directory, e);
+        }
+        final Map<Path, Long> modifiedTimes = new HashMap<>();
+        for (final Path file : existing) {
+            try {
+                if (file.getFileName().toString().contains(TEMP_FILE_MARKER)) {
+                    // Left behind by a writer that did not finish
+                    Files.deleteIfExists(file);
+                } else {
+                    modifiedTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+                }
+            } catch (IOException e) {
+                log.warn().append("Ignoring unreadable S3 disk cache file ").append(file.toString()).endl();
+            }
+        }
+        modifiedTimes.keySet().stream()
+                .sorted(Comparator.comparingLong(modifiedTimes::get))
+                .forEachOrdered(file -> {
+                    try {
+                        add(file.getFileName().toString(), Files.size(file));
+                    } catch (IOException e) {
+                        log.warn().append("Ignoring unreadable S3 disk cache file ").append(file.toString()).endl();
+                    }
+                });
+    }
+
+    /**
+     * Make the key for a fragment of a version of an object.
+     *
+     * @param uri The object URI
+     * @param eTag The ETag of the version of the object
+     * @param fragmentSize The size of fragments
+     * @param fragmentIndex The index of the fragment in the object
+     * @return The key
+     */
+    static String key(
+            @NotNull final URI uri,
+            @NotNull final String eTag,
+            final int fragmentSize,
+            final long fragmentIndex) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final byte[] hash = digest.digest(
+                (uri + "\n" + eTag + "\n" + fragmentSize).getBytes(StandardCharsets.UTF_8));
+        final StringBuilder key = new StringBuilder(hash.length * 2 + 20);
+        for (final byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.append('-').append(fragmentIndex).toString();
+    }
+
+    /**
+     * Read the fragment for {@code key} into {@code dest}, if it is cached with exactly {@code dest.remaining()} bytes.
+     * On success, {@code dest}'s position is unchanged.
+     *
+     * @param key The fragment key
+     * @param dest The buffer to fill
+     * @return Whether the fragment was read
+     */
+    boolean read(@NotNull final String key, @NotNull final ByteBuffer dest) {
+        synchronized (this) {
+            final Long size = entries.get(key);
+            if (size == null || size != dest.remaining()) {
+                misses.increment();
+                return false;
+            }
+        }
+        final ByteBuffer target = dest.duplicate();
+        try (final FileChannel channel = FileChannel.open(directory.resolve(key), StandardOpenOption.READ)) {
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Evicted after we checked
+            remove(key);
+            misses.increment();
+            return false;
+        } catch (IOException e) {
+            log.warn().append("Failed to read S3 disk cache file ").append(key).append(": ").append(e).endl();
+            remove(key);
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Write the remaining bytes of {@code src} as the fragment for {@code key} on the background writer thread, unless
+     * it is already cached or too many bytes are already waiting to be written. {@code src} must not be modified
+     * afterward.
+     *
+     * @param key The fragment key
+     * @param src The fragment's bytes; its position is unchanged
+     */
+    void writeAsync(@NotNull final String key, @NotNull final ByteBuffer src) {
+        final long size = src.remaining();
+        if (size > maxBytes) {
+            return;
+        }
+        if (pendingWriteBytes.addAndGet(size) > MAX_PENDING_WRITE_BYTES) {
+            pendingWriteBytes.addAndGet(-size);
+            return;
+        }
+        try {
+            writer.execute(() -> {
+                try {
+                    write(key, src);
+                } finally {
+                    pendingWriteBytes.addAndGet(-size);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingWriteBytes.addAndGet(-size);
+        }
+    }
+
+    /**
+     * @return A future that completes once every {@link #writeAsync(String, ByteBuffer) write} submitted before this
+     *         call has finished
+     */
+    CompletableFuture<Void> pendingWrites() {
+        return CompletableFuture.runAsync(() -> {}, writer);
+    }
+
+    /**
+     * Write the remaining bytes of {@code src} as the fragment for {@code key}, unless it is already cached. Failures
+     * are logged, and leave the fragment uncached.
+     *
+     * @param key The fragment key
+     * @param src The fragment's bytes; its position is unchanged
+     */
+    private void write(@NotNull final String key, @NotNull final ByteBuffer src) {
+        final long size = src.remaining();
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (this) {
+            if (entries.containsKey(key)) {
+                return;
+            }
+        }
+        final Path file = directory.resolve(key);
+        final Path tempFile = directory.resolve(key + TEMP_FILE_MARKER + UUID.randomUUID());
+        try {
+            try (final FileChannel channel = FileChannel.open(tempFile,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                final ByteBuffer source = src.duplicate();
+                while (source.hasRemaining()) {
+                    channel.write(source);
+                }
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn().append("Failed to write S3 disk cache file ").append(key).append(": ").append(e).endl();
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+            }
+            return;
+        }
+        add(key, size);
+    }
+
+    private synchronized void add(@NotNull final String key, final long size) {
+        final Long replaced = entries.put(key, size);
+        if (replaced != null) {
+            cachedBytes -= replaced;
+        }
+        cachedBytes += size;
+        final Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && it.hasNext()) {
+            final Map.Entry<String, Long> evicted = it.next();
+            it.remove();
+            cachedBytes -= evicted.getValue();
+            evictions.increment();
+            delete(evicted.getKey());
+        }
+    }
+
+    private synchronized void remove(@NotNull final String key) {
+        final Long size = entries.remove(key);
+        if (size != null) {
+            cachedBytes -= size;
+            delete(key);
+        }
+    }
+
+    private void delete(@NotNull final String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key));
+        } catch (IOException e) {
+            log.warn().append("Failed to delete S3 disk cache file ").append(key).append(": ").append(e).endl();
+        }
+    }
+
+    /**
+     * @return The number of reads served from disk
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of reads that found no cached fragment
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of fragments deleted to stay within the size limit
+     */
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The total size of cached fragments
+     */
+    synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+}
@@ -32,6 +32,9 @@ public abstract class S3Instructions implements LogOutputAppendable {
     private static final int DEFAULT_READ_AHEAD_COUNT = 32;
     private static final int DEFAULT_FRAGMENT_SIZE = 1 << 16; // 64 KiB
     private static final int MIN_FRAGMENT_SIZE = 8 << 10; // 8 KiB
+    private static final int DEFAULT_COALESCE_MAX_GAP = 1 << 19; // 512 KiB
+    private static final int DEFAULT_COALESCE_MAX_REQUEST_SIZE = 8 << 20; // 8 MiB
+    private static final long DEFAULT_DISK_CACHE_MAX_BYTES = 10L << 30; // 10 GiB
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
     private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(2);
     private static final int DEFAULT_NUM_CONCURRENT_WRITE_PARTS = 64;
@@ -89,6 +92,26 @@ public abstract class S3Instructions implements LogOutputAppendable {
         return DEFAULT_FRAGMENT_SIZE;
     }
 
+    /**
+     * When prefetching a set of byte ranges, the largest gap in bytes between two ranges that are still fetched with a
+     * single request, defaults to {@value #DEFAULT_COALESCE_MAX_GAP}. The bytes in the gap are fetched and cached along
+     * with the ranges, which is usually cheaper than making another request. Zero merges only adjacent fragments.
+     */
+    @Default
+    public int coalesceMaxGap() {
+        return DEFAULT_COALESCE_MAX_GAP;
+    }
+
+    /**
+     * When prefetching a set of byte ranges, the maximum size in bytes of a single merged request, defaults to
+     * {@value #DEFAULT_COALESCE_MAX_REQUEST_SIZE}. Requests always span at least one whole fragment, so values
+     * smaller than {@link #fragmentSize()} disable merging.
+     */
+    @Default
+    public int coalesceMaxRequestSize() {
+        return DEFAULT_COALESCE_MAX_REQUEST_SIZE;
+    }
+
     /**
      * The amount of time to wait when initially establishing a connection before giving up and timing out, defaults to
      * 2 seconds.
@@ -174,6 +197,26 @@ public abstract class S3Instructions implements LogOutputAppendable {
      */
     public abstract Optional<Path> credentialsFilePath();
 
+    /**
+     * A local directory in which to cache fragments read from S3, so that they are served from disk rather than
+     * fetched again after being evicted from memory or after a restart. Fragments are keyed by URI, ETag and fragment
+     * index, so objects that are overwritten are fetched again. If not provided, fragments are only cached in memory.
+     * <p>
+     * The directory is managed by the cache and may be shared by all readers in the process; it should not be used for
+     * anything else.
+     */
+    public abstract Optional<Path> diskCacheDirectory();
+
+    /**
+     * The maximum total size in bytes of the fragments kept in the {@link #diskCacheDirectory() disk cache}, defaults
+     * to {@value #DEFAULT_DISK_CACHE_MAX_BYTES}. Least recently used fragments are deleted to stay within this size.
+     * All readers in the process that share a directory must use the same size.
+     */
+    @Default
+    public long diskCacheMaxBytes() {
+        return DEFAULT_DISK_CACHE_MAX_BYTES;
+    }
+
     /**
      * The aggregated profile file that combines the configuration and credentials files.
      */
@@ -209,6 +252,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder fragmentSize(int fragmentSize);
 
+        Builder coalesceMaxGap(int coalesceMaxGap);
+
+        Builder coalesceMaxRequestSize(int coalesceMaxRequestSize);
+
         Builder connectionTimeout(Duration connectionTimeout);
 
         Builder readTimeout(Duration connectionTimeout);
@@ -227,6 +274,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder credentialsFilePath(Path credentialsFilePath);
 
+        Builder diskCacheDirectory(Path diskCacheDirectory);
+
+        Builder diskCacheMaxBytes(long diskCacheMaxBytes);
+
         default Builder endpointOverride(final String endpointOverride) {
             return endpointOverride(URI.create(endpointOverride));
         }
@@ -239,6 +290,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
             return credentialsFilePath(Path.of(credentialsFilePath));
         }
 
+        default Builder diskCacheDirectory(final String diskCacheDirectory) {
+            return diskCacheDirectory(Path.of(diskCacheDirectory));
+        }
+
         S3Instructions build();
     }
 
@@ -275,6 +330,28 @@ public abstract class S3Instructions implements LogOutputAppendable {
         }
     }
 
+    @Check
+    final void boundsCheckCoalesceMaxGap() {
+        if (coalesceMaxGap() < 0) {
+            throw new IllegalArgumentException("coalesceMaxGap(=" + coalesceMaxGap() + ") must be >= 0");
+        }
+    }
+
+    @Check
+    final void boundsCheckCoalesceMaxRequestSize() {
+        if (coalesceMaxRequestSize() < 1) {
+            throw new IllegalArgumentException(
+                    "coalesceMaxRequestSize(=" + coalesceMaxRequestSize() + ") must be >= 1");
+        }
+    }
+
+    @Check
+    final void boundsCheckDiskCacheMaxBytes() {
+        if (diskCacheMaxBytes() < 1) {
+            throw new IllegalArgumentException("diskCacheMaxBytes(=" + diskCacheMaxBytes() + ") must be >= 1");
+        }
+    }
+
     @Check
     final void awsSdkV2Credentials() {
         if (!(credentials() instanceof AwsSdkV2Credentials)) {
@@ -0,0 +1,115 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plans the requests needed to fetch a set of byte ranges of an S3 object. Ranges are first widened to whole
+ * fragments, so that the fetched bytes can be shared through the {@link S3RequestCache}, and then nearby fragments are
+ * merged into single requests. Two runs of fragments are merged when the gap between them is at most
+ * {@link S3Instructions#coalesceMaxGap()} bytes and the merged request is at most
+ * {@link S3Instructions#coalesceMaxRequestSize()} bytes; longer runs are split.
+ */
+final class S3ReadPlanner {
+
+    /**
+     * An inclusive range of fragment indices to fetch with a single request.
+     */
+    static final class FragmentRange {
+        final long firstFragmentIndex;
+        final long lastFragmentIndex;
+
+        FragmentRange(final long firstFragmentIndex, final long lastFragmentIndex) {
+            this.firstFragmentIndex = firstFragmentIndex;
+            this.lastFragmentIndex = lastFragmentIndex;
+        }
+
+        long numFragments() {
+            return lastFragmentIndex - firstFragmentIndex + 1;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + firstFragmentIndex + ", " + lastFragmentIndex + "]";
+        }
+    }
+
+    private S3ReadPlanner() {}
+
+    /**
+     * Plan the requests for the given byte ranges of an object of {@code objectSize} bytes.
+     *
+     * @param positions The offsets of the first byte of each range
+     * @param lengths The number of bytes in each range, parallel to {@code positions}
+     * @param objectSize The size of the object; ranges are truncated to it
+     * @param instructions The instructions supplying the fragment size and coalescing limits
+     * @return The fragment ranges to request, in ascending order and without overlap
+     */
+    static List<FragmentRange> plan(
+            @NotNull final long[] positions,
+            @NotNull final int[] lengths,
+            final long objectSize,
+            @NotNull final S3Instructions instructions) {
+        if (positions.length != lengths.length) {
+            throw new IllegalArgumentException("Mismatched positions and lengths, " + positions.length + " != "
+                    + lengths.length);
+        }
+        final int fragmentSize = instructions.fragmentSize();
+        final long maxGapFragments = instructions.coalesceMaxGap() / fragmentSize;
+        final long maxRequestFragments = Math.max(1, instructions.coalesceMaxRequestSize() / fragmentSize);
+
+        // Each needed range as [first fragment, last fragment], sorted by first fragment
+        final long[][] needed = new long[positions.length][];
+        int numNeeded = 0;
+        for (int ri = 0; ri < positions.length; ++ri) {
+            final long end = Math.min(positions[ri] + lengths[ri], objectSize);
+            if (positions[ri] < 0 || lengths[ri] <= 0 || positions[ri] >= end) {
+                continue;
+            }
+            needed[numNeeded++] = new long[] {positions[ri] / fragmentSize, (end - 1) / fragmentSize};
+        }
+        Arrays.sort(needed, 0, numNeeded, (r1, r2) -> Long.compare(r1[0], r2[0]));
+
+        final List<FragmentRange> planned = new ArrayList<>();
+        // The pending request, which covers the union of the ranges seen so far since the last request was planned
+        long first = -1;
+        long last = -1;
+        for (int ri = 0; ri < numNeeded; ++ri) {
+            final long[] range = needed[ri];
+            if (first >= 0 && range[0] <= last + 1) {
+                // Overlaps or abuts the pending request
+                last = Math.max(last, range[1]);
+            } else if (first >= 0 && range[0] - last - 1 <= maxGapFragments
+                    && range[1] - first + 1 <= maxRequestFragments) {
+                // Near enough, and small enough, to fetch along with the pending request
+                last = range[1];
+            } else {
+                if (first >= 0) {
+                    addSplit(planned, first, last, maxRequestFragments);
+                }
+                first = range[0];
+                last = range[1];
+            }
+        }
+        if (first >= 0) {
+            addSplit(planned, first, last, maxRequestFragments);
+        }
+        return planned;
+    }
+
+    private static void addSplit(
+            @NotNull final List<FragmentRange> planned,
+            final long first,
+            final long last,
+            final long maxRequestFragments) {
+        for (long start = first; start <= last; start += maxRequestFragments) {
+            planned.add(new FragmentRange(start, Math.min(last, start + maxRequestFragments - 1)));
+        }
+    }
+}
@@ -81,6 +81,7 @@ final class S3Request extends SoftReference<ByteBuffer>
     private final ID id;
     private final S3Instructions instructions;
     private final S3AsyncClient client;
+    private final S3RequestScheduler scheduler;
     private final long fragmentIndex;
     private final long from;
     private final long to;
@@ -90,6 +91,14 @@ final class S3Request extends SoftReference<ByteBuffer>
     private int fillCount;
     private long fillBytes;
     private final S3RequestCache sharedCache;
+    /**
+     * The disk cache to read this fragment from and write it to, or {@code null} if this fragment is only cached in
+     * memory
+     */
+    @Nullable
+    private final S3FragmentDiskCache diskCache;
+    @Nullable
+    private final String diskCacheKey;
 
     /**
      * Create a new request for the given fragment index using the provided context object.
@@ -116,9 +125,13 @@ final class S3Request extends SoftReference<ByteBuffer>
         this.s3Uri = context.uri;
         this.instructions = context.instructions;
         this.client = context.client;
+        this.scheduler = context.scheduler;
         this.from = from;
         this.to = to;
         sharedCache = context.sharedCache;
+        final String key = context.diskCacheKey(fragmentIndex);
+        diskCache = key == null ? null : context.diskCache();
+        diskCacheKey = key;
         createdAt = Instant.now();
         id = new ID(s3Uri, fragmentIndex);
         if (log.isDebugEnabled()) {
@@ -149,23 +162,143 @@ final class S3Request extends SoftReference<ByteBuffer>
     }
 
     /**
-     * Send the request to the S3 service. This method is idempotent and can be called multiple times. Note that the
-     * request must be acquired before calling this method. Therefore, this method should only be called from inside the
-     * {@link Acquired#send()} method.
+     * Send the request to the S3 service through the provider's {@link S3RequestScheduler scheduler}. This method is
+     * idempotent and can be called multiple times. Note that the request must be acquired before calling this method.
+     * Therefore, this method should only be called from inside the {@link Acquired#send()} method.
      */
     private void sendImpl() {
-        if (consumerFuture == null) {
-            synchronized (this) {
-                if (consumerFuture == null) {
-                    if (log.isDebugEnabled()) {
-                        log.debug().append("Sending: ").append(requestStr()).endl();
-                    }
-                    final CompletableFuture<Boolean> ret = client.getObject(getObjectRequest(), this);
-                    ret.whenComplete(this);
-                    consumerFuture = ret;
-                }
+        if (consumerFuture != null) {
+            return;
+        }
+        final ByteBuffer fromDiskCache = readFromDiskCache();
+        synchronized (this) {
+            if (consumerFuture != null || publishFromDiskCache(fromDiskCache)) {
+                return;
+            }
+            final CompletableFuture<Boolean> ret = new CompletableFuture<>();
+            ret.whenComplete(this);
+            consumerFuture = ret;
+            scheduler.submit(() -> sendGet(ret));
+        }
+    }
+
+    /**
+     * Send the GET for this request once the {@link S3RequestScheduler scheduler} allows it, completing {@code result}
+     * with its outcome.
+     *
+     * @param result The future returned to consumers of this request
+     * @return The future for the GET, or {@code null} if it was not sent
+     */
+    @Nullable
+    private CompletableFuture<Boolean> sendGet(@NotNull final CompletableFuture<Boolean> result) {
+        if (result.isDone()) {
+            // Cancelled while queued
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug().append("Sending: ").append(requestStr()).endl();
+        }
+        final CompletableFuture<Boolean> response;
+        try {
+            response = client.getObject(getObjectRequest(), this);
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return null;
+        }
+        response.whenComplete((isComplete, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(writeToDiskCache(isComplete));
+            }
+        });
+        result.whenComplete((isComplete, error) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Claim this request to be filled by an {@link S3CoalescedRead} rather than its own GET. This must only be called
+     * from inside the {@link Acquired#claim(CompletableFuture)} method.
+     */
+    private boolean claimImpl(@NotNull final CompletableFuture<Boolean> future) {
+        if (consumerFuture != null) {
+            return false;
+        }
+        final ByteBuffer fromDiskCache = readFromDiskCache();
+        synchronized (this) {
+            if (consumerFuture != null || publishFromDiskCache(fromDiskCache)) {
+                return false;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug().append("Claiming for coalesced read: ").append(requestStr()).endl();
+            }
+            final CompletableFuture<Boolean> ret = future.thenApply(this::writeToDiskCache);
+            ret.whenComplete(this);
+            consumerFuture = ret;
+            return true;
+        }
+    }
+
+    /**
+     * Read this request's fragment from the disk cache into a new buffer, if it is cached there. This does file I/O,
+     * so must not be called while holding this request's monitor.
+     *
+     * @return The fragment's bytes, or {@code null} if it is not cached
+     */
+    @Nullable
+    private ByteBuffer readFromDiskCache() {
+        if (diskCache == null || get() == null) {
+            return null;
+        }
+        final ByteBuffer fragment = ByteBuffer.allocate(requestLength());
+        if (!diskCache.read(diskCacheKey, fragment)) {
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug().append("Read from disk cache: ").append(requestStr()).endl();
+        }
+        return fragment;
+    }
+
+    /**
+     * Fill this request's buffer with a fragment {@link #readFromDiskCache() read from the disk cache}, and complete
+     * the request. Must be called while holding this request's monitor, before the request has been sent or claimed.
+     *
+     * @param fragment The fragment's bytes, or {@code null} if it was not cached
+     * @return Whether the request was completed
+     */
+    private boolean publishFromDiskCache(@Nullable final ByteBuffer fragment) {
+        if (fragment == null) {
+            return false;
+        }
+        final ByteBuffer buffer = get();
+        if (buffer == null) {
+            return false;
+        }
+        buffer.duplicate().clear().put(fragment);
+        consumerFuture = CompletableFuture.completedFuture(true);
+        return true;
+    }
+
+    /**
+     * Hand this request's fragment to the disk cache's background writer if it was fetched successfully. This is called
+     * before the request's consumers can see it complete.
+     *
+     * @param isComplete Whether the fragment was fetched
+     * @return {@code isComplete}
+     */
+    private Boolean writeToDiskCache(final Boolean isComplete) {
+        if (diskCache != null && Boolean.TRUE.equals(isComplete)) {
+            final ByteBuffer buffer = get();
+            if (buffer != null) {
+                diskCache.writeAsync(diskCacheKey, buffer.asReadOnlyBuffer().clear());
             }
         }
+        return isComplete;
     }
 
     class Acquired {
@@ -197,6 +330,41 @@ final class S3Request extends SoftReference<ByteBuffer>
             return S3Request.this;
         }
 
+        /**
+         * Claim this request to be filled by a coalesced read, if it has not already been sent. Once claimed, the
+         * request is never sent itself; the caller must write all {@link #length()} bytes with
+         * {@link #write(int, ByteBuffer)} and then complete {@code future} with {@code true}, or complete it
+         * exceptionally.
+         *
+         * @param future The future the caller will complete once this request's bytes are written
+         * @return Whether this request was claimed
+         */
+        boolean claim(@NotNull final CompletableFuture<Boolean> future) {
+            return claimImpl(future);
+        }
+
+        /**
+         * @return The offset in the object of the first byte of this request
+         */
+        long from() {
+            return from;
+        }
+
+        /**
+         * @return The number of bytes in this request
+         */
+        int length() {
+            return requestLength();
+        }
+
+        /**
+         * Write the remaining bytes of {@code src} to this request's buffer, starting at {@code offset}. Only valid for
+         * requests {@link #claim(CompletableFuture) claimed} by the caller.
+         */
+        void write(final int offset, @NotNull final ByteBuffer src) {
+            acquiredBuffer.duplicate().position(offset).put(src);
+        }
+
         /**
          * Fill the provided buffer with data from this request, starting at the given local position. Returns the
          * number of bytes filled.
@@ -0,0 +1,96 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends the GET requests of a provider, both for single fragments and for {@link S3CoalescedRead coalesced reads}, so
+ * that at most {@link S3Instructions#maxConcurrentRequests()} are in flight at once, queueing the rest in submission
+ * order.
+ */
+final class S3RequestScheduler {
+
+    /**
+     * A request waiting to be sent.
+     */
+    @FunctionalInterface
+    interface Request {
+        /**
+         * Send this request.
+         *
+         * @return A future that completes when the request is no longer in flight, or {@code null} if nothing was sent
+         */
+        @Nullable
+        CompletableFuture<?> send();
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(S3RequestScheduler.class);
+
+    private final int maxConcurrentRequests;
+    private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requestsSent = new LongAdder();
+
+    S3RequestScheduler(final int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Send {@code request} as soon as fewer than the maximum number of requests are in flight.
+     */
+    void submit(@NotNull final Request request) {
+        pending.add(request);
+        sendPending();
+    }
+
+    /**
+     * @return The number of requests sent so far
+     */
+    long getRequestsSent() {
+        return requestsSent.sum();
+    }
+
+    private void sendPending() {
+        while (!pending.isEmpty()) {
+            final int current = inFlight.get();
+            if (current >= maxConcurrentRequests) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Request request = pending.poll();
+            if (request == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            CompletableFuture<?> sent;
+            try {
+                sent = request.send();
+            } catch (final RuntimeException e) {
+                log.error().append("Failed to send request: ").append(e).endl();
+                sent = null;
+            }
+            if (sent == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            requestsSent.increment();
+            sent.whenComplete((result, error) -> {
+                inFlight.decrementAndGet();
+                sendPending();
+            });
+        }
+    }
+}
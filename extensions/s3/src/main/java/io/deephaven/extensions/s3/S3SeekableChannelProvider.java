@@ -15,16 +15,17 @@ import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
-import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -35,6 +36,7 @@ import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -66,6 +68,18 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
      */
     private final S3RequestCache sharedCache;
 
+    /**
+     * Sends the GET requests for all contexts of this provider, both for single fragments and for the coalesced reads
+     * made by {@link #prefetch(URI, long[], int[])}, so that they share one concurrency limit.
+     */
+    private final S3RequestScheduler requestScheduler;
+
+    /**
+     * The local disk cache beneath {@link #sharedCache}, or {@code null} if none is configured.
+     */
+    @Nullable
+    private final S3FragmentDiskCache diskCache;
+
     @SuppressWarnings("rawtypes")
     private static final AtomicReferenceFieldUpdater<S3SeekableChannelProvider, SoftReference> FILE_SIZE_CACHE_REF_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(S3SeekableChannelProvider.class, SoftReference.class,
@@ -77,6 +91,10 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         this.s3AsyncClient = S3AsyncClientFactory.getAsyncClient(s3Instructions);
         this.s3Instructions = s3Instructions;
         this.sharedCache = new S3RequestCache(s3Instructions.fragmentSize());
+        this.requestScheduler = new S3RequestScheduler(s3Instructions.maxConcurrentRequests());
+        this.diskCache = s3Instructions.diskCacheDirectory()
+                .map(directory -> S3FragmentDiskCache.forDirectory(directory, s3Instructions.diskCacheMaxBytes()))
+                .orElse(null);
         this.fileSizeCacheRef = new SoftReference<>(new KeyedObjectHashMap<>(FileSizeInfo.URI_MATCH_KEY));
     }
 
@@ -115,6 +133,60 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         return Channels.newInputStreamNoClose(channel);
     }
 
+    @Override
+    public void prefetch(@NotNull final URI uri, @NotNull final long[] positions, @NotNull final int[] lengths) {
+        prefetchAsync(uri, positions, lengths).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn().append("Failed to prefetch ").append(uri.toString()).append(": ").append(error).endl();
+            }
+        });
+    }
+
+    /**
+     * Start fetching the given byte ranges of the object at {@code uri} in the background, as for
+     * {@link #prefetch(URI, long[], int[])}. If the size of the object is not cached, it is fetched with an
+     * asynchronous HEAD request, and the ranges are planned once it arrives, so the caller never blocks on S3.
+     *
+     * @return A future that completes once the requests for the ranges have been submitted
+     */
+    CompletableFuture<Void> prefetchAsync(
+            @NotNull final URI uri,
+            @NotNull final long[] positions,
+            @NotNull final int[] lengths) {
+        if (positions.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final S3Uri s3Uri = s3AsyncClient.utilities().parseUri(uri);
+        final long cachedSize = getCachedSize(uri);
+        if (cachedSize != UNKNOWN_SIZE) {
+            try {
+                prefetch(s3Uri, cachedSize, positions, lengths);
+            } catch (final IOException | RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetchFileInfoAsync(s3Uri).thenAccept(info -> {
+            try {
+                prefetch(s3Uri, info.size, positions, lengths);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void prefetch(
+            @NotNull final S3Uri s3Uri,
+            final long size,
+            @NotNull final long[] positions,
+            @NotNull final int[] lengths) throws IOException {
+        try (final S3ChannelContext context = (S3ChannelContext) makeContext()) {
+            context.setURI(s3Uri);
+            context.verifyOrSetSize(size);
+            context.prefetch(positions, lengths);
+        }
+    }
+
     @Override
     public SeekableChannelContext makeContext() {
         return new S3ChannelContext(this, s3AsyncClient, s3Instructions, sharedCache);
@@ -240,7 +312,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
                                         + s3Object.key() + " and bucket " + bucketName + " inside directory "
                                         + directory, e);
                             }
-                            updateFileSizeCache(uri, s3Object.size());
+                            updateFileSizeCache(uri, s3Object.size(), s3Object.eTag());
                             return uri;
                         }).iterator();
                 // The following token is null when the last batch is fetched.
@@ -277,24 +349,84 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         if (cachedSize != UNKNOWN_SIZE) {
             return cachedSize;
         }
-        // Fetch the size of the file using a blocking HEAD request, and store it in the cache for future use
-        if (log.isDebugEnabled()) {
-            log.debug().append("Head: ").append(s3Uri.toString()).endl();
+        return fetchFileInfo(s3Uri).size;
+    }
+
+    @Override
+    @Nullable
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        final String cachedETag = getCachedETag(uri);
+        if (cachedETag != null) {
+            return cachedETag;
+        }
+        return fetchFileInfo(s3AsyncClient.utilities().parseUri(uri)).eTag;
+    }
+
+    /**
+     * @return The scheduler through which all GET requests of this provider are sent
+     */
+    S3RequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * @return The local disk cache for fragments, or {@code null} if none is configured
+     */
+    @Nullable
+    S3FragmentDiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    /**
+     * Get the cached ETag for the given URI, without making any requests.
+     *
+     * @return The ETag, or {@code null} if it is not cached
+     */
+    @Nullable
+    String getCachedETag(@NotNull final URI uri) {
+        final Map<URI, FileSizeInfo> fileSizeCache = fileSizeCacheRef.get();
+        if (fileSizeCache != null) {
+            final FileSizeInfo sizeInfo = fileSizeCache.get(uri);
+            if (sizeInfo != null) {
+                return sizeInfo.eTag;
+            }
         }
-        final HeadObjectResponse headObjectResponse;
+        return null;
+    }
+
+    /**
+     * Fetch the size and ETag of the file at the given S3 URI using a blocking HEAD request, and store them in the
+     * cache for future use.
+     *
+     * @throws NoSuchKeyException if the file does not exist
+     * @throws IOException if there is an error fetching the file info
+     */
+    private FileSizeInfo fetchFileInfo(@NotNull final S3Uri s3Uri) throws IOException {
         try {
-            headObjectResponse = s3AsyncClient
-                    .headObject(HeadObjectRequest.builder()
-                            .bucket(s3Uri.bucket().orElseThrow())
-                            .key(s3Uri.key().orElseThrow())
-                            .build())
-                    .get(s3Instructions.readTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            return fetchFileInfoAsync(s3Uri).get(s3Instructions.readTimeout().toNanos(), TimeUnit.NANOSECONDS);
         } catch (final InterruptedException | ExecutionException | TimeoutException | CancellationException e) {
             throw handleS3Exception(e, String.format("fetching HEAD for file %s", s3Uri), s3Instructions);
         }
-        final long fileSize = headObjectResponse.contentLength();
-        updateFileSizeCache(s3Uri.uri(), fileSize);
-        return fileSize;
+    }
+
+    /**
+     * Fetch the size and ETag of the file at the given S3 URI using an asynchronous HEAD request, and store them in the
+     * cache for future use.
+     *
+     * @return A future for the file info, which completes exceptionally with {@link NoSuchKeyException} if the file
+     *         does not exist
+     */
+    private CompletableFuture<FileSizeInfo> fetchFileInfoAsync(@NotNull final S3Uri s3Uri) {
+        if (log.isDebugEnabled()) {
+            log.debug().append("Head: ").append(s3Uri.toString()).endl();
+        }
+        return s3AsyncClient
+                .headObject(HeadObjectRequest.builder()
+                        .bucket(s3Uri.bucket().orElseThrow())
+                        .key(s3Uri.key().orElseThrow())
+                        .build())
+                .thenApply(headObjectResponse -> updateFileSizeCache(
+                        s3Uri.uri(), headObjectResponse.contentLength(), headObjectResponse.eTag()));
     }
 
     /**
@@ -312,19 +444,23 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     }
 
     /**
-     * Cache the file size for the given URI.
+     * Cache the file size, and the ETag if known, for the given URI.
+     *
+     * @return The cached info for the URI
      */
-    private void updateFileSizeCache(@NotNull final URI uri, final long size) {
+    private FileSizeInfo updateFileSizeCache(@NotNull final URI uri, final long size, @Nullable final String eTag) {
         if (size < 0) {
             throw new IllegalArgumentException("Invalid file size: " + size + " for URI " + uri);
         }
         final Map<URI, FileSizeInfo> fileSizeCache = getFileSizeCache();
-        fileSizeCache.compute(uri, (key, existingInfo) -> {
+        return fileSizeCache.compute(uri, (key, existingInfo) -> {
             if (existingInfo == null) {
-                return new FileSizeInfo(uri, size);
+                return new FileSizeInfo(uri, size, eTag);
             } else if (existingInfo.size != size) {
                 throw new IllegalStateException("Existing size " + existingInfo.size + " does not match "
                         + " the new size " + size + " for key " + key);
+            } else if (existingInfo.eTag == null && eTag != null) {
+                return new FileSizeInfo(uri, size, eTag);
             }
             return existingInfo;
         });
@@ -333,10 +469,13 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     private static final class FileSizeInfo {
         private final URI uri;
         private final long size;
+        @Nullable
+        private final String eTag;
 
-        FileSizeInfo(@NotNull final URI uri, final long size) {
+        FileSizeInfo(@NotNull final URI uri, final long size, @Nullable final String eTag) {
             this.uri = Require.neqNull(uri, "uri");
             this.size = size;
+            this.eTag = eTag;
         }
 
         private static final KeyedObjectKey<URI, FileSizeInfo> URI_MATCH_KEY = new KeyedObjectKey.Basic<>() {
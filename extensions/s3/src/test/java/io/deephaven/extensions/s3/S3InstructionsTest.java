@@ -105,6 +105,19 @@ public class S3InstructionsTest {
         }
     }
 
+    @Test
+    void tooSmallCoalesceMaxGap() {
+        try {
+            S3Instructions.builder()
+                    .regionName("some-region")
+                    .coalesceMaxGap(-1)
+                    .build();
+            fail("Expected exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("coalesceMaxGap");
+        }
+    }
+
     @Test
     void minFragmentSize() {
         assertThat(S3Instructions.builder()
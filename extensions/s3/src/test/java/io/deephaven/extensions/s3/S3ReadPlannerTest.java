@@ -0,0 +1,117 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class S3ReadPlannerTest {
+
+    private static final int FRAGMENT_SIZE = 8 << 10;
+    private static final long OBJECT_SIZE = 100L * FRAGMENT_SIZE;
+
+    private static S3Instructions instructions(final int maxGapFragments, final int maxRequestFragments) {
+        return S3Instructions.builder()
+                .fragmentSize(FRAGMENT_SIZE)
+                .coalesceMaxGap(maxGapFragments * FRAGMENT_SIZE)
+                .coalesceMaxRequestSize(maxRequestFragments * FRAGMENT_SIZE)
+                .build();
+    }
+
+    private static String plan(
+            final long[] positions,
+            final int[] lengths,
+            final long objectSize,
+            final S3Instructions instructions) {
+        return S3ReadPlanner.plan(positions, lengths, objectSize, instructions).toString();
+    }
+
+    @Test
+    void mergesRangesWithinMaxGap() {
+        final S3Instructions instructions = instructions(2, 100);
+        // Two fragments apart, so the gap is fetched along with the ranges
+        assertThat(plan(new long[] {10, 3L * FRAGMENT_SIZE + 10}, new int[] {10, 10}, OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 3]]");
+        // Three fragments apart, so the ranges are fetched separately
+        assertThat(plan(new long[] {10, 4L * FRAGMENT_SIZE + 10}, new int[] {10, 10}, OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 0], [4, 4]]");
+    }
+
+    @Test
+    void zeroMaxGapMergesOnlyOverlappingOrAdjacentRanges() {
+        final S3Instructions instructions = instructions(0, 100);
+        assertThat(plan(
+                new long[] {0, FRAGMENT_SIZE, 2L * FRAGMENT_SIZE + 5, 4L * FRAGMENT_SIZE},
+                new int[] {2 * FRAGMENT_SIZE, 10, 10, 10},
+                OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 2], [4, 4]]");
+    }
+
+    @Test
+    void sortsUnorderedRanges() {
+        final S3Instructions instructions = instructions(0, 100);
+        assertThat(plan(
+                new long[] {9L * FRAGMENT_SIZE, 0, 5L * FRAGMENT_SIZE, 5L * FRAGMENT_SIZE + 100},
+                new int[] {10, 10, 10, 10},
+                OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 0], [5, 5], [9, 9]]");
+    }
+
+    @Test
+    void splitsRangesLongerThanMaxRequestSize() {
+        final S3Instructions instructions = instructions(2, 4);
+        assertThat(plan(new long[] {0}, new int[] {10 * FRAGMENT_SIZE}, OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 3], [4, 7], [8, 9]]");
+    }
+
+    @Test
+    void doesNotMergeBeyondMaxRequestSize() {
+        final S3Instructions instructions = instructions(2, 4);
+        // Near enough to merge, but the merged request would span five fragments
+        assertThat(plan(
+                new long[] {0, 4L * FRAGMENT_SIZE},
+                new int[] {3 * FRAGMENT_SIZE, 10},
+                OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 2], [4, 4]]");
+        // Exactly four fragments, so they merge
+        assertThat(plan(
+                new long[] {0, 3L * FRAGMENT_SIZE},
+                new int[] {2 * FRAGMENT_SIZE, 10},
+                OBJECT_SIZE, instructions))
+                .isEqualTo("[[0, 3]]");
+    }
+
+    @Test
+    void maxRequestSizeBelowFragmentSizeDisablesMerging() {
+        final S3Instructions instructions = S3Instructions.builder()
+                .fragmentSize(FRAGMENT_SIZE)
+                .coalesceMaxGap(10 * FRAGMENT_SIZE)
+                .coalesceMaxRequestSize(FRAGMENT_SIZE / 2)
+                .build();
+        assertThat(plan(new long[] {0, 2L * FRAGMENT_SIZE}, new int[] {2 * FRAGMENT_SIZE, 10}, OBJECT_SIZE,
+                instructions))
+                .isEqualTo("[[0, 0], [1, 1], [2, 2]]");
+    }
+
+    @Test
+    void truncatesToObjectSizeAndSkipsEmptyRanges() {
+        final S3Instructions instructions = instructions(0, 100);
+        final long objectSize = 3L * FRAGMENT_SIZE + 10;
+        assertThat(plan(
+                new long[] {-5, 0, 3L * FRAGMENT_SIZE, objectSize, objectSize + 100},
+                new int[] {10, 0, 1000, 10, 10},
+                objectSize, instructions))
+                .isEqualTo("[[3, 3]]");
+        assertThat(plan(new long[0], new int[0], objectSize, instructions)).isEqualTo("[]");
+    }
+
+    @Test
+    void rejectsMismatchedLengths() {
+        assertThatThrownBy(() -> S3ReadPlanner.plan(new long[] {0, 10}, new int[] {10}, OBJECT_SIZE,
+                instructions(0, 100)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
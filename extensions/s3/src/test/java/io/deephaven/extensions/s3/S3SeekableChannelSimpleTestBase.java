@@ -12,6 +12,7 @@ import junit.framework.TestCase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,9 +23,11 @@ import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 abstract class S3SeekableChannelSimpleTestBase extends S3SeekableChannelTestSetup {
 
@@ -91,6 +94,80 @@ abstract class S3SeekableChannelSimpleTestBase extends S3SeekableChannelTestSetu
         }
     }
 
+    @Test
+    void prefetchScatteredRanges() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final int numBytes = 4 << 20;
+        final byte[] contents = new byte[numBytes];
+        for (int i = 0; i < numBytes; ++i) {
+            contents[i] = (byte) (i * 31 + (i >>> 16));
+        }
+        putObject("4MiB.bin", AsyncRequestBody.fromBytes(contents));
+        final URI uri = uri("4MiB.bin");
+        // Small ranges, some near enough to be fetched together, one spanning fragments, and one past the end
+        final long[] positions = {100, 70_000, 1_000_000, 1_001_000, 3_000_000, numBytes - 10, numBytes + 10};
+        final int[] lengths = {50, 200_000, 100, 100, 10, 100, 10};
+        // No read-ahead, so that the reads below make no requests of their own
+        final S3Instructions instructions = s3Instructions(S3Instructions.builder())
+                .readAheadCount(0)
+                .build();
+        try (final S3SeekableChannelProvider provider =
+                (S3SeekableChannelProvider) new S3SeekableChannelProviderPlugin().createProvider(uri, instructions)) {
+            provider.prefetchAsync(uri, positions, lengths).get(5, TimeUnit.SECONDS);
+            for (int ri = 0; ri < positions.length - 1; ++ri) {
+                final int length = (int) Math.min(lengths[ri], numBytes - positions[ri]);
+                try (
+                        final SeekableChannelContext context = provider.makeContext();
+                        final SeekableByteChannel readChannel = provider.getReadChannel(context, uri)) {
+                    readChannel.position(positions[ri]);
+                    final ByteBuffer buffer = ByteBuffer.allocate(length);
+                    fillBuffer(readChannel, buffer);
+                    assertThat(buffer).isEqualTo(ByteBuffer.wrap(contents, (int) positions[ri], length));
+                }
+            }
+            // The ranges touch 8 distinct fragments, which would take 8 GETs one fragment at a time, but the prefetch
+            // fetched them as [0, 4], [15], [45], and [63], and served every read
+            assertThat(provider.getRequestScheduler().getRequestsSent()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void readThroughDiskCache(@TempDir final Path diskCacheDirectory)
+            throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final int numBytes = 1 << 20;
+        final byte[] contents = new byte[numBytes];
+        for (int i = 0; i < numBytes; ++i) {
+            contents[i] = (byte) (i * 17 + (i >>> 12));
+        }
+        putObject("1MiB.bin", AsyncRequestBody.fromBytes(contents));
+        final URI uri = uri("1MiB.bin");
+        final S3Instructions instructions = s3Instructions(S3Instructions.builder())
+                .diskCacheDirectory(diskCacheDirectory)
+                .build();
+        final S3FragmentDiskCache diskCache =
+                S3FragmentDiskCache.forDirectory(diskCacheDirectory, instructions.diskCacheMaxBytes());
+        for (int pass = 0; pass < 2; ++pass) {
+            final long hitsBefore = diskCache.getHits();
+            // A new provider each time, so the second pass cannot be served from memory
+            try (
+                    final SeekableChannelsProvider provider =
+                            new S3SeekableChannelProviderPlugin().createProvider(uri, instructions);
+                    final SeekableChannelContext context = provider.makeContext();
+                    final SeekableByteChannel readChannel = provider.getReadChannel(context, uri)) {
+                assertThat(readAll(readChannel, numBytes)).isEqualTo(ByteBuffer.wrap(contents));
+            }
+            if (pass == 0) {
+                // Each fragment is handed to the background writer before its reads complete
+                diskCache.pendingWrites().get(5, TimeUnit.SECONDS);
+                assertThat(diskCache.getCachedBytes()).isEqualTo(numBytes);
+            } else {
+                assertThat(diskCache.getHits()).isGreaterThan(hitsBefore);
+            }
+        }
+        // The directory's cache is shared, so it cannot be reused with a different size limit
+        assertThatThrownBy(() -> S3FragmentDiskCache.forDirectory(diskCacheDirectory, numBytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void readWriteTest() throws IOException {
         final URI uri = uri("writeReadTest.txt");
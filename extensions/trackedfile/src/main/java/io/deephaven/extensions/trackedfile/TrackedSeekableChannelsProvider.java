@@ -5,10 +5,12 @@ package io.deephaven.extensions.trackedfile;
 
 import io.deephaven.base.FileUtils;
 import io.deephaven.base.verify.Assert;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.util.file.FileHandle;
 import io.deephaven.engine.util.file.FileHandleFactory;
 import io.deephaven.engine.util.file.TrackedFileHandleFactory;
 import io.deephaven.engine.util.file.TrackedSeekableByteChannel;
+import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.channel.Channels;
 import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
@@ -16,16 +18,30 @@ import io.deephaven.util.channel.BaseSeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static io.deephaven.base.FileUtils.FILE_URI_SCHEME;
@@ -37,10 +53,65 @@ final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider
 
     private static final int MAX_READ_BUFFER_SIZE = 1 << 16; // 64 KiB
 
+    /**
+     * Whether to serve {@link #mapReadOnly(SeekableChannelContext, URI, long, int)} by memory-mapping files, by
+     * default. Only enable this for files that are replaced rather than modified in place.
+     */
+    private static final boolean MEMORY_MAP_READS = Configuration.getInstance()
+            .getBooleanForClassWithDefault(TrackedSeekableChannelsProvider.class, "memoryMapReads", false);
+
+    /**
+     * Files are mapped in windows that start every {@value #MAPPED_WINDOW_STRIDE} bytes and extend
+     * {@value #MAPPED_WINDOW_OVERLAP} bytes into the next window, so that any range no larger than the overlap lies
+     * within a single window.
+     */
+    private static final long MAPPED_WINDOW_STRIDE = 1L << 30; // 1 GiB
+    private static final int MAPPED_WINDOW_OVERLAP = 1 << 26; // 64 MiB
+
+    /**
+     * The maximum number of mapped windows to retain. The least recently used windows beyond this are dropped, and
+     * unmapped once no page decoded from them remains reachable.
+     */
+    static final int MAX_MAPPED_WINDOWS = Configuration.getInstance()
+            .getIntegerForClassWithDefault(TrackedSeekableChannelsProvider.class, "maxMappedWindows", 256);
+
+    /**
+     * Mapped windows shared by all providers, in access order, softly held so that rarely-read files are unmapped under
+     * memory pressure. Guarded by its own monitor.
+     */
+    private static final LinkedHashMap<MappedWindowKey, MappedWindowReference> MAPPED_WINDOWS =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<MappedWindowKey, MappedWindowReference> eldest) {
+                    return size() > MAX_MAPPED_WINDOWS;
+                }
+            };
+
+    /**
+     * Queue of references to mapped windows that have been reclaimed, whose entries should be removed from
+     * {@link #MAPPED_WINDOWS}
+     */
+    private static final ReferenceQueue<MappedWindow> RECLAIMED_WINDOWS = new ReferenceQueue<>();
+
+    /**
+     * Prefix for the {@link SeekableChannelContext#getCachedResource(String, Supplier) context resource} that holds a
+     * file's attributes, so that a context checks whether a mapped file has changed once rather than on every read
+     */
+    private static final String FILE_ATTRIBUTES_RESOURCE_PREFIX =
+            TrackedSeekableChannelsProvider.class.getSimpleName() + ".fileAttributes:";
+
     private final TrackedFileHandleFactory fileHandleFactory;
+    private final boolean memoryMapReads;
 
     TrackedSeekableChannelsProvider(@NotNull final TrackedFileHandleFactory fileHandleFactory) {
+        this(fileHandleFactory, MEMORY_MAP_READS);
+    }
+
+    TrackedSeekableChannelsProvider(
+            @NotNull final TrackedFileHandleFactory fileHandleFactory,
+            final boolean memoryMapReads) {
         this.fileHandleFactory = fileHandleFactory;
+        this.memoryMapReads = memoryMapReads;
     }
 
     @Override
@@ -73,6 +144,191 @@ final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider
         return new BufferedInputStream(Channels.newInputStreamNoClose(channel), bufferSize);
     }
 
+    @Override
+    @Nullable
+    public ByteBuffer mapReadOnly(
+            @NotNull final SeekableChannelContext channelContext,
+            @NotNull final URI uri,
+            final long position,
+            final int size) throws IOException {
+        if (!memoryMapReads || size > MAPPED_WINDOW_OVERLAP) {
+            return null;
+        }
+        Assert.assertion(FILE_URI_SCHEME.equals(uri.getScheme()), "Expected a file uri, got " + uri);
+        final Path path = Path.of(uri);
+        final BasicFileAttributes attributes = getFileAttributes(channelContext, path);
+        final MappedWindowKey key = new MappedWindowKey(path, position / MAPPED_WINDOW_STRIDE);
+        final int offset = (int) (position - key.windowIndex * MAPPED_WINDOW_STRIDE);
+        MappedWindow window = getMappedWindow(key);
+        if (window == null || !window.isCurrent(attributes)) {
+            // Not yet mapped, reclaimed, or mapped before the file was replaced or extended
+            window = new MappedWindow(path, key.windowIndex, attributes);
+            putMappedWindow(key, window);
+        }
+        if (offset + size > window.buffer.capacity()) {
+            return null;
+        }
+        return window.buffer.duplicate().position(offset).limit(offset + size).slice();
+    }
+
+    /**
+     * Get the attributes of the file at {@code path}, reading them only the first time {@code channelContext} asks.
+     */
+    private static BasicFileAttributes getFileAttributes(
+            @NotNull final SeekableChannelContext channelContext,
+            @NotNull final Path path) throws IOException {
+        final CachedFileAttributes cached;
+        try {
+            cached = channelContext.getCachedResource(FILE_ATTRIBUTES_RESOURCE_PREFIX + path, () -> {
+                try {
+                    return new CachedFileAttributes(Files.readAttributes(path, BasicFileAttributes.class));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return cached == null ? Files.readAttributes(path, BasicFileAttributes.class) : cached.attributes;
+    }
+
+    @Nullable
+    private static MappedWindow getMappedWindow(@NotNull final MappedWindowKey key) {
+        synchronized (MAPPED_WINDOWS) {
+            removeReclaimedWindows();
+            final MappedWindowReference windowRef = MAPPED_WINDOWS.get(key);
+            return windowRef == null ? null : windowRef.get();
+        }
+    }
+
+    private static void putMappedWindow(@NotNull final MappedWindowKey key, @NotNull final MappedWindow window) {
+        synchronized (MAPPED_WINDOWS) {
+            removeReclaimedWindows();
+            MAPPED_WINDOWS.put(key, new MappedWindowReference(key, window));
+        }
+    }
+
+    /**
+     * Drop all mapped windows of the file at {@code path}, e.g. because it is being written.
+     */
+    private static void removeMappedWindows(@NotNull final Path path) {
+        synchronized (MAPPED_WINDOWS) {
+            removeReclaimedWindows();
+            MAPPED_WINDOWS.keySet().removeIf(key -> key.path.equals(path));
+        }
+    }
+
+    /**
+     * Remove the entries of windows that have been reclaimed. Must be called while holding the lock on
+     * {@link #MAPPED_WINDOWS}.
+     */
+    private static void removeReclaimedWindows() {
+        Reference<? extends MappedWindow> reclaimed;
+        while ((reclaimed = RECLAIMED_WINDOWS.poll()) != null) {
+            final MappedWindowReference windowRef = (MappedWindowReference) reclaimed;
+            // The key may since have been mapped again
+            MAPPED_WINDOWS.remove(windowRef.key, windowRef);
+        }
+    }
+
+    /**
+     * @return The number of mapped windows currently retained, for unit testing
+     */
+    @VisibleForTesting
+    static int numMappedWindows() {
+        synchronized (MAPPED_WINDOWS) {
+            removeReclaimedWindows();
+            return MAPPED_WINDOWS.size();
+        }
+    }
+
+    @Override
+    @NotNull
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        Assert.assertion(FILE_URI_SCHEME.equals(uri.getScheme()), "Expected a file uri, got " + uri);
+        final BasicFileAttributes attributes = Files.readAttributes(Path.of(uri), BasicFileAttributes.class);
+        return attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+    }
+
+    private static final class MappedWindow {
+
+        private final ByteBuffer buffer;
+        private final Object fileKey;
+        private final FileTime lastModifiedTime;
+        private final long fileSize;
+
+        private MappedWindow(
+                @NotNull final Path path,
+                final long windowIndex,
+                @NotNull final BasicFileAttributes attributes) throws IOException {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final long windowStart = windowIndex * MAPPED_WINDOW_STRIDE;
+                final long windowSize = Math.max(0,
+                        Math.min(MAPPED_WINDOW_STRIDE + MAPPED_WINDOW_OVERLAP, attributes.size() - windowStart));
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+            }
+            fileKey = attributes.fileKey();
+            lastModifiedTime = attributes.lastModifiedTime();
+            fileSize = attributes.size();
+        }
+
+        private boolean isCurrent(@NotNull final BasicFileAttributes attributes) {
+            return Objects.equals(fileKey, attributes.fileKey())
+                    && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && fileSize == attributes.size();
+        }
+    }
+
+    private static final class MappedWindowReference extends SoftReference<MappedWindow> {
+
+        private final MappedWindowKey key;
+
+        private MappedWindowReference(@NotNull final MappedWindowKey key, @NotNull final MappedWindow window) {
+            super(window, RECLAIMED_WINDOWS);
+            this.key = key;
+        }
+    }
+
+    private static final class CachedFileAttributes implements SafeCloseable {
+
+        private final BasicFileAttributes attributes;
+
+        private CachedFileAttributes(@NotNull final BasicFileAttributes attributes) {
+            this.attributes = attributes;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class MappedWindowKey {
+
+        private final Path path;
+        private final long windowIndex;
+
+        private MappedWindowKey(@NotNull final Path path, final long windowIndex) {
+            this.path = path;
+            this.windowIndex = windowIndex;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof MappedWindowKey)) {
+                return false;
+            }
+            final MappedWindowKey otherKey = (MappedWindowKey) other;
+            return windowIndex == otherKey.windowIndex && path.equals(otherKey.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, windowIndex);
+        }
+    }
+
     @Override
     public CompletableOutputStream getOutputStream(@NotNull final URI uri, int bufferSizeHint) throws IOException {
         return new LocalCompletableOutputStream(new File(uri), this, bufferSizeHint);
@@ -93,6 +349,7 @@ final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider
     }
 
     SeekableByteChannel getWriteChannel(@NotNull final File destFile) throws IOException {
+        removeMappedWindows(destFile.toPath().toAbsolutePath());
         return new TrackedSeekableByteChannel(new TruncateOnceFileCreator(fileHandleFactory), destFile);
     }
 
@@ -0,0 +1,139 @@
+//
+// Copyright (c) 2016-2024 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.trackedfile;
+
+import io.deephaven.engine.util.file.TrackedFileHandleFactory;
+import io.deephaven.util.channel.SeekableChannelContext;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrackedSeekableChannelsProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TrackedSeekableChannelsProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new TrackedSeekableChannelsProvider(TrackedFileHandleFactory.getInstance(), true);
+    }
+
+    @Test
+    public void testMappedReadMatchesFile() throws IOException {
+        final Path file = writeFile("mapped.bin", 1000, (byte) 1);
+        try (final SeekableChannelContext context = provider.makeContext()) {
+            final ByteBuffer mapped = provider.mapReadOnly(context, file.toUri(), 100, 50);
+            assertNotNull(mapped);
+            assertEquals(0, mapped.position());
+            assertEquals(50, mapped.limit());
+            for (int ii = 0; ii < 50; ++ii) {
+                assertEquals(expectedByte(100 + ii, (byte) 1), mapped.get(ii));
+            }
+        }
+    }
+
+    @Test
+    public void testMappingDisabled() throws IOException {
+        final Path file = writeFile("unmapped.bin", 1000, (byte) 1);
+        final TrackedSeekableChannelsProvider unmappedProvider =
+                new TrackedSeekableChannelsProvider(TrackedFileHandleFactory.getInstance(), false);
+        try (final SeekableChannelContext context = unmappedProvider.makeContext()) {
+            assertNull(unmappedProvider.mapReadOnly(context, file.toUri(), 0, 10));
+        }
+    }
+
+    @Test
+    public void testRangeBeyondEndOfFile() throws IOException {
+        final Path file = writeFile("short.bin", 100, (byte) 1);
+        try (final SeekableChannelContext context = provider.makeContext()) {
+            assertNull(provider.mapReadOnly(context, file.toUri(), 90, 20));
+        }
+    }
+
+    @Test
+    public void testReplacedFileIsRemapped() throws IOException {
+        final Path file = writeFile("replaced.bin", 1000, (byte) 1);
+        try (final SeekableChannelContext context = provider.makeContext()) {
+            final ByteBuffer before = provider.mapReadOnly(context, file.toUri(), 0, 100);
+            assertNotNull(before);
+            assertEquals(expectedByte(10, (byte) 1), before.get(10));
+
+            // Replace the file under the mapping with different, longer contents
+            final Path replacement = writeFile("replacement.bin", 2000, (byte) 7);
+            Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // The original mapping still sees the file it was mapped from
+            assertEquals(expectedByte(10, (byte) 1), before.get(10));
+
+            // A context that has already checked the file keeps using what it saw
+            final ByteBuffer sameContext = provider.mapReadOnly(context, file.toUri(), 0, 100);
+            assertNotNull(sameContext);
+            assertEquals(expectedByte(10, (byte) 1), sameContext.get(10));
+        }
+        try (final SeekableChannelContext context = provider.makeContext()) {
+            // A new context notices the replacement, and may read beyond the original end of the file
+            final ByteBuffer after = provider.mapReadOnly(context, file.toUri(), 1500, 100);
+            assertNotNull(after);
+            for (int ii = 0; ii < 100; ++ii) {
+                assertEquals(expectedByte(1500 + ii, (byte) 7), after.get(ii));
+            }
+            final ByteBuffer afterStart = provider.mapReadOnly(context, file.toUri(), 0, 100);
+            assertNotNull(afterStart);
+            assertEquals(expectedByte(10, (byte) 7), afterStart.get(10));
+        }
+    }
+
+    @Test
+    public void testWritingFileDropsMappedWindows() throws IOException {
+        final Path file = writeFile("written.bin", 1000, (byte) 1);
+        try (final SeekableChannelContext context = provider.makeContext()) {
+            assertNotNull(provider.mapReadOnly(context, file.toUri(), 0, 100));
+        }
+        final int numMappedBefore = TrackedSeekableChannelsProvider.numMappedWindows();
+        try (final SeekableByteChannel ignored = provider.getWriteChannel(file.toFile())) {
+            assertEquals(numMappedBefore - 1, TrackedSeekableChannelsProvider.numMappedWindows());
+        }
+    }
+
+    @Test
+    public void testMappedWindowsAreBounded() throws IOException {
+        for (int fi = 0; fi < TrackedSeekableChannelsProvider.MAX_MAPPED_WINDOWS + 10; ++fi) {
+            final Path file = writeFile("bounded" + fi + ".bin", 16, (byte) fi);
+            try (final SeekableChannelContext context = provider.makeContext()) {
+                final ByteBuffer mapped = provider.mapReadOnly(context, file.toUri(), 0, 16);
+                assertNotNull(mapped);
+                assertEquals(expectedByte(3, (byte) fi), mapped.get(3));
+            }
+            assertTrue(TrackedSeekableChannelsProvider.numMappedWindows()
+                    <= TrackedSeekableChannelsProvider.MAX_MAPPED_WINDOWS);
+        }
+    }
+
+    private Path writeFile(@NotNull final String name, final int size, final byte seed) throws IOException {
+        final byte[] contents = new byte[size];
+        for (int ii = 0; ii < size; ++ii) {
+            contents[ii] = expectedByte(ii, seed);
+        }
+        return Files.write(tempDir.resolve(name), contents);
+    }
+
+    private static byte expectedByte(final int position, final byte seed) {
+        return (byte) (position * 31 + seed);
+    }
+}
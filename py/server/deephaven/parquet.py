@@ -24,12 +24,18 @@ _JTableDefinition = jpy.get_type("io.deephaven.engine.table.TableDefinition")
 
 @dataclass
 class ColumnInstruction:
-    """  This class specifies the instructions for reading/writing a Parquet column. """
+    """  This class specifies the instructions for reading/writing a Parquet column.
+
+    When write_bloom_filter is True, the writer stores a Bloom filter for the column. Readers consult it for match
+    filters with explicit non-null values, such as "Id in 1, 2, 3", but not for inverted or case-insensitive matches,
+    floating point columns, or filters backed by another table, such as where_in.
+    """
     column_name: Optional[str] = None
     parquet_column_name: Optional[str] = None
     codec_name: Optional[str] = None
     codec_args: Optional[str] = None
     use_dictionary: bool = False
+    write_bloom_filter: bool = False
 
 
 class ParquetFileLayout(Enum):
@@ -104,6 +110,7 @@ def _build_parquet_instructions(
                 if ci.codec_name:
                     builder.addColumnCodec(ci.column_name, ci.codec_name, ci.codec_args)
                 builder.useDictionary(ci.column_name, ci.use_dictionary)
+                builder.writeBloomFilter(ci.column_name, ci.write_bloom_filter)
 
     if compression_codec_name:
         builder.setCompressionCodecName(compression_codec_name)
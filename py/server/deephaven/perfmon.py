@@ -50,6 +50,22 @@ def server_state_log() -> Table:
         raise DHError(e, "failed to obtain the server state log table.") from e
 
 
+def page_cache_log() -> Table:
+    """ Returns a table with Parquet page cache hit, miss, decode and eviction counts, and page cache budget
+    residency, sampled on a periodic basis.
+
+    Returns:
+        a Table
+
+    Raises:
+        DHError
+    """
+    try:
+        return Table(j_table=_JTableLoggers.pageCacheLog())
+    except Exception as e:
+        raise DHError(e, "failed to obtain the page cache log table.") from e
+
+
 def process_metrics_log() -> Table:
     """ Returns a table with metrics collected for the current Deephaven engine process.
 
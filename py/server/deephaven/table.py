@@ -1605,7 +1605,8 @@ class Table(JObjectWrapper):
             end, and only the left start column subexpression will be used for the match. If the left start column
             and left end column values are null, the range is unbounded, and all rows will be included.
 
-        Note: At this time, implementations only support static tables. This operation remains under active development.
+        Note: At this time, implementations only support group aggregations. This operation remains under active
+        development.
 
         Args:
             table (Table): the right table of the join
@@ -16,6 +16,7 @@ import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.engine.util.ScriptSession;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
+import io.deephaven.parquet.table.pagestore.PageCacheStatsTracker;
 import io.deephaven.server.appmode.ApplicationInjector;
 import io.deephaven.server.session.SessionFactoryCreator;
 import io.deephaven.server.config.ServerConfig;
@@ -197,6 +198,7 @@ public class DeephavenApiServer {
         QueryPerformanceRecorderState.installPoolAllocationRecorder();
         QueryPerformanceRecorderState.installUpdateGraphLockInstrumentation();
         ServerStateTracker.start();
+        PageCacheStatsTracker.start();
         AsyncErrorLogger.init();
 
         for (UriResolver resolver : uriResolvers.resolvers()) {
@@ -554,9 +554,8 @@ public interface TableOperations<TOPS extends TableOperations<TOPS, TABLE>, TABL
      * @param aggregations The {@link Aggregation aggregations} to perform over the responsive ranges from
      *        {@code rightTable} for each row from {@code this} Table
      * @return The result Table
-     * @implNote At this time, implementations only support <em>static</em> (i.e. {@code !isRefreshing()}) Tables and
-     *           {@link io.deephaven.api.agg.spec.AggSpecGroup group} aggregations. This operation remains under active
-     *           development.
+     * @implNote At this time, implementations only support {@link io.deephaven.api.agg.spec.AggSpecGroup group}
+     *           aggregations. This operation remains under active development.
      */
     TOPS rangeJoin(
             TABLE rightTable,
@@ -633,9 +632,8 @@ public interface TableOperations<TOPS extends TableOperations<TOPS, TABLE>, TABL
      * @param aggregations The {@link Aggregation aggregations} to perform over the responsive ranges from
      *        {@code rightTable} for each row from {@code this} Table
      * @return The result Table
-     * @implNote At this time, implementations only support <em>static</em> (i.e. {@code !isRefreshing()}) Tables and
-     *           {@link io.deephaven.api.agg.spec.AggSpecGroup group} aggregations. This operation remains under active
-     *           development.
+     * @implNote At this time, implementations only support {@link io.deephaven.api.agg.spec.AggSpecGroup group}
+     *           aggregations. This operation remains under active development.
      */
     TOPS rangeJoin(
             TABLE rightTable,